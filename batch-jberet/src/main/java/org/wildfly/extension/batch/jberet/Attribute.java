@@ -15,13 +15,33 @@ public enum Attribute {
     DATA_SOURCE("data-source"),
     NAME("name"),
     VALUE("value"),
-    EXECUTION_RECORDS_LIMIT("execution-records-limit");
+    EXECUTION_RECORDS_LIMIT("execution-records-limit"),
+    CHECKPOINT_FLUSH_INTERVAL("checkpoint-flush-interval"),
+    RETENTION_MAX_AGE("retention-max-age"),
+    RETENTION_MAX_EXECUTIONS("retention-max-executions"),
+    RETENTION_STATUSES("retention-statuses"),
+    PURGE_INTERVAL("purge-interval"),
+    PURGE_BATCH_SIZE("purge-batch-size"),
+    JOBS("jobs"),
+    THREAD_POOL("thread-pool"),
+    PRIORITY("priority"),
+    VIRTUAL_THREADS("virtual-threads");
 
-    private static final Map<String, Attribute> MAP = Map.of(
-            DATA_SOURCE.name, DATA_SOURCE,
-            NAME.name, NAME,
-            VALUE.name, VALUE,
-            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT);
+    private static final Map<String, Attribute> MAP = Map.ofEntries(
+            Map.entry(DATA_SOURCE.name, DATA_SOURCE),
+            Map.entry(NAME.name, NAME),
+            Map.entry(VALUE.name, VALUE),
+            Map.entry(EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT),
+            Map.entry(CHECKPOINT_FLUSH_INTERVAL.name, CHECKPOINT_FLUSH_INTERVAL),
+            Map.entry(RETENTION_MAX_AGE.name, RETENTION_MAX_AGE),
+            Map.entry(RETENTION_MAX_EXECUTIONS.name, RETENTION_MAX_EXECUTIONS),
+            Map.entry(RETENTION_STATUSES.name, RETENTION_STATUSES),
+            Map.entry(PURGE_INTERVAL.name, PURGE_INTERVAL),
+            Map.entry(PURGE_BATCH_SIZE.name, PURGE_BATCH_SIZE),
+            Map.entry(JOBS.name, JOBS),
+            Map.entry(THREAD_POOL.name, THREAD_POOL),
+            Map.entry(PRIORITY.name, PRIORITY),
+            Map.entry(VIRTUAL_THREADS.name, VIRTUAL_THREADS));
 
     private final String name;
 
@@ -7,6 +7,7 @@ package org.wildfly.extension.batch.jberet;
 
 import org.jberet.repository.JobRepository;
 import org.jberet.spi.JobExecutor;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignments;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 /**
@@ -38,6 +39,13 @@ public interface BatchConfiguration {
      */
     JobExecutor getDefaultJobExecutor();
 
+    /**
+     * Returns the assignments of jobs, by name, to dedicated job executors.
+     *
+     * @return the job executor assignments
+     */
+    JobExecutorAssignments getJobExecutorAssignments();
+
     /**
      * Returns the security domain if defined.
      *
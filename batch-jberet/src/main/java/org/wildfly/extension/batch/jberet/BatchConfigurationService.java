@@ -11,6 +11,7 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignments;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 import java.util.function.Consumer;
@@ -28,6 +29,7 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
     private final Supplier<JobRepository> jobRepositorySupplier;
     private final Supplier<JobExecutor> jobExecutorSupplier;
     private final Supplier<SecurityDomain> securityDomainSupplier;
+    private final JobExecutorAssignments jobExecutorAssignments = new JobExecutorAssignments();
     private volatile boolean restartOnResume;
 
     BatchConfigurationService(final Consumer<BatchConfiguration> batchConfigurationConsumer,
@@ -59,6 +61,11 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
         return jobExecutorSupplier.get();
     }
 
+    @Override
+    public JobExecutorAssignments getJobExecutorAssignments() {
+        return jobExecutorAssignments;
+    }
+
     @Override
     public SecurityDomain getSecurityDomain() {
         return securityDomainSupplier != null ? securityDomainSupplier.get() : null;
@@ -18,6 +18,7 @@ import org.kohsuke.MetaInfServices;
 import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorResourceDefinition;
 
 @MetaInfServices
 public class BatchExtensionTransformerRegistration implements ExtensionTransformerRegistration {
@@ -30,9 +31,29 @@ public class BatchExtensionTransformerRegistration implements ExtensionTransform
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        registerV4Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_4_0_0, BatchSubsystemExtension.VERSION_3_0_0));
         registerV3Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_2_0_0));
 
-        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0});
+        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_4_0_0});
+    }
+
+    private static void registerV4Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        ResourceTransformationDescriptionBuilder inMemoryJobRepository = subsystem.addChildResource(InMemoryJobRepositoryDefinition.PATH);
+        rejectRetentionAttributes(inMemoryJobRepository);
+
+        ResourceTransformationDescriptionBuilder jdbcJobRepository = subsystem.addChildResource(JdbcJobRepositoryDefinition.PATH);
+        rejectAttribute(jdbcJobRepository, JdbcJobRepositoryDefinition.CHECKPOINT_FLUSH_INTERVAL);
+        rejectRetentionAttributes(jdbcJobRepository);
+
+        subsystem.rejectChildResource(JobExecutorResourceDefinition.PATH);
+    }
+
+    private static void rejectRetentionAttributes(ResourceTransformationDescriptionBuilder jobRepository) {
+        rejectAttribute(jobRepository, CommonAttributes.RETENTION_MAX_AGE);
+        rejectAttribute(jobRepository, CommonAttributes.RETENTION_MAX_EXECUTIONS);
+        rejectAttribute(jobRepository, CommonAttributes.RETENTION_STATUSES);
+        rejectAttribute(jobRepository, CommonAttributes.PURGE_INTERVAL);
+        rejectAttribute(jobRepository, CommonAttributes.PURGE_BATCH_SIZE);
     }
 
     private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
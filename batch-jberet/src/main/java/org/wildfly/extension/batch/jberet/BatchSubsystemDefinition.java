@@ -51,6 +51,7 @@ import org.wildfly.extension.batch.jberet.deployment.BatchEnvironmentProcessor;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.thread.pool.BatchThreadPoolResourceDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorResourceDefinition;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 public class BatchSubsystemDefinition extends SimpleResourceDefinition {
@@ -115,6 +116,8 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerSubModel(new JdbcJobRepositoryDefinition());
         // thread-pool resource
         resourceRegistration.registerSubModel(new BatchThreadPoolResourceDefinition(registerRuntimeOnly));
+        // job-executor resource
+        resourceRegistration.registerSubModel(new JobExecutorResourceDefinition(registerRuntimeOnly));
 
         // thread-factory resource
         final ThreadFactoryResourceDefinition threadFactoryResource = new ThreadFactoryResourceDefinition();
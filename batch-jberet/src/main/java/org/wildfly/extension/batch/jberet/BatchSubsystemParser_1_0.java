@@ -91,7 +91,7 @@ public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementR
                 threadsParser.parseThreadFactory(reader, namespace.getUriString(),
                         THREADS_1_1, subsystemAddress.toModelNode(), ops,
                         BatchSubsystemDefinition.THREAD_FACTORY, null);
-            } else {
+            } else if (!parseAdditionalElement(element, reader, subsystemAddress, ops)) {
                 throw ParseUtils.unexpectedElement(reader);
             }
         }
@@ -101,6 +101,15 @@ public class BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementR
         ParseUtils.requireNoContent(reader);
     }
 
+    /**
+     * Parses a child element of the subsystem element which is not known by this version of the parser.
+     *
+     * @return {@code true} if the element was parsed, {@code false} if the element is unexpected
+     */
+    protected boolean parseAdditionalElement(final Element element, final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
+        return false;
+    }
+
     protected void parseJobRepository(final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
         final String name = AttributeParsers.readRequiredAttributes(reader, EnumSet.of(Attribute.NAME)).get(Attribute.NAME);
 
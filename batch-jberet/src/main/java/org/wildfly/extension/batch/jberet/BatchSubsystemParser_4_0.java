@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.parsing.ParseUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
+import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorResourceDefinition;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser for the {@code urn:jboss:domain:batch-jberet:4.0} namespace, which adds the retention attributes to the
+ * {@code job-repository} element, the {@code checkpoint-flush-interval} attribute to the {@code jdbc} job repository
+ * element and the {@code job-executor} element.
+ */
+class BatchSubsystemParser_4_0 extends BatchSubsystemParser_3_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
+
+    public BatchSubsystemParser_4_0() {
+        super();
+    }
+
+    @Override
+    protected void parseJobRepository(final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
+        Map<Attribute, String> topLevelAttributes = AttributeParsers.readAttributes(reader,
+                EnumSet.of(Attribute.NAME, Attribute.EXECUTION_RECORDS_LIMIT, Attribute.RETENTION_MAX_AGE, Attribute.RETENTION_MAX_EXECUTIONS,
+                        Attribute.RETENTION_STATUSES, Attribute.PURGE_INTERVAL, Attribute.PURGE_BATCH_SIZE));
+        String name = topLevelAttributes.get(Attribute.NAME);
+
+        if (name == null) {
+            throw ParseUtils.missingRequired(reader, Attribute.NAME.getLocalName());
+        }
+
+        while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
+            final String localName = reader.getLocalName();
+            final Element element = Element.forName(localName);
+            if (element == Element.IN_MEMORY) {
+                ModelNode op = Util.createAddOperation(subsystemAddress.append(InMemoryJobRepositoryDefinition.NAME, name));
+                parseCommonAttributes(topLevelAttributes, op, reader);
+                ops.add(op);
+                ParseUtils.requireNoContent(reader);
+            } else if (element == Element.JDBC) {
+                final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader, EnumSet.of(Attribute.DATA_SOURCE, Attribute.CHECKPOINT_FLUSH_INTERVAL));
+                final String dataSource = attributes.get(Attribute.DATA_SOURCE);
+                if (dataSource == null) {
+                    throw ParseUtils.missingRequired(reader, Attribute.DATA_SOURCE.getLocalName());
+                }
+                final ModelNode op = Util.createAddOperation(subsystemAddress.append(JdbcJobRepositoryDefinition.NAME, name));
+                JdbcJobRepositoryDefinition.DATA_SOURCE.parseAndSetParameter(dataSource, op, reader);
+                final String checkpointFlushInterval = attributes.get(Attribute.CHECKPOINT_FLUSH_INTERVAL);
+                if (checkpointFlushInterval != null) {
+                    JdbcJobRepositoryDefinition.CHECKPOINT_FLUSH_INTERVAL.parseAndSetParameter(checkpointFlushInterval, op, reader);
+                }
+                parseCommonAttributes(topLevelAttributes, op, reader);
+                ops.add(op);
+                ParseUtils.requireNoContent(reader);
+            } else {
+                throw ParseUtils.unexpectedElement(reader);
+            }
+        }
+    }
+
+    @Override
+    protected boolean parseAdditionalElement(final Element element, final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
+        if (element != Element.JOB_EXECUTOR) {
+            return false;
+        }
+        final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader,
+                EnumSet.of(Attribute.NAME, Attribute.JOBS, Attribute.THREAD_POOL, Attribute.PRIORITY, Attribute.VIRTUAL_THREADS));
+        final String name = attributes.get(Attribute.NAME);
+        if (name == null) {
+            throw ParseUtils.missingRequired(reader, Attribute.NAME.getLocalName());
+        }
+        final String jobs = attributes.get(Attribute.JOBS);
+        if (jobs == null) {
+            throw ParseUtils.missingRequired(reader, Attribute.JOBS.getLocalName());
+        }
+        final ModelNode op = Util.createAddOperation(subsystemAddress.append(JobExecutorResourceDefinition.NAME, name));
+        JobExecutorResourceDefinition.JOBS.getParser().parseAndSetParameter(JobExecutorResourceDefinition.JOBS, jobs, op, reader);
+        final String threadPool = attributes.get(Attribute.THREAD_POOL);
+        if (threadPool != null) {
+            JobExecutorResourceDefinition.THREAD_POOL.parseAndSetParameter(threadPool, op, reader);
+        }
+        final String priority = attributes.get(Attribute.PRIORITY);
+        if (priority != null) {
+            JobExecutorResourceDefinition.PRIORITY.parseAndSetParameter(priority, op, reader);
+        }
+        final String virtualThreads = attributes.get(Attribute.VIRTUAL_THREADS);
+        if (virtualThreads != null) {
+            JobExecutorResourceDefinition.VIRTUAL_THREADS.parseAndSetParameter(virtualThreads, op, reader);
+        }
+        ops.add(op);
+        ParseUtils.requireNoContent(reader);
+        return true;
+    }
+
+    private static void parseCommonAttributes(final Map<Attribute, String> attributes, final ModelNode op, final XMLExtendedStreamReader reader) throws XMLStreamException {
+        for (Map.Entry<Attribute, String> attribute : attributes.entrySet()) {
+            switch (attribute.getKey()) {
+                case EXECUTION_RECORDS_LIMIT:
+                    CommonAttributes.EXECUTION_RECORDS_LIMIT.parseAndSetParameter(attribute.getValue(), op, reader);
+                    break;
+                case RETENTION_MAX_AGE:
+                    CommonAttributes.RETENTION_MAX_AGE.parseAndSetParameter(attribute.getValue(), op, reader);
+                    break;
+                case RETENTION_MAX_EXECUTIONS:
+                    CommonAttributes.RETENTION_MAX_EXECUTIONS.parseAndSetParameter(attribute.getValue(), op, reader);
+                    break;
+                case RETENTION_STATUSES:
+                    CommonAttributes.RETENTION_STATUSES.getParser().parseAndSetParameter(CommonAttributes.RETENTION_STATUSES, attribute.getValue(), op, reader);
+                    break;
+                case PURGE_INTERVAL:
+                    CommonAttributes.PURGE_INTERVAL.parseAndSetParameter(attribute.getValue(), op, reader);
+                    break;
+                case PURGE_BATCH_SIZE:
+                    CommonAttributes.PURGE_BATCH_SIZE.parseAndSetParameter(attribute.getValue(), op, reader);
+                    break;
+                default:
+                    // The name is the address of the job repository
+                    break;
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.thread.pool.BatchThreadPoolResourceDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorResourceDefinition;
 
 /**
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
@@ -41,6 +42,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
                 writer.writeStartElement(Element.JOB_REPOSITORY.getLocalName());
                 writeNameAttribute(writer, property.getName());
                 CommonAttributes.EXECUTION_RECORDS_LIMIT.marshallAsAttribute(property.getValue(), writer);
+                writeRetentionAttributes(writer, property.getValue());
                 writer.writeEmptyElement(Element.IN_MEMORY.getLocalName());
                 writer.writeEndElement(); // end job-repository
             }
@@ -53,8 +55,10 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
                 writer.writeStartElement(Element.JOB_REPOSITORY.getLocalName());
                 writeNameAttribute(writer, property.getName());
                 CommonAttributes.EXECUTION_RECORDS_LIMIT.marshallAsAttribute(property.getValue(), writer);
+                writeRetentionAttributes(writer, property.getValue());
                 writer.writeStartElement(Element.JDBC.getLocalName());
                 JdbcJobRepositoryDefinition.DATA_SOURCE.marshallAsAttribute(property.getValue(), writer);
+                JdbcJobRepositoryDefinition.CHECKPOINT_FLUSH_INTERVAL.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEndElement();
                 writer.writeEndElement(); // end job-repository
             }
@@ -76,9 +80,31 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
             }
         }
 
+        // Write the job executors
+        if (model.hasDefined(JobExecutorResourceDefinition.NAME)) {
+            final List<Property> jobExecutors = model.get(JobExecutorResourceDefinition.NAME).asPropertyList();
+            for (Property property : jobExecutors) {
+                final ModelNode jobExecutor = property.getValue();
+                writer.writeEmptyElement(Element.JOB_EXECUTOR.getLocalName());
+                writeNameAttribute(writer, property.getName());
+                JobExecutorResourceDefinition.JOBS.getMarshaller().marshallAsAttribute(JobExecutorResourceDefinition.JOBS, jobExecutor, false, writer);
+                JobExecutorResourceDefinition.THREAD_POOL.marshallAsAttribute(jobExecutor, writer);
+                JobExecutorResourceDefinition.PRIORITY.marshallAsAttribute(jobExecutor, writer);
+                JobExecutorResourceDefinition.VIRTUAL_THREADS.marshallAsAttribute(jobExecutor, writer);
+            }
+        }
+
         writer.writeEndElement();
     }
 
+    private static void writeRetentionAttributes(final XMLExtendedStreamWriter writer, final ModelNode repository) throws XMLStreamException {
+        CommonAttributes.RETENTION_MAX_AGE.marshallAsAttribute(repository, writer);
+        CommonAttributes.RETENTION_MAX_EXECUTIONS.marshallAsAttribute(repository, writer);
+        CommonAttributes.RETENTION_STATUSES.getMarshaller().marshallAsAttribute(CommonAttributes.RETENTION_STATUSES, repository, false, writer);
+        CommonAttributes.PURGE_INTERVAL.marshallAsAttribute(repository, writer);
+        CommonAttributes.PURGE_BATCH_SIZE.marshallAsAttribute(repository, writer);
+    }
+
     private static void writeNameAttribute(final XMLExtendedStreamWriter writer, final String name) throws XMLStreamException {
         writer.writeAttribute(Attribute.NAME.getLocalName(), name);
     }
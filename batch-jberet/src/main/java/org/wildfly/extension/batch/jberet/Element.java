@@ -16,6 +16,7 @@ public enum Element {
     UNKNOWN(null),
     DEFAULT_JOB_REPOSITORY("default-job-repository"),
     DEFAULT_THREAD_POOL("default-thread-pool"),
+    JOB_EXECUTOR("job-executor"),
     JOB_REPOSITORY("job-repository"),
     JDBC("jdbc"),
     IN_MEMORY("in-memory"),
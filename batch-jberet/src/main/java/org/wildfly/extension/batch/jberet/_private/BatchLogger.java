@@ -12,6 +12,7 @@ import jakarta.batch.operations.JobSecurityException;
 import jakarta.batch.operations.JobStartException;
 import jakarta.batch.operations.NoSuchJobException;
 
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.logging.BasicLogger;
@@ -203,4 +204,52 @@ public interface BatchLogger extends BasicLogger {
 
     @Message(id = 21, value = "Duplicate virtual file %s.")
     IllegalStateException duplicateVirtualFile(VirtualFile file);
+
+    @Message(id = 22, value = "Invalid cursor '%s', it must be the next-cursor returned by the previous invocation of the operation.")
+    OperationFailedException invalidCursor(String cursor);
+
+    @Message(id = 23, value = "Invalid date time '%s' for parameter %s, it must be in ISO 8601 format.")
+    OperationFailedException invalidDateTime(String value, String parameter);
+
+    /**
+     * Logs a warning message indicating the checkpoint of a step or partition execution could not be written to the
+     * job repository.
+     *
+     * @param cause           the cause of the error
+     * @param stepExecutionId the id of the step execution
+     * @param jobExecutionId  the id of the job execution
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 24, value = "Failed to save the checkpoint of step execution %d of job execution %d")
+    void failedToSaveCheckpoint(@Cause Throwable cause, long stepExecutionId, long jobExecutionId);
+
+    /**
+     * Logs a warning message indicating the purge of the expired job executions of a job repository failed.
+     *
+     * @param cause the cause of the error
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 25, value = "Failed to purge the expired job executions from the job repository")
+    void failedToPurgeJobRepository(@Cause Throwable cause);
+
+    /**
+     * Creates an exception indicating a job executor can not both run its jobs in virtual threads and in a thread pool.
+     *
+     * @param name       the name of the job executor
+     * @param threadPool the name of the thread pool
+     *
+     * @return an {@link OperationFailedException} for the error
+     */
+    @Message(id = 26, value = "The job-executor %s can not both use virtual threads and the thread-pool %s.")
+    OperationFailedException virtualThreadsWithThreadPool(String name, String threadPool);
+
+    /**
+     * Logs a warning message indicating virtual threads are not supported, so the jobs assigned to a job executor run
+     * on the job executor of their deployment.
+     *
+     * @param name the name of the job executor
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 27, value = "Virtual threads are not supported by the Java runtime, the jobs of job-executor %s run on the thread pool of their deployment")
+    void virtualThreadsNotSupported(String name);
 }
@@ -9,6 +9,7 @@ import org.jberet.repository.JobRepository;
 import org.jberet.spi.JobExecutor;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignment;
 
 /**
  * Capabilities for the batch extension. This is not to be used outside of this extension.
@@ -44,6 +45,12 @@ public class Capabilities {
     public static final RuntimeCapability<Void> THREAD_POOL_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.batch.thread.pool", true, JobExecutor.class)
             .build();
 
+    /**
+     * A capability for the executors assigned to jobs by name.
+     */
+    public static final RuntimeCapability<Void> JOB_EXECUTOR_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.batch.job.executor", true, JobExecutorAssignment.class)
+            .build();
+
     /**
      * A capability for all job repositories. All job repositories should use this capability regardless of the
      * implementation of the repository.
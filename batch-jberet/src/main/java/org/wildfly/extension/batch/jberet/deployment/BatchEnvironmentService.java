@@ -6,6 +6,7 @@
 package org.wildfly.extension.batch.jberet.deployment;
 
 import java.util.Properties;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import jakarta.transaction.TransactionManager;
@@ -25,6 +26,8 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignment;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignments;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.RequestController;
 import org.wildfly.security.auth.server.SecurityDomain;
@@ -39,6 +42,13 @@ import org.wildfly.transaction.client.ContextTransactionManager;
 public class BatchEnvironmentService implements Service {
 
     private static final Properties PROPS = new Properties();
+
+    /**
+     * The name of the job whose tasks are submitted by the current thread, used to find the job executor the job is
+     * assigned to. It is set while a job is started or restarted, and while the tasks of the job run, so that the
+     * tasks of the splits and partitions of the job are assigned as well.
+     */
+    static final ThreadLocal<String> CURRENT_JOB_NAME = new ThreadLocal<>();
     private final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer;
     private final Supplier<WildFlyArtifactFactory> artifactFactorySupplier;
     private final Supplier<JobExecutor> jobExecutorSupplier;
@@ -91,7 +101,7 @@ public class BatchEnvironmentService implements Service {
         }
 
         this.batchEnvironment = new WildFlyBatchEnvironment(artifactFactorySupplier.get(),
-                jobExecutor, ContextTransactionManager.getInstance(),
+                jobExecutor, batchConfiguration.getJobExecutorAssignments(), ContextTransactionManager.getInstance(),
                 jobRepository, jobXmlResolver);
 
         final RequestController requestController = requestControllerSupplier != null ? requestControllerSupplier.get() : null;
@@ -114,22 +124,95 @@ public class BatchEnvironmentService implements Service {
         }
     }
 
+    /**
+     * Runs an action for a job, with the name of the job as the {@linkplain #CURRENT_JOB_NAME current job name}. The
+     * previous job name of the current thread is restored afterwards, as a job may be started by a task of another job.
+     *
+     * @param jobName the name of the job
+     * @param action  the action to run
+     * @param <T>     the type of the result of the action
+     *
+     * @return the result of the action
+     */
+    static <T> T runForJob(final String jobName, final Supplier<T> action) {
+        final String previousJobName = CURRENT_JOB_NAME.get();
+        CURRENT_JOB_NAME.set(jobName);
+        try {
+            return action.get();
+        } finally {
+            if (previousJobName == null) {
+                CURRENT_JOB_NAME.remove();
+            } else {
+                CURRENT_JOB_NAME.set(previousJobName);
+            }
+        }
+    }
+
+    /**
+     * Submits a task of the {@linkplain #CURRENT_JOB_NAME current job}. The task is submitted to the job executor the
+     * job is assigned to, if any, rather than to the job executor of the deployment. It runs for the current job, so
+     * that the tasks it submits for the splits and partitions of the job are assigned as well.
+     *
+     * @param jobTask                the task to submit
+     * @param jobExecutor            the job executor of the deployment
+     * @param jobExecutorAssignments the job executor assignments
+     * @param submitter              submits a task to a job executor
+     */
+    static void submitTask(final JobTask jobTask, final JobExecutor jobExecutor, final JobExecutorAssignments jobExecutorAssignments,
+                           final BiConsumer<JobTask, JobExecutor> submitter) {
+        final String jobName = CURRENT_JOB_NAME.get();
+        JobTask task = new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return jobTask.getRequiredRemainingPermits();
+            }
+
+            @Override
+            public void run() {
+                runForJob(jobName, () -> {
+                    jobTask.run();
+                    return null;
+                });
+            }
+        };
+        // Jobs assigned to a job-executor run on its executor, if any, rather than on the one of the deployment
+        JobExecutor executor = jobExecutor;
+        final JobExecutorAssignment assignment = jobExecutorAssignments.find(jobName);
+        if (assignment != null) {
+            if (assignment.getJobExecutor() != null) {
+                executor = assignment.getJobExecutor();
+            }
+            task = assignment.track(task);
+        }
+        try {
+            submitter.accept(task, executor);
+        } catch (RuntimeException e) {
+            if (assignment != null) {
+                assignment.rejected();
+            }
+            throw e;
+        }
+    }
+
     private class WildFlyBatchEnvironment implements BatchEnvironment, SecurityAwareBatchEnvironment {
 
         private final WildFlyArtifactFactory artifactFactory;
         private final JobExecutor jobExecutor;
+        private final JobExecutorAssignments jobExecutorAssignments;
         private final TransactionManager transactionManager;
         private final JobRepository jobRepository;
         private final JobXmlResolver jobXmlResolver;
 
         WildFlyBatchEnvironment(final WildFlyArtifactFactory artifactFactory,
                                 final JobExecutor jobExecutor,
+                                final JobExecutorAssignments jobExecutorAssignments,
                                 final TransactionManager transactionManager,
                                 final JobRepository jobRepository,
                                 final JobXmlResolver jobXmlResolver) {
             this.jobXmlResolver = jobXmlResolver;
             this.artifactFactory = artifactFactory;
             this.jobExecutor = jobExecutor;
+            this.jobExecutorAssignments = jobExecutorAssignments;
             this.transactionManager = transactionManager;
             this.jobRepository = jobRepository;
         }
@@ -168,12 +251,14 @@ public class BatchEnvironmentService implements Service {
                     }
                 }
             };
-            if (controlPoint == null) {
-                jobExecutor.execute(task);
-            } else {
-                // Queue the task to run in the control point, if resume is executed the queued tasks will run
-                controlPoint.queueTask(task, jobExecutor, -1, null, false);
-            }
+            BatchEnvironmentService.submitTask(task, jobExecutor, jobExecutorAssignments, (t, e) -> {
+                if (controlPoint == null) {
+                    e.execute(t);
+                } else {
+                    // Queue the task to run in the control point, if resume is executed the queued tasks will run
+                    controlPoint.queueTask(t, e, -1, null, false);
+                }
+            });
         }
 
         @Override
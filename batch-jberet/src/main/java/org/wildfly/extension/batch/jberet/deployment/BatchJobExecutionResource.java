@@ -10,6 +10,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import jakarta.batch.operations.JobSecurityException;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.JobExecution;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -21,6 +24,12 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * Represents a dynamic resource for batch {@link jakarta.batch.runtime.JobExecution job executions}.
+ * <p>
+ * Only the most recent executions of the job, up to the {@code execution-records-limit} of the job repository or up to
+ * {@value #DEFAULT_EXECUTION_LIMIT} if it has none, are listed as children, so that reading the resource does not load
+ * every historical execution of the job repository. Older executions can still be addressed by their id, and can be
+ * found with the {@code query-executions} operation of the job resource.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -45,6 +54,11 @@ public class BatchJobExecutionResource implements Resource {
      */
     private static final int refreshMinInterval = 3000;
 
+    /**
+     * The maximum number of executions listed as children if the job repository has no {@code execution-records-limit}.
+     */
+    static final int DEFAULT_EXECUTION_LIMIT = 100;
+
     BatchJobExecutionResource(final WildFlyJobOperator jobOperator, final String jobName) {
         this(Factory.create(true), jobOperator, jobName);
     }
@@ -200,7 +214,26 @@ public class BatchJobExecutionResource implements Resource {
             }
             // Load a cache of the names
             refreshChildren();
-            return children.contains(executionName);
+            if (children.contains(executionName)) {
+                return true;
+            }
+        }
+        // The execution may be older than the listed ones
+        return isJobExecution(executionName);
+    }
+
+    private boolean isJobExecution(final String executionName) {
+        final long executionId;
+        try {
+            executionId = Long.parseLong(executionName);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        try {
+            final JobExecution jobExecution = jobOperator.getJobExecution(executionId);
+            return jobExecution != null && jobName.equals(jobExecution.getJobName());
+        } catch (NoSuchJobExecutionException | JobSecurityException e) {
+            return false;
         }
     }
 
@@ -213,7 +246,7 @@ public class BatchJobExecutionResource implements Resource {
             return;
         }
 
-        final List<Long> executionIds = jobOperator.getJobExecutionsByJob(jobName);
+        final List<Long> executionIds = jobOperator.getRecentJobExecutionsByJob(jobName, DEFAULT_EXECUTION_LIMIT);
         final Set<String> asNames = executionIds.stream().map(Object::toString).collect(Collectors.toSet());
         children.clear();
         children.addAll(asNames);
@@ -182,10 +182,13 @@ public class BatchJobExecutionResourceDefinition extends SimpleResourceDefinitio
         protected void updateModel(final ModelNode model, final JobExecution jobExecution) throws OperationFailedException {
             final Date date = dateGetter.apply(jobExecution);
             if (date != null) {
-                // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
-                model.set(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
-                        LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID)));
+                model.set(formatDateTime(date));
             }
         }
     }
+
+    static String formatDateTime(final Date date) {
+        // use OffsetDateTime and ISO_OFFSET_DATE_TIME if we want to include offset in the formatting output
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), DEFAULT_ZONE_ID));
+    }
 }
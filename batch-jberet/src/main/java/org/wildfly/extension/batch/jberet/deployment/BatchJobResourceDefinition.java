@@ -5,17 +5,33 @@
 
 package org.wildfly.extension.batch.jberet.deployment;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleOperationDefinition;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * A definition representing a job resource.
@@ -41,8 +57,40 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
             .setStorageRuntime()
             .build();
 
+    static final String EXECUTIONS = "executions";
+    static final String NEXT_CURSOR = "next-cursor";
+
+    private static final ResourceDescriptionResolver DEFAULT_RESOLVER = BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job");
+
+    private static final SimpleAttributeDefinition BATCH_STATUS = SimpleAttributeDefinitionBuilder.create("batch-status", ModelType.STRING, true)
+            .setValidator(EnumValidator.create(BatchStatus.class))
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_AFTER = SimpleAttributeDefinitionBuilder.create("created-after", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition CREATED_BEFORE = SimpleAttributeDefinitionBuilder.create("created-before", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleAttributeDefinition PAGE_SIZE = SimpleAttributeDefinitionBuilder.create("page-size", ModelType.INT, true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, 1000, false, false))
+            .build();
+
+    private static final SimpleAttributeDefinition CURSOR = SimpleAttributeDefinitionBuilder.create("cursor", ModelType.STRING, true)
+            .build();
+
+    private static final SimpleOperationDefinition QUERY_EXECUTIONS = new SimpleOperationDefinitionBuilder("query-executions", DEFAULT_RESOLVER)
+            .setParameters(BATCH_STATUS, CREATED_AFTER, CREATED_BEFORE, PAGE_SIZE, CURSOR)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    private static final ZoneId DEFAULT_ZONE_ID = ZoneId.systemDefault();
+
     public BatchJobResourceDefinition() {
-        super(new Parameters(PathElement.pathElement(JOB), BatchResourceDescriptionResolver.getResourceDescriptionResolver("deployment", "job")).setRuntime());
+        super(new Parameters(PathElement.pathElement(JOB), DEFAULT_RESOLVER).setRuntime());
     }
 
     @Override
@@ -70,4 +118,93 @@ public class BatchJobResourceDefinition extends SimpleResourceDefinition {
         });
     }
 
+    @Override
+    public void registerOperations(final ManagementResourceRegistration resourceRegistration) {
+        super.registerOperations(resourceRegistration);
+
+        resourceRegistration.registerOperationHandler(QUERY_EXECUTIONS, new JobOperationStepHandler(false) {
+            @Override
+            protected void execute(final OperationContext context, final ModelNode operation, final WildFlyJobOperator jobOperator) throws OperationFailedException {
+                final String status = resolveValue(context, operation, BATCH_STATUS).asStringOrNull();
+                queryExecutions(jobOperator, context.getCurrentAddressValue(),
+                        status == null ? null : BatchStatus.valueOf(status),
+                        resolveDateTime(context, operation, CREATED_AFTER),
+                        resolveDateTime(context, operation, CREATED_BEFORE),
+                        resolveValue(context, operation, PAGE_SIZE).asInt(),
+                        resolveValue(context, operation, CURSOR).asStringOrNull(),
+                        context.getResult());
+            }
+        });
+    }
+
+    /**
+     * Sets a page of the executions of a job matching the given criteria in the result of the query-executions operation.
+     * Only the executions of the page, and the first execution of the next one, are found in the job repository.
+     */
+    static void queryExecutions(final WildFlyJobOperator jobOperator, final String jobName, final BatchStatus status,
+                                final Date createdAfter, final Date createdBefore, final int pageSize, final String cursor,
+                                final ModelNode result) throws OperationFailedException {
+        long beforeExecutionId = Long.MAX_VALUE;
+        if (cursor != null) {
+            try {
+                beforeExecutionId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw BatchLogger.LOGGER.invalidCursor(cursor);
+            }
+        }
+        final long lastExecutionId = beforeExecutionId;
+        // One more execution is found to know whether there is a next page
+        final List<Long> executionIds = jobOperator.allowMissingJob(() -> jobOperator.findJobExecutions(jobName, status,
+                createdAfter, createdBefore, lastExecutionId, pageSize + 1), List.<Long>of());
+
+        final ModelNode executions = result.get(EXECUTIONS).setEmptyList();
+        final List<Long> pageExecutionIds = executionIds.subList(0, Math.min(pageSize, executionIds.size()));
+        for (Long executionId : pageExecutionIds) {
+            try {
+                executions.add(toModelNode(jobOperator.getJobExecution(executionId)));
+            } catch (NoSuchJobExecutionException e) {
+                // Removed meanwhile
+            }
+        }
+        if (executionIds.size() > pageSize) {
+            // The next page starts after the last execution of this page
+            result.get(NEXT_CURSOR).set(Long.toString(pageExecutionIds.get(pageExecutionIds.size() - 1)));
+        }
+    }
+
+    private static Date resolveDateTime(final OperationContext context, final ModelNode operation, final SimpleAttributeDefinition attribute) throws OperationFailedException {
+        final String value = JobOperationStepHandler.resolveValue(context, operation, attribute).asStringOrNull();
+        if (value == null) {
+            return null;
+        }
+        try {
+            // Same format as the time attributes of the execution resources
+            return Date.from(LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME).atZone(DEFAULT_ZONE_ID).toInstant());
+        } catch (DateTimeParseException e) {
+            throw BatchLogger.LOGGER.invalidDateTime(value, attribute.getName());
+        }
+    }
+
+    private static ModelNode toModelNode(final JobExecution jobExecution) {
+        final ModelNode model = new ModelNode();
+        model.get(BatchJobExecutionResourceDefinition.EXECUTION).set(jobExecution.getExecutionId());
+        if (jobExecution.getBatchStatus() != null) {
+            model.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).set(jobExecution.getBatchStatus().name());
+        }
+        if (jobExecution.getExitStatus() != null) {
+            model.get(BatchJobExecutionResourceDefinition.EXIT_STATUS.getName()).set(jobExecution.getExitStatus());
+        }
+        setDateTime(model, BatchJobExecutionResourceDefinition.CREATE_TIME, jobExecution.getCreateTime());
+        setDateTime(model, BatchJobExecutionResourceDefinition.START_TIME, jobExecution.getStartTime());
+        setDateTime(model, BatchJobExecutionResourceDefinition.LAST_UPDATED_TIME, jobExecution.getLastUpdatedTime());
+        setDateTime(model, BatchJobExecutionResourceDefinition.END_TIME, jobExecution.getEndTime());
+        return model;
+    }
+
+    private static void setDateTime(final ModelNode model, final SimpleAttributeDefinition attribute, final Date date) {
+        if (date != null) {
+            model.get(attribute.getName()).set(BatchJobExecutionResourceDefinition.formatDateTime(date));
+        }
+    }
+
 }
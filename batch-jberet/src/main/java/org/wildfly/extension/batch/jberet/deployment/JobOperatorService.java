@@ -12,6 +12,7 @@ import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
@@ -32,11 +33,13 @@ import jakarta.batch.operations.JobStartException;
 import jakarta.batch.operations.NoSuchJobException;
 import jakarta.batch.operations.NoSuchJobExecutionException;
 import jakarta.batch.operations.NoSuchJobInstanceException;
+import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 
 import org.jberet.operations.AbstractJobOperator;
+import org.jberet.repository.JobRepository;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.spi.BatchEnvironment;
 import org.jboss.as.controller.ControlledProcessState;
@@ -50,6 +53,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.job.repository.SearchableJobRepository;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -211,6 +215,38 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
         }
     }
 
+    @Override
+    public List<Long> getRecentJobExecutionsByJob(final String jobName, final int defaultLimit) {
+        checkState(jobName);
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final JobRepository jobRepository = getJobRepository();
+            if (jobRepository instanceof SearchableJobRepository && ((SearchableJobRepository) jobRepository).getExecutionRecordsLimit() == null) {
+                return ((SearchableJobRepository) jobRepository).findJobExecutions(jobName, null, null, null, Long.MAX_VALUE, defaultLimit);
+            }
+            return super.getJobExecutionsByJob(jobName);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
+    @Override
+    public List<Long> findJobExecutions(final String jobName, final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore, final long beforeExecutionId, final int limit) {
+        checkState(jobName);
+        final ClassLoader current = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+        try {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+            final JobRepository jobRepository = getJobRepository();
+            if (jobRepository instanceof SearchableJobRepository) {
+                return ((SearchableJobRepository) jobRepository).findJobExecutions(jobName, batchStatus, createdAfter, createdBefore, beforeExecutionId, limit);
+            }
+            return SearchableJobRepository.findJobExecutions(jobRepository, jobName, batchStatus, createdAfter, createdBefore, beforeExecutionId, limit);
+        } finally {
+            WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
+        }
+    }
+
     @Override
     public Properties getParameters(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         checkState();
@@ -238,7 +274,8 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
                 jobXml = jobXMLName + ".xml";
             }
             if (resolver.isValidJobXmlName(jobXml)) {
-                return super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName());
+                return BatchEnvironmentService.runForJob(resolver.resolveJobName(jobXml, classLoader),
+                        () -> super.start(jobXml, jobParameters, getBatchEnvironment().getCurrentUserName()));
             }
             throw BatchLogger.LOGGER.couldNotFindJobXml(jobXMLName);
         } finally {
@@ -254,7 +291,8 @@ public class JobOperatorService extends AbstractJobOperator implements WildFlyJo
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
             final JobInstance instance = super.getJobInstance(executionId);
             validateJob(instance.getJobName());
-            return super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName());
+            return BatchEnvironmentService.runForJob(instance.getJobName(),
+                    () -> super.restart(executionId, restartParameters, getBatchEnvironment().getCurrentUserName()));
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(current);
         }
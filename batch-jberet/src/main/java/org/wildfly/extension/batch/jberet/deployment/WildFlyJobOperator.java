@@ -6,11 +6,13 @@
 package org.wildfly.extension.batch.jberet.deployment;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Supplier;
 import jakarta.batch.operations.JobOperator;
 import jakarta.batch.operations.NoSuchJobException;
+import jakarta.batch.runtime.BatchStatus;
 
 /**
  * An extended version of a {@link JobOperator} for WildFly. Allows access to the job XML descriptors.
@@ -51,6 +53,34 @@ interface WildFlyJobOperator extends JobOperator {
      */
     List<Long> getJobExecutionsByJob(final String jobName);
 
+    /**
+     * Gets the ids of the most recent job executions belonging to the job identified by the {@code jobName}, up to the
+     * {@code execution-records-limit} of the job repository or, if it has none, up to the given limit.
+     *
+     * @param jobName      the job name identifying the job
+     * @param defaultLimit the maximum number of job execution ids if the job repository has no limit
+     *
+     * @return the most recent job execution ids belonging to the job
+     */
+    List<Long> getRecentJobExecutionsByJob(String jobName, int defaultLimit);
+
+    /**
+     * Finds the ids of the job executions belonging to the job identified by the {@code jobName} and matching the
+     * given criteria, from the most recent to the oldest.
+     *
+     * @param jobName           the job name identifying the job
+     * @param batchStatus       the status of the job executions, or {@code null} for any status
+     * @param createdAfter      the time at or after which the job executions were created, or {@code null} for no lower bound
+     * @param createdBefore     the time before which the job executions were created, or {@code null} for no upper bound
+     * @param beforeExecutionId the id below which the job executions are found
+     * @param limit             the maximum number of job execution ids to return
+     *
+     * @return the ids of the matching job executions, in descending order
+     *
+     * @see org.wildfly.extension.batch.jberet.job.repository.SearchableJobRepository
+     */
+    List<Long> findJobExecutions(String jobName, BatchStatus batchStatus, Date createdAfter, Date createdBefore, long beforeExecutionId, int limit);
+
     /**
      * Allows safe execution of a method catching any {@link NoSuchJobException} thrown. If the exception is thrown the
      * default value is returned, otherwise the value from the supplier is returned.
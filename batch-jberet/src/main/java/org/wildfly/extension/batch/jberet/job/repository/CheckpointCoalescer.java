@@ -0,0 +1,232 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Coalesces the checkpoints saved by the chunks of step and partition executions, so that only the latest checkpoint
+ * of each execution is written to the job repository when {@linkplain #run() flushed}, instead of one write per chunk.
+ * <p>
+ * The pending checkpoint of an execution is flushed before any update of the status of its step or job execution,
+ * so that the job repository is consistent whenever a step or a job ends or is stopped. A crash loses at most the
+ * checkpoints saved since the last flush, and the chunks they cover are processed again when the job is restarted,
+ * although their items were already written. Coalescing is therefore only suited to idempotent item writers, which is
+ * stated by the description of the {@code checkpoint-flush-interval} attribute.
+ * </p>
+ * <p>
+ * A checkpoint is recorded as a serialized snapshot of its step or partition execution, taken when the chunk saves it,
+ * so that a flush writes the checkpoint and metrics of the committed chunk rather than those of a chunk still in
+ * progress on the live execution. This costs an in-memory serialization of the execution per chunk, in place of the
+ * database write. An execution which can not be serialized has its checkpoints written immediately.
+ * </p>
+ */
+class CheckpointCoalescer implements Runnable {
+
+    private final JobRepository repository;
+    // Guarded by itself, keyed by the live step and partition executions compared by identity
+    private final Map<AbstractStepExecution, Checkpoint> pending = new IdentityHashMap<>();
+    // The job executions the job repository reported as stopping when a checkpoint was written
+    private final Set<Long> stoppingJobExecutions = ConcurrentHashMap.newKeySet();
+
+    CheckpointCoalescer(final JobRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Records the checkpoint of a step or partition execution, to be written by the next flush.
+     *
+     * @return {@code 0} if the job execution was reported as stopping by a previous flush, {@code 1} otherwise
+     *
+     * @see JobRepository#savePersistentDataIfNotStopping(JobExecution, AbstractStepExecution)
+     */
+    int save(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
+        if (stoppingJobExecutions.contains(jobExecution.getExecutionId())) {
+            // Let the chunk step stop now, with the checkpoint that was last written
+            flush(stepOrPartitionExecution);
+            return 0;
+        }
+        final byte[] snapshot;
+        try {
+            snapshot = serialize(stepOrPartitionExecution);
+        } catch (IOException e) {
+            BatchLogger.LOGGER.debugf(e, "Unable to take a snapshot of step execution %d, its checkpoint is written immediately", stepOrPartitionExecution.getStepExecutionId());
+            discard(stepOrPartitionExecution);
+            return repository.savePersistentDataIfNotStopping(jobExecution, stepOrPartitionExecution);
+        }
+        final Checkpoint checkpoint = new Checkpoint(jobExecution, snapshot, WildFlySecurityManager.getCurrentContextClassLoaderPrivileged());
+        synchronized (pending) {
+            pending.put(stepOrPartitionExecution, checkpoint);
+        }
+        return 1;
+    }
+
+    /**
+     * Writes the pending checkpoint of a step or partition execution, if any.
+     */
+    void flush(final AbstractStepExecution stepOrPartitionExecution) {
+        final Checkpoint checkpoint;
+        synchronized (pending) {
+            checkpoint = pending.remove(stepOrPartitionExecution);
+        }
+        if (checkpoint != null) {
+            write(checkpoint);
+        }
+    }
+
+    /**
+     * Discards the pending checkpoint of a step or partition execution, when its persistent data are about to be written
+     * by other means.
+     */
+    void discard(final AbstractStepExecution stepOrPartitionExecution) {
+        synchronized (pending) {
+            pending.remove(stepOrPartitionExecution);
+        }
+    }
+
+    /**
+     * Writes the pending checkpoints of the step and partition executions of a step execution.
+     */
+    void flushStepExecution(final long stepExecutionId) {
+        flush((stepOrPartitionExecution, jobExecution) -> stepOrPartitionExecution.getStepExecutionId() == stepExecutionId);
+    }
+
+    /**
+     * Writes the pending checkpoints of the step and partition executions of a job execution.
+     */
+    void flushJobExecution(final long jobExecutionId) {
+        flush((stepOrPartitionExecution, jobExecution) -> jobExecution.getExecutionId() == jobExecutionId);
+    }
+
+    private void flush(final BiPredicate<AbstractStepExecution, JobExecution> filter) {
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+        synchronized (pending) {
+            final Iterator<Map.Entry<AbstractStepExecution, Checkpoint>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<AbstractStepExecution, Checkpoint> entry = iterator.next();
+                if (filter.test(entry.getKey(), entry.getValue().jobExecution)) {
+                    checkpoints.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        for (Checkpoint checkpoint : checkpoints) {
+            write(checkpoint);
+        }
+    }
+
+    /**
+     * Forgets whether a job execution was reported as stopping, once it is no longer running.
+     */
+    void release(final long jobExecutionId) {
+        stoppingJobExecutions.remove(jobExecutionId);
+    }
+
+    /**
+     * Writes all the pending checkpoints, logging the failures instead of throwing them as this is invoked periodically
+     * in the background.
+     */
+    @Override
+    public void run() {
+        final List<Map.Entry<AbstractStepExecution, Checkpoint>> entries;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            entries = new ArrayList<>(pending.size());
+            for (Map.Entry<AbstractStepExecution, Checkpoint> entry : pending.entrySet()) {
+                entries.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            pending.clear();
+        }
+        for (Map.Entry<AbstractStepExecution, Checkpoint> entry : entries) {
+            try {
+                write(entry.getValue());
+            } catch (RuntimeException e) {
+                // The step keeps running, its next checkpoint is written by a later flush
+                BatchLogger.LOGGER.failedToSaveCheckpoint(e, entry.getKey().getStepExecutionId(), entry.getValue().jobExecution.getExecutionId());
+            }
+        }
+    }
+
+    private void write(final Checkpoint checkpoint) {
+        if (repository.savePersistentDataIfNotStopping(checkpoint.jobExecution, checkpoint.restore()) == 0) {
+            stoppingJobExecutions.add(checkpoint.jobExecution.getExecutionId());
+        }
+    }
+
+    private static byte[] serialize(final AbstractStepExecution stepOrPartitionExecution) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(stepOrPartitionExecution);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * The snapshot of a step or partition execution taken when its checkpoint was saved.
+     */
+    private static class Checkpoint {
+        private final JobExecution jobExecution;
+        private final byte[] snapshot;
+        // Loads the classes of the checkpoint and persistent user data of the deployment
+        private final ClassLoader classLoader;
+
+        Checkpoint(final JobExecution jobExecution, final byte[] snapshot, final ClassLoader classLoader) {
+            this.jobExecution = jobExecution;
+            this.snapshot = snapshot;
+            this.classLoader = classLoader;
+        }
+
+        AbstractStepExecution restore() {
+            try (ObjectInputStream input = new SnapshotInputStream(new ByteArrayInputStream(snapshot), classLoader)) {
+                return (AbstractStepExecution) input.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class SnapshotInputStream extends ObjectInputStream {
+        private final ClassLoader classLoader;
+
+        SnapshotInputStream(final InputStream input, final ClassLoader classLoader) throws IOException {
+            super(input);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException ignore) {
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
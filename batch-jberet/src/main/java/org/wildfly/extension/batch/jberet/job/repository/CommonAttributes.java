@@ -5,8 +5,19 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.AttributeMarshaller;
+import org.jboss.as.controller.AttributeParser;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 public class CommonAttributes {
@@ -21,4 +32,79 @@ public class CommonAttributes {
             .setRestartAllServices()
             .build();
 
+    /**
+     * The age, in minutes since they ended, after which job executions are purged from the job repository.
+     */
+    public static final SimpleAttributeDefinition RETENTION_MAX_AGE = SimpleAttributeDefinitionBuilder.create("retention-max-age", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MINUTES)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The number of the most recent job executions of each job which are kept in the job repository, the older ones
+     * being purged.
+     */
+    public static final SimpleAttributeDefinition RETENTION_MAX_EXECUTIONS = SimpleAttributeDefinitionBuilder.create("retention-max-executions", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The final batch statuses of the job executions that may be purged. If undefined, job executions of any final
+     * status may be purged.
+     */
+    public static final StringListAttributeDefinition RETENTION_STATUSES = new StringListAttributeDefinition.Builder("retention-statuses")
+            .setRequired(false)
+            .setMinSize(1)
+            .setAllowExpression(true)
+            .setElementValidator(EnumValidator.create(BatchStatus.class, BatchStatus.COMPLETED, BatchStatus.FAILED, BatchStatus.STOPPED, BatchStatus.ABANDONED))
+            .setAttributeParser(AttributeParser.STRING_LIST)
+            .setAttributeMarshaller(AttributeMarshaller.STRING_LIST)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    /**
+     * The interval, in minutes, at which the expired job executions are purged.
+     */
+    public static final SimpleAttributeDefinition PURGE_INTERVAL = SimpleAttributeDefinitionBuilder.create("purge-interval", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(60))
+            .setMeasurementUnit(MeasurementUnit.MINUTES)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The maximum number of job executions deleted from the job repository at once by the purge.
+     */
+    public static final SimpleAttributeDefinition PURGE_BATCH_SIZE = SimpleAttributeDefinitionBuilder.create("purge-batch-size", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] RETENTION_ATTRIBUTES = {
+            RETENTION_MAX_AGE, RETENTION_MAX_EXECUTIONS, RETENTION_STATUSES, PURGE_INTERVAL, PURGE_BATCH_SIZE
+    };
+
+    static final SimpleAttributeDefinition PURGED_JOB_EXECUTIONS = SimpleAttributeDefinitionBuilder.create("purged-job-executions", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition PURGED_JOB_INSTANCES = SimpleAttributeDefinitionBuilder.create("purged-job-instances", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition LAST_PURGE_DURATION = SimpleAttributeDefinitionBuilder.create("last-purge-duration", ModelType.LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition[] PURGE_METRICS = {
+            PURGED_JOB_EXECUTIONS, PURGED_JOB_INSTANCES, LAST_PURGE_DURATION
+    };
 }
@@ -7,6 +7,7 @@ package org.wildfly.extension.batch.jberet.job.repository;
 
 import org.jberet.repository.JobRepository;
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
@@ -47,11 +48,18 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
         super.registerAttributes(resourceRegistration);
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        for (AttributeDefinition attribute : CommonAttributes.RETENTION_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, new ReloadRequiredWriteAttributeHandler(attribute));
+        }
+        for (AttributeDefinition metric : CommonAttributes.PURGE_METRICS) {
+            resourceRegistration.registerMetric(metric, JobRepositoryPurgeMetricHandler.INSTANCE);
+        }
     }
 
     private static class InMemoryAddHandler extends AbstractAddStepHandler {
         InMemoryAddHandler() {
-            super(CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            super(CommonAttributes.EXECUTION_RECORDS_LIMIT, CommonAttributes.RETENTION_MAX_AGE, CommonAttributes.RETENTION_MAX_EXECUTIONS,
+                    CommonAttributes.RETENTION_STATUSES, CommonAttributes.PURGE_INTERVAL, CommonAttributes.PURGE_BATCH_SIZE);
         }
 
         @Override
@@ -59,10 +67,11 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
             super.performRuntime(context, operation, model);
             final String name = context.getCurrentAddressValue();
             final Integer executionRecordsLimit = CommonAttributes.EXECUTION_RECORDS_LIMIT.resolveModelAttribute(context, model).asIntOrNull();
+            final JobRepositoryRetention retention = JobRepositoryRetention.resolve(context, model);
             final ServiceName inMemorySN = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = context.getServiceTarget().addService(inMemorySN);
             final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(inMemorySN);
-            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit));
+            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit, retention));
             sb.install();
         }
     }
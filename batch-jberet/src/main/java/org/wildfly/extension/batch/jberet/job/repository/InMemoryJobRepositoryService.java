@@ -25,7 +25,11 @@ public class InMemoryJobRepositoryService extends JobRepositoryService implement
     private volatile InMemoryRepository repository;
 
     public InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit) {
-        super(jobRepositoryConsumer, executionRecordsLimit);
+        this(jobRepositoryConsumer, executionRecordsLimit, null);
+    }
+
+    InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit, final JobRepositoryRetention retention) {
+        super(jobRepositoryConsumer, executionRecordsLimit, retention);
     }
 
     @Override
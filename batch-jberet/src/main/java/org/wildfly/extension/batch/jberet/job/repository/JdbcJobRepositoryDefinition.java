@@ -9,6 +9,7 @@ import javax.sql.DataSource;
 
 import org.jberet.repository.JobRepository;
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
@@ -17,6 +18,8 @@ import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
@@ -50,6 +53,17 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    /**
+     * The interval, in milliseconds, at which the checkpoints of chunk steps are written to the database. If undefined,
+     * the checkpoint of each chunk is written when the chunk is committed.
+     */
+    public static final SimpleAttributeDefinition CHECKPOINT_FLUSH_INTERVAL = SimpleAttributeDefinitionBuilder.create("checkpoint-flush-interval", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
     public JdbcJobRepositoryDefinition() {
         super(
                 new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
@@ -66,12 +80,22 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
                 new ReloadRequiredWriteAttributeHandler(DATA_SOURCE));
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        resourceRegistration.registerReadWriteAttribute(CHECKPOINT_FLUSH_INTERVAL, null,
+                new ReloadRequiredWriteAttributeHandler(CHECKPOINT_FLUSH_INTERVAL));
+        for (AttributeDefinition attribute : CommonAttributes.RETENTION_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, new ReloadRequiredWriteAttributeHandler(attribute));
+        }
+        for (AttributeDefinition metric : CommonAttributes.PURGE_METRICS) {
+            resourceRegistration.registerMetric(metric, JobRepositoryPurgeMetricHandler.INSTANCE);
+        }
     }
 
     private static class JdbcRepositoryAddHandler extends AbstractAddStepHandler {
 
         JdbcRepositoryAddHandler() {
-            super(DATA_SOURCE, CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            super(DATA_SOURCE, CommonAttributes.EXECUTION_RECORDS_LIMIT, CHECKPOINT_FLUSH_INTERVAL, CommonAttributes.RETENTION_MAX_AGE,
+                    CommonAttributes.RETENTION_MAX_EXECUTIONS, CommonAttributes.RETENTION_STATUSES, CommonAttributes.PURGE_INTERVAL,
+                    CommonAttributes.PURGE_BATCH_SIZE);
         }
 
         @Override
@@ -80,13 +104,15 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             final String name = context.getCurrentAddressValue();
             final String dsName = DATA_SOURCE.resolveModelAttribute(context, model).asString();
             final Integer executionRecordsLimit = CommonAttributes.EXECUTION_RECORDS_LIMIT.resolveModelAttribute(context, model).asIntOrNull();
+            final Integer checkpointFlushInterval = CHECKPOINT_FLUSH_INTERVAL.resolveModelAttribute(context, model).asIntOrNull();
+            final JobRepositoryRetention retention = JobRepositoryRetention.resolve(context, model);
             final ServiceTarget target = context.getServiceTarget();
             final ServiceName sn = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = target.addService(sn);
             final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(sn);
             final Supplier<ExecutorService> executorSupplier = Services.requireServerExecutor(sb);
             final Supplier<DataSource> dataSourceSupplier = sb.requires(context.getCapabilityServiceName(Capabilities.DATA_SOURCE_CAPABILITY, dsName, DataSource.class));
-            final JdbcJobRepositoryService service = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit);
+            final JdbcJobRepositoryService service = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit, checkpointFlushInterval, retention);
             sb.setInstance(service);
             sb.install();
         }
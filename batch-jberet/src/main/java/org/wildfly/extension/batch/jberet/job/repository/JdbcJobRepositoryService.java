@@ -5,14 +5,37 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.StepExecution;
 
 import org.jberet.repository.JdbcRepository;
 import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -21,23 +44,54 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * A service which provides a JDBC job repository.
+ * <p>
+ * If a checkpoint flush interval is configured, the checkpoints saved by chunk steps are coalesced and written at that
+ * interval, see {@link CheckpointCoalescer}.
+ * </p>
+ * <p>
+ * The executions of a job are {@linkplain #findJobExecutions(String, BatchStatus, Date, Date, long, int) found} with a
+ * single query of the job repository tables, which only returns the ids of the requested number of matching executions.
+ * The expired executions are purged with queries of the job repository tables as well, reading only the columns which
+ * determine whether they expired, and deleting each batch of executions with one statement per table.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class JdbcJobRepositoryService extends JobRepositoryService implements Service<JobRepository> {
 
+    private static final String FIND_JOB_EXECUTIONS = "SELECT e.JOBEXECUTIONID FROM JOB_EXECUTION e" +
+            " INNER JOIN JOB_INSTANCE i ON e.JOBINSTANCEID = i.JOBINSTANCEID" +
+            " WHERE i.JOBNAME = ? AND e.JOBEXECUTIONID < ?";
+    private static final String SELECT_EXECUTION_RECORDS = "SELECT e.JOBEXECUTIONID, e.JOBINSTANCEID, i.JOBNAME, e.BATCHSTATUS, e.ENDTIME" +
+            " FROM JOB_EXECUTION e INNER JOIN JOB_INSTANCE i ON e.JOBINSTANCEID = i.JOBINSTANCEID";
+    // Some databases limit the number of values of an IN condition to 1000
+    private static final int MAX_IN_VALUES = 1000;
+
     private final Supplier<DataSource> dataSourceSupplier;
     private final Supplier<ExecutorService> executorSupplier;
+    private final Integer checkpointFlushInterval;
     private volatile JdbcRepository jobRepository;
+    private volatile CheckpointCoalescer checkpointCoalescer;
+    private volatile ScheduledExecutorService checkpointFlusher;
 
     public JdbcJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer,
                                     final Supplier<DataSource> dataSourceSupplier,
                                     final Supplier<ExecutorService> executorSupplier,
                                     final Integer executionRecordsLimit) {
-        super(jobRepositoryConsumer, executionRecordsLimit);
+        this(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit, null, null);
+    }
+
+    JdbcJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer,
+                             final Supplier<DataSource> dataSourceSupplier,
+                             final Supplier<ExecutorService> executorSupplier,
+                             final Integer executionRecordsLimit,
+                             final Integer checkpointFlushInterval,
+                             final JobRepositoryRetention retention) {
+        super(jobRepositoryConsumer, executionRecordsLimit, retention);
         this.dataSourceSupplier = dataSourceSupplier;
         this.executorSupplier = executorSupplier;
+        this.checkpointFlushInterval = checkpointFlushInterval;
     }
 
     @Override
@@ -47,6 +101,12 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
             try {
                 // Currently in jBeret tables are created in the constructor which is why this is done asynchronously
                 jobRepository = new JdbcRepository(dataSourceSupplier.get());
+                if (checkpointFlushInterval != null) {
+                    final CheckpointCoalescer coalescer = new CheckpointCoalescer(jobRepository);
+                    checkpointFlusher = Executors.newSingleThreadScheduledExecutor(new JobRepositoryThreadFactory("batch-checkpoint-flusher"));
+                    checkpointFlusher.scheduleWithFixedDelay(coalescer, checkpointFlushInterval, checkpointFlushInterval, TimeUnit.MILLISECONDS);
+                    checkpointCoalescer = coalescer;
+                }
                 context.complete();
             } catch (Exception e) {
                 context.failed(BatchLogger.LOGGER.failedToCreateJobRepository(e, "JDBC"));
@@ -63,9 +123,248 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
 
     @Override
     public void stopJobRepository(final StopContext context) {
+        final ScheduledExecutorService flusher = checkpointFlusher;
+        if (flusher != null) {
+            flusher.shutdownNow();
+            checkpointFlusher = null;
+        }
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            checkpointCoalescer = null;
+            // Write the checkpoints still pending
+            coalescer.run();
+        }
         jobRepository = null;
     }
 
+    @Override
+    public void updateJobExecution(final JobExecutionImpl jobExecution, final boolean fullUpdate, final boolean saveJobParameters) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushJobExecution(jobExecution.getExecutionId());
+        }
+        super.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+        if (coalescer != null && JobRepositoryRetention.FINAL_STATUSES.contains(jobExecution.getBatchStatus())) {
+            coalescer.release(jobExecution.getExecutionId());
+        }
+    }
+
+    @Override
+    public void stopJobExecution(final JobExecutionImpl jobExecution) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushJobExecution(jobExecution.getExecutionId());
+        }
+        super.stopJobExecution(jobExecution);
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(final long jobExecutionId, final ClassLoader classLoader) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushJobExecution(jobExecutionId);
+        }
+        return super.getStepExecutions(jobExecutionId, classLoader);
+    }
+
+    @Override
+    public void updateStepExecution(final StepExecution stepExecution) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushStepExecution(stepExecution.getStepExecutionId());
+        }
+        super.updateStepExecution(stepExecution);
+    }
+
+    @Override
+    public StepExecutionImpl findOriginalStepExecutionForRestart(final String stepName, final JobExecutionImpl jobExecutionToRestart, final ClassLoader classLoader) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushJobExecution(jobExecutionToRestart.getExecutionId());
+        }
+        return super.findOriginalStepExecutionForRestart(stepName, jobExecutionToRestart, classLoader);
+    }
+
+    @Override
+    public List<PartitionExecutionImpl> getPartitionExecutions(final long stepExecutionId, final StepExecutionImpl stepExecution, final boolean notCompletedOnly, final ClassLoader classLoader) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            coalescer.flushStepExecution(stepExecutionId);
+        }
+        return super.getPartitionExecutions(stepExecutionId, stepExecution, notCompletedOnly, classLoader);
+    }
+
+    @Override
+    public void savePersistentData(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            // The pending checkpoint is superseded by this write
+            coalescer.discard(stepOrPartitionExecution);
+        }
+        super.savePersistentData(jobExecution, stepOrPartitionExecution);
+    }
+
+    @Override
+    public int savePersistentDataIfNotStopping(final JobExecution jobExecution, final AbstractStepExecution abstractStepExecution) {
+        final CheckpointCoalescer coalescer = checkpointCoalescer;
+        if (coalescer != null) {
+            return coalescer.save(jobExecution, abstractStepExecution);
+        }
+        return super.savePersistentDataIfNotStopping(jobExecution, abstractStepExecution);
+    }
+
+    @Override
+    public List<Long> findJobExecutions(final String jobName, final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore, final long beforeExecutionId, final int limit) {
+        // Fails if the repository is not started
+        getAndCheckDelegate();
+        final StringBuilder sql = new StringBuilder(FIND_JOB_EXECUTIONS);
+        if (batchStatus != null) {
+            sql.append(" AND e.BATCHSTATUS = ?");
+        }
+        if (createdAfter != null) {
+            sql.append(" AND e.CREATETIME >= ?");
+        }
+        if (createdBefore != null) {
+            sql.append(" AND e.CREATETIME < ?");
+        }
+        sql.append(" ORDER BY e.JOBEXECUTIONID DESC");
+        final List<Long> result = new ArrayList<>();
+        try (Connection connection = dataSourceSupplier.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            statement.setString(index++, jobName);
+            statement.setLong(index++, beforeExecutionId);
+            if (batchStatus != null) {
+                statement.setString(index++, batchStatus.name());
+            }
+            if (createdAfter != null) {
+                statement.setTimestamp(index++, new Timestamp(createdAfter.getTime()));
+            }
+            if (createdBefore != null) {
+                statement.setTimestamp(index, new Timestamp(createdBefore.getTime()));
+            }
+            statement.setMaxRows(limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next() && result.size() < limit) {
+                    result.add(resultSet.getLong(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new BatchRuntimeException(e);
+        }
+        return result;
+    }
+
+    @Override
+    public List<ExecutionRecord> getExecutionRecords() {
+        // Fails if the repository is not started
+        getAndCheckDelegate();
+        final List<ExecutionRecord> records = new ArrayList<>();
+        try (Connection connection = dataSourceSupplier.get().getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_EXECUTION_RECORDS);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                final String status = resultSet.getString(4);
+                records.add(new ExecutionRecord(resultSet.getLong(1), resultSet.getLong(2), resultSet.getString(3),
+                        status == null ? null : BatchStatus.valueOf(status), resultSet.getTimestamp(5)));
+            }
+        } catch (SQLException e) {
+            throw new BatchRuntimeException(e);
+        }
+        return records;
+    }
+
+    @Override
+    public Set<Long> removeJobExecutions(final List<Long> executionIds, final Set<BatchStatus> statuses, final int batchSize) {
+        getAndCheckDelegate();
+        if (statuses.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final int size = Math.min(batchSize, MAX_IN_VALUES);
+        final Set<Long> removed = new HashSet<>();
+        try (Connection connection = dataSourceSupplier.get().getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                for (int i = 0; i < executionIds.size() && !Thread.currentThread().isInterrupted(); i += size) {
+                    removed.addAll(removeJobExecutions(connection, executionIds.subList(i, Math.min(i + size, executionIds.size())), statuses));
+                    connection.commit();
+                }
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new BatchRuntimeException(e);
+        }
+        return removed;
+    }
+
+    @Override
+    public int removeJobInstances(final Collection<Long> instanceIds) {
+        getAndCheckDelegate();
+        final List<Long> ids = new ArrayList<>(instanceIds);
+        int removed = 0;
+        try (Connection connection = dataSourceSupplier.get().getConnection()) {
+            for (int i = 0; i < ids.size(); i += MAX_IN_VALUES) {
+                final List<Long> batch = ids.subList(i, Math.min(i + MAX_IN_VALUES, ids.size()));
+                // The job instance may have been restarted since its job executions were read
+                removed += executeUpdate(connection, "DELETE FROM JOB_INSTANCE WHERE JOBINSTANCEID IN (" + parameters(batch.size()) + ")" +
+                        " AND NOT EXISTS (SELECT 1 FROM JOB_EXECUTION e WHERE e.JOBINSTANCEID = JOB_INSTANCE.JOBINSTANCEID)", batch);
+            }
+        } catch (SQLException e) {
+            throw new BatchRuntimeException(e);
+        }
+        return removed;
+    }
+
+    /**
+     * Removes a batch of job executions whose status is one of the given statuses, within the transaction of the
+     * connection.
+     */
+    private static List<Long> removeJobExecutions(final Connection connection, final List<Long> executionIds, final Set<BatchStatus> statuses) throws SQLException {
+        final List<Long> removable = new ArrayList<>(executionIds.size());
+        try (PreparedStatement statement = connection.prepareStatement("SELECT JOBEXECUTIONID FROM JOB_EXECUTION WHERE JOBEXECUTIONID IN (" +
+                parameters(executionIds.size()) + ") AND BATCHSTATUS IN (" + parameters(statuses.size()) + ")")) {
+            int index = 1;
+            for (Long executionId : executionIds) {
+                statement.setLong(index++, executionId);
+            }
+            for (BatchStatus status : statuses) {
+                statement.setString(index++, status.name());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    removable.add(resultSet.getLong(1));
+                }
+            }
+        }
+        if (!removable.isEmpty()) {
+            final String ids = parameters(removable.size());
+            executeUpdate(connection, "DELETE FROM PARTITION_EXECUTION WHERE STEPEXECUTIONID IN" +
+                    " (SELECT STEPEXECUTIONID FROM STEP_EXECUTION WHERE JOBEXECUTIONID IN (" + ids + "))", removable);
+            executeUpdate(connection, "DELETE FROM STEP_EXECUTION WHERE JOBEXECUTIONID IN (" + ids + ")", removable);
+            executeUpdate(connection, "DELETE FROM JOB_EXECUTION WHERE JOBEXECUTIONID IN (" + ids + ")", removable);
+        }
+        return removable;
+    }
+
+    private static int executeUpdate(final Connection connection, final String sql, final List<Long> ids) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Long id : ids) {
+                statement.setLong(index++, id);
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    private static String parameters(final int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     @Override
     protected JobRepository getDelegate() {
         return jobRepository;
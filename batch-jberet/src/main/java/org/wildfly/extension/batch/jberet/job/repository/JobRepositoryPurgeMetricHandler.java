@@ -0,0 +1,44 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import org.jberet.repository.JobRepository;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.batch.jberet._private.Capabilities;
+
+/**
+ * Reads the metrics of the purge of the expired job executions of a job repository. The metrics are {@code 0} if no
+ * retention settings are configured.
+ */
+class JobRepositoryPurgeMetricHandler extends AbstractRuntimeOnlyHandler {
+
+    static final JobRepositoryPurgeMetricHandler INSTANCE = new JobRepositoryPurgeMetricHandler();
+
+    private JobRepositoryPurgeMetricHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+        final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(
+                context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), context.getCurrentAddressValue(), JobRepository.class));
+        final JobRepositoryPurger purger = (controller != null && controller.getService() instanceof JobRepositoryService)
+                ? ((JobRepositoryService) controller.getService()).getPurger() : null;
+        final ModelNode result = context.getResult();
+        if (CommonAttributes.PURGED_JOB_EXECUTIONS.getName().equals(attributeName)) {
+            result.set(purger == null ? 0L : purger.getPurgedJobExecutions());
+        } else if (CommonAttributes.PURGED_JOB_INSTANCES.getName().equals(attributeName)) {
+            result.set(purger == null ? 0L : purger.getPurgedJobInstances());
+        } else if (CommonAttributes.LAST_PURGE_DURATION.getName().equals(attributeName)) {
+            result.set(purger == null ? 0L : purger.getLastPurgeDuration());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.job.repository.PurgeableJobRepository.ExecutionRecord;
+
+/**
+ * Periodically purges the job executions which expired according to the {@linkplain JobRepositoryRetention retention
+ * settings} of a job repository, along with their step and partition executions, and the job instances left without
+ * any job execution.
+ * <p>
+ * Only job executions with a final status are purged, so running jobs are never affected. The properties of the job
+ * executions are read once, then the expired job executions are removed oldest first, in batches of bounded size, so
+ * that the job repository is not held for the whole purge. The status of the job executions, and the absence of job
+ * executions of the job instances, are checked again when they are removed.
+ * </p>
+ */
+class JobRepositoryPurger implements Runnable {
+
+    private final PurgeableJobRepository repository;
+    private final JobRepositoryRetention retention;
+    private final LongAdder purgedJobExecutions = new LongAdder();
+    private final LongAdder purgedJobInstances = new LongAdder();
+    private volatile long lastPurgeDuration;
+
+    JobRepositoryPurger(final PurgeableJobRepository repository, final JobRepositoryRetention retention) {
+        this.repository = repository;
+        this.retention = retention;
+    }
+
+    /**
+     * @return the total number of job executions purged
+     */
+    long getPurgedJobExecutions() {
+        return purgedJobExecutions.sum();
+    }
+
+    /**
+     * @return the total number of job instances purged
+     */
+    long getPurgedJobInstances() {
+        return purgedJobInstances.sum();
+    }
+
+    /**
+     * @return the duration, in milliseconds, of the last purge
+     */
+    long getLastPurgeDuration() {
+        return lastPurgeDuration;
+    }
+
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            BatchLogger.LOGGER.failedToPurgeJobRepository(e);
+        } finally {
+            lastPurgeDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    private void purge() {
+        final List<ExecutionRecord> records = repository.getExecutionRecords();
+
+        final Set<Long> expired = new HashSet<>();
+        final Long maxAge = retention.getMaxAge();
+        if (maxAge != null) {
+            final long endedBefore = System.currentTimeMillis() - maxAge;
+            for (ExecutionRecord record : records) {
+                if (isPurgeable(record) && record.endTime < endedBefore) {
+                    expired.add(record.executionId);
+                }
+            }
+        }
+        final Integer maxExecutions = retention.getMaxExecutions();
+        if (maxExecutions != null) {
+            final Map<String, List<ExecutionRecord>> recordsByJob = new HashMap<>();
+            for (ExecutionRecord record : records) {
+                recordsByJob.computeIfAbsent(record.jobName, name -> new ArrayList<>()).add(record);
+            }
+            for (List<ExecutionRecord> jobRecords : recordsByJob.values()) {
+                if (jobRecords.size() > maxExecutions) {
+                    // Most recent first
+                    jobRecords.sort(Comparator.comparingLong((ExecutionRecord record) -> record.executionId).reversed());
+                    for (ExecutionRecord record : jobRecords.subList(maxExecutions, jobRecords.size())) {
+                        if (isPurgeable(record)) {
+                            expired.add(record.executionId);
+                        }
+                    }
+                }
+            }
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        // Oldest first, so that an interrupted purge leaves the most recent executions
+        final List<Long> executionIds = new ArrayList<>(expired);
+        executionIds.sort(null);
+        final Set<Long> purged = repository.removeJobExecutions(executionIds, retention.getStatuses(), retention.getPurgeBatchSize());
+        purgedJobExecutions.add(purged.size());
+
+        // Remove the job instances whose job executions were all purged
+        final Map<Long, Boolean> instances = new HashMap<>();
+        for (ExecutionRecord record : records) {
+            instances.merge(record.instanceId, purged.contains(record.executionId), Boolean::logicalAnd);
+        }
+        final Set<Long> instanceIds = new HashSet<>();
+        for (Map.Entry<Long, Boolean> instance : instances.entrySet()) {
+            if (instance.getValue()) {
+                instanceIds.add(instance.getKey());
+            }
+        }
+        if (!instanceIds.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            purgedJobInstances.add(repository.removeJobInstances(instanceIds));
+        }
+    }
+
+    private boolean isPurgeable(final ExecutionRecord record) {
+        return record.endTime != null && retention.isPurgeable(record.status);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * The retention settings of a job repository, which determine the job executions that are purged.
+ */
+class JobRepositoryRetention {
+
+    /**
+     * The statuses of the job executions which are no longer running and which can not change.
+     */
+    static final Set<BatchStatus> FINAL_STATUSES = EnumSet.of(BatchStatus.COMPLETED, BatchStatus.FAILED, BatchStatus.STOPPED, BatchStatus.ABANDONED);
+
+    private final Long maxAge;
+    private final Integer maxExecutions;
+    private final Set<BatchStatus> statuses;
+    private final long purgeInterval;
+    private final int purgeBatchSize;
+
+    JobRepositoryRetention(final Long maxAge, final Integer maxExecutions, final Set<BatchStatus> statuses, final long purgeInterval, final int purgeBatchSize) {
+        this.maxAge = maxAge;
+        this.maxExecutions = maxExecutions;
+        this.statuses = statuses;
+        this.purgeInterval = purgeInterval;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * Resolves the retention settings of a job repository resource.
+     *
+     * @return the retention settings, or {@code null} if neither a maximum age nor a maximum number of executions is
+     * defined, in which case nothing is ever purged
+     */
+    static JobRepositoryRetention resolve(final OperationContext context, final ModelNode model) throws OperationFailedException {
+        final Integer maxAge = CommonAttributes.RETENTION_MAX_AGE.resolveModelAttribute(context, model).asIntOrNull();
+        final Integer maxExecutions = CommonAttributes.RETENTION_MAX_EXECUTIONS.resolveModelAttribute(context, model).asIntOrNull();
+        if (maxAge == null && maxExecutions == null) {
+            return null;
+        }
+        final List<String> statusNames = CommonAttributes.RETENTION_STATUSES.unwrap(context, model);
+        final Set<BatchStatus> statuses;
+        if (statusNames.isEmpty()) {
+            statuses = FINAL_STATUSES;
+        } else {
+            statuses = EnumSet.noneOf(BatchStatus.class);
+            for (String statusName : statusNames) {
+                statuses.add(BatchStatus.valueOf(statusName));
+            }
+        }
+        final int purgeInterval = CommonAttributes.PURGE_INTERVAL.resolveModelAttribute(context, model).asInt();
+        final int purgeBatchSize = CommonAttributes.PURGE_BATCH_SIZE.resolveModelAttribute(context, model).asInt();
+        return new JobRepositoryRetention(maxAge == null ? null : TimeUnit.MINUTES.toMillis(maxAge), maxExecutions, statuses,
+                TimeUnit.MINUTES.toMillis(purgeInterval), purgeBatchSize);
+    }
+
+    /**
+     * @return the age, in milliseconds since they ended, after which job executions are purged, or {@code null} if
+     * job executions are not purged by age
+     */
+    Long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return the number of the most recent job executions of each job which are kept, or {@code null} if job
+     * executions are not purged by count
+     */
+    Integer getMaxExecutions() {
+        return maxExecutions;
+    }
+
+    /**
+     * @return whether a job execution with the given status may be purged
+     */
+    boolean isPurgeable(final BatchStatus status) {
+        return statuses.contains(status);
+    }
+
+    /**
+     * @return the statuses of the job executions which may be purged
+     */
+    Set<BatchStatus> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * @return the interval, in milliseconds, between two purges
+     */
+    long getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    /**
+     * @return the maximum number of job executions deleted at once
+     */
+    int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+}
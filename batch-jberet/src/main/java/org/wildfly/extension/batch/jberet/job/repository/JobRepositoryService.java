@@ -5,13 +5,23 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
 import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
 
 import org.jberet.job.model.Job;
 import org.jberet.repository.ApplicationAndJobName;
@@ -31,30 +41,53 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 /**
  * An abstract service which delegates to a {@link JobRepository} throwing an {@link IllegalStateException} if the
  * service has been stopped.
+ * <p>
+ * If retention settings are configured, the expired job executions are purged periodically by a
+ * {@link JobRepositoryPurger}.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
-abstract class JobRepositoryService implements JobRepository, Service<JobRepository> {
+abstract class JobRepositoryService implements SearchableJobRepository, PurgeableJobRepository, Service<JobRepository> {
     private volatile boolean started;
     private final Integer executionRecordsLimit;
     private final Consumer<JobRepository> jobRepositoryConsumer;
+    private final JobRepositoryRetention retention;
+    private volatile JobRepositoryPurger purger;
+    private volatile ScheduledExecutorService purgeScheduler;
 
     public JobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit) {
+        this(jobRepositoryConsumer, executionRecordsLimit, null);
+    }
+
+    JobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit, final JobRepositoryRetention retention) {
         this.jobRepositoryConsumer = jobRepositoryConsumer;
         this.executionRecordsLimit = executionRecordsLimit;
+        this.retention = retention;
     }
 
     @Override
     public final void start(final StartContext context) throws StartException {
         startJobRepository(context);
         started = true;
+        if (retention != null) {
+            purger = new JobRepositoryPurger(this, retention);
+            purgeScheduler = Executors.newSingleThreadScheduledExecutor(new JobRepositoryThreadFactory("batch-job-repository-purge"));
+            purgeScheduler.scheduleWithFixedDelay(purger, retention.getPurgeInterval(), retention.getPurgeInterval(), TimeUnit.MILLISECONDS);
+        }
         jobRepositoryConsumer.accept(this);
     }
 
     @Override
     public final void stop(final StopContext context) {
         jobRepositoryConsumer.accept(null);
+        final ScheduledExecutorService scheduler = purgeScheduler;
+        if (scheduler != null) {
+            // Interrupts a running purge between two batches
+            scheduler.shutdownNow();
+            purgeScheduler = null;
+        }
         stopJobRepository(context);
         started = false;
     }
@@ -216,17 +249,118 @@ abstract class JobRepositoryService implements JobRepository, Service<JobReposit
         return getAndCheckDelegate().getJobExecutionsByJob(jobName, executionRecordsLimit);
     }
 
+    @Override
+    public Integer getExecutionRecordsLimit() {
+        return executionRecordsLimit;
+    }
+
+    @Override
+    public List<Long> findJobExecutions(final String jobName, final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore, final long beforeExecutionId, final int limit) {
+        return SearchableJobRepository.findJobExecutions(getAndCheckDelegate(), jobName, batchStatus, createdAfter, createdBefore, beforeExecutionId, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The job executions are read through the job instances of all the jobs.
+     * </p>
+     */
+    @Override
+    public List<ExecutionRecord> getExecutionRecords() {
+        final JobRepository delegate = getAndCheckDelegate();
+        final List<ExecutionRecord> records = new ArrayList<>();
+        // * selects the job instances of all the jobs
+        for (JobInstance jobInstance : delegate.getJobInstances("*")) {
+            for (JobExecution jobExecution : delegate.getJobExecutions(jobInstance)) {
+                records.add(new ExecutionRecord(jobExecution, jobInstance.getInstanceId()));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The job executions are all removed at once, with a single selection over the job executions of the repository.
+     * </p>
+     */
+    @Override
+    public Set<Long> removeJobExecutions(final List<Long> executionIds, final Set<BatchStatus> statuses, final int batchSize) {
+        final Set<Long> selected = new HashSet<>(executionIds);
+        final Set<Long> removed = new HashSet<>();
+        getAndCheckDelegate().removeJobExecutions(new Selector() {
+            @Override
+            public boolean select(final JobExecution jobExecution, final Collection<Long> allJobExecutionIds) {
+                if (selected.contains(jobExecution.getExecutionId()) && statuses.contains(jobExecution.getBatchStatus())) {
+                    removed.add(jobExecution.getExecutionId());
+                    return true;
+                }
+                return false;
+            }
+        });
+        return removed;
+    }
+
+    @Override
+    public int removeJobInstances(final Collection<Long> instanceIds) {
+        final JobRepository delegate = getAndCheckDelegate();
+        int removed = 0;
+        for (Long instanceId : instanceIds) {
+            final JobInstance jobInstance = delegate.getJobInstance(instanceId);
+            // The job instance may have been restarted since its job executions were read
+            if (jobInstance != null && delegate.getJobExecutions(jobInstance).isEmpty()) {
+                delegate.removeJobInstance(instanceId);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the purger of the expired job executions.
+     *
+     * @return the purger, or {@code null} if no retention settings are configured or if the service was never started
+     */
+    JobRepositoryPurger getPurger() {
+        return purger;
+    }
+
     protected abstract void startJobRepository(StartContext context) throws StartException;
 
     protected abstract void stopJobRepository(StopContext context);
 
     protected abstract JobRepository getDelegate();
 
-    private JobRepository getAndCheckDelegate() {
+    JobRepository getAndCheckDelegate() {
         final JobRepository delegate = getDelegate();
         if (started && delegate != null) {
             return delegate;
         }
         throw BatchLogger.LOGGER.jobOperatorServiceStopped();
     }
+
+    private abstract static class Selector implements JobExecutionSelector {
+        private JobContext jobContext;
+        private StepContext stepContext;
+
+        @Override
+        public JobContext getJobContext() {
+            return jobContext;
+        }
+
+        @Override
+        public void setJobContext(final JobContext jobContext) {
+            this.jobContext = jobContext;
+        }
+
+        @Override
+        public StepContext getStepContext() {
+            return stepContext;
+        }
+
+        @Override
+        public void setStepContext(final StepContext stepContext) {
+            this.stepContext = stepContext;
+        }
+    }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the daemon threads of the background tasks of the job repositories, named after the task.
+ */
+class JobRepositoryThreadFactory implements ThreadFactory {
+    private final ThreadFactory threadFactory = Executors.defaultThreadFactory();
+    private final String prefix;
+
+    JobRepositoryThreadFactory(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(final Runnable r) {
+        final Thread thread = threadFactory.newThread(r);
+        thread.setName(prefix + "-" + thread.getName());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
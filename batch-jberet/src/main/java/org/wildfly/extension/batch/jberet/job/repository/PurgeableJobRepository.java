@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+/**
+ * The operations of a job repository used by a {@link JobRepositoryPurger}.
+ */
+interface PurgeableJobRepository {
+
+    /**
+     * Reads the properties of all the job executions of the repository which determine whether they expired.
+     *
+     * @return the properties of the job executions, in no particular order
+     */
+    List<ExecutionRecord> getExecutionRecords();
+
+    /**
+     * Removes job executions, along with their step and partition executions, if their status is still one of the
+     * given statuses. The job executions are removed in the given order, at most {@code batchSize} at once, and the
+     * removal stops between two batches if the current thread is interrupted.
+     *
+     * @param executionIds the ids of the job executions to remove
+     * @param statuses     the statuses of the job executions which may be removed
+     * @param batchSize    the maximum number of job executions removed at once
+     *
+     * @return the ids of the removed job executions
+     */
+    Set<Long> removeJobExecutions(List<Long> executionIds, Set<BatchStatus> statuses, int batchSize);
+
+    /**
+     * Removes the given job instances which have no job execution.
+     *
+     * @param instanceIds the ids of the job instances to remove
+     *
+     * @return the number of removed job instances
+     */
+    int removeJobInstances(Collection<Long> instanceIds);
+
+    /**
+     * The properties of a job execution used to determine whether it expired.
+     */
+    class ExecutionRecord {
+        final long executionId;
+        final long instanceId;
+        final String jobName;
+        final BatchStatus status;
+        final Long endTime;
+
+        ExecutionRecord(final long executionId, final long instanceId, final String jobName, final BatchStatus status, final Date endTime) {
+            this.executionId = executionId;
+            this.instanceId = instanceId;
+            this.jobName = jobName;
+            this.status = status;
+            this.endTime = (endTime == null) ? null : endTime.getTime();
+        }
+
+        ExecutionRecord(final JobExecution jobExecution, final long instanceId) {
+            this(jobExecution.getExecutionId(), instanceId, jobExecution.getJobName(), jobExecution.getBatchStatus(), jobExecution.getEndTime());
+        }
+    }
+}
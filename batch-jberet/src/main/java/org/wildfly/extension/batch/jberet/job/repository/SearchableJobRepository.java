@@ -0,0 +1,85 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jberet.repository.JobRepository;
+
+/**
+ * A {@link JobRepository} which can find the executions of a job matching some criteria, without loading the executions
+ * of the job which do not match or are beyond the requested number of executions.
+ */
+public interface SearchableJobRepository extends JobRepository {
+
+    /**
+     * Finds the ids of the executions of a job matching the given criteria, from the most recent to the oldest.
+     *
+     * @param jobName           the name of the job
+     * @param batchStatus       the status of the executions, or {@code null} for any status
+     * @param createdAfter      the time at or after which the executions were created, or {@code null} for no lower bound
+     * @param createdBefore     the time before which the executions were created, or {@code null} for no upper bound
+     * @param beforeExecutionId the id below which the executions are found, e.g. the last id of the previous page of a query
+     * @param limit             the maximum number of execution ids to return
+     *
+     * @return the ids of the matching executions, in descending order
+     */
+    List<Long> findJobExecutions(String jobName, BatchStatus batchStatus, Date createdAfter, Date createdBefore, long beforeExecutionId, int limit);
+
+    /**
+     * Returns the maximum number of execution ids returned by {@link #getJobExecutionsByJob(String)}.
+     *
+     * @return the maximum number of execution ids, or {@code null} if all the execution ids are returned
+     */
+    default Integer getExecutionRecordsLimit() {
+        return null;
+    }
+
+    /**
+     * Finds the ids of the executions of a job matching the given criteria with the queries of any job repository. The
+     * executions are loaded one at a time from the most recent, until the limit is reached or an execution created
+     * before {@code createdAfter} is found.
+     *
+     * @see #findJobExecutions(String, BatchStatus, Date, Date, long, int)
+     */
+    static List<Long> findJobExecutions(final JobRepository repository, final String jobName, final BatchStatus batchStatus,
+                                        final Date createdAfter, final Date createdBefore, final long beforeExecutionId, final int limit) {
+        final List<Long> executionIds = repository.getJobExecutionsByJob(jobName, null).stream()
+                .filter(id -> id < beforeExecutionId)
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+        final List<Long> result = new ArrayList<>(Math.min(limit, executionIds.size()));
+        for (Long executionId : executionIds) {
+            if (result.size() == limit) {
+                break;
+            }
+            final JobExecution jobExecution = repository.getJobExecution(executionId);
+            if (jobExecution == null) {
+                // Removed meanwhile
+                continue;
+            }
+            final Date createTime = jobExecution.getCreateTime();
+            if (createdAfter != null && createTime != null && createTime.before(createdAfter)) {
+                // Executions are created in the order of their ids, so all the remaining ones were created before too
+                break;
+            }
+            if (createdBefore != null && createTime != null && !createTime.before(createdBefore)) {
+                continue;
+            }
+            if (batchStatus != null && batchStatus != jobExecution.getBatchStatus()) {
+                continue;
+            }
+            result.add(executionId);
+        }
+        return result;
+    }
+}
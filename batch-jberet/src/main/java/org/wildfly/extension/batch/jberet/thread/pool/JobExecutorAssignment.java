@@ -0,0 +1,153 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.jberet.spi.JobExecutor;
+import org.jberet.spi.JobTask;
+
+/**
+ * Assigns the jobs with given names to a dedicated {@link JobExecutor}, and optionally to a thread priority, instead
+ * of the job executor of their deployment.
+ */
+public class JobExecutorAssignment {
+
+    private final String name;
+    private final Set<String> jobNames;
+    private final List<Pattern> jobNamePatterns = new ArrayList<>();
+    private final JobExecutor jobExecutor;
+    private final Integer priority;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    JobExecutorAssignment(final String name, final Set<String> jobNames, final JobExecutor jobExecutor, final Integer priority) {
+        this.name = name;
+        this.jobNames = jobNames;
+        for (String jobName : jobNames) {
+            if (jobName.indexOf('*') >= 0) {
+                // Only '*' is a wildcard, anything else is matched literally
+                jobNamePatterns.add(Pattern.compile(("\\Q" + jobName + "\\E").replace("*", "\\E.*\\Q")));
+            }
+        }
+        this.jobExecutor = jobExecutor;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the name of this assignment.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Indicates whether a job name is listed by this assignment, without wildcard.
+     *
+     * @param jobName the job name
+     *
+     * @return {@code true} if the job name is listed as is
+     */
+    boolean isAssigned(final String jobName) {
+        return jobNames.contains(jobName);
+    }
+
+    /**
+     * Indicates whether a job name matches one of the names listed by this assignment.
+     *
+     * @param jobName the job name
+     *
+     * @return {@code true} if the jobs with this name are run by the job executor of this assignment
+     */
+    boolean matches(final String jobName) {
+        if (jobNames.contains(jobName)) {
+            return true;
+        }
+        for (Pattern pattern : jobNamePatterns) {
+            if (pattern.matcher(jobName).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the job executor of the assigned jobs.
+     *
+     * @return the job executor, or {@code null} if the assigned jobs run on the job executor of their deployment
+     */
+    public JobExecutor getJobExecutor() {
+        return jobExecutor;
+    }
+
+    /**
+     * Tracks a task of an assigned job, from its submission until it completes, and runs it with the thread priority
+     * of this assignment, if any.
+     *
+     * @param task the task submitted
+     *
+     * @return the task to submit to the job executor
+     */
+    public JobTask track(final JobTask task) {
+        queueSize.incrementAndGet();
+        return new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return task.getRequiredRemainingPermits();
+            }
+
+            @Override
+            public void run() {
+                queueSize.decrementAndGet();
+                activeCount.incrementAndGet();
+                final Thread thread = Thread.currentThread();
+                final int currentPriority = thread.getPriority();
+                try {
+                    if (priority != null) {
+                        thread.setPriority(priority);
+                    }
+                    task.run();
+                } finally {
+                    if (priority != null) {
+                        thread.setPriority(currentPriority);
+                    }
+                    activeCount.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    /**
+     * Stops tracking a task which was rejected by the job executor.
+     */
+    public void rejected() {
+        queueSize.decrementAndGet();
+    }
+
+    /**
+     * Returns the number of tasks of the assigned jobs submitted but not yet running.
+     *
+     * @return the number of queued tasks
+     */
+    int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * Returns the number of tasks of the assigned jobs currently running.
+     *
+     * @return the number of running tasks
+     */
+    int getActiveCount() {
+        return activeCount.get();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jberet.spi.JobExecutor;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.extension.batch.jberet.BatchConfiguration;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+
+/**
+ * Registers a {@link JobExecutorAssignment} in the batch configuration while started.
+ */
+class JobExecutorAssignmentService implements Service<JobExecutorAssignment> {
+
+    private final Consumer<JobExecutorAssignment> assignmentConsumer;
+    private final Supplier<BatchConfiguration> batchConfigurationSupplier;
+    private final Supplier<JobExecutor> jobExecutorSupplier;
+    private final String name;
+    private final Set<String> jobNames;
+    private final Integer priority;
+    private final boolean virtualThreads;
+    private volatile JobExecutorAssignment assignment;
+    private volatile VirtualThreadJobExecutor virtualThreadJobExecutor;
+
+    JobExecutorAssignmentService(final Consumer<JobExecutorAssignment> assignmentConsumer,
+                                 final Supplier<BatchConfiguration> batchConfigurationSupplier,
+                                 final Supplier<JobExecutor> jobExecutorSupplier,
+                                 final String name, final Set<String> jobNames, final Integer priority,
+                                 final boolean virtualThreads) {
+        this.assignmentConsumer = assignmentConsumer;
+        this.batchConfigurationSupplier = batchConfigurationSupplier;
+        this.jobExecutorSupplier = jobExecutorSupplier;
+        this.name = name;
+        this.jobNames = jobNames;
+        this.priority = priority;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Returns the assignment registered by this service.
+     *
+     * @return the assignment or {@code null} if the service is not started
+     */
+    JobExecutorAssignment getAssignment() {
+        return assignment;
+    }
+
+    @Override
+    public void start(final StartContext context) throws StartException {
+        JobExecutor jobExecutor = null;
+        if (jobExecutorSupplier != null) {
+            jobExecutor = jobExecutorSupplier.get();
+        } else if (virtualThreads) {
+            virtualThreadJobExecutor = VirtualThreadJobExecutor.create();
+            if (virtualThreadJobExecutor == null) {
+                BatchLogger.LOGGER.virtualThreadsNotSupported(name);
+            }
+            jobExecutor = virtualThreadJobExecutor;
+        }
+        final JobExecutorAssignment assignment = new JobExecutorAssignment(name, jobNames, jobExecutor, priority);
+        batchConfigurationSupplier.get().getJobExecutorAssignments().add(assignment);
+        this.assignment = assignment;
+        assignmentConsumer.accept(assignment);
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        assignmentConsumer.accept(null);
+        final JobExecutorAssignment assignment = this.assignment;
+        this.assignment = null;
+        if (assignment != null) {
+            batchConfigurationSupplier.get().getJobExecutorAssignments().remove(assignment);
+        }
+        final VirtualThreadJobExecutor virtualThreadJobExecutor = this.virtualThreadJobExecutor;
+        this.virtualThreadJobExecutor = null;
+        if (virtualThreadJobExecutor != null) {
+            virtualThreadJobExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public JobExecutorAssignment getValue() throws IllegalStateException, IllegalArgumentException {
+        return assignment;
+    }
+}
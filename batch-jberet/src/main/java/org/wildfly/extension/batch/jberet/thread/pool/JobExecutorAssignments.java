@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@linkplain JobExecutorAssignment job executor assignments} of the batch subsystem.
+ */
+public class JobExecutorAssignments {
+
+    private final List<JobExecutorAssignment> assignments = new CopyOnWriteArrayList<>();
+
+    void add(final JobExecutorAssignment assignment) {
+        assignments.add(assignment);
+    }
+
+    void remove(final JobExecutorAssignment assignment) {
+        assignments.remove(assignment);
+    }
+
+    /**
+     * Finds the assignment of a job. An assignment listing the job name without wildcard takes precedence over the
+     * assignments whose wildcards match the job name.
+     *
+     * @param jobName the name of the job
+     *
+     * @return the assignment of the job or {@code null} if the job is not assigned
+     */
+    public JobExecutorAssignment find(final String jobName) {
+        if (jobName == null) {
+            return null;
+        }
+        JobExecutorAssignment result = null;
+        for (JobExecutorAssignment assignment : assignments) {
+            if (assignment.isAssigned(jobName)) {
+                return assignment;
+            }
+            if (result == null && assignment.matches(jobName)) {
+                result = assignment;
+            }
+        }
+        return result;
+    }
+}
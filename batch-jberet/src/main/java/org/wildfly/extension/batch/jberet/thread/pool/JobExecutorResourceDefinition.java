@@ -0,0 +1,171 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jberet.spi.JobExecutor;
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.AttributeMarshaller;
+import org.jboss.as.controller.AttributeParser;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.extension.batch.jberet.BatchConfiguration;
+import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet._private.Capabilities;
+
+/**
+ * A resource definition assigning jobs, by name, to a dedicated thread pool or to virtual threads, and optionally to a
+ * thread priority. The jobs which are not assigned run on the thread pool of their deployment.
+ */
+public class JobExecutorResourceDefinition extends SimpleResourceDefinition {
+
+    public static final String NAME = "job-executor";
+    public static final PathElement PATH = PathElement.pathElement(NAME);
+
+    /**
+     * The names of the jobs assigned to the job executor, {@code *} matching any sequence of characters.
+     */
+    public static final StringListAttributeDefinition JOBS = new StringListAttributeDefinition.Builder("jobs")
+            .setRequired(true)
+            .setMinSize(1)
+            .setAllowExpression(true)
+            .setAttributeParser(AttributeParser.STRING_LIST)
+            .setAttributeMarshaller(AttributeMarshaller.STRING_LIST)
+            .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+            .build();
+
+    /**
+     * The thread pool running the assigned jobs. If undefined, the assigned jobs run on the thread pool of their
+     * deployment, unless they run in virtual threads.
+     */
+    public static final SimpleAttributeDefinition THREAD_POOL = SimpleAttributeDefinitionBuilder.create("thread-pool", ModelType.STRING, true)
+            .setCapabilityReference(Capabilities.THREAD_POOL_CAPABILITY.getName(), Capabilities.JOB_EXECUTOR_CAPABILITY)
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The priority of the threads while they run the assigned jobs.
+     */
+    public static final SimpleAttributeDefinition PRIORITY = SimpleAttributeDefinitionBuilder.create("priority", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(Thread.MIN_PRIORITY, Thread.MAX_PRIORITY, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * Whether the assigned jobs run in virtual threads.
+     */
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS = SimpleAttributeDefinitionBuilder.create("virtual-threads", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = {JOBS, THREAD_POOL, PRIORITY, VIRTUAL_THREADS};
+
+    static final SimpleAttributeDefinition ACTIVE_COUNT = SimpleAttributeDefinitionBuilder.create("active-count", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition QUEUE_SIZE = SimpleAttributeDefinitionBuilder.create("queue-size", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private final boolean registerRuntimeOnly;
+
+    public JobExecutorResourceDefinition(final boolean registerRuntimeOnly) {
+        super(new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
+                .setAddHandler(new JobExecutorAddHandler())
+                .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
+                .setCapabilities(Capabilities.JOB_EXECUTOR_CAPABILITY));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+    }
+
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        for (AttributeDefinition attribute : ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, new ReloadRequiredWriteAttributeHandler(attribute));
+        }
+        if (registerRuntimeOnly) {
+            resourceRegistration.registerMetric(ACTIVE_COUNT, JobExecutorMetricHandler.INSTANCE);
+            resourceRegistration.registerMetric(QUEUE_SIZE, JobExecutorMetricHandler.INSTANCE);
+        }
+    }
+
+    private static class JobExecutorAddHandler extends AbstractAddStepHandler {
+
+        JobExecutorAddHandler() {
+            super(ATTRIBUTES);
+        }
+
+        @Override
+        protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
+            super.performRuntime(context, operation, model);
+            final String name = context.getCurrentAddressValue();
+            final Set<String> jobNames = new LinkedHashSet<>(JOBS.unwrap(context, model));
+            final ModelNode threadPool = THREAD_POOL.resolveModelAttribute(context, model);
+            final Integer priority = PRIORITY.resolveModelAttribute(context, model).asIntOrNull();
+            final boolean virtualThreads = VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+            if (virtualThreads && threadPool.isDefined()) {
+                throw BatchLogger.LOGGER.virtualThreadsWithThreadPool(name, threadPool.asString());
+            }
+
+            final ServiceName sn = context.getCapabilityServiceName(Capabilities.JOB_EXECUTOR_CAPABILITY.getName(), name, JobExecutorAssignment.class);
+            final ServiceBuilder<?> sb = context.getServiceTarget().addService(sn);
+            final Consumer<JobExecutorAssignment> assignmentConsumer = sb.provides(sn);
+            final Supplier<BatchConfiguration> batchConfigurationSupplier = sb.requires(
+                    context.getCapabilityServiceName(Capabilities.BATCH_CONFIGURATION_CAPABILITY.getName(), BatchConfiguration.class));
+            final Supplier<JobExecutor> jobExecutorSupplier = threadPool.isDefined()
+                    ? sb.requires(context.getCapabilityServiceName(Capabilities.THREAD_POOL_CAPABILITY.getName(), threadPool.asString(), JobExecutor.class))
+                    : null;
+            sb.setInstance(new JobExecutorAssignmentService(assignmentConsumer, batchConfigurationSupplier, jobExecutorSupplier,
+                    name, jobNames, priority, virtualThreads));
+            sb.install();
+        }
+    }
+
+    private static class JobExecutorMetricHandler extends AbstractRuntimeOnlyHandler {
+        static final JobExecutorMetricHandler INSTANCE = new JobExecutorMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(
+                    context.getCapabilityServiceName(Capabilities.JOB_EXECUTOR_CAPABILITY.getName(), context.getCurrentAddressValue(), JobExecutorAssignment.class));
+            final JobExecutorAssignment assignment = (controller != null && controller.getService() instanceof JobExecutorAssignmentService)
+                    ? ((JobExecutorAssignmentService) controller.getService()).getAssignment() : null;
+            if (ACTIVE_COUNT.getName().equals(attributeName)) {
+                context.getResult().set(assignment == null ? 0 : assignment.getActiveCount());
+            } else if (QUEUE_SIZE.getName().equals(attributeName)) {
+                context.getResult().set(assignment == null ? 0 : assignment.getQueueSize());
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jberet.spi.JobExecutor;
+import org.jberet.spi.JobTask;
+
+/**
+ * A job executor running each task in a new virtual thread. As the number of virtual threads is not bounded, the
+ * tasks of a job never wait for a thread to be available.
+ */
+class VirtualThreadJobExecutor extends JobExecutor {
+    private final ExecutorService delegate;
+
+    private VirtualThreadJobExecutor(final ExecutorService delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a job executor running its tasks in virtual threads.
+     *
+     * @return the job executor, or {@code null} if virtual threads are not supported by the Java runtime
+     */
+    static VirtualThreadJobExecutor create() {
+        final ExecutorService executor;
+        try {
+            // Looked up reflectively, as virtual threads are not available in all the supported Java versions
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+        return new VirtualThreadJobExecutor(executor);
+    }
+
+    @Override
+    protected int getMaximumPoolSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected JobTask wrap(final Runnable task) {
+        return WildFlyJobExecutor.wrapTask(task);
+    }
+
+    /**
+     * Stops accepting new tasks, the tasks already running complete in their virtual threads.
+     */
+    void shutdown() {
+        delegate.shutdown();
+    }
+}
@@ -28,6 +28,10 @@ class WildFlyJobExecutor extends JobExecutor {
 
     @Override
     protected JobTask wrap(final Runnable task) {
+        return wrapTask(task);
+    }
+
+    static JobTask wrapTask(final Runnable task) {
         if (task instanceof JobTask) {
             return (JobTask) task;
         }
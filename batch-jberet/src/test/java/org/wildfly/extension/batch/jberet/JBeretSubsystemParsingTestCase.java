@@ -35,6 +35,7 @@ import org.junit.Test;
 import org.wildfly.extension.batch.jberet.job.repository.CommonAttributes;
 import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
 import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorResourceDefinition;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -54,7 +55,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -153,11 +154,17 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
         PathAddress repositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, InMemoryJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(repositoryAddress,
-                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT,
+                        CommonAttributes.RETENTION_MAX_AGE, CommonAttributes.RETENTION_MAX_EXECUTIONS, CommonAttributes.RETENTION_STATUSES,
+                        CommonAttributes.PURGE_INTERVAL, CommonAttributes.PURGE_BATCH_SIZE));
 
         PathAddress jdbcRepositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, JdbcJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(jdbcRepositoryAddress,
-                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT, JdbcJobRepositoryDefinition.CHECKPOINT_FLUSH_INTERVAL,
+                        CommonAttributes.RETENTION_MAX_AGE, CommonAttributes.PURGE_BATCH_SIZE));
+
+        PathAddress jobExecutorAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, JobExecutorResourceDefinition.PATH);
+        transformationConfig.addFailedAttribute(jobExecutorAddress, FailedOperationTransformationConfig.REJECTED_RESOURCE);
 
         testRejectingTransformers(transformationConfig, ModelTestControllerVersion.EAP_7_4_0);
     }
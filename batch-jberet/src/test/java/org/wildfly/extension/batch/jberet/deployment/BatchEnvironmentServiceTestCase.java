@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jberet.spi.JobExecutor;
+import org.jberet.spi.JobTask;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignment;
+import org.wildfly.extension.batch.jberet.thread.pool.JobExecutorAssignments;
+
+/**
+ * Unit test of the submission of the tasks of a job to the job executor the job is assigned to.
+ */
+public class BatchEnvironmentServiceTestCase {
+
+    private final JobExecutor deploymentExecutor = mock(JobExecutor.class);
+    private final JobExecutor assignedExecutor = mock(JobExecutor.class);
+    private final JobExecutorAssignment assignment = mock(JobExecutorAssignment.class);
+    private final JobExecutorAssignments assignments = mock(JobExecutorAssignments.class);
+    // The submitted tasks, run by the test, with their job executor
+    private final List<Map.Entry<JobTask, JobExecutor>> submitted = new ArrayList<>();
+    // The current job name seen by the tasks when they run
+    private final List<String> jobNames = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        when(assignment.getJobExecutor()).thenReturn(assignedExecutor);
+        when(assignment.track(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assignments.find(anyString())).thenReturn(null);
+        when(assignments.find("assigned")).thenReturn(assignment);
+    }
+
+    @After
+    public void tearDown() {
+        BatchEnvironmentService.CURRENT_JOB_NAME.remove();
+    }
+
+    @Test
+    public void testUnassignedJob() {
+        BatchEnvironmentService.runForJob("other", () -> submit(task()));
+
+        assertEquals(1, submitted.size());
+        assertSame(deploymentExecutor, submitted.get(0).getValue());
+    }
+
+    @Test
+    public void testSplitsAndPartitions() {
+        // The job task submits the tasks of its splits or partitions, which in turn submit their own tasks
+        final JobTask partition = task();
+        final JobTask split = task(partition);
+        final JobTask job = task(split, split);
+        BatchEnvironmentService.runForJob("assigned", () -> submit(job));
+        assertNull(BatchEnvironmentService.CURRENT_JOB_NAME.get());
+
+        // Run the submitted tasks, as a job executor would on other threads
+        for (int i = 0; i < submitted.size(); ++i) {
+            submitted.get(i).getKey().run();
+            assertNull(BatchEnvironmentService.CURRENT_JOB_NAME.get());
+        }
+
+        assertEquals(5, submitted.size());
+        for (Map.Entry<JobTask, JobExecutor> entry : submitted) {
+            assertSame(assignedExecutor, entry.getValue());
+        }
+        assertEquals(List.of("assigned", "assigned", "assigned", "assigned", "assigned"), jobNames);
+    }
+
+    @Test
+    public void testNestedJob() {
+        // A job started by a task of another job
+        BatchEnvironmentService.runForJob("other", () -> {
+            BatchEnvironmentService.runForJob("assigned", () -> submit(task()));
+            assertEquals("other", BatchEnvironmentService.CURRENT_JOB_NAME.get());
+            return submit(task());
+        });
+
+        assertNull(BatchEnvironmentService.CURRENT_JOB_NAME.get());
+        assertEquals(2, submitted.size());
+        assertSame(assignedExecutor, submitted.get(0).getValue());
+        assertSame(deploymentExecutor, submitted.get(1).getValue());
+    }
+
+    @Test
+    public void testRejectedTask() {
+        try {
+            BatchEnvironmentService.runForJob("assigned", () -> {
+                BatchEnvironmentService.submitTask(task(), deploymentExecutor, assignments, (task, executor) -> {
+                    throw new IllegalStateException();
+                });
+                return null;
+            });
+            throw new AssertionError();
+        } catch (IllegalStateException expected) {
+        }
+
+        verify(assignment).rejected();
+    }
+
+    private Void submit(final JobTask task) {
+        BatchEnvironmentService.submitTask(task, deploymentExecutor, assignments, (submittedTask, executor) -> submitted.add(Map.entry(submittedTask, executor)));
+        return null;
+    }
+
+    private JobTask task(final JobTask... children) {
+        return new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return 0;
+            }
+
+            @Override
+            public void run() {
+                jobNames.add(BatchEnvironmentService.CURRENT_JOB_NAME.get());
+                for (JobTask child : children) {
+                    submit(child);
+                }
+            }
+        };
+    }
+}
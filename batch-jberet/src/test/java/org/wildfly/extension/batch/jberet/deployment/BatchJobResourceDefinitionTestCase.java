@@ -0,0 +1,134 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import jakarta.batch.operations.NoSuchJobExecutionException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test of the paged query of the executions of a job.
+ */
+public class BatchJobResourceDefinitionTestCase {
+
+    private static final String JOB_NAME = "test-job";
+    private static final int PAGE_SIZE = 2;
+
+    private final WildFlyJobOperator jobOperator = mock(WildFlyJobOperator.class);
+    private long executionCount = 5;
+    private int findCount;
+
+    @Before
+    public void setUp() {
+        when(jobOperator.allowMissingJob(any(), any())).thenCallRealMethod();
+        when(jobOperator.findJobExecutions(anyString(), any(), any(), any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            findCount++;
+            final long beforeExecutionId = invocation.getArgument(4);
+            final int limit = invocation.getArgument(5);
+            return LongStream.iterate(executionCount, id -> id - 1).limit(executionCount)
+                    .filter(id -> id < beforeExecutionId)
+                    .limit(limit)
+                    .boxed()
+                    .collect(Collectors.toList());
+        });
+        when(jobOperator.getJobExecution(anyLong())).thenAnswer(invocation -> {
+            final long id = invocation.getArgument(0);
+            if (id > executionCount) {
+                throw new NoSuchJobExecutionException();
+            }
+            final JobExecution execution = mock(JobExecution.class);
+            when(execution.getExecutionId()).thenReturn(id);
+            when(execution.getBatchStatus()).thenReturn(BatchStatus.COMPLETED);
+            when(execution.getCreateTime()).thenReturn(new Date(id * 1000));
+            return execution;
+        });
+    }
+
+    @Test
+    public void testPages() throws Exception {
+        ModelNode result = queryExecutions(null);
+        assertEquals(List.of(5L, 4L), getExecutionIds(result));
+        result = queryExecutions(result.get(BatchJobResourceDefinition.NEXT_CURSOR).asString());
+        assertEquals(List.of(3L, 2L), getExecutionIds(result));
+        result = queryExecutions(result.get(BatchJobResourceDefinition.NEXT_CURSOR).asString());
+        assertEquals(List.of(1L), getExecutionIds(result));
+        assertFalse(result.hasDefined(BatchJobResourceDefinition.NEXT_CURSOR));
+        // A single search of the job repository per page
+        assertEquals(3, findCount);
+    }
+
+    @Test
+    public void testLastFullPage() throws Exception {
+        executionCount = 4;
+
+        ModelNode result = queryExecutions(null);
+        result = queryExecutions(result.get(BatchJobResourceDefinition.NEXT_CURSOR).asString());
+        assertEquals(List.of(2L, 1L), getExecutionIds(result));
+        assertFalse(result.hasDefined(BatchJobResourceDefinition.NEXT_CURSOR));
+    }
+
+    @Test
+    public void testAddedExecutions() throws Exception {
+        ModelNode result = queryExecutions(null);
+
+        // The executions started meanwhile are not returned by the next pages
+        executionCount = 7;
+
+        result = queryExecutions(result.get(BatchJobResourceDefinition.NEXT_CURSOR).asString());
+        assertEquals(List.of(3L, 2L), getExecutionIds(result));
+    }
+
+    @Test
+    public void testExecution() throws Exception {
+        final ModelNode execution = queryExecutions(null).get(BatchJobResourceDefinition.EXECUTIONS).get(0);
+
+        assertEquals(5L, execution.get(BatchJobExecutionResourceDefinition.EXECUTION).asLong());
+        assertEquals(BatchStatus.COMPLETED.name(), execution.get(BatchJobExecutionResourceDefinition.BATCH_STATUS.getName()).asString());
+        assertEquals(BatchJobExecutionResourceDefinition.formatDateTime(new Date(5000)), execution.get(BatchJobExecutionResourceDefinition.CREATE_TIME.getName()).asString());
+        assertFalse(execution.hasDefined(BatchJobExecutionResourceDefinition.END_TIME.getName()));
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        try {
+            queryExecutions("foo");
+            throw new AssertionError();
+        } catch (OperationFailedException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("foo"));
+        }
+    }
+
+    private ModelNode queryExecutions(final String cursor) throws OperationFailedException {
+        final ModelNode result = new ModelNode();
+        BatchJobResourceDefinition.queryExecutions(jobOperator, JOB_NAME, null, null, null, PAGE_SIZE, cursor, result);
+        return result;
+    }
+
+    private static List<Long> getExecutionIds(final ModelNode result) {
+        return result.get(BatchJobResourceDefinition.EXECUTIONS).asList().stream()
+                .map(execution -> execution.get(BatchJobExecutionResourceDefinition.EXECUTION).asLong())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test of the coalescing of the checkpoints written to a job repository.
+ */
+public class CheckpointCoalescerTestCase {
+
+    private final JobRepository repository = mock(JobRepository.class);
+    private final CheckpointCoalescer coalescer = new CheckpointCoalescer(repository);
+    // The step or partition executions written to the job repository
+    private final List<AbstractStepExecution> written = new ArrayList<>();
+    private boolean stopping;
+
+    @Before
+    public void setUp() {
+        when(repository.savePersistentDataIfNotStopping(any(), any())).thenAnswer(invocation -> {
+            written.add(invocation.getArgument(1));
+            return stopping ? 0 : 1;
+        });
+    }
+
+    @Test
+    public void testCoalescing() {
+        final JobExecution jobExecution = jobExecution(1);
+        final StepExecutionImpl stepExecution = stepExecution(10);
+
+        for (int i = 1; i <= 3; ++i) {
+            stepExecution.setReaderCheckpointInfo(i);
+            assertEquals(1, coalescer.save(jobExecution, stepExecution));
+        }
+        assertEquals(List.of(), written);
+
+        coalescer.run();
+
+        // Only the latest checkpoint is written
+        assertEquals(1, written.size());
+        assertEquals(10, written.get(0).getStepExecutionId());
+        assertEquals(3, written.get(0).getReaderCheckpointInfo());
+
+        coalescer.run();
+        assertEquals(1, written.size());
+    }
+
+    @Test
+    public void testSnapshot() {
+        final StepExecutionImpl stepExecution = stepExecution(10);
+        stepExecution.setReaderCheckpointInfo(1);
+        stepExecution.setPersistentUserData("committed");
+        coalescer.save(jobExecution(1), stepExecution);
+
+        // The next chunk is in progress, its checkpoint is not saved yet
+        stepExecution.setReaderCheckpointInfo(2);
+        stepExecution.setPersistentUserData("in progress");
+        coalescer.run();
+
+        assertEquals(1, written.size());
+        assertNotSame(stepExecution, written.get(0));
+        assertEquals(1, written.get(0).getReaderCheckpointInfo());
+        assertEquals("committed", written.get(0).getPersistentUserData());
+    }
+
+    @Test
+    public void testStepBoundary() {
+        final JobExecution jobExecution = jobExecution(1);
+        coalescer.save(jobExecution, stepExecution(10));
+        coalescer.save(jobExecution, stepExecution(11));
+
+        coalescer.flushStepExecution(11);
+
+        assertEquals(1, written.size());
+        assertEquals(11, written.get(0).getStepExecutionId());
+
+        coalescer.run();
+
+        assertEquals(2, written.size());
+        assertEquals(10, written.get(1).getStepExecutionId());
+    }
+
+    @Test
+    public void testJobBoundary() {
+        coalescer.save(jobExecution(1), stepExecution(10));
+        coalescer.save(jobExecution(2), stepExecution(20));
+        coalescer.save(jobExecution(2), stepExecution(21));
+
+        coalescer.flushJobExecution(2);
+
+        assertEquals(2, written.size());
+        assertEquals(Set.of(20L, 21L), Set.of(written.get(0).getStepExecutionId(), written.get(1).getStepExecutionId()));
+
+        coalescer.flushJobExecution(2);
+        assertEquals(2, written.size());
+    }
+
+    @Test
+    public void testDiscard() {
+        final StepExecutionImpl stepExecution = stepExecution(10);
+        coalescer.save(jobExecution(1), stepExecution);
+
+        coalescer.discard(stepExecution);
+        coalescer.run();
+
+        assertEquals(List.of(), written);
+    }
+
+    @Test
+    public void testStopDetection() {
+        final JobExecution jobExecution = jobExecution(1);
+        final StepExecutionImpl stepExecution = stepExecution(10);
+        stepExecution.setReaderCheckpointInfo(1);
+        coalescer.save(jobExecution, stepExecution);
+
+        // The job execution is stopped while the checkpoint is pending
+        stopping = true;
+        coalescer.run();
+        assertEquals(1, written.size());
+
+        // The next checkpoint reports the stop to the chunk step, and the pending one is written
+        stepExecution.setReaderCheckpointInfo(2);
+        assertEquals(0, coalescer.save(jobExecution, stepExecution));
+        assertEquals(1, written.size());
+
+        coalescer.release(1);
+        stopping = false;
+        assertEquals(1, coalescer.save(jobExecution, stepExecution));
+    }
+
+    @Test
+    public void testFailedWrite() {
+        when(repository.savePersistentDataIfNotStopping(any(), any())).thenThrow(new IllegalStateException());
+        coalescer.save(jobExecution(1), stepExecution(10));
+
+        // Logged, not thrown
+        coalescer.run();
+    }
+
+    private static JobExecution jobExecution(final long id) {
+        final JobExecution jobExecution = mock(JobExecution.class);
+        when(jobExecution.getExecutionId()).thenReturn(id);
+        return jobExecution;
+    }
+
+    private static StepExecutionImpl stepExecution(final long id) {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step-" + id);
+        stepExecution.setId(id);
+        return stepExecution;
+    }
+}
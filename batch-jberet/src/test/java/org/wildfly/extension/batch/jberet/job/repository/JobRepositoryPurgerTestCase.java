@@ -0,0 +1,196 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.junit.Test;
+import org.wildfly.extension.batch.jberet.job.repository.PurgeableJobRepository.ExecutionRecord;
+
+/**
+ * Unit test of the selection of the expired job executions by a purge.
+ */
+public class JobRepositoryPurgerTestCase {
+
+    private static final long NOW = System.currentTimeMillis();
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    private final TestJobRepository repository = new TestJobRepository();
+
+    @Test
+    public void testMaxAge() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW - 3 * HOUR);
+        repository.add(2, 2, "a", BatchStatus.FAILED, NOW - 2 * HOUR);
+        repository.add(3, 3, "b", BatchStatus.COMPLETED, NOW - 10);
+        // Still running
+        repository.add(4, 4, "b", BatchStatus.STARTED, null);
+
+        purge(new JobRepositoryRetention(HOUR, null, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        assertEquals(List.of(1L, 2L), repository.removedExecutionIds);
+    }
+
+    @Test
+    public void testMaxExecutions() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW);
+        repository.add(2, 2, "b", BatchStatus.COMPLETED, NOW);
+        repository.add(3, 3, "a", BatchStatus.COMPLETED, NOW);
+        repository.add(4, 4, "a", BatchStatus.COMPLETED, NOW);
+        repository.add(5, 5, "b", BatchStatus.COMPLETED, NOW);
+
+        purge(new JobRepositoryRetention(null, 2, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        // The 2 most recent executions of each job are kept
+        assertEquals(List.of(1L), repository.removedExecutionIds);
+    }
+
+    @Test
+    public void testMaxExecutionsRunning() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW);
+        repository.add(2, 2, "a", BatchStatus.COMPLETED, NOW);
+        repository.add(3, 3, "a", BatchStatus.STARTED, null);
+        repository.add(4, 4, "a", BatchStatus.STARTING, null);
+
+        purge(new JobRepositoryRetention(null, 1, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        // The running executions count, but are never purged
+        assertEquals(List.of(1L, 2L), repository.removedExecutionIds);
+    }
+
+    @Test
+    public void testStatuses() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW - 2 * HOUR);
+        repository.add(2, 2, "a", BatchStatus.FAILED, NOW - 2 * HOUR);
+        repository.add(3, 3, "a", BatchStatus.STOPPED, NOW - 2 * HOUR);
+
+        final JobRepositoryPurger purger = purge(new JobRepositoryRetention(HOUR, null, EnumSet.of(BatchStatus.COMPLETED), HOUR, 100));
+
+        assertEquals(List.of(1L), repository.removedExecutionIds);
+        assertEquals(EnumSet.of(BatchStatus.COMPLETED), repository.removedStatuses);
+        assertEquals(1, purger.getPurgedJobExecutions());
+    }
+
+    @Test
+    public void testOldestFirst() {
+        for (long id = 10; id > 0; --id) {
+            repository.add(id, id, "a", BatchStatus.COMPLETED, NOW - 2 * HOUR);
+        }
+
+        purge(new JobRepositoryRetention(HOUR, null, JobRepositoryRetention.FINAL_STATUSES, HOUR, 3));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), repository.removedExecutionIds);
+        assertEquals(3, repository.batchSize);
+    }
+
+    @Test
+    public void testJobInstances() {
+        // Instance 1 has all its executions purged, instance 2 keeps its restart
+        repository.add(1, 1, "a", BatchStatus.FAILED, NOW - 3 * HOUR);
+        repository.add(2, 1, "a", BatchStatus.COMPLETED, NOW - 2 * HOUR);
+        repository.add(3, 2, "a", BatchStatus.FAILED, NOW - 2 * HOUR);
+        repository.add(4, 2, "a", BatchStatus.COMPLETED, NOW);
+
+        final JobRepositoryPurger purger = purge(new JobRepositoryRetention(HOUR, null, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        assertEquals(List.of(1L, 2L, 3L), repository.removedExecutionIds);
+        assertEquals(Set.of(1L), repository.removedInstanceIds);
+        assertEquals(3, purger.getPurgedJobExecutions());
+        assertEquals(1, purger.getPurgedJobInstances());
+    }
+
+    @Test
+    public void testConcurrentlyChangedExecution() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW - 2 * HOUR);
+        repository.add(2, 2, "a", BatchStatus.COMPLETED, NOW - 2 * HOUR);
+        // Not removed by the repository, e.g. its status changed since it was read
+        repository.retained.add(2L);
+
+        final JobRepositoryPurger purger = purge(new JobRepositoryRetention(HOUR, null, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        assertEquals(List.of(1L), repository.removedExecutionIds);
+        // The job instance of the execution which was not removed is kept
+        assertEquals(Set.of(1L), repository.removedInstanceIds);
+        assertEquals(1, purger.getPurgedJobExecutions());
+    }
+
+    @Test
+    public void testNothingExpired() {
+        repository.add(1, 1, "a", BatchStatus.COMPLETED, NOW);
+
+        purge(new JobRepositoryRetention(HOUR, 10, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        assertEquals(List.of(), repository.removedExecutionIds);
+        assertEquals(Set.of(), repository.removedInstanceIds);
+    }
+
+    @Test
+    public void testFailure() {
+        repository.failure = new IllegalStateException();
+
+        final JobRepositoryPurger purger = purge(new JobRepositoryRetention(HOUR, null, JobRepositoryRetention.FINAL_STATUSES, HOUR, 100));
+
+        // Logged, not thrown
+        assertEquals(0, purger.getPurgedJobExecutions());
+    }
+
+    private JobRepositoryPurger purge(final JobRepositoryRetention retention) {
+        final JobRepositoryPurger purger = new JobRepositoryPurger(repository, retention);
+        purger.run();
+        return purger;
+    }
+
+    private static class TestJobRepository implements PurgeableJobRepository {
+        final List<ExecutionRecord> records = new ArrayList<>();
+        final Set<Long> retained = new HashSet<>();
+        final List<Long> removedExecutionIds = new ArrayList<>();
+        final Set<Long> removedInstanceIds = new HashSet<>();
+        Set<BatchStatus> removedStatuses;
+        int batchSize;
+        RuntimeException failure;
+
+        void add(final long executionId, final long instanceId, final String jobName, final BatchStatus status, final Long endTime) {
+            records.add(new ExecutionRecord(executionId, instanceId, jobName, status, endTime == null ? null : new Date(endTime)));
+        }
+
+        @Override
+        public List<ExecutionRecord> getExecutionRecords() {
+            if (failure != null) {
+                throw failure;
+            }
+            return records;
+        }
+
+        @Override
+        public Set<Long> removeJobExecutions(final List<Long> executionIds, final Set<BatchStatus> statuses, final int batchSize) {
+            this.removedStatuses = statuses;
+            this.batchSize = batchSize;
+            final Set<Long> removed = new HashSet<>();
+            for (Long executionId : executionIds) {
+                if (!retained.contains(executionId)) {
+                    removedExecutionIds.add(executionId);
+                    removed.add(executionId);
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public int removeJobInstances(final Collection<Long> instanceIds) {
+            removedInstanceIds.addAll(instanceIds);
+            return instanceIds.size();
+        }
+    }
+}
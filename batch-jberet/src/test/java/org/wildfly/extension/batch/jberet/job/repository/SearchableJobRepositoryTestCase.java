@@ -0,0 +1,96 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+
+import org.jberet.repository.JobRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test of the search of the executions of a job with the queries of any job repository.
+ */
+public class SearchableJobRepositoryTestCase {
+
+    private static final String JOB_NAME = "test-job";
+
+    private final Map<Long, JobExecution> executions = new LinkedHashMap<>();
+    private final List<Long> loadedExecutionIds = new ArrayList<>();
+    private final JobRepository repository = mock(JobRepository.class);
+
+    @Before
+    public void setUp() {
+        // Execution n is created at time n * 1000, every third execution failed
+        for (long id = 1; id <= 10; ++id) {
+            addExecution(id, id % 3 == 0 ? BatchStatus.FAILED : BatchStatus.COMPLETED, new Date(id * 1000));
+        }
+        when(repository.getJobExecutionsByJob(eq(JOB_NAME), isNull())).thenAnswer(invocation -> new ArrayList<>(executions.keySet()));
+        when(repository.getJobExecution(anyLong())).thenAnswer(invocation -> {
+            final long id = invocation.getArgument(0);
+            loadedExecutionIds.add(id);
+            return executions.get(id);
+        });
+    }
+
+    @Test
+    public void testLimit() {
+        assertEquals(List.of(10L, 9L, 8L), find(null, null, null, Long.MAX_VALUE, 3));
+        // The executions beyond the limit are not loaded
+        assertEquals(List.of(10L, 9L, 8L), loadedExecutionIds);
+    }
+
+    @Test
+    public void testBeforeExecutionId() {
+        assertEquals(List.of(4L, 3L), find(null, null, null, 5, 2));
+        assertEquals(List.of(), find(null, null, null, 1, 2));
+    }
+
+    @Test
+    public void testBatchStatus() {
+        assertEquals(List.of(9L, 6L, 3L), find(BatchStatus.FAILED, null, null, Long.MAX_VALUE, 5));
+        assertEquals(List.of(6L), find(BatchStatus.FAILED, null, null, 9, 1));
+    }
+
+    @Test
+    public void testCreated() {
+        assertEquals(List.of(7L, 6L, 5L), find(null, new Date(5000), new Date(8000), Long.MAX_VALUE, 5));
+        // The executions created before created-after are not loaded, except the first one which ends the search
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L), loadedExecutionIds);
+    }
+
+    @Test
+    public void testRemovedExecution() {
+        executions.put(9L, null);
+
+        assertEquals(List.of(10L, 8L), find(null, null, null, Long.MAX_VALUE, 2));
+    }
+
+    private List<Long> find(final BatchStatus batchStatus, final Date createdAfter, final Date createdBefore, final long beforeExecutionId, final int limit) {
+        return SearchableJobRepository.findJobExecutions(repository, JOB_NAME, batchStatus, createdAfter, createdBefore, beforeExecutionId, limit);
+    }
+
+    private void addExecution(final long id, final BatchStatus batchStatus, final Date createTime) {
+        final JobExecution execution = mock(JobExecution.class);
+        when(execution.getExecutionId()).thenReturn(id);
+        when(execution.getBatchStatus()).thenReturn(batchStatus);
+        when(execution.getCreateTime()).thenReturn(createTime);
+        executions.put(id, execution);
+    }
+}
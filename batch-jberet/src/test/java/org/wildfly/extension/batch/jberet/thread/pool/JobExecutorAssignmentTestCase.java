@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.jberet.spi.JobTask;
+import org.junit.Test;
+
+/**
+ * Unit test of the metrics and thread priority of the tasks of the jobs assigned to a job executor.
+ */
+public class JobExecutorAssignmentTestCase {
+
+    @Test
+    public void testMetrics() {
+        final JobExecutorAssignment assignment = new JobExecutorAssignment("test", Set.of("job"), null, null);
+        final int[] activeCount = new int[1];
+        final JobTask first = assignment.track(task(() -> activeCount[0] = assignment.getActiveCount()));
+        assignment.track(task(() -> { }));
+        assertEquals(2, assignment.getQueueSize());
+        assertEquals(0, assignment.getActiveCount());
+
+        first.run();
+
+        assertEquals(1, activeCount[0]);
+        assertEquals(1, assignment.getQueueSize());
+        assertEquals(0, assignment.getActiveCount());
+
+        // A task rejected by the job executor is no longer queued
+        assignment.rejected();
+        assertEquals(0, assignment.getQueueSize());
+    }
+
+    @Test
+    public void testFailedTask() {
+        final JobExecutorAssignment assignment = new JobExecutorAssignment("test", Set.of("job"), null, null);
+        final JobTask task = assignment.track(task(() -> {
+            throw new IllegalStateException();
+        }));
+
+        try {
+            task.run();
+            throw new AssertionError();
+        } catch (IllegalStateException expected) {
+        }
+
+        assertEquals(0, assignment.getQueueSize());
+        assertEquals(0, assignment.getActiveCount());
+    }
+
+    @Test
+    public void testPriority() {
+        final Thread thread = Thread.currentThread();
+        final int priority = thread.getPriority();
+        final int assignedPriority = priority == Thread.MIN_PRIORITY ? Thread.MIN_PRIORITY + 1 : Thread.MIN_PRIORITY;
+        final JobExecutorAssignment assignment = new JobExecutorAssignment("test", Set.of("job"), null, assignedPriority);
+        final int[] taskPriority = new int[1];
+
+        assignment.track(task(() -> taskPriority[0] = thread.getPriority())).run();
+
+        assertEquals(assignedPriority, taskPriority[0]);
+        assertEquals(priority, thread.getPriority());
+    }
+
+    @Test
+    public void testRequiredRemainingPermits() {
+        final JobExecutorAssignment assignment = new JobExecutorAssignment("test", Set.of("job"), null, null);
+        final JobTask task = new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return 3;
+            }
+
+            @Override
+            public void run() {
+            }
+        };
+
+        assertEquals(3, assignment.track(task).getRequiredRemainingPermits());
+    }
+
+    private static JobTask task(final Runnable runnable) {
+        return new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return 0;
+            }
+
+            @Override
+            public void run() {
+                runnable.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.thread.pool;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit test of the assignment of jobs to job executors by name.
+ */
+public class JobExecutorAssignmentsTestCase {
+
+    private final JobExecutorAssignments assignments = new JobExecutorAssignments();
+
+    @Test
+    public void testExactName() {
+        final JobExecutorAssignment a = add("a", "import", "export");
+        final JobExecutorAssignment b = add("b", "report");
+
+        assertSame(a, assignments.find("export"));
+        assertSame(b, assignments.find("report"));
+        assertNull(assignments.find("reports"));
+        assertNull(assignments.find(null));
+    }
+
+    @Test
+    public void testWildcard() {
+        final JobExecutorAssignment a = add("a", "import-*");
+        final JobExecutorAssignment b = add("b", "*-report", "*nightly*");
+
+        assertSame(a, assignments.find("import-customers"));
+        assertSame(a, assignments.find("import-"));
+        assertSame(b, assignments.find("daily-report"));
+        assertSame(b, assignments.find("the-nightly-job"));
+        assertNull(assignments.find("customers-import"));
+    }
+
+    @Test
+    public void testLiteralCharacters() {
+        final JobExecutorAssignment a = add("a", "job.[1]*");
+
+        // Only '*' is a wildcard
+        assertSame(a, assignments.find("job.[1]-x"));
+        assertNull(assignments.find("jobx11-x"));
+    }
+
+    @Test
+    public void testExactNamePrecedence() {
+        // The wildcard assignments are added first, the exact name still wins
+        add("wildcard", "import-*");
+        add("all", "*");
+        final JobExecutorAssignment exact = add("exact", "import-customers");
+
+        assertSame(exact, assignments.find("import-customers"));
+    }
+
+    @Test
+    public void testWildcardOrder() {
+        final JobExecutorAssignment first = add("first", "import-*");
+        add("second", "*");
+
+        // Among wildcard matches, the first added assignment wins
+        assertSame(first, assignments.find("import-customers"));
+    }
+
+    @Test
+    public void testRemove() {
+        final JobExecutorAssignment exact = add("exact", "import-customers");
+        final JobExecutorAssignment wildcard = add("wildcard", "import-*");
+
+        assignments.remove(exact);
+
+        assertSame(wildcard, assignments.find("import-customers"));
+    }
+
+    private JobExecutorAssignment add(final String name, final String... jobNames) {
+        final JobExecutorAssignment assignment = new JobExecutorAssignment(name, Set.of(jobNames), null, null);
+        assignments.add(assignment);
+        return assignment;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling;
+
+import java.util.function.Function;
+
+import org.jboss.marshalling.SimpleClassResolver;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.MarshallingConfigurationBuilder;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.SerializationContextBuilder;
+
+/**
+ * Creates the benchmarked marshallers, configured from the externalizers and serialization context initializers visible to a class loader.
+ */
+public enum MarshallerFactory implements Function<ClassLoader, ByteBufferMarshaller> {
+    /** The baseline */
+    JBOSS() {
+        @Override
+        public ByteBufferMarshaller apply(ClassLoader loader) {
+            return new JBossByteBufferMarshaller(MarshallingConfigurationBuilder.newInstance(new SimpleClassResolver(loader)).load(loader).build(), loader);
+        }
+    },
+    PROTOSTREAM() {
+        @Override
+        public ByteBufferMarshaller apply(ClassLoader loader) {
+            return new ProtoStreamByteBufferMarshaller(SerializationContextBuilder.newInstance().load(loader).build());
+        }
+    },
+    ;
+}
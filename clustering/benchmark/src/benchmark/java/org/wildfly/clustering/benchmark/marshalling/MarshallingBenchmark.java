@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Measures the throughput of marshalling and unmarshalling a single entry, and of a batch of entries written through a shared buffer,
+ * as replication of multiple entries within a transaction does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MarshallingBenchmark {
+    static final int BATCH_SIZE = 64;
+
+    @Param
+    private Payload payload;
+
+    @Param
+    private MarshallerFactory marshaller;
+
+    private ByteBufferMarshaller byteBufferMarshaller;
+    private Object value;
+    private byte[] bytes;
+    private Object[] batch;
+    private ByteArrayOutputStream output;
+
+    @Setup
+    public void setup() throws IOException {
+        this.byteBufferMarshaller = this.marshaller.apply(this.getClass().getClassLoader());
+        this.value = this.payload.get();
+        this.bytes = toByteArray(this.byteBufferMarshaller.write(this.value));
+        this.batch = new Object[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; ++i) {
+            this.batch[i] = this.payload.get();
+        }
+        this.output = new ByteArrayOutputStream(this.bytes.length * BATCH_SIZE);
+    }
+
+    @Benchmark
+    public ByteBuffer write() throws IOException {
+        return this.byteBufferMarshaller.write(this.value);
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return this.byteBufferMarshaller.readFrom(new ByteArrayInputStream(this.bytes));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void writeBatch(Blackhole blackhole) throws IOException {
+        // Reuses the same buffer for every entry, instead of allocating one per entry
+        for (Object entry : this.batch) {
+            this.output.reset();
+            this.byteBufferMarshaller.writeTo(this.output, entry);
+            blackhole.consume(this.output.size());
+        }
+    }
+
+    static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Runs {@link MarshallingBenchmark} and compares its results against a baseline stored by a previous run.
+ * Exits with a non-zero status if the throughput of any benchmark falls more than {@code benchmark.throughput-tolerance} below its baseline,
+ * or if the bytes per entry of any payload exceed its baseline by more than {@code benchmark.size-tolerance}.
+ * Since throughput is only comparable between runs on the same machine, the baseline is recorded on a given machine by a run with {@code benchmark.update-baseline} set to true,
+ * in which case no regression is reported.
+ * A run without a baseline, or whose baseline lacks a measurement, fails rather than passing unchecked.
+ */
+public class MarshallingBenchmarkRunner {
+
+    private static final String SIZE = "size";
+    private static final String THROUGHPUT = "throughput";
+
+    public static void main(String... args) throws IOException, RunnerException {
+        Path baselinePath = Path.of(System.getProperty("benchmark.baseline", "baseline.properties"));
+        double throughputTolerance = Double.parseDouble(System.getProperty("benchmark.throughput-tolerance", "0.1"));
+        double sizeTolerance = Double.parseDouble(System.getProperty("benchmark.size-tolerance", "0"));
+        boolean updateBaseline = Boolean.getBoolean("benchmark.update-baseline");
+
+        Properties baseline = new Properties();
+        if (!updateBaseline) {
+            if (!Files.exists(baselinePath)) {
+                System.err.printf("No baseline found at %s, record one on this machine with -Dbenchmark.update-baseline=true%n", baselinePath);
+                System.exit(1);
+            }
+            try (Reader reader = Files.newBufferedReader(baselinePath)) {
+                baseline.load(reader);
+            }
+        }
+        Map<String, Double> measurements = new TreeMap<>();
+
+        // Bytes per entry are deterministic, so are measured once, outside of JMH
+        ClassLoader loader = MarshallingBenchmarkRunner.class.getClassLoader();
+        for (MarshallerFactory factory : MarshallerFactory.values()) {
+            ByteBufferMarshaller marshaller = factory.apply(loader);
+            for (Payload payload : Payload.values()) {
+                measurements.put(String.join(".", SIZE, payload.name(), factory.name()), (double) marshaller.write(payload.get()).remaining());
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(Pattern.quote(MarshallingBenchmark.class.getName()) + "\\." + System.getProperty("benchmark.include", ".*"))
+                .forks(Integer.getInteger("benchmark.forks", 1))
+                .warmupIterations(Integer.getInteger("benchmark.warmup-iterations", 3))
+                .measurementIterations(Integer.getInteger("benchmark.measurement-iterations", 5));
+        String result = System.getProperty("benchmark.result");
+        if (result != null) {
+            options.result(result).resultFormat(ResultFormatType.JSON);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        for (RunResult runResult : results) {
+            String benchmark = runResult.getParams().getBenchmark();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            measurements.put(String.join(".", THROUGHPUT, method, runResult.getParams().getParam("payload"), runResult.getParams().getParam("marshaller")), runResult.getPrimaryResult().getScore());
+        }
+
+        if (updateBaseline) {
+            Properties properties = new Properties();
+            for (Map.Entry<String, Double> entry : measurements.entrySet()) {
+                properties.setProperty(entry.getKey(), entry.getValue().toString());
+            }
+            try (Writer writer = Files.newBufferedWriter(baselinePath)) {
+                properties.store(writer, "Marshalling benchmark baseline");
+            }
+            System.out.printf("Recorded baseline of %d measurements to %s%n", measurements.size(), baselinePath);
+            return;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : measurements.entrySet()) {
+            String key = entry.getKey();
+            double value = entry.getValue();
+            String baselineValue = baseline.getProperty(key);
+            if (baselineValue == null) {
+                regressions.add(String.format("%s: %.1f has no baseline, record it with -Dbenchmark.update-baseline=true", key, value));
+                continue;
+            }
+            double expected = Double.parseDouble(baselineValue);
+            System.out.printf("%s: %.1f (baseline %.1f)%n", key, value, expected);
+            if (key.startsWith(SIZE) ? (value > expected * (1 + sizeTolerance)) : (value < expected * (1 - throughputTolerance))) {
+                regressions.add(String.format("%s: %.1f regressed beyond the tolerance of the baseline %.1f", key, value, expected));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.jboss.as.network.ClientMapping;
+import org.jboss.ejb.client.SessionID;
+import org.jboss.ejb.client.UUIDSessionID;
+import org.wildfly.clustering.ejb.cache.bean.DefaultBeanMetaDataEntry;
+import org.wildfly.clustering.ejb.cache.bean.RemappableBeanMetaDataEntry;
+import org.wildfly.clustering.ejb.cache.timer.TimerIndex;
+import org.wildfly.clustering.server.offset.Offset;
+import org.wildfly.security.auth.principal.NamePrincipal;
+import org.wildfly.security.cache.CachedIdentity;
+
+/**
+ * Representative values of clustered state, one per benchmarked marshaller.
+ * These cover only a sample of the marshallers of clustered state, i.e. those of small, frequently replicated entries.
+ * In particular, the marshalling of web session attributes, stateful session bean instances and user state is not covered.
+ */
+public enum Payload implements Supplier<Object> {
+    /** Marshalled by {@link org.wildfly.clustering.ejb.cache.bean.DefaultBeanMetaDataEntryMarshaller} */
+    BEAN_META_DATA_ENTRY() {
+        @Override
+        public Object get() {
+            RemappableBeanMetaDataEntry<SessionID> entry = new DefaultBeanMetaDataEntry<>("foo", new UUIDSessionID(UUID.randomUUID()));
+            entry.getLastAccess().setOffset(Offset.forInstant(Duration.ofSeconds(1)));
+            return entry;
+        }
+    },
+    /** Marshalled by {@link org.wildfly.clustering.ejb.cache.timer.TimerIndexMarshaller} */
+    TIMER_INDEX() {
+        @Override
+        public Object get() {
+            return new TimerIndex("org.wildfly.clustering.benchmark.Bean", "ejbTimeout", 1, 0);
+        }
+    },
+    /** Marshalled by {@link org.wildfly.clustering.ejb.infinispan.network.ClientMappingMarshaller} */
+    CLIENT_MAPPING() {
+        @Override
+        public Object get() {
+            InetAddress address = InetAddress.getLoopbackAddress();
+            return new ClientMapping(address, 8, address.getHostName(), 8080);
+        }
+    },
+    /** Marshalled by {@link org.wildfly.clustering.web.undertow.elytron.CachedIdentityMarshaller} */
+    CACHED_IDENTITY() {
+        @Override
+        public Object get() {
+            return new CachedIdentity("FORM", false, new NamePrincipal("name"));
+        }
+    },
+    ;
+}
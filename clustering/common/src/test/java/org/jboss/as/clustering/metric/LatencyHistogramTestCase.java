@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.clustering.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void index() {
+        // Exact buckets below 8 ns
+        for (int i = 0; i < 8; ++i) {
+            assertEquals(i, LatencyHistogram.index(i));
+            assertEquals(i, LatencyHistogram.upperBound(i));
+        }
+        // Each latency falls within the bounds of its bucket, and buckets are contiguous
+        long lowerBound = 0;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; ++i) {
+            long upperBound = LatencyHistogram.upperBound(i);
+            assertTrue(upperBound >= lowerBound);
+            assertEquals(i, LatencyHistogram.index(lowerBound));
+            assertEquals(i, LatencyHistogram.index(upperBound));
+            // Relative error bound
+            assertTrue(upperBound - lowerBound <= Math.max(1L, lowerBound / 8));
+            lowerBound = upperBound + 1;
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.index(0));
+    }
+
+    @Test
+    public void percentile() {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.MINUTES);
+        long now = System.nanoTime();
+        assertEquals(0L, histogram.getPercentile(50, TimeUnit.MICROSECONDS, now));
+
+        // 90 fast operations of 100 us, 10 slow ones of 10 ms
+        for (int i = 0; i < 90; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100), now);
+        }
+        for (int i = 0; i < 10; ++i) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(10), now);
+        }
+
+        long p50 = histogram.getPercentile(50, TimeUnit.MICROSECONDS, now);
+        assertTrue(String.valueOf(p50), p50 >= 100 && p50 <= 113);
+        long p90 = histogram.getPercentile(90, TimeUnit.MICROSECONDS, now);
+        assertTrue(String.valueOf(p90), p90 >= 100 && p90 <= 113);
+        long p99 = histogram.getPercentile(99, TimeUnit.MICROSECONDS, now);
+        assertTrue(String.valueOf(p99), p99 >= 10_000 && p99 <= 11_250);
+    }
+
+    @Test
+    public void roundUp() {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.MINUTES);
+        long now = System.nanoTime();
+        // Sub-microsecond latencies are not reported as 0
+        histogram.record(500, now);
+        assertEquals(1L, histogram.getPercentile(50, TimeUnit.MICROSECONDS, now));
+        assertEquals(1L, histogram.getPercentile(50, TimeUnit.MILLISECONDS, now));
+    }
+
+    @Test
+    public void window() {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.MINUTES);
+        long now = System.nanoTime();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10), now);
+
+        // Still reported during the next window
+        now += TimeUnit.SECONDS.toNanos(90);
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10), now);
+        assertTrue(histogram.getPercentile(100, TimeUnit.MICROSECONDS, now) >= 10_000);
+
+        // Discarded once the window after it starts
+        now += TimeUnit.SECONDS.toNanos(60);
+        assertTrue(histogram.getPercentile(100, TimeUnit.MICROSECONDS, now) < 10_000);
+
+        // Everything is discarded after two windows without any latency
+        now += TimeUnit.SECONDS.toNanos(120);
+        assertEquals(0L, histogram.getPercentile(100, TimeUnit.MICROSECONDS, now));
+    }
+
+    @Test
+    public void reset() {
+        LatencyHistogram histogram = new LatencyHistogram(1, TimeUnit.MINUTES);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+        histogram.reset();
+        assertEquals(0L, histogram.getPercentile(100, TimeUnit.MICROSECONDS));
+    }
+}
@@ -54,6 +54,14 @@ public abstract class BeanManagementResourceDefinition extends ChildResourceDefi
                 return builder.setAllowExpression(true).setValidator(new IntRangeValidatorBuilder().min(1).configure(builder).build());
             }
         },
+        BATCH_SIZE("batch-size", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setDefaultValue(new ModelNode(BeanManagementConfiguration.DEFAULT_BATCH_SIZE))
+                        .setValidator(new IntRangeValidatorBuilder().min(1).configure(builder).build());
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -96,6 +104,7 @@ public abstract class BeanManagementResourceDefinition extends ChildResourceDefi
     @Override
     public BeanManagementConfiguration resolve(OperationContext context, ModelNode model) throws OperationFailedException {
         OptionalInt maxActiveBeans = Optional.ofNullable(Attribute.MAX_ACTIVE_BEANS.getDefinition().resolveModelAttribute(context, model).asIntOrNull()).map(OptionalInt::of).orElse(OptionalInt.empty());
+        int batchSize = Attribute.BATCH_SIZE.getDefinition().resolveModelAttribute(context, model).asInt();
         return new BeanManagementConfiguration() {
             @Override
             public OptionalInt getMaxActiveBeans() {
@@ -107,6 +116,11 @@ public abstract class BeanManagementResourceDefinition extends ChildResourceDefi
                 // Currently hard-coded to use JBoss Marshalling
                 return BeanMarshallerFactory.JBOSS;
             }
+
+            @Override
+            public int getBatchSize() {
+                return batchSize;
+            }
         };
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.EnumSet;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * Registers transformers for the distributable-ejb subsystem.
+ */
+@MetaInfServices(ExtensionTransformerRegistration.class)
+public class DistributableEjbExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return DistributableEjbExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        // Register transformers for all but the current model
+        for (DistributableEjbSubsystemModel model : EnumSet.complementOf(EnumSet.of(DistributableEjbSubsystemModel.CURRENT))) {
+            ModelVersion version = model.getVersion();
+            TransformationDescription transformation = new DistributableEjbResourceTransformer().apply(version).build();
+            TransformationDescription.Tools.register(transformation, registration, version);
+        }
+    }
+}
@@ -17,9 +17,10 @@ import org.jboss.staxmapper.IntVersion;
  */
 public enum DistributableEjbSubsystemSchema implements PersistentSubsystemSchema<DistributableEjbSubsystemSchema> {
 
-    VERSION_1_0(1, 0), // WildFly 27
+    VERSION_1_0(1, 0), // WildFly 27-34
+    VERSION_2_0(2, 0), // WildFly 35-present
     ;
-    static final DistributableEjbSubsystemSchema CURRENT = VERSION_1_0;
+    static final DistributableEjbSubsystemSchema CURRENT = VERSION_2_0;
 
     private final VersionedNamespace<IntVersion, DistributableEjbSubsystemSchema> namespace;
 
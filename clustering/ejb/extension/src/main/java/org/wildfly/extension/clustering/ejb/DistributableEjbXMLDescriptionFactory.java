@@ -6,10 +6,13 @@ package org.wildfly.extension.clustering.ejb;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jboss.as.clustering.controller.Attribute;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 
 /**
@@ -23,10 +26,18 @@ public enum DistributableEjbXMLDescriptionFactory implements Function<Distributa
     @Override
     public PersistentResourceXMLDescription apply(DistributableEjbSubsystemSchema schema) {
         return builder(DistributableEjbResourceDefinition.PATH, schema.getNamespace()).addAttributes(Attribute.stream(DistributableEjbResourceDefinition.Attribute.class))
-                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(BeanManagementResourceDefinition.Attribute.class), Attribute.stream(InfinispanBeanManagementResourceDefinition.Attribute.class))))
+                .addChild(builder(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(getBeanManagementAttributes(schema), Attribute.stream(InfinispanBeanManagementResourceDefinition.Attribute.class))))
                 .addChild(builder(LocalClientMappingsRegistryProviderResourceDefinition.PATH).setXmlElementName("local-client-mappings-registry"))
                 .addChild(builder(InfinispanClientMappingsRegistryProviderResourceDefinition.PATH).addAttributes(Attribute.stream(InfinispanClientMappingsRegistryProviderResourceDefinition.Attribute.class)).setXmlElementName("infinispan-client-mappings-registry"))
                 .addChild(builder(InfinispanTimerManagementResourceDefinition.WILDCARD_PATH).addAttributes(Attribute.stream(InfinispanTimerManagementResourceDefinition.Attribute.class)).setXmlElementName("infinispan-timer-management"))
                 .build();
     }
+
+    private static Stream<AttributeDefinition> getBeanManagementAttributes(DistributableEjbSubsystemSchema schema) {
+        Set<BeanManagementResourceDefinition.Attribute> attributes = EnumSet.allOf(BeanManagementResourceDefinition.Attribute.class);
+        if (!schema.getNamespace().since(DistributableEjbSubsystemSchema.VERSION_2_0)) {
+            attributes.remove(BeanManagementResourceDefinition.Attribute.BATCH_SIZE);
+        }
+        return Attribute.stream(attributes);
+    }
 }
@@ -6,6 +6,10 @@ package org.wildfly.clustering.ejb.infinispan.bean;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -37,6 +41,9 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class BeanExpirationScheduler<K, V extends BeanInstance<K>, M> extends AbstractExpirationScheduler<K> {
     private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(BeanExpirationScheduler.class, WildFlySecurityManager.getClassLoaderPrivileged(BeanExpirationScheduler.class));
     private final ImmutableBeanMetaDataFactory<K, M> factory;
+    private final Supplier<Batch> batchFactory;
+    private final BeanFactory<K, V, M> beanFactory;
+    private final Consumer<V> expirationListener;
 
     public BeanExpirationScheduler(CacheContainerGroup group, Supplier<Batch> batchFactory, BeanFactory<K, V, M> factory, BeanExpirationConfiguration<K, V> expiration, Duration closeTimeout) {
         super(new LocalScheduler<>(new LocalSchedulerConfiguration<>() {
@@ -61,6 +68,9 @@ public class BeanExpirationScheduler<K, V extends BeanInstance<K>, M> extends Ab
             }
         }));
         this.factory = factory.getMetaDataFactory();
+        this.batchFactory = batchFactory;
+        this.beanFactory = factory;
+        this.expirationListener = expiration.getExpirationListener();
     }
 
     @Override
@@ -72,6 +82,59 @@ public class BeanExpirationScheduler<K, V extends BeanInstance<K>, M> extends Ab
         }
     }
 
+    /**
+     * Schedules the specified beans, whose meta data entries were already read, e.g. while iterating over the cache.
+     * Beans that already expired are expired immediately, within a single batch per group of beans,
+     * so that a batch never holds the locks of more than one bean group.
+     * @param entries the meta data entries of a batch of beans, keyed by bean identifier
+     */
+    public void scheduleAll(Map<K, M> entries) {
+        Map<K, Map<K, M>> expiredGroups = new LinkedHashMap<>();
+        for (Map.Entry<K, M> entry : entries.entrySet()) {
+            ImmutableBeanMetaData<K> metaData = this.factory.createImmutableBeanMetaData(entry.getKey(), entry.getValue());
+            if (metaData.isExpired()) {
+                expiredGroups.computeIfAbsent(metaData.getGroupId(), k -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue());
+            } else {
+                this.schedule(entry.getKey(), metaData);
+            }
+        }
+        for (Map<K, M> group : expiredGroups.values()) {
+            this.expire(group);
+        }
+    }
+
+    private void expire(Map<K, M> entries) {
+        InfinispanEjbLogger.ROOT_LOGGER.tracef("Expiring stateful session beans %s", entries.keySet());
+        try (Batch batch = this.batchFactory.get()) {
+            List<Bean<K, V>> beans = new ArrayList<>(entries.size());
+            try {
+                for (K id : entries.keySet()) {
+                    // Skip beans that are in use
+                    M value = this.beanFactory.tryValue(id);
+                    if (value != null) {
+                        Bean<K, V> bean = this.beanFactory.createBean(id, value);
+                        beans.add(bean);
+                        // Ensure bean is actually expired
+                        if (bean.getMetaData().isExpired()) {
+                            bean.remove(this.expirationListener);
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                batch.discard();
+                throw e;
+            } finally {
+                // Beans of the same group share the group until the last of them closes
+                beans.forEach(Bean::close);
+            }
+        } catch (RuntimeException e) {
+            InfinispanEjbLogger.ROOT_LOGGER.failedToExpireBeans(e, entries.size());
+            for (Map.Entry<K, M> entry : entries.entrySet()) {
+                this.schedule(entry.getKey(), this.factory.createImmutableBeanMetaData(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
     private static class BeanRemoveTask<K, V extends BeanInstance<K>, M> implements Predicate<K> {
         private final Supplier<Batch> batchFactory;
         private final BeanFactory<K, V, M> factory;
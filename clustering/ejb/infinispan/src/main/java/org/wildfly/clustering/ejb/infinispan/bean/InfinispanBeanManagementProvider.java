@@ -193,6 +193,11 @@ public class InfinispanBeanManagementProvider<K, V extends BeanInstance<K>> impl
             public BeanGroupManager<K, V> getBeanGroupManager() {
                 return beanGroupManager.get();
             }
+
+            @Override
+            public int getBatchSize() {
+                return InfinispanBeanManagementProvider.this.configuration.getBatchSize();
+            }
         };
         return ServiceInstaller.builder(Functions.constantSupplier(new InfinispanBeanManagerFactory<>(configuration)))
                 .provides(name)
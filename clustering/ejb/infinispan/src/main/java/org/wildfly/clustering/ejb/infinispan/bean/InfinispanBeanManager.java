@@ -49,7 +49,6 @@ import org.wildfly.clustering.server.infinispan.scheduler.CacheEntryScheduler;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerScheduler;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerSchedulerConfiguration;
 import org.wildfly.clustering.server.infinispan.scheduler.ScheduleCommand;
-import org.wildfly.clustering.server.infinispan.scheduler.ScheduleLocalEntriesTask;
 import org.wildfly.clustering.server.infinispan.scheduler.ScheduleWithTransientMetaDataCommand;
 import org.wildfly.clustering.server.infinispan.scheduler.SchedulerTopologyChangeListener;
 import org.wildfly.clustering.server.manager.IdentifierFactory;
@@ -74,6 +73,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
     private final Predicate<Map.Entry<? super Key<K>, ? super Object>> filter;
     private final Function<K, CacheContainerGroupMember> primaryOwnerLocator;
     private final Affinity strongAffinity;
+    private final int batchSize;
 
     private volatile Scheduler<K, ExpirationMetaData> scheduler;
     private volatile ListenerRegistration schedulerListenerRegistration;
@@ -91,6 +91,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.primaryOwnerLocator = new UnaryGroupMemberAffinity<>(configuration.getCache(), group);
         this.strongAffinity = this.cache.getCacheConfiguration().clustering().cacheMode().isClustered() ? new ClusterAffinity(group.getName()) : new NodeAffinity(group.getLocalMember().getName());
         this.filter = new InfinispanBeanMetaDataFilter<>(configuration.getBeanName());
+        this.batchSize = configuration.getBatchSize();
     }
 
     @SuppressWarnings("resource")
@@ -99,7 +100,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.identifierFactory.start();
 
         Duration stopTimeout = Duration.ofMillis(this.cache.getCacheConfiguration().transaction().cacheStopTimeout());
-        CacheEntryScheduler<K, ExpirationMetaData> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batchFactory, this.beanFactory, this.expiration, stopTimeout) : null;
+        BeanExpirationScheduler<K, V, M> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batchFactory, this.beanFactory, this.expiration, stopTimeout) : null;
 
         String dispatcherName = String.join("/", this.cache.getName(), this.filter.toString());
         this.scheduler = (localScheduler != null) ? (this.dispatcherFactory.getGroup().isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(new PrimaryOwnerSchedulerConfiguration<>() {
@@ -129,7 +130,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
             }
         })) : null;
 
-        BiConsumer<Locality, Locality> scheduleTask = (localScheduler != null) ? new ScheduleLocalEntriesTask<>(this.cache, this.filter, localScheduler) : null;
+        BiConsumer<Locality, Locality> scheduleTask = (localScheduler != null) ? new ScheduleLocalBeansTask<>(this.cache, this.filter, localScheduler, this.batchSize) : null;
         this.schedulerListenerRegistration = (localScheduler != null) ? new SchedulerTopologyChangeListener<>(this.cache, localScheduler, scheduleTask).register() : null;
         if (scheduleTask != null) {
             // Schedule expiration of existing beans that we own
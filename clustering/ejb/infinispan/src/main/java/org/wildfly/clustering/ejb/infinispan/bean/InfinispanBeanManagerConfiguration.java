@@ -24,4 +24,10 @@ public interface InfinispanBeanManagerConfiguration<K, V extends BeanInstance<K>
     }
 
     CacheContainerCommandDispatcherFactory getCommandDispatcherFactory();
+
+    /**
+     * Returns the maximum number of beans scheduled or expired within a single batch.
+     * @return a positive number of beans
+     */
+    int getBatchSize();
 }
@@ -76,5 +76,10 @@ public class InfinispanBeanManagerFactory<K, V extends BeanInstance<K>> implemen
         public CacheContainerCommandDispatcherFactory getCommandDispatcherFactory() {
             return this.factoryConfiguration.getCommandDispatcherFactory();
         }
+
+        @Override
+        public int getBatchSize() {
+            return this.factoryConfiguration.getBatchSize();
+        }
     }
 }
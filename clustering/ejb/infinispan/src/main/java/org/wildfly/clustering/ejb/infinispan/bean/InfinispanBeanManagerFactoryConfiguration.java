@@ -25,4 +25,10 @@ public interface InfinispanBeanManagerFactoryConfiguration<K, V extends BeanInst
     }
 
     CacheContainerCommandDispatcherFactory getCommandDispatcherFactory();
+
+    /**
+     * Returns the maximum number of beans scheduled or expired within a single batch.
+     * @return a positive number of beans
+     */
+    int getBatchSize();
 }
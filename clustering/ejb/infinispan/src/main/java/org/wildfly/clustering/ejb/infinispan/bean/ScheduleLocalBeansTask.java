@@ -0,0 +1,71 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.wildfly.clustering.cache.Key;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.Locality;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+
+/**
+ * Schedules the expiration of the beans for which the local member became the primary owner, in batches of beans.
+ * Unlike scheduling one bean at a time, the meta data of each bean is not read again from the cache, and beans that already expired,
+ * e.g. those of a member that left the cluster, are expired within a batch per group of beans.
+ * Only the segments owned by the local member are iterated.
+ * @param <K> the bean identifier type
+ * @param <V> the bean instance type
+ * @param <M> the bean metadata value type
+ */
+public class ScheduleLocalBeansTask<K, V extends BeanInstance<K>, M> implements BiConsumer<Locality, Locality> {
+
+    private final Cache<Key<K>, Object> cache;
+    private final Predicate<Map.Entry<? super Key<K>, ? super Object>> filter;
+    private final BeanExpirationScheduler<K, V, M> scheduler;
+    private final int batchSize;
+
+    public ScheduleLocalBeansTask(Cache<Key<K>, Object> cache, Predicate<Map.Entry<? super Key<K>, ? super Object>> filter, BeanExpirationScheduler<K, V, M> scheduler, int batchSize) {
+        this.cache = cache;
+        this.filter = filter;
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void accept(Locality oldLocality, Locality newLocality) {
+        DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+        // Iterate over local entries, including any cache stores to include entries that may be passivated
+        try (CacheStream<Map.Entry<Key<K>, Object>> stream = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream()) {
+            CacheStream<Map.Entry<Key<K>, Object>> entries = (distribution != null) ? stream.filterKeySegments(distribution.getCacheTopology().getLocalReadSegments()) : stream;
+            Iterator<Map.Entry<Key<K>, Object>> iterator = entries.filter(this.filter).iterator();
+            Map<K, M> batch = new LinkedHashMap<>();
+            while (iterator.hasNext()) {
+                Map.Entry<Key<K>, Object> entry = iterator.next();
+                Key<K> key = entry.getKey();
+                if (!oldLocality.isLocal(key) && newLocality.isLocal(key)) {
+                    @SuppressWarnings("unchecked")
+                    M value = (M) entry.getValue();
+                    batch.put(key.getId(), value);
+                    if (batch.size() >= this.batchSize) {
+                        this.scheduler.scheduleAll(batch);
+                        batch = new LinkedHashMap<>();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                this.scheduler.scheduleAll(batch);
+            }
+        }
+    }
+}
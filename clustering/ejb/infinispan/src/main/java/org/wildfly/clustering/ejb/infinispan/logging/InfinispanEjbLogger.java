@@ -64,4 +64,8 @@ public interface InfinispanEjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 10, value = "Disabling expiration for '%s'. SFSB expiration should be configured per \u00A74.3.11 of the Jakarta Enterprise Beans specification.")
     void expirationDisabled(String cacheName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 11, value = "Failed to expire %d stateful session beans of the same group, expiration of each will be retried individually")
+    void failedToExpireBeans(@Cause Throwable cause, int count);
 }
@@ -9,9 +9,9 @@ import java.io.IOException;
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -45,7 +45,6 @@ import org.wildfly.clustering.server.infinispan.scheduler.CacheEntryScheduler;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerScheduler;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerSchedulerConfiguration;
 import org.wildfly.clustering.server.infinispan.scheduler.ScheduleCommand;
-import org.wildfly.clustering.server.infinispan.scheduler.ScheduleLocalKeysTask;
 import org.wildfly.clustering.server.infinispan.scheduler.ScheduleWithMetaDataCommand;
 import org.wildfly.clustering.server.infinispan.scheduler.ScheduleWithTransientMetaDataCommand;
 import org.wildfly.clustering.server.infinispan.scheduler.SchedulerTopologyChangeListener;
@@ -66,6 +65,7 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
     private final Supplier<Batch> batchFactory;
     private final CacheContainerCommandDispatcherFactory dispatcherFactory;
     private final TimerRegistry<I> registry;
+    private final Executor executor;
 
     private volatile Scheduler<I, ImmutableTimerMetaData> scheduledTimers;
     private volatile Scheduler<I, ImmutableTimerMetaData> scheduler;
@@ -80,6 +80,7 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
         this.dispatcherFactory = config.getCommandDispatcherFactory();
         this.factory = config.getTimerFactory();
         this.registry = config.getRegistry();
+        this.executor = config.getBlockingManager().asExecutor(this.getClass().getName());
     }
 
     @Override
@@ -117,14 +118,7 @@ public class InfinispanTimerManager<I, C> implements TimerManager<I> {
             }
         });
 
-        TimerRegistry<I> registry = this.registry;
-        BiConsumer<Locality, Locality> scheduleTask = new ScheduleLocalKeysTask<>(this.cache, TimerMetaDataKeyFilter.INSTANCE, new Consumer<I>() {
-            @Override
-            public void accept(I id) {
-                localScheduler.schedule(id);
-                registry.register(id);
-            }
-        });
+        BiConsumer<Locality, Locality> scheduleTask = new ScheduleLocalTimersTask<>(this.cache, localScheduler, this.registry, this.executor);
 
         this.schedulerListenerRegistration = new SchedulerTopologyChangeListener<>(this.cache, localScheduler, scheduleTask).register();
 
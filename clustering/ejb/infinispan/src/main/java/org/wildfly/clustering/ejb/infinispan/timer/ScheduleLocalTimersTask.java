@@ -0,0 +1,164 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.timer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.infinispan.Cache;
+import org.infinispan.CacheStream;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.wildfly.clustering.cache.Key;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.Locality;
+import org.wildfly.clustering.ejb.timer.TimerRegistry;
+
+/**
+ * Schedules the timers for which the local member became the primary owner.
+ * Only the segments for which the local member became the primary owner since the previous invocation are iterated,
+ * such that a rebalance only reschedules the timers of the segments whose ownership changed.
+ * These segments are split into groups iterated concurrently, and the timers of each group are scheduled in batches,
+ * using the meta data read by the iteration.
+ * A segment is only considered scheduled once the iteration of its group completes, so that the segments of a failed or cancelled
+ * iteration are iterated again by the next invocation.
+ * @param <I> the timer identifier type
+ * @param <V> the timer metadata value type
+ */
+public class ScheduleLocalTimersTask<I, V> implements BiConsumer<Locality, Locality> {
+    static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final Cache<Key<I>, Object> cache;
+    private final TimerScheduler<I, V> scheduler;
+    private final TimerRegistry<I> registry;
+    private final Executor executor;
+    private final int parallelism;
+    private final int batchSize;
+
+    // Segments whose timers were successfully scheduled and for which the local member remains the primary owner
+    private IntSet scheduledSegments;
+    // Completes when the scan of the previous invocation terminates
+    private CompletableFuture<Void> scan = CompletableFuture.completedFuture(null);
+
+    public ScheduleLocalTimersTask(Cache<Key<I>, ?> cache, TimerScheduler<I, V> scheduler, TimerRegistry<I> registry, Executor executor) {
+        this(cache, scheduler, registry, executor, Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    ScheduleLocalTimersTask(Cache<Key<I>, ?> cache, TimerScheduler<I, V> scheduler, TimerRegistry<I> registry, Executor executor, int parallelism, int batchSize) {
+        this.cache = (Cache<Key<I>, Object>) cache;
+        this.scheduler = scheduler;
+        this.registry = registry;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public synchronized void accept(Locality oldLocality, Locality newLocality) {
+        DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+        if (distribution == null) {
+            // Local cache, all timers are local
+            this.schedule(null, new AtomicBoolean());
+            return;
+        }
+        // Wait for a cancelled scan to stop, which happens before its next batch, so that its segments are not scanned concurrently
+        this.scan.handle((result, exception) -> null).join();
+
+        // Determine primary segments using the current topology, which is at least as recent as the specified locality
+        LocalizedCacheTopology topology = distribution.getCacheTopology();
+        int numSegments = topology.getNumSegments();
+        if (this.scheduledSegments == null) {
+            this.scheduledSegments = IntSets.concurrentSet(numSegments);
+        }
+        IntSet segments = IntSets.mutableEmptySet(numSegments);
+        for (int segment = 0; segment < numSegments; ++segment) {
+            if (topology.getSegmentDistribution(segment).isPrimary()) {
+                if (!this.scheduledSegments.contains(segment)) {
+                    segments.set(segment);
+                }
+            } else {
+                // Timers of segments no longer owned are canceled by the topology change listener
+                this.scheduledSegments.remove(segment);
+            }
+        }
+        if (segments.isEmpty()) return;
+
+        // Distribute segments across groups, one per concurrent iteration
+        int groups = Math.min(this.parallelism, segments.size());
+        List<IntSet> segmentGroups = new ArrayList<>(groups);
+        for (int i = 0; i < groups; ++i) {
+            segmentGroups.add(IntSets.mutableEmptySet(numSegments));
+        }
+        int index = 0;
+        PrimitiveIterator.OfInt iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            segmentGroups.get(index++ % groups).set(iterator.nextInt());
+        }
+        AtomicBoolean cancelled = new AtomicBoolean();
+        IntSet scheduledSegments = this.scheduledSegments;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(groups);
+        for (IntSet segmentGroup : segmentGroups) {
+            // Only segments whose scan completed are excluded from subsequent invocations
+            futures.add(CompletableFuture.runAsync(() -> this.schedule(segmentGroup, cancelled), this.executor).thenRun(() -> scheduledSegments.addAll(segmentGroup)));
+        }
+        this.scan = CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new));
+        try {
+            this.scan.get();
+        } catch (InterruptedException e) {
+            // Topology change was superseded, segments not yet scanned will be scanned by the next invocation
+            cancelled.set(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private void schedule(IntSet segments, AtomicBoolean cancelled) {
+        // Iterate over local entries, including any cache stores to include entries that may be passivated/invalidated
+        try (CacheStream<Map.Entry<Key<I>, Object>> stream = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream()) {
+            CacheStream<Map.Entry<Key<I>, Object>> entries = (segments != null) ? stream.filterKeySegments(segments) : stream;
+            Iterator<Map.Entry<Key<I>, Object>> iterator = entries.filter(entry -> TimerMetaDataKeyFilter.INSTANCE.test(entry.getKey())).iterator();
+            Map<I, V> batch = new LinkedHashMap<>();
+            while (iterator.hasNext()) {
+                Map.Entry<Key<I>, Object> entry = iterator.next();
+                @SuppressWarnings("unchecked")
+                V value = (V) entry.getValue();
+                batch.put(entry.getKey().getId(), value);
+                if (batch.size() >= this.batchSize) {
+                    this.schedule(batch, cancelled);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                this.schedule(batch, cancelled);
+            }
+        }
+    }
+
+    private void schedule(Map<I, V> batch, AtomicBoolean cancelled) {
+        if (cancelled.get()) {
+            throw new CancellationException();
+        }
+        this.scheduler.scheduleAll(batch);
+        for (I id : batch.keySet()) {
+            this.registry.register(id);
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.wildfly.clustering.ejb.infinispan.timer;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -112,6 +113,17 @@ public class TimerScheduler<I, V> extends AbstractCacheEntryScheduler<I, Immutab
         }
     }
 
+    /**
+     * Schedules the specified timers using their meta data values, avoiding a cache read per timer.
+     * @param values a map of timer meta data values per timer identifier
+     */
+    public void scheduleAll(Map<I, V> values) {
+        TimerMetaDataFactory<I, V> metaDataFactory = this.factory.getMetaDataFactory();
+        for (Map.Entry<I, V> entry : values.entrySet()) {
+            this.schedule(entry.getKey(), metaDataFactory.createImmutableTimerMetaData(entry.getValue()));
+        }
+    }
+
     private static class InvokeTask<I, V> implements Predicate<I>, Consumer<Scheduler<I, ImmutableTimerMetaData>> {
         private final TimerFactory<I, V> factory;
         private final TimerManager<I> manager;
@@ -0,0 +1,143 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.ejb.bean.Bean;
+import org.wildfly.clustering.ejb.bean.BeanExpirationConfiguration;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+import org.wildfly.clustering.ejb.bean.BeanMetaData;
+import org.wildfly.clustering.ejb.bean.ImmutableBeanMetaData;
+import org.wildfly.clustering.ejb.cache.bean.BeanFactory;
+import org.wildfly.clustering.ejb.cache.bean.BeanMetaDataFactory;
+import org.wildfly.clustering.server.expiration.ExpirationMetaData;
+import org.wildfly.clustering.server.infinispan.CacheContainerGroup;
+
+/**
+ * Unit test for the batched expiration of {@link BeanExpirationScheduler}.
+ */
+public class BeanExpirationSchedulerTestCase {
+
+    private final Supplier<Batch> batchFactory = mock(Supplier.class);
+    private final BeanFactory<String, BeanInstance<String>, Object> beanFactory = mock(BeanFactory.class);
+    private final BeanMetaDataFactory<String, Object> metaDataFactory = mock(BeanMetaDataFactory.class);
+    private final Consumer<BeanInstance<String>> expirationListener = mock(Consumer.class);
+    private final Map<String, Bean<String, BeanInstance<String>>> beans = new LinkedHashMap<>();
+
+    private BeanExpirationScheduler<String, BeanInstance<String>, Object> scheduler;
+
+    @BeforeEach
+    public void init() {
+        CacheContainerGroup group = mock(CacheContainerGroup.class);
+        BeanExpirationConfiguration<String, BeanInstance<String>> expiration = mock(BeanExpirationConfiguration.class);
+
+        doReturn(true).when(group).isSingleton();
+        doReturn(this.expirationListener).when(expiration).getExpirationListener();
+        doReturn(this.metaDataFactory).when(this.beanFactory).getMetaDataFactory();
+
+        this.scheduler = spy(new BeanExpirationScheduler<>(group, this.batchFactory, this.beanFactory, expiration, Duration.ZERO));
+        doNothing().when(this.scheduler).schedule(any(), any(ExpirationMetaData.class));
+    }
+
+    @AfterEach
+    public void destroy() {
+        this.scheduler.close();
+    }
+
+    @Test
+    public void scheduleAll() {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("a1", this.bean("a1", "A", true));
+        entries.put("a2", this.bean("a2", "A", true));
+        entries.put("b1", this.bean("b1", "B", true));
+        entries.put("c1", this.bean("c1", "C", false));
+
+        Batch batchA = mock(Batch.class);
+        Batch batchB = mock(Batch.class);
+        doReturn(batchA, batchB).when(this.batchFactory).get();
+
+        this.scheduler.scheduleAll(entries);
+
+        // One batch per group of expired beans
+        verify(this.batchFactory, times(2)).get();
+        verify(batchA).close();
+        verify(batchB).close();
+        for (String id : List.of("a1", "a2", "b1")) {
+            Bean<String, BeanInstance<String>> bean = this.beans.get(id);
+            verify(bean).remove(this.expirationListener);
+            verify(bean).close();
+        }
+        // Unexpired beans are scheduled
+        verify(this.scheduler).schedule(same("c1"), any(ExpirationMetaData.class));
+        verify(this.beanFactory, never()).tryValue("c1");
+    }
+
+    @Test
+    public void groupFailure() {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("a1", this.bean("a1", "A", true));
+        entries.put("b1", this.bean("b1", "B", true));
+        entries.put("b2", this.bean("b2", "B", true));
+
+        Batch batchA = mock(Batch.class);
+        Batch batchB = mock(Batch.class);
+        doReturn(batchA, batchB).when(this.batchFactory).get();
+        doThrow(IllegalStateException.class).when(this.beans.get("b2")).remove(this.expirationListener);
+
+        this.scheduler.scheduleAll(entries);
+
+        // Failure of one group does not affect the others
+        verify(this.beans.get("a1")).remove(this.expirationListener);
+        verify(batchA, never()).discard();
+        verify(batchB).discard();
+        verify(batchB).close();
+        verify(this.beans.get("b1")).close();
+        verify(this.beans.get("b2")).close();
+        // Beans of the failed group are scheduled individually
+        verify(this.scheduler, never()).schedule(same("a1"), any(ExpirationMetaData.class));
+        verify(this.scheduler).schedule(same("b1"), any(ExpirationMetaData.class));
+        verify(this.scheduler).schedule(same("b2"), any(ExpirationMetaData.class));
+    }
+
+    private Object bean(String id, String groupId, boolean expired) {
+        Object value = new Object();
+        ImmutableBeanMetaData<String> immutableMetaData = mock(ImmutableBeanMetaData.class);
+        BeanMetaData<String> metaData = mock(BeanMetaData.class);
+        Bean<String, BeanInstance<String>> bean = mock(Bean.class);
+
+        doReturn(groupId).when(immutableMetaData).getGroupId();
+        doReturn(expired).when(immutableMetaData).isExpired();
+        doReturn(expired).when(metaData).isExpired();
+        doReturn(metaData).when(bean).getMetaData();
+        doReturn(immutableMetaData).when(this.metaDataFactory).createImmutableBeanMetaData(id, value);
+        doReturn(value).when(this.beanFactory).tryValue(id);
+        doReturn(bean).when(this.beanFactory).createBean(id, value);
+
+        this.beans.put(id, bean);
+        return value;
+    }
+}
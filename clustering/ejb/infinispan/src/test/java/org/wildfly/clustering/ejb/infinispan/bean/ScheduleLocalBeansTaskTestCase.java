@@ -0,0 +1,95 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.bean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.context.Flag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.cache.Key;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.Locality;
+import org.wildfly.clustering.ejb.bean.BeanInstance;
+
+/**
+ * Unit test for {@link ScheduleLocalBeansTask}.
+ */
+public class ScheduleLocalBeansTaskTestCase {
+
+    @Test
+    public void batchSize() {
+        // 5 beans for which the local member became the primary owner, 1 it already owned
+        List<Map.Entry<Key<String>, Object>> entries = new ArrayList<>();
+        for (int i = 0; i < 6; ++i) {
+            entries.add(Map.entry(key("bean" + i), "value" + i));
+        }
+        Locality oldLocality = mock(Locality.class);
+        Locality newLocality = mock(Locality.class);
+        doReturn(true).when(oldLocality).isLocal(entries.get(3).getKey());
+        for (Map.Entry<Key<String>, Object> entry : entries) {
+            doReturn(true).when(newLocality).isLocal(entry.getKey());
+        }
+
+        BeanExpirationScheduler<String, BeanInstance<String>, Object> scheduler = mock(BeanExpirationScheduler.class);
+        ScheduleLocalBeansTask<String, BeanInstance<String>, Object> task = new ScheduleLocalBeansTask<>(cache(entries), entry -> true, scheduler, 2);
+
+        task.accept(oldLocality, newLocality);
+
+        ArgumentCaptor<Map<String, Object>> batches = ArgumentCaptor.forClass(Map.class);
+        verify(scheduler, times(3)).scheduleAll(batches.capture());
+
+        List<Map<String, Object>> scheduled = batches.getAllValues();
+        assertEquals(Map.of("bean0", "value0", "bean1", "value1"), scheduled.get(0));
+        assertEquals(Map.of("bean2", "value2", "bean4", "value4"), scheduled.get(1));
+        assertEquals(Map.of("bean5", "value5"), scheduled.get(2));
+    }
+
+    @Test
+    public void noBeans() {
+        BeanExpirationScheduler<String, BeanInstance<String>, Object> scheduler = mock(BeanExpirationScheduler.class);
+        ScheduleLocalBeansTask<String, BeanInstance<String>, Object> task = new ScheduleLocalBeansTask<>(cache(List.of()), entry -> true, scheduler, 2);
+
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        verify(scheduler, times(0)).scheduleAll(any());
+    }
+
+    private static Key<String> key(String id) {
+        Key<String> key = mock(Key.class);
+        doReturn(id).when(key).getId();
+        return key;
+    }
+
+    private static Cache<Key<String>, Object> cache(List<Map.Entry<Key<String>, Object>> entries) {
+        Cache<Key<String>, Object> cache = mock(Cache.class);
+        AdvancedCache<Key<String>, Object> advancedCache = mock(AdvancedCache.class);
+        CacheSet<Map.Entry<Key<String>, Object>> entrySet = mock(CacheSet.class);
+        CacheStream<Map.Entry<Key<String>, Object>> stream = mock(CacheStream.class);
+
+        doReturn(advancedCache).when(cache).getAdvancedCache();
+        doReturn(advancedCache).when(advancedCache).getAdvancedCache();
+        doReturn(advancedCache).when(advancedCache).withFlags(Flag.CACHE_MODE_LOCAL);
+        doReturn(entrySet).when(advancedCache).entrySet();
+        doReturn(stream).when(entrySet).stream();
+        doReturn(stream).when(stream).filter(any(Predicate.class));
+        doReturn(entries.iterator()).when(stream).iterator();
+        return cache;
+    }
+}
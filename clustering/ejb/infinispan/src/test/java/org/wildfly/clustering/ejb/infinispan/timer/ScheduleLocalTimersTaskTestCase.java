@@ -0,0 +1,216 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.ejb.infinispan.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.CacheSet;
+import org.infinispan.CacheStream;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionInfo;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.cache.Key;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.Locality;
+import org.wildfly.clustering.ejb.timer.TimerRegistry;
+
+/**
+ * Unit test for {@link ScheduleLocalTimersTask}.
+ */
+public class ScheduleLocalTimersTaskTestCase {
+    private static final int SEGMENTS = 4;
+
+    // Timer identifiers per segment
+    private final Map<Integer, List<String>> timers = new LinkedHashMap<>();
+    private final Set<Integer> primarySegments = ConcurrentHashMap.newKeySet();
+    private final List<IntSet> scannedSegments = Collections.synchronizedList(new ArrayList<>());
+    private final TimerScheduler<String, Object> scheduler = mock(TimerScheduler.class);
+    private final TimerRegistry<String> registry = mock(TimerRegistry.class);
+
+    public ScheduleLocalTimersTaskTestCase() {
+        for (int segment = 0; segment < SEGMENTS; ++segment) {
+            this.timers.put(segment, List.of("timer" + segment + "a", "timer" + segment + "b"));
+        }
+    }
+
+    @Test
+    public void rebalance() {
+        ScheduleLocalTimersTask<String, Object> task = new ScheduleLocalTimersTask<>(this.cache(), this.scheduler, this.registry, Runnable::run, 2, 1);
+
+        this.primarySegments.addAll(Set.of(0, 1));
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        assertEquals(Set.of(0, 1), this.scanned());
+
+        // Only newly owned segments are scanned
+        this.scannedSegments.clear();
+        this.primarySegments.addAll(Set.of(2, 3));
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        assertEquals(Set.of(2, 3), this.scanned());
+
+        // Segments that were lost and regained are scanned again
+        this.scannedSegments.clear();
+        this.primarySegments.remove(1);
+        task.accept(mock(Locality.class), mock(Locality.class));
+        assertTrue(this.scannedSegments.isEmpty());
+        this.primarySegments.add(1);
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        assertEquals(Set.of(1), this.scanned());
+    }
+
+    @Test
+    public void failedRebalance() {
+        ScheduleLocalTimersTask<String, Object> task = new ScheduleLocalTimersTask<>(this.cache(), this.scheduler, this.registry, Runnable::run, 2, 1);
+
+        this.primarySegments.addAll(Set.of(0, 1, 2, 3));
+        doAnswer(invocation -> {
+            Map<String, Object> batch = invocation.getArgument(0);
+            if (batch.containsKey("timer1a")) {
+                throw new IllegalStateException();
+            }
+            return null;
+        }).when(this.scheduler).scheduleAll(any());
+
+        assertThrows(CompletionException.class, () -> task.accept(mock(Locality.class), mock(Locality.class)));
+
+        // The segments of the failed group are scanned again
+        this.scannedSegments.clear();
+        doNothing().when(this.scheduler).scheduleAll(any());
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        assertEquals(Set.of(1, 3), this.scanned());
+        verify(this.registry).register("timer1a");
+        verify(this.registry).register("timer3b");
+
+        // All segments are now scheduled
+        this.scannedSegments.clear();
+        task.accept(mock(Locality.class), mock(Locality.class));
+
+        assertTrue(this.scannedSegments.isEmpty());
+    }
+
+    @Test
+    public void cancelledRebalance() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ScheduleLocalTimersTask<String, Object> task = new ScheduleLocalTimersTask<>(this.cache(), this.scheduler, this.registry, executor, 2, 1);
+
+            this.primarySegments.addAll(Set.of(0, 1));
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                if (started.getCount() > 0) {
+                    started.countDown();
+                    release.await();
+                }
+                return null;
+            }).when(this.scheduler).scheduleAll(any());
+
+            // Interrupted, e.g. by a subsequent topology change, while scheduling the first batch of each group
+            Thread thread = new Thread(() -> task.accept(mock(Locality.class), mock(Locality.class)));
+            thread.start();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            assertFalse(thread.isAlive());
+            release.countDown();
+
+            // Remaining batches are skipped, and the next invocation scans both segments again
+            this.scannedSegments.clear();
+            task.accept(mock(Locality.class), mock(Locality.class));
+
+            assertEquals(Set.of(0, 1), this.scanned());
+            verify(this.registry).register("timer0b");
+            verify(this.registry).register("timer1b");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Set<Integer> scanned() {
+        synchronized (this.scannedSegments) {
+            return this.scannedSegments.stream().flatMap(IntSet::stream).collect(Collectors.toSet());
+        }
+    }
+
+    private Cache<Key<String>, Object> cache() {
+        Cache<Key<String>, Object> cache = mock(Cache.class);
+        AdvancedCache<Key<String>, Object> advancedCache = mock(AdvancedCache.class);
+        DistributionManager distribution = mock(DistributionManager.class);
+        LocalizedCacheTopology topology = mock(LocalizedCacheTopology.class);
+        CacheSet<Map.Entry<Key<String>, Object>> entrySet = mock(CacheSet.class);
+
+        doReturn(advancedCache).when(cache).getAdvancedCache();
+        doReturn(advancedCache).when(advancedCache).getAdvancedCache();
+        doReturn(distribution).when(advancedCache).getDistributionManager();
+        doReturn(topology).when(distribution).getCacheTopology();
+        doReturn(SEGMENTS).when(topology).getNumSegments();
+        doAnswer(invocation -> {
+            int segment = invocation.getArgument(0);
+            DistributionInfo info = mock(DistributionInfo.class);
+            doReturn(this.primarySegments.contains(segment)).when(info).isPrimary();
+            return info;
+        }).when(topology).getSegmentDistribution(anyInt());
+        doReturn(advancedCache).when(advancedCache).withFlags(Flag.CACHE_MODE_LOCAL);
+        doReturn(entrySet).when(advancedCache).entrySet();
+        doAnswer(invocation -> {
+            CacheStream<Map.Entry<Key<String>, Object>> stream = mock(CacheStream.class);
+            doAnswer(filterInvocation -> {
+                IntSet segments = filterInvocation.getArgument(0);
+                this.scannedSegments.add(segments);
+                List<Map.Entry<Key<String>, Object>> entries = new ArrayList<>();
+                segments.forEach((int segment) -> {
+                    for (String id : this.timers.get(segment)) {
+                        entries.add(Map.entry(key(id), id));
+                    }
+                });
+                CacheStream<Map.Entry<Key<String>, Object>> segmentStream = mock(CacheStream.class);
+                doReturn(segmentStream).when(segmentStream).filter(any(Predicate.class));
+                doReturn(entries.iterator()).when(segmentStream).iterator();
+                return segmentStream;
+            }).when(stream).filterKeySegments(any(IntSet.class));
+            return stream;
+        }).when(entrySet).stream();
+        return cache;
+    }
+
+    private static Key<String> key(String id) {
+        Key<String> key = mock(Key.class);
+        doReturn(id).when(key).getId();
+        return key;
+    }
+}
@@ -14,10 +14,19 @@ import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
  * @author Paul Ferraro
  */
 public interface BeanManagementConfiguration extends BeanPassivationConfiguration {
+    int DEFAULT_BATCH_SIZE = 100;
 
     /**
      * Returns a factory for creating a bean deployment's marshaller.
      * @return a marshaller factory
      */
     Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the maximum number of beans scheduled or expired within a single batch, e.g. following a topology change.
+     * @return a positive number of beans
+     */
+    default int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
 }
@@ -12,6 +12,7 @@ import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
 import org.infinispan.cache.impl.AbstractDelegatingAdvancedCache;
 import org.infinispan.manager.EmbeddedCacheManager;
+import org.wildfly.clustering.infinispan.service.interceptor.CacheLatencyInterceptor;
 import org.wildfly.clustering.server.service.BinaryServiceConfiguration;
 import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.ServiceInstaller;
@@ -62,12 +63,15 @@ public enum CacheServiceInstallerFactory implements Function<BinaryServiceConfig
 
         @Override
         public void start() {
-            // No-op.  Lifecycle managed by container.
+            // Lifecycle managed by container.
+            // Record latency histograms, if statistics are enabled
+            CacheLatencyInterceptor.install(this);
         }
 
         @Override
         public void stop() {
-            // No-op.  Lifecycle managed by container.
+            // Lifecycle managed by container.
+            CacheLatencyInterceptor.uninstall(this);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.infinispan.service.interceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.commands.VisitableCommand;
+import org.infinispan.commands.functional.ReadOnlyKeyCommand;
+import org.infinispan.commands.functional.ReadOnlyManyCommand;
+import org.infinispan.commands.functional.ReadWriteKeyCommand;
+import org.infinispan.commands.functional.ReadWriteKeyValueCommand;
+import org.infinispan.commands.functional.ReadWriteManyCommand;
+import org.infinispan.commands.functional.ReadWriteManyEntriesCommand;
+import org.infinispan.commands.functional.WriteOnlyKeyCommand;
+import org.infinispan.commands.functional.WriteOnlyKeyValueCommand;
+import org.infinispan.commands.functional.WriteOnlyManyCommand;
+import org.infinispan.commands.functional.WriteOnlyManyEntriesCommand;
+import org.infinispan.commands.read.GetAllCommand;
+import org.infinispan.commands.read.GetCacheEntryCommand;
+import org.infinispan.commands.read.GetKeyValueCommand;
+import org.infinispan.commands.write.ComputeCommand;
+import org.infinispan.commands.write.ComputeIfAbsentCommand;
+import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
+import org.infinispan.commands.write.RemoveCommand;
+import org.infinispan.commands.write.ReplaceCommand;
+import org.infinispan.context.InvocationContext;
+import org.infinispan.interceptors.AsyncInterceptorChain;
+import org.infinispan.interceptors.DDAsyncInterceptor;
+import org.infinispan.interceptors.impl.CacheMgmtInterceptor;
+import org.jboss.as.clustering.metric.LatencyHistogram;
+
+/**
+ * Cache interceptor that records the latency of reads, writes and removes into histograms, distinguishing operations originating locally from those originating from another member.
+ */
+public class CacheLatencyInterceptor extends DDAsyncInterceptor {
+
+    public enum Operation {
+        READ, WRITE, REMOVE;
+    }
+
+    private static final long WINDOW_SECONDS = 60;
+
+    private final Map<Operation, LatencyHistogram> local = new EnumMap<>(Operation.class);
+    private final Map<Operation, LatencyHistogram> remote = new EnumMap<>(Operation.class);
+    // The number of installations of this interceptor, guarded by the interceptor chain
+    private int installs = 0;
+
+    public CacheLatencyInterceptor() {
+        for (Operation operation : Operation.values()) {
+            this.local.put(operation, new LatencyHistogram(WINDOW_SECONDS, TimeUnit.SECONDS));
+            this.remote.put(operation, new LatencyHistogram(WINDOW_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Adds a latency interceptor to the specified cache, immediately after its statistics interceptor.
+     * Does nothing if statistics are disabled for the cache.
+     * If the cache already has a latency interceptor, it is shared, and is only removed once {@link #uninstall(Cache)} was invoked for each installation.
+     * @param cache a started cache
+     */
+    @SuppressWarnings("deprecation")
+    public static void install(Cache<?, ?> cache) {
+        if (!cache.getCacheConfiguration().statistics().enabled()) {
+            return;
+        }
+        AsyncInterceptorChain chain = cache.getAdvancedCache().getAsyncInterceptorChain();
+        synchronized (chain) {
+            CacheLatencyInterceptor interceptor = chain.findInterceptorExtending(CacheLatencyInterceptor.class);
+            if (interceptor == null) {
+                interceptor = new CacheLatencyInterceptor();
+                if (!chain.addInterceptorAfter(interceptor, CacheMgmtInterceptor.class)) {
+                    return;
+                }
+            }
+            interceptor.installs += 1;
+        }
+    }
+
+    /**
+     * Releases an installation of the latency interceptor of the specified cache, removing the interceptor once it is no longer installed.
+     * @param cache a cache
+     */
+    @SuppressWarnings("deprecation")
+    public static void uninstall(Cache<?, ?> cache) {
+        AsyncInterceptorChain chain = cache.getAdvancedCache().getAsyncInterceptorChain();
+        synchronized (chain) {
+            CacheLatencyInterceptor interceptor = chain.findInterceptorExtending(CacheLatencyInterceptor.class);
+            if (interceptor != null && --interceptor.installs == 0) {
+                chain.removeInterceptor(CacheLatencyInterceptor.class);
+            }
+        }
+    }
+
+    /**
+     * Returns the latency histogram of the specified operation.
+     * @param operation a cache operation
+     * @param local indicates whether to return the histogram of operations originating locally or remotely
+     * @return a latency histogram
+     */
+    public LatencyHistogram getHistogram(Operation operation, boolean local) {
+        return (local ? this.local : this.remote).get(operation);
+    }
+
+    @Override
+    public Object visitGetKeyValueCommand(InvocationContext ctx, GetKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.READ);
+    }
+
+    @Override
+    public Object visitGetCacheEntryCommand(InvocationContext ctx, GetCacheEntryCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.READ);
+    }
+
+    @Override
+    public Object visitGetAllCommand(InvocationContext ctx, GetAllCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.READ);
+    }
+
+    @Override
+    public Object visitReadOnlyKeyCommand(InvocationContext ctx, ReadOnlyKeyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.READ);
+    }
+
+    @Override
+    public Object visitReadOnlyManyCommand(InvocationContext ctx, ReadOnlyManyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.READ);
+    }
+
+    @Override
+    public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitReplaceCommand(InvocationContext ctx, ReplaceCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitComputeCommand(InvocationContext ctx, ComputeCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitComputeIfAbsentCommand(InvocationContext ctx, ComputeIfAbsentCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitReadWriteKeyCommand(InvocationContext ctx, ReadWriteKeyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitReadWriteKeyValueCommand(InvocationContext ctx, ReadWriteKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitReadWriteManyCommand(InvocationContext ctx, ReadWriteManyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitReadWriteManyEntriesCommand(InvocationContext ctx, ReadWriteManyEntriesCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitWriteOnlyKeyCommand(InvocationContext ctx, WriteOnlyKeyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitWriteOnlyKeyValueCommand(InvocationContext ctx, WriteOnlyKeyValueCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitWriteOnlyManyCommand(InvocationContext ctx, WriteOnlyManyCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitWriteOnlyManyEntriesCommand(InvocationContext ctx, WriteOnlyManyEntriesCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.WRITE);
+    }
+
+    @Override
+    public Object visitRemoveCommand(InvocationContext ctx, RemoveCommand command) throws Throwable {
+        return this.record(ctx, command, Operation.REMOVE);
+    }
+
+    private Object record(InvocationContext ctx, VisitableCommand command, Operation operation) {
+        LatencyHistogram histogram = this.getHistogram(operation, ctx.isOriginLocal());
+        long start = System.nanoTime();
+        return this.invokeNextAndFinally(ctx, command, (rCtx, rCommand, rv, throwable) -> histogram.record(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.infinispan.subsystem;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.infinispan.service.interceptor.CacheLatencyInterceptor;
+import org.wildfly.clustering.infinispan.service.interceptor.CacheLatencyInterceptor.Operation;
+
+/**
+ * Enumeration of latency percentile metrics for a cache, computed from the operations of the last minute or two.
+ */
+public enum CacheLatencyMetric implements Metric<CacheLatencyInterceptor> {
+
+    LOCAL_READ_TIME_P50("local-read-time-p50", Operation.READ, true, 50),
+    LOCAL_READ_TIME_P99("local-read-time-p99", Operation.READ, true, 99),
+    LOCAL_READ_TIME_P999("local-read-time-p999", Operation.READ, true, 99.9),
+    LOCAL_WRITE_TIME_P50("local-write-time-p50", Operation.WRITE, true, 50),
+    LOCAL_WRITE_TIME_P99("local-write-time-p99", Operation.WRITE, true, 99),
+    LOCAL_WRITE_TIME_P999("local-write-time-p999", Operation.WRITE, true, 99.9),
+    LOCAL_REMOVE_TIME_P50("local-remove-time-p50", Operation.REMOVE, true, 50),
+    LOCAL_REMOVE_TIME_P99("local-remove-time-p99", Operation.REMOVE, true, 99),
+    LOCAL_REMOVE_TIME_P999("local-remove-time-p999", Operation.REMOVE, true, 99.9),
+    REMOTE_READ_TIME_P50("remote-read-time-p50", Operation.READ, false, 50),
+    REMOTE_READ_TIME_P99("remote-read-time-p99", Operation.READ, false, 99),
+    REMOTE_READ_TIME_P999("remote-read-time-p999", Operation.READ, false, 99.9),
+    REMOTE_WRITE_TIME_P50("remote-write-time-p50", Operation.WRITE, false, 50),
+    REMOTE_WRITE_TIME_P99("remote-write-time-p99", Operation.WRITE, false, 99),
+    REMOTE_WRITE_TIME_P999("remote-write-time-p999", Operation.WRITE, false, 99.9),
+    REMOTE_REMOVE_TIME_P50("remote-remove-time-p50", Operation.REMOVE, false, 50),
+    REMOTE_REMOVE_TIME_P99("remote-remove-time-p99", Operation.REMOVE, false, 99),
+    REMOTE_REMOVE_TIME_P999("remote-remove-time-p999", Operation.REMOVE, false, 99.9),
+    ;
+    private final AttributeDefinition definition;
+    private final Operation operation;
+    private final boolean local;
+    private final double percentile;
+
+    CacheLatencyMetric(String name, Operation operation, boolean local, double percentile) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                .setFlags(AttributeAccess.Flag.GAUGE_METRIC)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .setStorageRuntime()
+                .build();
+        this.operation = operation;
+        this.local = local;
+        this.percentile = percentile;
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    @Override
+    public ModelNode execute(CacheLatencyInterceptor interceptor) {
+        return new ModelNode(interceptor.getHistogram(this.operation, this.local).getPercentile(this.percentile, TimeUnit.MICROSECONDS));
+    }
+}
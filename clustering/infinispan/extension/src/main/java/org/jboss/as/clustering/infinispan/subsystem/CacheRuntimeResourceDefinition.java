@@ -15,6 +15,7 @@ import org.jboss.as.clustering.controller.MetricHandler;
 import org.jboss.as.clustering.controller.OperationHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.wildfly.clustering.infinispan.service.interceptor.CacheLatencyInterceptor;
 import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
 
 /**
@@ -39,6 +40,7 @@ public class CacheRuntimeResourceDefinition extends ChildResourceDefinition<Mana
         ManagementResourceRegistration registration = parent.registerSubModel(this);
 
         new MetricHandler<>(new CacheInterceptorMetricExecutor<>(this.executors, CacheMgmtInterceptor.class), CacheMetric.class).register(registration);
+        new MetricHandler<>(new CacheInterceptorMetricExecutor<>(this.executors, CacheLatencyInterceptor.class), CacheLatencyMetric.class).register(registration);
         new MetricHandler<>(new CacheInterceptorMetricExecutor<>(this.executors, InvalidationInterceptor.class), CacheInvalidationInterceptorMetric.class).register(registration);
         new MetricHandler<>(new CacheComponentMetricExecutor<>(this.executors, ActivationManager.class), CacheActivationMetric.class).register(registration);
         new MetricHandler<>(new CacheComponentMetricExecutor<>(this.executors, PassivationManager.class), CachePassivationMetric.class).register(registration);
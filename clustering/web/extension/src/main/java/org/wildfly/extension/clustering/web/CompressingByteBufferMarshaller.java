@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.OptionalInt;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * A marshaller decorator that deflates the marshalled form of values whose size meets a threshold.
+ * Values that are not compressed are written exactly as by the decorated marshaller, while compressed values are prefixed by a header.
+ * Reading auto-detects this header, so that any value remains readable regardless of the threshold used to write it, or whether compression was enabled at all.
+ * Values whose compressed form would be no smaller than their uncompressed form are written uncompressed.
+ */
+public class CompressingByteBufferMarshaller implements ByteBufferMarshaller {
+
+    // A null byte cannot start a value written by any of the supported session marshallers (i.e. a protobuf tag or a JBoss Marshalling/Java serialization stream header)
+    private static final byte[] MAGIC = new byte[] { 0x00, (byte) 0xDF };
+    // Format versions that may follow the magic bytes
+    private static final int DEFLATE = 1;
+
+    private final ByteBufferMarshaller marshaller;
+    private final OptionalInt threshold;
+    private final SessionAttributeCompressionStatistics statistics;
+
+    /**
+     * Creates a compressing marshaller.
+     * @param marshaller the decorated marshaller
+     * @param threshold the minimum size, in bytes, of the marshalled form of a value to compress, or empty if values should never be compressed
+     * @param statistics the statistics to which compressed values are recorded
+     */
+    public CompressingByteBufferMarshaller(ByteBufferMarshaller marshaller, OptionalInt threshold, SessionAttributeCompressionStatistics statistics) {
+        this.marshaller = marshaller;
+        this.threshold = threshold;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public boolean isMarshallable(Object object) {
+        return this.marshaller.isMarshallable(object);
+    }
+
+    @Override
+    public OptionalInt size(Object object) {
+        OptionalInt size = this.marshaller.size(object);
+        // Size is only known up front if the value will not be compressed
+        return (this.threshold.isEmpty() || (size.isPresent() && size.getAsInt() < this.threshold.getAsInt())) ? size : OptionalInt.empty();
+    }
+
+    @Override
+    public Object readFrom(InputStream input) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(input, MAGIC.length);
+        byte[] header = new byte[MAGIC.length];
+        int read = pushback.readNBytes(header, 0, header.length);
+        if ((read < MAGIC.length) || (header[0] != MAGIC[0]) || (header[1] != MAGIC[1])) {
+            // Not compressed
+            pushback.unread(header, 0, read);
+            return this.marshaller.readFrom(pushback);
+        }
+        int format = input.read();
+        if (format != DEFLATE) {
+            throw new IOException(String.format("Unexpected compression format: %d", format));
+        }
+        Inflater inflater = new Inflater();
+        try {
+            // Do not close the inflating stream, since the caller owns the input stream
+            return this.marshaller.readFrom(new InflaterInputStream(input, inflater));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream output, Object object) throws IOException {
+        if (this.threshold.isEmpty()) {
+            this.marshaller.writeTo(output, object);
+            return;
+        }
+        int minSize = this.threshold.getAsInt();
+        OptionalInt expectedSize = this.marshaller.size(object);
+        if (expectedSize.isPresent() && (expectedSize.getAsInt() < minSize)) {
+            // Avoid buffering values known to be too small to compress
+            this.marshaller.writeTo(output, object);
+            return;
+        }
+        ByteArrayOutputStream uncompressed = new ByteArrayOutputStream(expectedSize.orElse(minSize));
+        this.marshaller.writeTo(uncompressed, object);
+        int size = uncompressed.size();
+        if (size >= minSize) {
+            long start = System.nanoTime();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(size / 2);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflating = new DeflaterOutputStream(compressed, deflater)) {
+                uncompressed.writeTo(deflating);
+            } finally {
+                deflater.end();
+            }
+            if (compressed.size() + MAGIC.length + 1 < size) {
+                this.statistics.record(size, compressed.size(), System.nanoTime() - start);
+                output.write(MAGIC);
+                output.write(DEFLATE);
+                compressed.writeTo(output);
+                return;
+            }
+        }
+        uncompressed.writeTo(output);
+    }
+}
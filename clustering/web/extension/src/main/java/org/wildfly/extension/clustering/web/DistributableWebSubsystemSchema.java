@@ -7,9 +7,12 @@ package org.wildfly.extension.clustering.web;
 
 import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jboss.as.clustering.controller.Attribute;
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PersistentResourceXMLDescription;
 import org.jboss.as.controller.PersistentSubsystemSchema;
 import org.jboss.as.controller.SubsystemSchema;
@@ -26,9 +29,10 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     VERSION_1_0(1, 0), // WildFly 17
     VERSION_2_0(2, 0), // WildFly 18-26.1, EAP 7.4
     VERSION_3_0(3, 0), // WildFly 27-29
-    VERSION_4_0(4, 0), // WildFly 30-present, EAP 8.0
+    VERSION_4_0(4, 0), // WildFly 30-34, EAP 8.0
+    VERSION_5_0(5, 0), // WildFly 35-present
     ;
-    static final DistributableWebSubsystemSchema CURRENT = VERSION_4_0;
+    static final DistributableWebSubsystemSchema CURRENT = VERSION_5_0;
 
     private final VersionedNamespace<IntVersion, DistributableWebSubsystemSchema> namespace;
 
@@ -54,7 +58,7 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     }
 
     private PersistentResourceXMLBuilder getInfinispanSessionManagementResourceXMLBuilder() {
-        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(InfinispanSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class)));
+        PersistentResourceXMLBuilder builder = builder(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(InfinispanSessionManagementResourceDefinition.Attribute.class), this.getSessionManagementAttributes()));
         addAffinityChildren(builder).addChild(builder(PrimaryOwnerAffinityResourceDefinition.PATH).setXmlElementName("primary-owner-affinity"));
         if (this.namespace.since(DistributableWebSubsystemSchema.VERSION_2_0)) {
             builder.addChild(builder(RankedAffinityResourceDefinition.PATH).addAttributes(Attribute.stream(RankedAffinityResourceDefinition.Attribute.class)).setXmlElementName("ranked-affinity"));
@@ -63,7 +67,15 @@ public enum DistributableWebSubsystemSchema implements PersistentSubsystemSchema
     }
 
     private PersistentResourceXMLBuilder getHotRodSessionManagementResourceXMLBuilder() {
-        return addAffinityChildren(builder(HotRodSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(HotRodSessionManagementResourceDefinition.Attribute.class), Attribute.stream(SessionManagementResourceDefinition.Attribute.class))));
+        return addAffinityChildren(builder(HotRodSessionManagementResourceDefinition.WILDCARD_PATH).addAttributes(Stream.concat(Attribute.stream(HotRodSessionManagementResourceDefinition.Attribute.class), this.getSessionManagementAttributes())));
+    }
+
+    private Stream<AttributeDefinition> getSessionManagementAttributes() {
+        Set<SessionManagementResourceDefinition.Attribute> attributes = EnumSet.allOf(SessionManagementResourceDefinition.Attribute.class);
+        if (!this.namespace.since(DistributableWebSubsystemSchema.VERSION_5_0)) {
+            attributes.removeAll(EnumSet.of(SessionManagementResourceDefinition.Attribute.ACCESS_TIME_GRANULARITY, SessionManagementResourceDefinition.Attribute.ATTRIBUTE_COMPRESSION_THRESHOLD));
+        }
+        return Attribute.stream(attributes);
     }
 
     private static PersistentResourceXMLBuilder addAffinityChildren(PersistentResourceXMLBuilder builder) {
@@ -0,0 +1,53 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the session attributes compressed by a {@link CompressingByteBufferMarshaller}.
+ */
+public class SessionAttributeCompressionStatistics {
+
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionNanos = new LongAdder();
+
+    void record(int uncompressedSize, int compressedSize, long nanos) {
+        this.compressed.increment();
+        this.uncompressedBytes.add(uncompressedSize);
+        this.compressedBytes.add(compressedSize);
+        this.compressionNanos.add(nanos);
+    }
+
+    /**
+     * Returns the number of session attributes that were compressed.
+     * @return a number of attributes
+     */
+    public long getCompressedAttributes() {
+        return this.compressed.sum();
+    }
+
+    /**
+     * Returns the ratio of the compressed size to the uncompressed size of the compressed session attributes.
+     * @return a ratio between 0 and 1, or 1 if no attribute was compressed
+     */
+    public double getCompressionRatio() {
+        long uncompressed = this.uncompressedBytes.sum();
+        return (uncompressed > 0) ? (double) this.compressedBytes.sum() / uncompressed : 1d;
+    }
+
+    /**
+     * Returns the average time spent compressing a session attribute.
+     * @return a duration in microseconds
+     */
+    public long getAverageCompressionTime() {
+        long count = this.compressed.sum();
+        return (count > 0) ? TimeUnit.NANOSECONDS.toMicros(this.compressionNanos.sum() / count) : 0L;
+    }
+}
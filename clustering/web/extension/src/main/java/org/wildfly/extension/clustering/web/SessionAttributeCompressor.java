@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.OptionalInt;
+import java.util.function.UnaryOperator;
+
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Decorates a session marshaller with one that compresses large session attributes.
+ * Composes with any session marshaller factory, and, even if compression is disabled, reads session attributes compressed elsewhere.
+ */
+public class SessionAttributeCompressor implements UnaryOperator<ByteBufferMarshaller> {
+
+    private final OptionalInt threshold;
+    private final SessionAttributeCompressionStatistics statistics = new SessionAttributeCompressionStatistics();
+
+    /**
+     * Creates a decorator that only decompresses session attributes.
+     */
+    public SessionAttributeCompressor() {
+        this(OptionalInt.empty());
+    }
+
+    /**
+     * Creates a session attribute compressor.
+     * @param threshold the minimum size, in bytes, of the marshalled form of a session attribute to compress, or empty if session attributes should never be compressed
+     */
+    public SessionAttributeCompressor(OptionalInt threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Indicates whether this decorator compresses session attributes.
+     * @return true, if compression is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return this.threshold.isPresent();
+    }
+
+    /**
+     * Returns the compression statistics of all marshallers decorated by this object.
+     * @return compression statistics
+     */
+    public SessionAttributeCompressionStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public ByteBufferMarshaller apply(ByteBufferMarshaller marshaller) {
+        return new CompressingByteBufferMarshaller(marshaller, this.threshold, this.statistics);
+    }
+}
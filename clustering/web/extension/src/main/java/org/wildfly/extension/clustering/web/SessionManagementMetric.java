@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Enumerates the session attribute compression metrics of a session management resource.
+ */
+public enum SessionManagementMetric implements Metric<SessionAttributeCompressionStatistics> {
+
+    AVERAGE_COMPRESSION_TIME("average-compression-time", ModelType.LONG, AttributeAccess.Flag.GAUGE_METRIC, MeasurementUnit.MICROSECONDS) {
+        @Override
+        public ModelNode execute(SessionAttributeCompressionStatistics statistics) {
+            return new ModelNode(statistics.getAverageCompressionTime());
+        }
+    },
+    COMPRESSED_ATTRIBUTES("compressed-attributes", ModelType.LONG, AttributeAccess.Flag.COUNTER_METRIC, null) {
+        @Override
+        public ModelNode execute(SessionAttributeCompressionStatistics statistics) {
+            return new ModelNode(statistics.getCompressedAttributes());
+        }
+    },
+    COMPRESSION_RATIO("compression-ratio", ModelType.DOUBLE, AttributeAccess.Flag.GAUGE_METRIC, null) {
+        @Override
+        public ModelNode execute(SessionAttributeCompressionStatistics statistics) {
+            return new ModelNode(statistics.getCompressionRatio());
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    SessionManagementMetric(String name, ModelType type, AttributeAccess.Flag metricType, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                .setFlags(metricType)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.function.UnaryOperator;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricFunction;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.web.service.session.DistributableSessionManagementProvider;
+import org.wildfly.service.capture.FunctionExecutor;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
+
+/**
+ * Executor for session management metrics.
+ * Metrics are undefined if session attribute compression is not enabled.
+ */
+public class SessionManagementMetricExecutor implements MetricExecutor<SessionAttributeCompressionStatistics>, Function<DistributableSessionManagementProvider, SessionAttributeCompressionStatistics> {
+
+    private final FunctionExecutorRegistry<DistributableSessionManagementProvider> executors;
+
+    public SessionManagementMetricExecutor(FunctionExecutorRegistry<DistributableSessionManagementProvider> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<SessionAttributeCompressionStatistics> metric) throws OperationFailedException {
+        FunctionExecutor<DistributableSessionManagementProvider> executor = this.executors.getExecutor(ServiceDependency.on(DistributableSessionManagementProvider.SERVICE_DESCRIPTOR, context.getCurrentAddressValue()));
+        return (executor != null) ? executor.execute(new MetricFunction<>(this, metric)) : null;
+    }
+
+    @Override
+    public SessionAttributeCompressionStatistics apply(DistributableSessionManagementProvider provider) {
+        UnaryOperator<ByteBufferMarshaller> decorator = provider.getSessionManagementConfiguration().getMarshallerDecorator();
+        return (decorator instanceof SessionAttributeCompressor) && ((SessionAttributeCompressor) decorator).isEnabled() ? ((SessionAttributeCompressor) decorator).getStatistics() : null;
+    }
+}
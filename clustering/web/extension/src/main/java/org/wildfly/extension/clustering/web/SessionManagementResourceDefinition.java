@@ -5,20 +5,26 @@
 
 package org.wildfly.extension.clustering.web;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.ChildResourceDefinition;
+import org.jboss.as.clustering.controller.MetricHandler;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
+import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -33,6 +39,9 @@ import org.wildfly.clustering.web.service.session.DistributableSessionManagement
 import org.wildfly.subsystem.resource.ResourceModelResolver;
 import org.wildfly.subsystem.resource.operation.ResourceOperationRuntimeHandler;
 import org.wildfly.subsystem.service.ResourceServiceConfigurator;
+import org.wildfly.subsystem.service.ResourceServiceInstaller;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.ServiceValueExecutorRegistry;
 
 /**
  * Base definition for session management resources.
@@ -57,7 +66,19 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
             public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
                 return builder.setValidator(EnumValidator.create(SessionMarshallerFactory.class));
             }
-        }
+        },
+        ACCESS_TIME_GRANULARITY("access-time-granularity", ModelType.LONG, ModelNode.ZERO_LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build()).setMeasurementUnit(MeasurementUnit.MILLISECONDS);
+            }
+        },
+        ATTRIBUTE_COMPRESSION_THRESHOLD("attribute-compression-threshold", ModelType.INT, null) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setRequired(false).setValidator(new IntRangeValidatorBuilder().min(0).configure(builder).build()).setMeasurementUnit(MeasurementUnit.BYTES);
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -77,6 +98,7 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
     }
 
     private final UnaryOperator<ResourceDescriptor> configurator;
+    private final ServiceValueExecutorRegistry<DistributableSessionManagementProvider> registry = ServiceValueExecutorRegistry.newInstance();
 
     public SessionManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator) {
         super(path, DistributableWebExtension.SUBSYSTEM_RESOLVER.createChildResolver(path, PathElement.pathElement("session-management")));
@@ -90,9 +112,14 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
                 .addAttributes(Attribute.class)
                 .addCapabilities(List.of(SESSION_MANAGEMENT_PROVIDER))
                 ;
-        ResourceServiceHandler handler = ResourceServiceHandler.of(ResourceOperationRuntimeHandler.configureService(this));
+        ResourceServiceConfigurator configurator = (context, model) -> ResourceServiceInstaller.combine(this.configure(context, model), this.registry.capture(ServiceDependency.on(DistributableSessionManagementProvider.SERVICE_DESCRIPTOR, context.getCurrentAddressValue())));
+        ResourceServiceHandler handler = ResourceServiceHandler.of(ResourceOperationRuntimeHandler.configureService(configurator));
         new SimpleResourceRegistrar(descriptor, handler).register(registration);
 
+        if (registration.isRuntimeOnlyRegistrationValid()) {
+            new MetricHandler<>(new SessionManagementMetricExecutor(this.registry), SessionManagementMetric.class).register(registration);
+        }
+
         new NoAffinityResourceDefinition().register(registration);
         new LocalAffinityResourceDefinition().register(registration);
 
@@ -102,7 +129,11 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
     @Override
     public DistributableSessionManagementConfiguration<DeploymentUnit> resolve(OperationContext context, ModelNode model) throws OperationFailedException {
         SessionGranularity granularity = SessionGranularity.valueOf(Attribute.GRANULARITY.resolveModelAttribute(context, model).asString());
-        SessionMarshallerFactory marshallerFactory = SessionMarshallerFactory.valueOf(Attribute.MARSHALLER.resolveModelAttribute(context, model).asString());
+        SessionMarshallerFactory sessionMarshallerFactory = SessionMarshallerFactory.valueOf(Attribute.MARSHALLER.resolveModelAttribute(context, model).asString());
+        ModelNode compressionThreshold = Attribute.ATTRIBUTE_COMPRESSION_THRESHOLD.resolveModelAttribute(context, model);
+        // Always decorated, so that session attributes compressed while compression was enabled, or by other members, remain readable
+        SessionAttributeCompressor compressor = new SessionAttributeCompressor(compressionThreshold.isDefined() ? OptionalInt.of(compressionThreshold.asInt()) : OptionalInt.empty());
+        Duration accessTimeGranularity = Duration.ofMillis(Attribute.ACCESS_TIME_GRANULARITY.resolveModelAttribute(context, model).asLong());
         return new DistributableSessionManagementConfiguration<>() {
             @Override
             public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
@@ -111,7 +142,17 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
 
             @Override
             public Function<DeploymentUnit, ByteBufferMarshaller> getMarshallerFactory() {
-                return marshallerFactory;
+                return sessionMarshallerFactory;
+            }
+
+            @Override
+            public UnaryOperator<ByteBufferMarshaller> getMarshallerDecorator() {
+                return compressor;
+            }
+
+            @Override
+            public Duration getAccessTimeGranularity() {
+                return accessTimeGranularity;
             }
         };
     }
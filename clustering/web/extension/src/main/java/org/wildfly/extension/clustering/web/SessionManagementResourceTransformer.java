@@ -19,6 +19,13 @@ public class SessionManagementResourceTransformer implements BiConsumer<ModelVer
 
     @Override
     public void accept(ModelVersion version, ResourceTransformationDescriptionBuilder builder) {
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SessionManagementResourceDefinition.Attribute.ACCESS_TIME_GRANULARITY.getName())
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, SessionManagementResourceDefinition.Attribute.ATTRIBUTE_COMPRESSION_THRESHOLD.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, SessionManagementResourceDefinition.Attribute.ACCESS_TIME_GRANULARITY.getName(), SessionManagementResourceDefinition.Attribute.ATTRIBUTE_COMPRESSION_THRESHOLD.getName())
+                    .end();
+        }
         if (DistributableWebSubsystemModel.VERSION_3_0_0.requiresTransformation(version)) {
             builder.getAttributeBuilder()
                     .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SessionManagementResourceDefinition.Attribute.MARSHALLER.getName())
@@ -12,6 +12,7 @@ import org.jboss.as.server.deployment.DeploymentUnit;
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
 import org.wildfly.clustering.web.service.session.DistributableSessionManagementConfiguration;
+import org.wildfly.extension.clustering.web.SessionAttributeCompressor;
 import org.wildfly.extension.clustering.web.SessionGranularity;
 import org.wildfly.extension.clustering.web.SessionMarshallerFactory;
 
@@ -20,6 +21,8 @@ import org.wildfly.extension.clustering.web.SessionMarshallerFactory;
  */
 public class MutableSessionManagementConfiguration implements DistributableSessionManagementConfiguration<DeploymentUnit>, UnaryOperator<String> {
 
+    private static final UnaryOperator<ByteBufferMarshaller> DECOMPRESSOR = new SessionAttributeCompressor();
+
     private final UnaryOperator<String> replacer;
 
     private SessionGranularity granularity;
@@ -47,6 +50,12 @@ public class MutableSessionManagementConfiguration implements DistributableSessi
         this.marshallerFactory = SessionMarshallerFactory.valueOf(this.replacer.apply(value));
     }
 
+    @Override
+    public UnaryOperator<ByteBufferMarshaller> getMarshallerDecorator() {
+        // Deployment-specific configurations do not compress session attributes, but must read those compressed by a server configuration
+        return DECOMPRESSOR;
+    }
+
     @Override
     public String apply(String value) {
         return this.replacer.apply(value);
@@ -0,0 +1,147 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Unit test for {@link CompressingByteBufferMarshaller}.
+ */
+public class CompressingByteBufferMarshallerTestCase {
+
+    private final SessionAttributeCompressionStatistics statistics = new SessionAttributeCompressionStatistics();
+    private final ByteBufferMarshaller serialization = new SerializationByteBufferMarshaller();
+    private final ByteBufferMarshaller marshaller = new CompressingByteBufferMarshaller(this.serialization, OptionalInt.of(1024), this.statistics);
+
+    @Test
+    public void belowThreshold() throws IOException {
+        String value = "foo";
+
+        ByteBuffer buffer = this.marshaller.write(value);
+
+        // Uncompressed values are written exactly as by the decorated marshaller
+        assertEquals(this.serialization.write(value), buffer);
+        assertEquals(value, this.marshaller.read(buffer.duplicate()));
+        assertEquals(value, this.serialization.read(buffer.duplicate()));
+        assertEquals(0L, this.statistics.getCompressedAttributes());
+        assertEquals(1d, this.statistics.getCompressionRatio(), 0d);
+    }
+
+    @Test
+    public void knownSize() throws IOException {
+        ByteBufferMarshaller sized = new SerializationByteBufferMarshaller() {
+            @Override
+            public OptionalInt size(Object object) {
+                return OptionalInt.of(10);
+            }
+        };
+        ByteBufferMarshaller marshaller = new CompressingByteBufferMarshaller(sized, OptionalInt.of(1024), this.statistics);
+        String value = "foo";
+
+        assertEquals(OptionalInt.of(10), marshaller.size(value));
+        assertEquals(sized.write(value), marshaller.write(value));
+
+        // Size is unknown if the value might be compressed
+        ByteBufferMarshaller compressing = new CompressingByteBufferMarshaller(sized, OptionalInt.of(1), this.statistics);
+        assertFalse(compressing.size(value).isPresent());
+    }
+
+    @Test
+    public void aboveThreshold() throws IOException {
+        byte[] value = new byte[64 * 1024];
+        Arrays.fill(value, (byte) 1);
+
+        ByteBuffer buffer = this.marshaller.write(value);
+
+        assertTrue(buffer.remaining() < value.length);
+        assertArrayEquals(value, (byte[]) this.marshaller.read(buffer));
+        assertEquals(1L, this.statistics.getCompressedAttributes());
+        assertTrue(this.statistics.getCompressionRatio() < 1d);
+    }
+
+    @Test
+    public void thresholdChanged() throws IOException {
+        byte[] value = new byte[64 * 1024];
+        Arrays.fill(value, (byte) 1);
+
+        ByteBuffer compressed = this.marshaller.write(value);
+        ByteBuffer uncompressed = this.serialization.write(value);
+
+        // Compression disabled, e.g. after the threshold was undefined, or on another member
+        ByteBufferMarshaller disabled = new CompressingByteBufferMarshaller(this.serialization, OptionalInt.empty(), this.statistics);
+        assertEquals(uncompressed, disabled.write(value));
+        assertArrayEquals(value, (byte[]) disabled.read(compressed.duplicate()));
+        assertArrayEquals(value, (byte[]) disabled.read(uncompressed.duplicate()));
+
+        // Compression enabled, reading values that were stored before
+        assertArrayEquals(value, (byte[]) this.marshaller.read(uncompressed.duplicate()));
+    }
+
+    @Test
+    public void unknownFormat() throws IOException {
+        byte[] value = new byte[64 * 1024];
+        Arrays.fill(value, (byte) 1);
+
+        ByteBuffer buffer = this.marshaller.write(value);
+        // Corrupt format version
+        buffer.put(buffer.position() + 2, (byte) 2);
+
+        assertThrows(IOException.class, () -> this.marshaller.read(buffer));
+    }
+
+    @Test
+    public void incompressible() throws IOException {
+        byte[] value = new byte[64 * 1024];
+        new Random(0).nextBytes(value);
+
+        ByteBuffer buffer = this.marshaller.write(value);
+
+        assertArrayEquals(value, (byte[]) this.marshaller.read(buffer));
+        assertEquals(0L, this.statistics.getCompressedAttributes());
+    }
+
+    private static class SerializationByteBufferMarshaller implements ByteBufferMarshaller {
+
+        @Override
+        public boolean isMarshallable(Object object) {
+            return object instanceof Serializable;
+        }
+
+        @Override
+        public Object readFrom(InputStream input) throws IOException {
+            try {
+                return new ObjectInputStream(input).readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void writeTo(OutputStream output, Object object) throws IOException {
+            ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+            objectOutput.writeObject(object);
+            objectOutput.flush();
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.wildfly.extension.clustering.web;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -171,9 +172,18 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(ModelDescriptionConstants.SUBSYSTEM, DistributableWebExtension.SUBSYSTEM_NAME);
 
+        List<String> rejectedSessionManagementAttributes = new ArrayList<>(3);
         if (DistributableWebSubsystemModel.VERSION_3_0_0.requiresTransformation(this.version)) {
-            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
-            config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
+            rejectedSessionManagementAttributes.add(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName());
+        }
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(this.version)) {
+            rejectedSessionManagementAttributes.add(SessionManagementResourceDefinition.Attribute.ACCESS_TIME_GRANULARITY.getName());
+            rejectedSessionManagementAttributes.add(SessionManagementResourceDefinition.Attribute.ATTRIBUTE_COMPRESSION_THRESHOLD.getName());
+        }
+        if (!rejectedSessionManagementAttributes.isEmpty()) {
+            String[] attributes = rejectedSessionManagementAttributes.toArray(new String[0]);
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(attributes));
+            config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(attributes));
         }
 
         return config;
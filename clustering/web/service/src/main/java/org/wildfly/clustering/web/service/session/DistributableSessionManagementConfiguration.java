@@ -5,7 +5,9 @@
 
 package org.wildfly.clustering.web.service.session;
 
+import java.time.Duration;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
@@ -20,4 +22,20 @@ public interface DistributableSessionManagementConfiguration<M> {
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
 
     Function<M, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns a decorator applied to the marshaller created by the {@link #getMarshallerFactory() marshaller factory}.
+     * @return a marshaller decorator
+     */
+    default UnaryOperator<ByteBufferMarshaller> getMarshallerDecorator() {
+        return UnaryOperator.identity();
+    }
+
+    /**
+     * Returns the duration within which subsequent requests for a session do not update its last access time.
+     * @return a duration, zero if every request updates the last access time of its session
+     */
+    default Duration getAccessTimeGranularity() {
+        return Duration.ZERO;
+    }
 }
@@ -41,16 +41,33 @@ public class DistributableSession implements io.undertow.server.session.Session
     private final SuspendedBatch suspendedBatch;
     private final Consumer<HttpServerExchange> closeTask;
     private final Instant startTime;
+    private final Instant lastAccessEndTime;
     private final RecordableSessionManagerStatistics statistics;
 
     private volatile Map.Entry<Session<Map<String, Object>>, SessionConfig> entry;
 
     public DistributableSession(UndertowSessionManager manager, Session<Map<String, Object>> session, SessionConfig config, SuspendedBatch suspendedBatch, Consumer<HttpServerExchange> closeTask, RecordableSessionManagerStatistics statistics) {
+        this(manager, session, config, suspendedBatch, closeTask, statistics, Instant.now(), false);
+    }
+
+    /**
+     * Creates a session adapter for a session loaded by the current request.
+     * @param requestStartTime the time at which the current request started
+     */
+    DistributableSession(UndertowSessionManager manager, Session<Map<String, Object>> session, SessionConfig config, SuspendedBatch suspendedBatch, Consumer<HttpServerExchange> closeTask, RecordableSessionManagerStatistics statistics, Instant requestStartTime) {
+        this(manager, session, config, suspendedBatch, closeTask, statistics, requestStartTime, true);
+    }
+
+    private DistributableSession(UndertowSessionManager manager, Session<Map<String, Object>> session, SessionConfig config, SuspendedBatch suspendedBatch, Consumer<HttpServerExchange> closeTask, RecordableSessionManagerStatistics statistics, Instant requestStartTime, boolean loaded) {
         this.manager = manager;
         this.entry = Map.entry(session, config);
         this.suspendedBatch = suspendedBatch;
         this.closeTask = closeTask;
-        this.startTime = session.getMetaData().isNew() ? session.getMetaData().getCreationTime() : Instant.now();
+        SessionMetaData metaData = session.getMetaData();
+        boolean isNew = metaData.isNew();
+        this.startTime = isNew ? metaData.getCreationTime() : requestStartTime;
+        // Read from the meta data loaded by the current request, so that requestDone(...) need not look it up again
+        this.lastAccessEndTime = (loaded && !isNew) ? metaData.getLastAccessEndTime() : null;
         this.statistics = statistics;
     }
 
@@ -68,7 +85,10 @@ public class DistributableSession implements io.undertow.server.session.Session
                 if (session.isValid()) {
                     // According to §7.6 of the servlet specification:
                     // The session is considered to be accessed when a request that is part of the session is first handled by the servlet container.
-                    session.getMetaData().setLastAccess(this.startTime, Instant.now());
+                    Instant now = Instant.now();
+                    if (!isRecentlyAccessed(this.lastAccessEndTime, now, this.manager.getAccessTimeGranularity())) {
+                        session.getMetaData().setLastAccess(this.startTime, now);
+                    }
                 }
             }
         } catch (Throwable e) {
@@ -283,4 +303,19 @@ public class DistributableSession implements io.undertow.server.session.Session
             }
         }
     }
+
+    /**
+     * Indicates whether the last access time of a session need not be updated, because its previous access ended within the specified granularity.
+     * Skipping the update means that the session may expire up to one granularity earlier than it otherwise would.
+     * @param lastAccessEndTime the end time of the previous access of a session, as loaded by the current request, or null if unknown
+     * @param now the end time of the current access
+     * @param granularity the duration within which last access time updates are coalesced
+     * @return true, if the last access time update should be skipped, false otherwise
+     */
+    static boolean isRecentlyAccessed(Instant lastAccessEndTime, Instant now, Duration granularity) {
+        if ((lastAccessEndTime == null) || granularity.isZero() || granularity.isNegative()) {
+            return false;
+        }
+        return Duration.between(lastAccessEndTime, now).compareTo(granularity) < 0;
+    }
 }
@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.OptionalLong;
@@ -43,6 +45,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
     private final SessionListeners listeners;
     private final SessionManager<Map<String, Object>> manager;
     private final RecordableSessionManagerStatistics statistics;
+    private final Duration accessTimeGranularity;
     private final StampedLock lifecycleLock = new StampedLock();
 
     // Matches io.undertow.server.session.InMemorySessionManager
@@ -54,6 +57,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
         this.manager = config.getSessionManager();
         this.listeners = config.getSessionListeners();
         this.statistics = config.getStatistics();
+        this.accessTimeGranularity = config.getAccessTimeGranularity();
     }
 
     @Override
@@ -66,6 +70,11 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
         return this.manager;
     }
 
+    @Override
+    public Duration getAccessTimeGranularity() {
+        return this.accessTimeGranularity;
+    }
+
     @Override
     public synchronized void start() {
         this.lifecycleStamp.ifPresent(this);
@@ -209,7 +218,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
                 // Update session ID encoding
                 config.setSessionId(exchange, id);
 
-                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics);
+                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics, Instant.now());
                 if (exchange != null) {
                     exchange.putAttachment(this.key, result);
                 }
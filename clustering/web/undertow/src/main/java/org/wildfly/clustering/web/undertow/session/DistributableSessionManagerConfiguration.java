@@ -5,6 +5,7 @@
 
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.wildfly.clustering.session.SessionManager;
@@ -19,4 +20,12 @@ public interface DistributableSessionManagerConfiguration {
     SessionManager<Map<String, Object>> getSessionManager();
     SessionListeners getSessionListeners();
     RecordableSessionManagerStatistics getStatistics();
+
+    /**
+     * Returns the duration within which subsequent requests for a session do not update its last access time.
+     * @return a duration, zero if every request updates the last access time of its session
+     */
+    default Duration getAccessTimeGranularity() {
+        return Duration.ZERO;
+    }
 }
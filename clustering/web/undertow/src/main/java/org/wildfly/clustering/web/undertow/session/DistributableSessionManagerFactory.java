@@ -38,10 +38,16 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
 
     private final SessionManagerFactory<ServletContext, Map<String, Object>> factory;
     private final SessionManagerFactoryConfiguration config;
+    private final Duration accessTimeGranularity;
 
     public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config) {
+        this(factory, config, Duration.ZERO);
+    }
+
+    public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config, Duration accessTimeGranularity) {
         this.factory = factory;
         this.config = config;
+        this.accessTimeGranularity = accessTimeGranularity;
     }
 
     @Override
@@ -110,6 +116,11 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
             public RecordableSessionManagerStatistics getStatistics() {
                 return statistics;
             }
+
+            @Override
+            public Duration getAccessTimeGranularity() {
+                return DistributableSessionManagerFactory.this.accessTimeGranularity;
+            }
         });
         result.setDefaultSessionTimeout((int) this.config.getDefaultSessionTimeout().getSeconds());
         return result;
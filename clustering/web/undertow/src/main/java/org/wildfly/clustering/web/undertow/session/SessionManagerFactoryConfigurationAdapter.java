@@ -41,7 +41,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
         this.maxActiveSessions = configuration.getMaxActiveSessions();
         DeploymentUnit unit = configuration.getDeploymentUnit();
         Module module = unit.getAttachment(Attachments.MODULE);
-        this.marshaller = managementConfiguration.getMarshallerFactory().apply(configuration.getDeploymentUnit());
+        this.marshaller = managementConfiguration.getMarshallerFactory().andThen(managementConfiguration.getMarshallerDecorator()).apply(unit);
         List<Immutability> loadedImmutabilities = new LinkedList<>();
         for (Immutability loadedImmutability : module.loadService(Immutability.class)) {
             loadedImmutabilities.add(loadedImmutability);
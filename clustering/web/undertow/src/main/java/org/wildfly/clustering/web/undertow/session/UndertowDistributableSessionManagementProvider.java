@@ -55,7 +55,7 @@ public class UndertowDistributableSessionManagementProvider implements SessionMa
         Function<SessionManagerFactory<ServletContext, Map<String, Object>>, io.undertow.servlet.api.SessionManagerFactory> mapper = new Function<>() {
             @Override
             public io.undertow.servlet.api.SessionManagerFactory apply(SessionManagerFactory<ServletContext, Map<String, Object>> factory) {
-                return new DistributableSessionManagerFactory(factory, configuration);
+                return new DistributableSessionManagerFactory(factory, configuration, UndertowDistributableSessionManagementProvider.this.provider.getSessionManagementConfiguration().getAccessTimeGranularity());
             }
         };
         DeploymentServiceInstaller installer = ServiceInstaller.builder(ServiceDependency.on(WebDeploymentServiceDescriptor.SESSION_MANAGER_FACTORY, configuration.getDeploymentName()).map(mapper)).provides(name).build();
@@ -4,6 +4,7 @@
  */
 package org.wildfly.clustering.web.undertow.session;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.wildfly.clustering.session.SessionManager;
@@ -26,4 +27,10 @@ public interface UndertowSessionManager extends io.undertow.server.session.Sessi
      * @return a session manager
      */
     SessionManager<Map<String, Object>> getSessionManager();
+
+    /**
+     * Returns the duration within which subsequent requests for a session do not update its last access time.
+     * @return a duration, zero if every request updates the last access time of its session
+     */
+    Duration getAccessTimeGranularity();
 }
@@ -9,6 +9,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -16,6 +17,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +38,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.cache.batch.SuspendedBatch;
 import org.wildfly.clustering.session.Session;
 import org.wildfly.clustering.session.SessionManager;
 import org.wildfly.clustering.session.SessionMetaData;
@@ -68,6 +72,7 @@ public class DistributableSessionManagerTestCase {
         when(config.getSessionListeners()).thenReturn(this.listeners);
         when(config.getSessionManager()).thenReturn(this.manager);
         when(config.getStatistics()).thenReturn(this.statistics);
+        when(config.getAccessTimeGranularity()).thenReturn(Duration.ZERO);
 
         this.adapter = new DistributableSessionManager(config);
         this.adapter.registerSessionListener(this.listener);
@@ -223,6 +228,7 @@ public class DistributableSessionManagerTestCase {
     public void getSession() {
         HttpServerExchange exchange = new HttpServerExchange(null);
         Batch batch = mock(Batch.class);
+        SuspendedBatch suspendedBatch = mock(SuspendedBatch.class);
         SessionConfig config = mock(SessionConfig.class);
         Session<Map<String, Object>> session = mock(Session.class);
         SessionMetaData metaData = mock(SessionMetaData.class);
@@ -231,17 +237,28 @@ public class DistributableSessionManagerTestCase {
         when(config.findSessionId(exchange)).thenReturn(sessionId);
         when(this.manager.findSession(sessionId)).thenReturn(session);
         when(this.manager.getBatchFactory()).thenReturn(Functions.constantSupplier(batch));
+        when(batch.suspend()).thenReturn(suspendedBatch);
         when(session.getId()).thenReturn(sessionId);
         when(session.getMetaData()).thenReturn(metaData);
+        when(session.getAttributes()).thenReturn(Collections.emptyMap());
         when(metaData.isNew()).thenReturn(false);
 
         io.undertow.server.session.Session sessionAdapter = this.adapter.getSession(exchange, config);
 
         assertNotNull(sessionAdapter);
+        assertSame(sessionAdapter, this.adapter.getSession(exchange, config));
+        assertSame(sessionId, sessionAdapter.getId());
 
-        verifyNoInteractions(this.statistics);
-
+        // Session is looked up once, within the batch of the request
+        verify(this.manager).getBatchFactory();
+        verify(this.manager).findSession(sessionId);
+        verify(this.manager, never()).getDetachedSession(sessionId);
         verify(batch).suspend();
+        verify(batch, never()).close();
+
+        assertNull(sessionAdapter.getAttribute("foo"));
+
+        verifyNoInteractions(this.statistics);
 
         String expected = "expected";
         when(session.getId()).thenReturn(expected);
@@ -250,6 +267,41 @@ public class DistributableSessionManagerTestCase {
         assertSame(expected, result);
     }
 
+    @Test
+    public void getSessionNotAccessed() {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+        SuspendedBatch suspendedBatch = mock(SuspendedBatch.class);
+        SessionConfig config = mock(SessionConfig.class);
+        Session<Map<String, Object>> session = mock(Session.class);
+        SessionMetaData metaData = mock(SessionMetaData.class);
+        String sessionId = "session";
+
+        when(config.findSessionId(exchange)).thenReturn(sessionId);
+        when(this.manager.findSession(sessionId)).thenReturn(session);
+        when(this.manager.getBatchFactory()).thenReturn(Functions.constantSupplier(batch));
+        when(batch.suspend()).thenReturn(suspendedBatch);
+        when(suspendedBatch.resume()).thenReturn(batch);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.getMetaData()).thenReturn(metaData);
+        when(session.isValid()).thenReturn(true);
+        when(metaData.isNew()).thenReturn(false);
+
+        io.undertow.server.session.Session sessionAdapter = this.adapter.getSession(exchange, config);
+
+        sessionAdapter.requestDone(exchange);
+
+        // A single batch per request, and the session attributes are never read
+        verify(this.manager).getBatchFactory();
+        verify(this.manager).findSession(sessionId);
+        verify(this.manager, never()).getDetachedSession(sessionId);
+        verify(session, never()).getAttributes();
+        verify(metaData).setLastAccess(any(Instant.class), any(Instant.class));
+        verify(session).close();
+        verify(suspendedBatch).resume();
+        verify(batch).close();
+    }
+
     @Test
     public void getSessionNoSessionId() {
         HttpServerExchange exchange = new HttpServerExchange(null);
@@ -299,6 +351,7 @@ public class DistributableSessionManagerTestCase {
 
         verify(batch).close();
         verify(batch, never()).suspend();
+        verify(this.manager, never()).getDetachedSession(sessionId);
     }
 
     @Test
@@ -105,6 +105,7 @@ public class DistributableSessionTestCase {
 
     @Test
     public void newSessionRequestDone() {
+        doReturn(Duration.ZERO).when(this.manager).getAccessTimeGranularity();
         Instant creationTime = Instant.now();
         doReturn(this.metaData).when(this.session).getMetaData();
         doReturn(true).when(this.metaData).isNew();
@@ -137,6 +138,7 @@ public class DistributableSessionTestCase {
 
     @Test
     public void existingSessionRequestDone() {
+        doReturn(Duration.ZERO).when(this.manager).getAccessTimeGranularity();
         doReturn(this.metaData).when(this.session).getMetaData();
         doReturn(false).when(this.metaData).isNew();
 
@@ -165,6 +167,80 @@ public class DistributableSessionTestCase {
         verify(this.closeTask).accept(exchange);
     }
 
+    @Test
+    public void recentlyAccessedSessionRequestDone() {
+        doReturn(this.metaData).when(this.session).getMetaData();
+        doReturn(false).when(this.metaData).isNew();
+        doReturn(Instant.now()).when(this.metaData).getLastAccessEndTime();
+        doReturn(Duration.ofMinutes(1)).when(this.manager).getAccessTimeGranularity();
+
+        io.undertow.server.session.Session session = new DistributableSession(this.manager, this.session, this.config, this.suspendedBatch, this.closeTask, this.statistics, Instant.now());
+
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+
+        doReturn(batch).when(this.suspendedBatch).resume();
+        doReturn(true).when(this.session).isValid();
+
+        session.requestDone(exchange);
+
+        // Last access end time is only read from the meta data loaded by the request
+        verify(this.metaData).getLastAccessEndTime();
+        verify(this.metaData, never()).setLastAccess(any(), any());
+        verify(this.session).close();
+        verify(batch).close();
+        verify(this.closeTask).accept(exchange);
+    }
+
+    @Test
+    public void staleSessionRequestDone() {
+        doReturn(this.metaData).when(this.session).getMetaData();
+        doReturn(false).when(this.metaData).isNew();
+        doReturn(Instant.now().minus(Duration.ofMinutes(2))).when(this.metaData).getLastAccessEndTime();
+        doReturn(Duration.ofMinutes(1)).when(this.manager).getAccessTimeGranularity();
+
+        io.undertow.server.session.Session session = new DistributableSession(this.manager, this.session, this.config, this.suspendedBatch, this.closeTask, this.statistics, Instant.now());
+
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+
+        doReturn(batch).when(this.suspendedBatch).resume();
+        doReturn(true).when(this.session).isValid();
+
+        session.requestDone(exchange);
+
+        verify(this.metaData).getLastAccessEndTime();
+        verify(this.metaData).setLastAccess(any(Instant.class), any(Instant.class));
+        verify(this.session).close();
+        verify(batch).close();
+        verify(this.closeTask).accept(exchange);
+    }
+
+    @Test
+    public void detachedSessionRequestDone() {
+        doReturn(this.metaData).when(this.session).getMetaData();
+        doReturn(false).when(this.metaData).isNew();
+        doReturn(Instant.now()).when(this.metaData).getLastAccessEndTime();
+        doReturn(Duration.ofMinutes(1)).when(this.manager).getAccessTimeGranularity();
+
+        // Not loaded by the current request, so last access time updates are never coalesced
+        io.undertow.server.session.Session session = new DistributableSession(this.manager, this.session, this.config, this.suspendedBatch, this.closeTask, this.statistics);
+
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+
+        doReturn(batch).when(this.suspendedBatch).resume();
+        doReturn(true).when(this.session).isValid();
+
+        session.requestDone(exchange);
+
+        verify(this.metaData, never()).getLastAccessEndTime();
+        verify(this.metaData).setLastAccess(any(Instant.class), any(Instant.class));
+        verify(this.session).close();
+        verify(batch).close();
+        verify(this.closeTask).accept(exchange);
+    }
+
     @Test
     public void invalidSessionRequestDone() {
         doReturn(this.metaData).when(this.session).getMetaData();
@@ -977,4 +977,7 @@ public interface ConnectorLogger extends BasicLogger {
 
     @Message(id = 135, value = "The jdbc driver: %s is not installed")
     OperationFailedException jdbcDriverNotInstalled(String jdbcDriver);
+
+    @Message(id = 136, value = "Workmanager %s is configured to run work on virtual threads, which are not supported by this Java runtime")
+    StartException virtualThreadsNotSupported(@Cause Throwable cause, String workManagerName);
 }
@@ -43,15 +43,29 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
     private final InjectedValue<CommandDispatcherFactory> dispatcherFactory = new InjectedValue<>();
 
+    private final long statisticsBroadcastInterval;
+
     /**
      * create an instance
      *
      * @param value the work manager
      */
     public DistributedWorkManagerService(NamedDistributedWorkManager value) {
+        this(value, 0);
+    }
+
+    /**
+     * create an instance
+     *
+     * @param value the work manager
+     * @param statisticsBroadcastInterval the interval, in milliseconds, at which statistics are sent to the other members
+     *                                    of the group, or 0 to send them on every change
+     */
+    public DistributedWorkManagerService(NamedDistributedWorkManager value, long statisticsBroadcastInterval) {
         super();
         ROOT_LOGGER.debugf("Building DistributedWorkManager");
         this.value = value;
+        this.statisticsBroadcastInterval = statisticsBroadcastInterval;
     }
 
     @Override
@@ -63,7 +77,7 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors DistributedWorkManager: ", value.getName());
 
-        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName());
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName(), this.statisticsBroadcastInterval);
 
         this.value.setTransport(transport);
 
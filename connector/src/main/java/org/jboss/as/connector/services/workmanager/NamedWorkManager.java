@@ -23,6 +23,9 @@ public class NamedWorkManager extends WorkManagerImpl {
     /** Default WorkManager name */
     public static final String DEFAULT_NAME = "default";
 
+    /** Per work type statistics, only collected when the work manager does not run work on thread pools */
+    private volatile WorkTypeStatistics workTypeStatistics;
+
     /**
      * Constructor
      * @param name The name of the WorkManager
@@ -39,4 +42,16 @@ public class NamedWorkManager extends WorkManagerImpl {
         return new WildflyWorkWrapper(this, securityIntegration, work, executionContext, workListener,
                 startedLatch, completedLatch, creationTime, startTimeout);
     }
+
+    /**
+     * Get the statistics per work type
+     * @return The statistics, or {@code null} if the work is run on thread pools
+     */
+    public WorkTypeStatistics getWorkTypeStatistics() {
+        return workTypeStatistics;
+    }
+
+    void setWorkTypeStatistics(WorkTypeStatistics workTypeStatistics) {
+        this.workTypeStatistics = workTypeStatistics;
+    }
 }
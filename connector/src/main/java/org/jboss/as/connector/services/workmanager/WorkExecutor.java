@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
+import org.jboss.jca.core.workmanager.WorkWrapper;
+import org.jboss.msc.service.StartException;
+
+/**
+ * A StatisticsExecutor running work either on a work-stealing pool or on virtual threads, as an alternative to the
+ * bounded queue thread pools of the work manager.
+ * <p>
+ * At most {@code maxThreads} works run at the same time, and at most {@code queueLength} more wait for a thread. Like the
+ * blocking thread pools it replaces, submitting a work blocks while both are exhausted. The number of free threads is
+ * computed from the works that were submitted and did not complete yet, so that works waiting for a thread are accounted for.
+ */
+public class WorkExecutor implements StatisticsExecutor {
+
+    private final ExecutorService executor;
+    private final int maxThreads;
+    // Virtual threads are not pooled, the number of works running concurrently is bounded by permits instead
+    private final Semaphore permits;
+    // Bounds the works either running or waiting for a thread, as neither executor bounds its queue
+    private final Semaphore capacity;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final WorkTypeStatistics statistics;
+
+    private WorkExecutor(ExecutorService executor, int maxThreads, int queueLength, Semaphore permits, WorkTypeStatistics statistics) {
+        this.executor = executor;
+        this.maxThreads = maxThreads;
+        this.permits = permits;
+        this.capacity = new Semaphore((int) Math.min(Integer.MAX_VALUE, (long) maxThreads + Math.max(0, queueLength)));
+        this.statistics = statistics;
+    }
+
+    /**
+     * Creates an executor running work on a work-stealing pool of {@code maxThreads} workers.
+     *
+     * @param name       the name of the pool, used to name its threads
+     * @param maxThreads the number of workers
+     * @param queueLength the maximum number of works waiting for a worker
+     * @param statistics the statistics to record the works to
+     * @return the executor
+     */
+    public static WorkExecutor workStealing(String name, int maxThreads, int queueLength, WorkTypeStatistics statistics) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(name + "-" + threadCount.incrementAndGet());
+            thread.setContextClassLoader(WorkExecutor.class.getClassLoader());
+            return thread;
+        };
+        // Works are independent tasks, so FIFO scheduling is preferred over the default LIFO one
+        return new WorkExecutor(new ForkJoinPool(maxThreads, factory, null, true), maxThreads, queueLength, null, statistics);
+    }
+
+    /**
+     * Creates an executor running each work on a new virtual thread, at most {@code maxThreads} at a time.
+     *
+     * @param name       the name of the work manager
+     * @param maxThreads the maximum number of works running at the same time
+     * @param queueLength the maximum number of works waiting for a permit to run
+     * @param statistics the statistics to record the works to
+     * @return the executor
+     * @throws StartException if the Java runtime does not support virtual threads
+     */
+    public static WorkExecutor virtualThreads(String name, int maxThreads, int queueLength, WorkTypeStatistics statistics) throws StartException {
+        ExecutorService executor;
+        try {
+            // Looked up reflectively, as virtual threads are not available in all the supported Java versions
+            executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw ConnectorLogger.ROOT_LOGGER.virtualThreadsNotSupported(e, name);
+        }
+        return new WorkExecutor(executor, maxThreads, queueLength, new Semaphore(maxThreads), statistics);
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        long submitted = System.nanoTime();
+        try {
+            this.capacity.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+        this.pending.incrementAndGet();
+        try {
+            this.executor.execute(() -> this.run(runnable, submitted));
+        } catch (RuntimeException e) {
+            this.pending.decrementAndGet();
+            this.capacity.release();
+            throw e;
+        }
+    }
+
+    private void run(Runnable runnable, long submitted) {
+        if (this.permits != null) {
+            this.permits.acquireUninterruptibly();
+        }
+        long started = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            long completed = System.nanoTime();
+            this.statistics.record(getWorkType(runnable), started - submitted, completed - started);
+            this.pending.decrementAndGet();
+            if (this.permits != null) {
+                this.permits.release();
+            }
+            this.capacity.release();
+        }
+    }
+
+    @Override
+    public long getNumberOfFreeThreads() {
+        return Math.max(0L, (long) this.maxThreads - this.pending.get());
+    }
+
+    /**
+     * Stops accepting work. Works already submitted are left to complete.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    private static String getWorkType(Runnable runnable) {
+        if (runnable instanceof WorkWrapper) {
+            return ((WorkWrapper) runnable).getWork().getClass().getName();
+        }
+        return runnable.getClass().getName();
+    }
+}
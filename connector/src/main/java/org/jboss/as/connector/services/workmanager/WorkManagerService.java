@@ -8,9 +8,12 @@ package org.jboss.as.connector.services.workmanager;
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 import static org.jboss.as.connector.subsystems.jca.Constants.DEFAULT_NAME;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.security.ElytronSecurityIntegration;
+import org.jboss.as.connector.subsystems.jca.JcaWorkManagerDefinition.ExecutorValue;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.txn.integration.JBossContextXATerminator;
 import org.jboss.jca.core.tx.jbossts.XATerminatorImpl;
@@ -39,15 +42,48 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
 
     private final InjectedValue<JBossContextXATerminator> xaTerminator = new InjectedValue<JBossContextXATerminator>();
 
+    private final ExecutorValue executorType;
+
+    private final int shortRunningMaxThreads;
+
+    private final int shortRunningQueueLength;
+
+    private final int longRunningMaxThreads;
+
+    private final int longRunningQueueLength;
+
+    private final List<WorkExecutor> workExecutors = new ArrayList<>(2);
+
     /**
      * create an instance
      *
      * @param value the work manager
      */
     public WorkManagerService(NamedWorkManager value) {
+        this(value, ExecutorValue.THREAD_POOL, 0, 0, 0, 0);
+    }
+
+    /**
+     * create an instance running work on its own executors instead of the injected thread pools
+     *
+     * @param value the work manager
+     * @param executorType the type of executor running the work
+     * @param shortRunningMaxThreads the maximum number of short running works running at the same time
+     * @param shortRunningQueueLength the maximum number of short running works waiting for a thread
+     * @param longRunningMaxThreads the maximum number of long running works running at the same time, 0 if long running
+     *                              works share the short running executor
+     * @param longRunningQueueLength the maximum number of long running works waiting for a thread
+     */
+    public WorkManagerService(NamedWorkManager value, ExecutorValue executorType, int shortRunningMaxThreads, int shortRunningQueueLength,
+                              int longRunningMaxThreads, int longRunningQueueLength) {
         super();
         ROOT_LOGGER.debugf("Building WorkManager");
         this.value = value;
+        this.executorType = executorType;
+        this.shortRunningMaxThreads = shortRunningMaxThreads;
+        this.shortRunningQueueLength = shortRunningQueueLength;
+        this.longRunningMaxThreads = longRunningMaxThreads;
+        this.longRunningQueueLength = longRunningQueueLength;
     }
 
     @Override
@@ -59,14 +95,23 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors WorkManager: ", value.getName());
 
-        BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
-        if (longRunning != null) {
-            this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-        } else {
-            this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+        if (executorType == ExecutorValue.THREAD_POOL) {
+            BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
+            if (longRunning != null) {
+                this.value.setLongRunningThreadPool(longRunning);
+                this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            } else {
+                this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+                this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
 
+            }
+        } else {
+            WorkTypeStatistics workTypeStatistics = new WorkTypeStatistics();
+            WorkExecutor shortRunning = createWorkExecutor(value.getName() + "-short-running", shortRunningMaxThreads, shortRunningQueueLength, workTypeStatistics);
+            WorkExecutor longRunning = (longRunningMaxThreads > 0) ? createWorkExecutor(value.getName() + "-long-running", longRunningMaxThreads, longRunningQueueLength, workTypeStatistics) : shortRunning;
+            this.value.setShortRunningThreadPool(shortRunning);
+            this.value.setLongRunningThreadPool(longRunning);
+            this.value.setWorkTypeStatistics(workTypeStatistics);
         }
 
         this.value.setXATerminator(new XATerminatorImpl(xaTerminator.getValue()));
@@ -93,6 +138,11 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         //shutting down immediately (synchronous method) the workmanager and release all works
         value.shutdown();
 
+        for (WorkExecutor workExecutor : workExecutors) {
+            workExecutor.shutdown();
+        }
+        workExecutors.clear();
+
         if (value.getName().equals(DEFAULT_NAME)) {
             WorkManagerCoordinator.getInstance().setDefaultWorkManager(null);
         } else {
@@ -102,6 +152,14 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         ROOT_LOGGER.debugf("Stopped Jakarta Connectors WorkManager: ", value.getName());
     }
 
+    private WorkExecutor createWorkExecutor(String name, int maxThreads, int queueLength, WorkTypeStatistics workTypeStatistics) throws StartException {
+        WorkExecutor workExecutor = (executorType == ExecutorValue.VIRTUAL_THREADS)
+                ? WorkExecutor.virtualThreads(name, maxThreads, queueLength, workTypeStatistics)
+                : WorkExecutor.workStealing(name, maxThreads, queueLength, workTypeStatistics);
+        workExecutors.add(workExecutor);
+        return workExecutor;
+    }
+
     public Injector<Executor> getExecutorShortInjector() {
         return executorShort;
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Latency statistics of the work run by a work manager, per type of work.
+ * <p>
+ * The type of a work is the name of its class. For each type, the time spent waiting for a thread and the time spent
+ * running are recorded.
+ */
+public class WorkTypeStatistics {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    void record(String workType, long waitNanos, long executionNanos) {
+        this.entries.computeIfAbsent(workType, key -> new Entry()).record(waitNanos, executionNanos);
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the statistics as a model node, keyed by work type, for the management model.
+     */
+    public ModelNode toModelNode() {
+        ModelNode result = new ModelNode();
+        result.setEmptyObject();
+        for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+            result.get(entry.getKey()).set(entry.getValue().toModelNode());
+        }
+        return result;
+    }
+
+    private static class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalExecutionNanos = new LongAdder();
+        private final LongAccumulator maxExecutionNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long waitNanos, long executionNanos) {
+            this.count.increment();
+            this.totalWaitNanos.add(waitNanos);
+            this.maxWaitNanos.accumulate(waitNanos);
+            this.totalExecutionNanos.add(executionNanos);
+            this.maxExecutionNanos.accumulate(executionNanos);
+        }
+
+        ModelNode toModelNode() {
+            long count = this.count.sum();
+            ModelNode node = new ModelNode();
+            node.get("count").set(count);
+            node.get("average-wait-time").set(count > 0 ? TimeUnit.NANOSECONDS.toMillis(this.totalWaitNanos.sum() / count) : 0L);
+            node.get("max-wait-time").set(TimeUnit.NANOSECONDS.toMillis(this.maxWaitNanos.get()));
+            node.get("average-execution-time").set(count > 0 ? TimeUnit.NANOSECONDS.toMillis(this.totalExecutionNanos.sum() / count) : 0L);
+            node.get("max-execution-time").set(TimeUnit.NANOSECONDS.toMillis(this.maxExecutionNanos.get()));
+            return node;
+        }
+    }
+}
@@ -94,6 +94,8 @@ public class WorkManagerStatisticsService implements Service<ManagementResourceR
                     wmSubRegistration.registerReadWriteAttribute(attribute, readHandler, writeHandler);
                 }
 
+                wmSubRegistration.registerReadOnlyAttribute(Constants.WORK_TYPE_STATISTICS, metricHandler);
+
                 wmSubRegistration.registerOperationHandler(ClearWorkManagerStatisticsHandler.DEFINITION, new ClearWorkManagerStatisticsHandler(wm));
 
             }
@@ -7,14 +7,20 @@ package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
@@ -40,6 +46,10 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
  * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * <p>
+ * If a statistics broadcast interval is configured, the statistics changes and free thread counts of the local work managers
+ * are not sent to the group on each change, but accumulated and sent once per interval as a single {@link DeltaStatisticsCommand}
+ * per member, without waiting for responses. Remote members then see values at most one interval old.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMember> implements GroupMembershipListener<GroupMember> {
@@ -47,14 +57,27 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
     private final BlockingExecutor executor;
     private final CommandDispatcherFactory<GroupMember> dispatcherFactory;
     private final String name;
+    private final long statisticsBroadcastInterval;
+    private final Map<Address, PendingStatistics> pendingStatistics = new ConcurrentHashMap<>();
 
+    private volatile ScheduledExecutorService statisticsBroadcaster;
     private volatile CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
     private volatile boolean initialized = false;
 
     public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name) {
+        this(dispatcherFactory, name, 0);
+    }
+
+    /**
+     * @param dispatcherFactory the factory of the dispatcher used to communicate with the group
+     * @param name the name of the work manager
+     * @param statisticsBroadcastInterval the interval, in milliseconds, at which statistics are sent to the group, or 0 to send them on each change
+     */
+    public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name, long statisticsBroadcastInterval) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.statisticsBroadcastInterval = statisticsBroadcastInterval;
         this.executor = BlockingExecutor.newInstance(() -> {
             try {
                 CommandDispatcherTransport.this.broadcast(new LeaveCommand(this.getOwnAddress()));
@@ -77,10 +100,24 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
         this.broadcast(new JoinCommand());
+        if (this.statisticsBroadcastInterval > 0) {
+            this.statisticsBroadcaster = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, this.name + " statistics broadcaster");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.statisticsBroadcaster.scheduleWithFixedDelay(() -> this.executor.execute(this::broadcastStatistics), this.statisticsBroadcastInterval, this.statisticsBroadcastInterval, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public void shutdown() {
+        ScheduledExecutorService broadcaster = this.statisticsBroadcaster;
+        if (broadcaster != null) {
+            broadcaster.shutdownNow();
+            // Send what was accumulated since the last interval before leaving
+            this.executor.execute(this::broadcastStatistics);
+        }
         this.executor.close();
     }
 
@@ -119,6 +156,130 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
         }
     }
 
+    @Override
+    public void deltaDoWorkAccepted(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.DOWORK_ACCEPTED)) {
+            super.deltaDoWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaDoWorkRejected(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.DOWORK_REJECTED)) {
+            super.deltaDoWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkAccepted(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.SCHEDULEWORK_ACCEPTED)) {
+            super.deltaScheduleWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkRejected(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.SCHEDULEWORK_REJECTED)) {
+            super.deltaScheduleWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkAccepted(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.STARTWORK_ACCEPTED)) {
+            super.deltaStartWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkRejected(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.STARTWORK_REJECTED)) {
+            super.deltaStartWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkFailed(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.WORK_FAILED)) {
+            super.deltaWorkFailed(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkSuccessful(Address address) {
+        if (!this.accumulate(address, DeltaStatisticsCommand.WORK_SUCCESSFUL)) {
+            super.deltaWorkSuccessful(address);
+        }
+    }
+
+    @Override
+    public void updateShortRunningFree(Address address, long freeCount) {
+        if (this.statisticsBroadcastInterval > 0) {
+            // Only the latest value matters to the selectors of the other members
+            this.pendingStatistics.compute(address, (key, pending) -> PendingStatistics.orCreate(pending).shortRunningFree(freeCount));
+        } else {
+            super.updateShortRunningFree(address, freeCount);
+        }
+    }
+
+    @Override
+    public void updateLongRunningFree(Address address, long freeCount) {
+        if (this.statisticsBroadcastInterval > 0) {
+            this.pendingStatistics.compute(address, (key, pending) -> PendingStatistics.orCreate(pending).longRunningFree(freeCount));
+        } else {
+            super.updateLongRunningFree(address, freeCount);
+        }
+    }
+
+    private boolean accumulate(Address address, int delta) {
+        if (this.statisticsBroadcastInterval > 0) {
+            // Changes are applied within compute(...), so that none is lost to a concurrent drainStatistics()
+            this.pendingStatistics.compute(address, (key, pending) -> PendingStatistics.orCreate(pending).increment(delta));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the statistics changes accumulated since the previous call, so that work managers without changes do not
+     * retain an entry.
+     * @return a command per local work manager with changes
+     */
+    List<DeltaStatisticsCommand> drainStatistics() {
+        List<DeltaStatisticsCommand> commands = new ArrayList<>(this.pendingStatistics.size());
+        for (Address address : this.pendingStatistics.keySet()) {
+            PendingStatistics pending = this.pendingStatistics.remove(address);
+            if (pending != null) {
+                commands.add(pending.toCommand(address));
+            }
+        }
+        return commands;
+    }
+
+    private void broadcastStatistics() {
+        CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher = this.dispatcher;
+        Set<GroupMember> members = new HashSet<>();
+        for (GroupMember member : this.nodes.values()) {
+            if (member != null) {
+                members.add(member);
+            }
+        }
+        for (DeltaStatisticsCommand command : this.drainStatistics()) {
+            for (GroupMember member : members) {
+                try {
+                    // Statistics are informational, so responses are not awaited
+                    dispatcher.dispatchToMember(command, member).whenComplete((result, exception) -> {
+                        if (exception != null && !(exception instanceof CancellationException)) {
+                            ConnectorLogger.ROOT_LOGGER.warn(exception.getLocalizedMessage(), exception);
+                        }
+                    });
+                } catch (IOException e) {
+                    ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
+                }
+            }
+        }
+    }
+
     @Override
     protected Serializable sendMessage(GroupMember physicalAddress, Request request, Serializable... parameters) throws WorkException {
         return (Serializable) this.sendMessage(physicalAddress, request, (Object[]) parameters);
@@ -286,4 +447,37 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
             }
         }
     }
+
+    /**
+     * Statistics changes of a local work manager not yet sent to the group.
+     * Only accessed within {@link ConcurrentHashMap#compute}, or once removed from the map.
+     */
+    private static class PendingStatistics {
+        private final long[] deltas = new long[DeltaStatisticsCommand.DELTAS];
+        private Long shortRunningFree;
+        private Long longRunningFree;
+
+        static PendingStatistics orCreate(PendingStatistics pending) {
+            return (pending != null) ? pending : new PendingStatistics();
+        }
+
+        PendingStatistics increment(int delta) {
+            this.deltas[delta] += 1;
+            return this;
+        }
+
+        PendingStatistics shortRunningFree(long freeCount) {
+            this.shortRunningFree = freeCount;
+            return this;
+        }
+
+        PendingStatistics longRunningFree(long freeCount) {
+            this.longRunningFree = freeCount;
+            return this;
+        }
+
+        DeltaStatisticsCommand toCommand(Address address) {
+            return new DeltaStatisticsCommand(address, this.deltas, this.shortRunningFree, this.longRunningFree);
+        }
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.notification.NotificationListener;
+import org.jboss.jca.core.workmanager.WorkManagerCoordinator;
+
+/**
+ * Applies the statistics changes of a work manager accumulated over an interval, replacing one Delta*Command and one
+ * Update*RunningFreeCommand per change.
+ */
+public class DeltaStatisticsCommand implements TransportCommand<Void> {
+    private static final long serialVersionUID = 4786219436598416213L;
+
+    static final int DOWORK_ACCEPTED = 0;
+    static final int DOWORK_REJECTED = 1;
+    static final int SCHEDULEWORK_ACCEPTED = 2;
+    static final int SCHEDULEWORK_REJECTED = 3;
+    static final int STARTWORK_ACCEPTED = 4;
+    static final int STARTWORK_REJECTED = 5;
+    static final int WORK_FAILED = 6;
+    static final int WORK_SUCCESSFUL = 7;
+    static final int DELTAS = 8;
+
+    private final Address address;
+    private final long[] deltas;
+    private final Long shortRunningFree;
+    private final Long longRunningFree;
+
+    /**
+     * @param address the work manager
+     * @param deltas the number of changes, indexed by type
+     * @param shortRunningFree the latest number of free short running threads, or null if unchanged
+     * @param longRunningFree the latest number of free long running threads, or null if unchanged
+     */
+    public DeltaStatisticsCommand(Address address, long[] deltas, Long shortRunningFree, Long longRunningFree) {
+        this.address = address;
+        this.deltas = deltas;
+        this.shortRunningFree = shortRunningFree;
+        this.longRunningFree = longRunningFree;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        // Resolve the work manager and its listeners once for all changes, rather than once per change
+        DistributedWorkManager workManager = WorkManagerCoordinator.getInstance().resolveDistributedWorkManager(this.address);
+        if (workManager != null) {
+            this.apply(workManager.getNotificationListeners());
+        }
+        if (this.shortRunningFree != null) {
+            transport.localUpdateShortRunningFree(this.address, this.shortRunningFree);
+        }
+        if (this.longRunningFree != null) {
+            transport.localUpdateLongRunningFree(this.address, this.longRunningFree);
+        }
+        return null;
+    }
+
+    void apply(Collection<NotificationListener> listeners) {
+        for (NotificationListener listener : new ArrayList<>(listeners)) {
+            // Listeners only accept changes one at a time
+            apply(this.deltas[DOWORK_ACCEPTED], listener::deltaDoWorkAccepted);
+            apply(this.deltas[DOWORK_REJECTED], listener::deltaDoWorkRejected);
+            apply(this.deltas[SCHEDULEWORK_ACCEPTED], listener::deltaScheduleWorkAccepted);
+            apply(this.deltas[SCHEDULEWORK_REJECTED], listener::deltaScheduleWorkRejected);
+            apply(this.deltas[STARTWORK_ACCEPTED], listener::deltaStartWorkAccepted);
+            apply(this.deltas[STARTWORK_REJECTED], listener::deltaStartWorkRejected);
+            apply(this.deltas[WORK_FAILED], listener::deltaWorkFailed);
+            apply(this.deltas[WORK_SUCCESSFUL], listener::deltaWorkSuccessful);
+        }
+    }
+
+    private static void apply(long count, Runnable delta) {
+        for (long i = 0; i < count; i++) {
+            delta.run();
+        }
+    }
+}
@@ -57,7 +57,13 @@ public enum Element {
     TRACER("tracer"),
 
     /** elytron-enabled element **/
-    ELYTRON_ENABLED("elytron-enabled");
+    ELYTRON_ENABLED("elytron-enabled"),
+
+    /** executor-type element **/
+    EXECUTOR_TYPE("executor-type"),
+
+    /** statistics-broadcast-interval element **/
+    STATISTICS_BROADCAST_INTERVAL("statistics-broadcast-interval");
 
 
 
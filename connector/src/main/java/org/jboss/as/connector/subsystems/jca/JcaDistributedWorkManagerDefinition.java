@@ -20,11 +20,13 @@ import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PropertiesAttributeDefinition;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -61,6 +63,8 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
             resourceRegistration.registerReadWriteAttribute(ad, null, JcaDistributedWorkManagerWriteHandler.INSTANCE);
         }
 
+        resourceRegistration.registerReadWriteAttribute(DWmParameters.STATISTICS_BROADCAST_INTERVAL.getAttribute(), null, new ReloadRequiredWriteAttributeHandler(DWmParameters.STATISTICS_BROADCAST_INTERVAL.getAttribute()));
+
     }
 
     @Override
@@ -115,6 +119,15 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
                 .setDeprecated(ELYTRON_BY_DEFAULT_VERSION)
+                .build()),
+        STATISTICS_BROADCAST_INTERVAL(SimpleAttributeDefinitionBuilder.create("statistics-broadcast-interval", ModelType.LONG)
+                .setAllowExpression(true)
+                .setRequired(false)
+                .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                .setRestartAllServices()
+                .setXmlName(Element.STATISTICS_BROADCAST_INTERVAL.getLocalName())
+                .setValidator(new LongRangeValidator(0, true))
+                .setDefaultValue(ModelNode.ZERO_LONG)
                 .build());
 
         public static AttributeDefinition[] getAttributeDefinitions() {
@@ -12,6 +12,7 @@ import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_LONG_R
 import static org.jboss.as.connector.subsystems.jca.Constants.WORKMANAGER_SHORT_RUNNING;
 import static org.jboss.as.controller.OperationContext.Stage.MODEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
 
@@ -25,10 +26,12 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReadResourceNameOperationStepHandler;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
-import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.threads.BoundedQueueThreadPoolAdd;
@@ -65,6 +68,7 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
 
         resourceRegistration.registerReadOnlyAttribute(WmParameters.NAME.getAttribute(), ReadResourceNameOperationStepHandler.INSTANCE);
         resourceRegistration.registerReadOnlyAttribute(WmParameters.ELYTRON_ENABLED.getAttribute(), null);
+        resourceRegistration.registerReadWriteAttribute(WmParameters.EXECUTOR_TYPE.getAttribute(), null, new ReloadRequiredWriteAttributeHandler(WmParameters.EXECUTOR_TYPE.getAttribute()));
 
     }
 
@@ -87,6 +91,14 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                    }
                 }, MODEL);
             }
+
+            @Override
+            protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model)
+                    throws OperationFailedException {
+                if (isThreadPoolExecutor(context)) {
+                    super.performRuntime(context, operation, model);
+                }
+            }
         };
         resourceRegistration.registerSubModel(
                 new JCAThreadPoolResourceDefinition(true, runtimeOnly, WORKMANAGER_SHORT_RUNNING, ThreadsServices.EXECUTOR.append(WORKMANAGER_SHORT_RUNNING),
@@ -105,6 +117,14 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                    }
                 }, MODEL);
             }
+
+            @Override
+            protected void performRuntime(final OperationContext context, final ModelNode operation, final ModelNode model)
+                    throws OperationFailedException {
+                if (isThreadPoolExecutor(context)) {
+                    super.performRuntime(context, operation, model);
+                }
+            }
         };
         resourceRegistration.registerSubModel(
                 new JCAThreadPoolResourceDefinition(true, runtimeOnly, WORKMANAGER_LONG_RUNNING, ThreadsServices.EXECUTOR.append(WORKMANAGER_LONG_RUNNING),
@@ -119,6 +139,30 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                 OperationStepHandler removeHandler) {
             super(blocking, registerRuntimeOnly, type, serviceNameBase, resolverPrefix, addHandler, removeHandler);
         }
+
+        @Override
+        public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+            super.registerAttributes(resourceRegistration);
+            // The pool service is not installed if the work manager does not run its work on it, so its metrics are undefined
+            for (String name : new ArrayList<>(resourceRegistration.getAttributeNames(PathAddress.EMPTY_ADDRESS))) {
+                AttributeAccess access = resourceRegistration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, name);
+                OperationStepHandler readHandler = access.getReadHandler();
+                if (access.getStorageType() != AttributeAccess.Storage.RUNTIME || readHandler == null) {
+                    continue;
+                }
+                OperationStepHandler handler = (context, operation) -> {
+                    if (isThreadPoolExecutor(context)) {
+                        readHandler.execute(context, operation);
+                    }
+                };
+                resourceRegistration.unregisterAttribute(name);
+                if (access.getAccessType() == AttributeAccess.AccessType.METRIC) {
+                    resourceRegistration.registerMetric(access.getAttributeDefinition(), handler);
+                } else {
+                    resourceRegistration.registerReadOnlyAttribute(access.getAttributeDefinition(), handler);
+                }
+            }
+        }
     }
 
     private static void checkThreadPool(final OperationContext context, final ModelNode operation, final String type) throws OperationFailedException {
@@ -134,11 +178,23 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
         }
     }
 
+    /**
+     * Whether the work manager owning the current thread pool runs its work on it, rather than only using its bounds.
+     * Distributed work managers always run their work on their thread pools.
+     */
+    private static boolean isThreadPoolExecutor(final OperationContext context) throws OperationFailedException {
+        PathAddress workManagerPath = context.getCurrentAddress().getParent();
+        if (!workManagerPath.getLastElement().getKey().equals(WORKMANAGER)) {
+            return true;
+        }
+        ModelNode workManager = context.readResourceFromRoot(workManagerPath, false).getModel();
+        return ExecutorValue.valueOf(WmParameters.EXECUTOR_TYPE.getAttribute().resolveModelAttribute(context, workManager).asString()) == ExecutorValue.THREAD_POOL;
+    }
+
     public enum WmParameters {
         NAME(SimpleAttributeDefinitionBuilder.create("name", ModelType.STRING)
                 .setAllowExpression(false)
                 .setRequired(true)
-                .setMeasurementUnit(MeasurementUnit.NONE)
                 .setRestartAllServices()
                 .setXmlName("name")
                 .build()),
@@ -147,6 +203,15 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
                 .setXmlName(Security.Tag.ELYTRON_ENABLED.getLocalName())
                 .setAllowExpression(true)
                 .setDefaultValue(new ModelNode(ELYTRON_MANAGED_SECURITY))
+                .build()),
+
+        EXECUTOR_TYPE(SimpleAttributeDefinitionBuilder.create("executor-type", ModelType.STRING)
+                .setAllowExpression(true)
+                .setRequired(false)
+                .setRestartAllServices()
+                .setXmlName(Element.EXECUTOR_TYPE.getLocalName())
+                .setValidator(EnumValidator.create(ExecutorValue.class))
+                .setDefaultValue(new ModelNode(ExecutorValue.THREAD_POOL.name()))
                 .build());
 
 
@@ -165,4 +230,9 @@ public class JcaWorkManagerDefinition extends SimpleResourceDefinition {
         }
     }
 
+    public enum ExecutorValue {
+        THREAD_POOL,
+        WORK_STEALING,
+        VIRTUAL_THREADS
+    }
 }
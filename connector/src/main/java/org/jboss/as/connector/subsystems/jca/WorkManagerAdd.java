@@ -19,6 +19,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.threads.PoolAttributeDefinitions;
 import org.jboss.as.threads.ThreadsServices;
 import org.jboss.as.txn.integration.JBossContextXATerminator;
 import org.jboss.as.txn.service.TxnServices;
@@ -48,15 +49,30 @@ public class WorkManagerAdd extends AbstractAddStepHandler {
         ServiceTarget serviceTarget = context.getServiceTarget();
 
 
+        JcaWorkManagerDefinition.ExecutorValue executorType = JcaWorkManagerDefinition.ExecutorValue.valueOf(JcaWorkManagerDefinition.WmParameters.EXECUTOR_TYPE.getAttribute().resolveModelAttribute(context, resource.getModel()).asString());
+        boolean longRunningThreads = resource.hasChild(PathElement.pathElement(Element.LONG_RUNNING_THREADS.getLocalName()));
+
         NamedWorkManager wm = new NamedWorkManager(name);
-        WorkManagerService wmService = new WorkManagerService(wm);
+        WorkManagerService wmService;
+        if (executorType == JcaWorkManagerDefinition.ExecutorValue.THREAD_POOL) {
+            wmService = new WorkManagerService(wm);
+        } else {
+            // The thread pools are not installed, they only bound the executors of the work manager itself
+            ModelNode shortRunning = getThreadPool(resource, WORKMANAGER_SHORT_RUNNING, name);
+            ModelNode longRunning = getThreadPool(resource, WORKMANAGER_LONG_RUNNING, name);
+            wmService = new WorkManagerService(wm, executorType,
+                    getMaxThreads(context, shortRunning), getQueueLength(context, shortRunning),
+                    getMaxThreads(context, longRunning), getQueueLength(context, longRunning));
+        }
         ServiceBuilder builder = serviceTarget
                 .addService(ConnectorServices.WORKMANAGER_SERVICE.append(name), wmService);
 
-        if (resource.hasChild(PathElement.pathElement(Element.LONG_RUNNING_THREADS.getLocalName()))) {
-            builder.addDependency(ThreadsServices.EXECUTOR.append(WORKMANAGER_LONG_RUNNING).append(name), Executor.class, wmService.getExecutorLongInjector());
+        if (executorType == JcaWorkManagerDefinition.ExecutorValue.THREAD_POOL) {
+            if (longRunningThreads) {
+                builder.addDependency(ThreadsServices.EXECUTOR.append(WORKMANAGER_LONG_RUNNING).append(name), Executor.class, wmService.getExecutorLongInjector());
+            }
+            builder.addDependency(ThreadsServices.EXECUTOR.append(WORKMANAGER_SHORT_RUNNING).append(name), Executor.class, wmService.getExecutorShortInjector());
         }
-        builder.addDependency(ThreadsServices.EXECUTOR.append(WORKMANAGER_SHORT_RUNNING).append(name), Executor.class, wmService.getExecutorShortInjector());
 
         builder.addDependency(TxnServices.JBOSS_TXN_CONTEXT_XA_TERMINATOR, JBossContextXATerminator.class, wmService.getXaTerminatorInjector())
                 .setInitialMode(ServiceController.Mode.ON_DEMAND)
@@ -76,4 +92,18 @@ public class WorkManagerAdd extends AbstractAddStepHandler {
             resource.registerChild(peLocaldWm, wmResource);
 
     }
+
+    private static ModelNode getThreadPool(final Resource resource, final String threadPoolType, final String name) {
+        // The thread pool of a work manager is named after it
+        Resource threadPool = resource.getChild(PathElement.pathElement(threadPoolType, name));
+        return (threadPool != null) ? threadPool.getModel() : null;
+    }
+
+    private static int getMaxThreads(final OperationContext context, final ModelNode threadPool) throws OperationFailedException {
+        return (threadPool != null) ? PoolAttributeDefinitions.MAX_THREADS.resolveModelAttribute(context, threadPool).asInt() : 0;
+    }
+
+    private static int getQueueLength(final OperationContext context, final ModelNode threadPool) throws OperationFailedException {
+        return (threadPool != null) ? PoolAttributeDefinitions.QUEUE_LENGTH.resolveModelAttribute(context, threadPool).asInt() : 0;
+    }
 }
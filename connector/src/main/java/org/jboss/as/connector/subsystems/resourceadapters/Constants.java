@@ -657,6 +657,8 @@ public class Constants {
 
     static final String START_WORK_REJECTED_NAME = "startwork-rejected";
 
+    static final String WORK_TYPE_STATISTICS_NAME = "work-type-statistics";
+
 
     static SimpleAttributeDefinition WORK_ACTIVE = new SimpleAttributeDefinitionBuilder(WORK_ACTIVE_NAME, ModelType.INT)
             .setStorageRuntime()
@@ -704,6 +706,10 @@ public class Constants {
             .build();
 
 
+    public static final SimpleAttributeDefinition WORK_TYPE_STATISTICS = new SimpleAttributeDefinitionBuilder(WORK_TYPE_STATISTICS_NAME, ModelType.OBJECT)
+            .setStorageRuntime()
+            .build();
+
     public static final SimpleAttributeDefinition[] WORKMANAGER_METRICS = new SimpleAttributeDefinition[]{WORK_ACTIVE, WORK_SUCCESSFUL, WORK_FAILED, DO_WORK_ACCEPTED,
             DO_WORK_REJECTED, SCHEDULED_WORK_ACCEPTED, SCHEDULED_WORK_REJECTED, START_WORK_ACCEPTED, START_WORK_REJECTED};
 
@@ -6,6 +6,8 @@
 package org.jboss.as.connector.subsystems.resourceadapters;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.NamedWorkManager;
+import org.jboss.as.connector.services.workmanager.WorkTypeStatistics;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -75,6 +77,16 @@ public class WorkManagerRuntimeAttributeReadHandler implements OperationStepHand
                                 result.set(wmStat.getStartWorkRejected());
                                 break;
                             }
+                            case Constants.WORK_TYPE_STATISTICS_NAME: {
+                                WorkTypeStatistics workTypeStatistics = (wm instanceof NamedWorkManager) ? ((NamedWorkManager) wm).getWorkTypeStatistics() : null;
+                                // Only tracked by the executors of the work manager itself, thread pools do not know the type of work
+                                if (workTypeStatistics != null) {
+                                    result.set(workTypeStatistics.toModelNode());
+                                } else {
+                                    result.setEmptyObject();
+                                }
+                                break;
+                            }
                             case ModelDescriptionConstants.STATISTICS_ENABLED: {
                                 if (distributed) {
                                     result.set(((DistributedWorkManager) wm).isDistributedStatisticsEnabled());
@@ -0,0 +1,131 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.StartException;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WorkExecutor}.
+ */
+public class WorkExecutorTestCase {
+
+    @Test
+    public void workStealing() throws Exception {
+        WorkTypeStatistics statistics = new WorkTypeStatistics();
+        WorkExecutor executor = WorkExecutor.workStealing("test", 2, 2, statistics);
+        try {
+            this.bounded(executor, statistics);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        WorkTypeStatistics statistics = new WorkTypeStatistics();
+        WorkExecutor executor;
+        try {
+            executor = WorkExecutor.virtualThreads("test", 2, 2, statistics);
+        } catch (StartException e) {
+            Assume.assumeNoException("Virtual threads are not supported by this Java runtime", e);
+            return;
+        }
+        try {
+            this.bounded(executor, statistics);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void bounded(WorkExecutor executor, WorkTypeStatistics statistics) throws Exception {
+        assertEquals(2L, executor.getNumberOfFreeThreads());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable work = new BlockingWork(release, started, running, maxRunning);
+
+        // 2 works running and 2 waiting for a thread
+        for (int i = 0; i < 4; ++i) {
+            executor.execute(work);
+        }
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(0L, executor.getNumberOfFreeThreads());
+
+        // The queue is full, so submitting blocks
+        ExecutorService submitter = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> submission = submitter.submit(() -> executor.execute(work));
+            try {
+                submission.get(100, TimeUnit.MILLISECONDS);
+                throw new AssertionError("Submission should block while the queue is full");
+            } catch (TimeoutException expected) {
+                assertFalse(submission.isDone());
+            }
+
+            release.countDown();
+            submission.get(10, TimeUnit.SECONDS);
+        } finally {
+            submitter.shutdown();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (executor.getNumberOfFreeThreads() < 2L && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2L, executor.getNumberOfFreeThreads());
+        assertEquals(2, maxRunning.get());
+
+        ModelNode works = statistics.toModelNode().get(BlockingWork.class.getName());
+        assertEquals(5L, works.get("count").asLong());
+        assertTrue(works.get("max-wait-time").asLong() >= 100L);
+    }
+
+    private static class BlockingWork implements Runnable {
+        private final CountDownLatch release;
+        private final CountDownLatch started;
+        private final AtomicInteger running;
+        private final AtomicInteger maxRunning;
+
+        BlockingWork(CountDownLatch release, CountDownLatch started, AtomicInteger running, AtomicInteger maxRunning) {
+            this.release = release;
+            this.started = started;
+            this.running = running;
+            this.maxRunning = maxRunning;
+        }
+
+        @Override
+        public void run() {
+            this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+            this.started.countDown();
+            try {
+                // Not blocking on the latch itself, so that the pool does not compensate with more workers
+                while (this.release.getCount() > 0) {
+                    Thread.sleep(1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.running.decrementAndGet();
+            }
+        }
+    }
+}
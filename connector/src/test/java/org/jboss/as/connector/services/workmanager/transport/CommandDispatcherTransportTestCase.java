@@ -0,0 +1,124 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.notification.NotificationListener;
+import org.junit.Test;
+
+/**
+ * Unit test for the accumulation of statistics changes by {@link CommandDispatcherTransport} and their application by
+ * {@link DeltaStatisticsCommand}.
+ */
+public class CommandDispatcherTransportTestCase {
+
+    private final Map<String, LongAdder> notifications = new ConcurrentHashMap<>();
+
+    @Test
+    public void accumulate() {
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(null, "test", 1000);
+        Address address = new Address("id", "test", "transport");
+        Address other = new Address("other", "other", "transport");
+
+        transport.deltaDoWorkAccepted(address);
+        transport.deltaDoWorkAccepted(address);
+        transport.deltaDoWorkAccepted(address);
+        transport.deltaWorkFailed(address);
+        transport.deltaStartWorkRejected(other);
+
+        List<DeltaStatisticsCommand> commands = transport.drainStatistics();
+        assertEquals(2, commands.size());
+        NotificationListener listener = this.listener();
+        for (DeltaStatisticsCommand command : commands) {
+            command.apply(List.of(listener));
+        }
+        assertEquals(3L, this.count("deltaDoWorkAccepted"));
+        assertEquals(1L, this.count("deltaWorkFailed"));
+        assertEquals(1L, this.count("deltaStartWorkRejected"));
+        assertEquals(0L, this.count("deltaWorkSuccessful"));
+
+        // Drained work managers do not retain any entry
+        assertTrue(transport.drainStatistics().isEmpty());
+
+        // Free thread counts alone are still sent
+        transport.updateShortRunningFree(address, 5);
+        transport.updateShortRunningFree(address, 4);
+        assertEquals(1, transport.drainStatistics().size());
+        assertTrue(transport.drainStatistics().isEmpty());
+    }
+
+    @Test
+    public void concurrentDrain() throws Exception {
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(null, "test", 1000);
+        Address address = new Address("id", "test", "transport");
+        NotificationListener listener = this.listener();
+        int threads = 4;
+        int changes = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; ++i) {
+                futures[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < changes; ++j) {
+                        transport.deltaWorkSuccessful(address);
+                    }
+                    return null;
+                });
+            }
+            AtomicBoolean done = new AtomicBoolean();
+            start.countDown();
+            Future<?> drainer = executor.submit(() -> {
+                while (!done.get()) {
+                    for (DeltaStatisticsCommand command : transport.drainStatistics()) {
+                        command.apply(List.of(listener));
+                    }
+                }
+            });
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            drainer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        for (DeltaStatisticsCommand command : transport.drainStatistics()) {
+            command.apply(List.of(listener));
+        }
+
+        // No change is lost or applied twice
+        assertEquals((long) threads * changes, this.count("deltaWorkSuccessful"));
+    }
+
+    private long count(String notification) {
+        LongAdder count = this.notifications.get(notification);
+        return (count != null) ? count.sum() : 0L;
+    }
+
+    private NotificationListener listener() {
+        return (NotificationListener) Proxy.newProxyInstance(NotificationListener.class.getClassLoader(), new Class<?>[] { NotificationListener.class }, (proxy, method, args) -> {
+            this.notifications.computeIfAbsent(method.getName(), key -> new LongAdder()).increment();
+            return null;
+        });
+    }
+}
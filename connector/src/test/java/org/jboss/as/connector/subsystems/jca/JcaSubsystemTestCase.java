@@ -49,7 +49,7 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-jca_6_0.xsd";
+        return "schema/wildfly-jca_7_0.xsd";
     }
 
     @Override
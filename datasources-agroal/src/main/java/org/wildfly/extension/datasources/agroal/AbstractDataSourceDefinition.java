@@ -35,6 +35,7 @@ import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.security.CredentialReference;
 import org.jboss.dmr.ModelNode;
@@ -205,7 +206,23 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setRestartAllServices()
             .build();
 
-    static final ObjectTypeAttributeDefinition CONNECTION_POOL_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-pool", MAX_SIZE_ATTRIBUTE, MIN_SIZE_ATTRIBUTE, INITIAL_SIZE_ATTRIBUTE, BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE, BACKGROUND_VALIDATION_ATTRIBUTE, LEAK_DETECTION_ATTRIBUTE, IDLE_REMOVAL_ATTRIBUTE)
+    static final SimpleAttributeDefinition PREPARED_STATEMENTS_CACHE_SIZE_ATTRIBUTE = create("prepared-statements-cache-size", ModelType.INT)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setRequired(false)
+            .setRestartAllServices()
+            .setValidator(new IntRangeValidator(0))
+            .build();
+
+    static final SimpleAttributeDefinition SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE = create("slow-acquire-threshold", ModelType.INT)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(0))
+            .build();
+
+    static final ObjectTypeAttributeDefinition CONNECTION_POOL_ATTRIBUTE = ObjectTypeAttributeDefinition.create("connection-pool", MAX_SIZE_ATTRIBUTE, MIN_SIZE_ATTRIBUTE, INITIAL_SIZE_ATTRIBUTE, BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE, BACKGROUND_VALIDATION_ATTRIBUTE, LEAK_DETECTION_ATTRIBUTE, IDLE_REMOVAL_ATTRIBUTE, PREPARED_STATEMENTS_CACHE_SIZE_ATTRIBUTE, SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE)
             .build();
 
     // --- Operations //
@@ -298,11 +315,32 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
             .setStorageRuntime()
             .build();
 
-    private static final ObjectTypeAttributeDefinition STATISTICS = ObjectTypeAttributeDefinition.create("statistics", STATISTICS_ACQUIRE_COUNT_ATTRIBUTE, STATISTICS_ACTIVE_COUNT_ATTRIBUTE, STATISTICS_AVAILABLE_COUNT_ATTRIBUTE, STATISTICS_AWAITING_COUNT_ATTRIBUTE, STATISTICS_CREATION_COUNT_ATTRIBUTE, STATISTICS_DESTOY_COUNT_ATTRIBUTE, STATISTICS_FLUSH_COUNT_ATTRIBUTE, STATISTICS_INVALID_COUNT_ATTRIBUTE, STATISTICS_LEAK_DETECTION_COUNT_ATTRIBUTE, STATISTICS_MAX_USED_COUNT_ATTRIBUTE, STATISTICS_REAP_COUNT_ATTRIBUTE, STATISTICS_BLOCKING_TIME_AVERAGE_ATTRIBUTE, STATISTICS_BLOCKING_TIME_MAX_ATTRIBUTE, STATISTICS_BLOCKING_TIME_TOTAL_ATTRIBUTE, STATISTICS_CREATION_TIME_AVERAGE_ATTRIBUTE, STATISTICS_CREATION_TIME_MAX_ATTRIBUTE, STATISTICS_CREATION_TIME_TOTAL_ATTRIBUTE)
+    static final SimpleAttributeDefinition STATISTICS_PREPARED_STATEMENT_CACHE_HIT_COUNT_ATTRIBUTE = create("prepared-statement-cache-hit-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition STATISTICS_PREPARED_STATEMENT_CACHE_MISS_COUNT_ATTRIBUTE = create("prepared-statement-cache-miss-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition STATISTICS_PREPARED_STATEMENT_CACHE_EVICTION_COUNT_ATTRIBUTE = create("prepared-statement-cache-eviction-count", ModelType.LONG)
+            .setStorageRuntime()
+            .build();
+
+    static final SimpleAttributeDefinition STATISTICS_PREPARED_STATEMENT_CACHE_CURRENT_SIZE_ATTRIBUTE = create("prepared-statement-cache-current-size", ModelType.INT)
+            .setStorageRuntime()
+            .build();
+
+    private static final ObjectTypeAttributeDefinition STATISTICS = ObjectTypeAttributeDefinition.create("statistics", STATISTICS_ACQUIRE_COUNT_ATTRIBUTE, STATISTICS_ACTIVE_COUNT_ATTRIBUTE, STATISTICS_AVAILABLE_COUNT_ATTRIBUTE, STATISTICS_AWAITING_COUNT_ATTRIBUTE, STATISTICS_CREATION_COUNT_ATTRIBUTE, STATISTICS_DESTOY_COUNT_ATTRIBUTE, STATISTICS_FLUSH_COUNT_ATTRIBUTE, STATISTICS_INVALID_COUNT_ATTRIBUTE, STATISTICS_LEAK_DETECTION_COUNT_ATTRIBUTE, STATISTICS_MAX_USED_COUNT_ATTRIBUTE, STATISTICS_REAP_COUNT_ATTRIBUTE, STATISTICS_BLOCKING_TIME_AVERAGE_ATTRIBUTE, STATISTICS_BLOCKING_TIME_MAX_ATTRIBUTE, STATISTICS_BLOCKING_TIME_TOTAL_ATTRIBUTE, STATISTICS_CREATION_TIME_AVERAGE_ATTRIBUTE, STATISTICS_CREATION_TIME_MAX_ATTRIBUTE, STATISTICS_CREATION_TIME_TOTAL_ATTRIBUTE, STATISTICS_PREPARED_STATEMENT_CACHE_HIT_COUNT_ATTRIBUTE, STATISTICS_PREPARED_STATEMENT_CACHE_MISS_COUNT_ATTRIBUTE, STATISTICS_PREPARED_STATEMENT_CACHE_EVICTION_COUNT_ATTRIBUTE, STATISTICS_PREPARED_STATEMENT_CACHE_CURRENT_SIZE_ATTRIBUTE)
             .setRequired(false)
             .setStorageRuntime()
             .build();
 
+    static final SimpleAttributeDefinition SLOW_ACQUIRE_COUNT_ATTRIBUTE = create("slow-acquire-count", ModelType.LONG)
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
     // --- //
 
     AbstractDataSourceDefinition(SimpleResourceDefinition.Parameters parameters) {
@@ -337,6 +375,11 @@ abstract class AbstractDataSourceDefinition extends PersistentResourceDefinition
         // Runtime attributes
         if (resourceRegistration.getProcessType().isServer()) {
             resourceRegistration.registerReadOnlyAttribute(STATISTICS, AbstractDataSourceOperations.STATISTICS_GET_OPERATION);
+            // Latency metrics are exposed individually, so that they can be collected by the metrics subsystem
+            for (LatencyMetric metric : LatencyMetric.values()) {
+                resourceRegistration.registerMetric(metric.getDefinition(), new AbstractDataSourceOperations.LatencyMetricGetOperation(metric));
+            }
+            resourceRegistration.registerMetric(SLOW_ACQUIRE_COUNT_ATTRIBUTE, AbstractDataSourceOperations.SLOW_ACQUIRE_COUNT_GET_OPERATION);
         }
     }
 
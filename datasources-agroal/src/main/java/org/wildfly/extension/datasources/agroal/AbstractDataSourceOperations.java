@@ -68,6 +68,8 @@ class AbstractDataSourceOperations {
 
     static final OperationStepHandler STATISTICS_GET_OPERATION = new StatisticsGetOperation();
 
+    static final OperationStepHandler SLOW_ACQUIRE_COUNT_GET_OPERATION = new SlowAcquireCountGetOperation();
+
     static final OperationStepHandler TEST_CONNECTION_OPERATION = new TestConnectionOperation();
 
     // --- //
@@ -153,6 +155,20 @@ class AbstractDataSourceOperations {
         }
     }
 
+    private static DataSourceService getDataSourceService(OperationContext context) throws OperationFailedException {
+        ServiceRegistry registry = context.getServiceRegistry(false);
+        String dataSourceName = context.getCurrentAddressValue();
+
+        switch (context.getCurrentAddress().getLastElement().getKey()) {
+            case DataSourceOperations.DATASOURCE_SERVICE_NAME:
+            case XADataSourceOperations.XADATASOURCE_SERVICE_NAME:
+                ServiceController<?> controller = registry.getRequiredService(AbstractDataSourceDefinition.DATA_SOURCE_CAPABILITY.getCapabilityServiceName(dataSourceName));
+                return ((DataSourceService) controller.getService());
+            default:
+                throw AgroalLogger.SERVICE_LOGGER.unknownDatasourceServiceType(context.getCurrentAddress().getLastElement().getKey());
+        }
+    }
+
     // --- //
 
     private static class StatisticsEnabledAttributeWriter extends AbstractWriteAttributeHandler<Boolean> {
@@ -202,6 +218,7 @@ class AbstractDataSourceOperations {
             ModelNode newBlockingTimeout = resolvedValue.remove(AbstractDataSourceDefinition.BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE.getName());
             ModelNode newMaxSize = resolvedValue.remove(AbstractDataSourceDefinition.MAX_SIZE_ATTRIBUTE.getName());
             ModelNode newMinSize = resolvedValue.remove(AbstractDataSourceDefinition.MIN_SIZE_ATTRIBUTE.getName());
+            ModelNode newSlowAcquireThreshold = resolvedValue.remove(AbstractDataSourceDefinition.SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE.getName());
 
             for (String attribute : resolvedValue.keys()) {
                 if (!currentValue.hasDefined(attribute) || !resolvedValue.get(attribute).equals(currentValue.get(attribute))) {
@@ -221,6 +238,9 @@ class AbstractDataSourceOperations {
                 getDataSource(context).getConfiguration().connectionPoolConfiguration().setMinSize(newMinSize.asInt());
                 // if min-size increases Agroal will create new connections when looking into the (shared) pool. FlushMode.FILL could be used here to enforce the new min-size
             }
+            if (newSlowAcquireThreshold != null) {
+                getDataSourceService(context).getLatencyListener().setSlowAcquireThreshold(newSlowAcquireThreshold.asInt());
+            }
             return false;
         }
 
@@ -229,6 +249,7 @@ class AbstractDataSourceOperations {
             ModelNode newBlockingTimeout = valueToRevert.remove(AbstractDataSourceDefinition.BLOCKING_TIMEOUT_MILLIS_ATTRIBUTE.getName());
             ModelNode newMaxSize = valueToRevert.remove(AbstractDataSourceDefinition.MAX_SIZE_ATTRIBUTE.getName());
             ModelNode newMinSize = valueToRevert.remove(AbstractDataSourceDefinition.MIN_SIZE_ATTRIBUTE.getName());
+            ModelNode newSlowAcquireThreshold = valueToRevert.remove(AbstractDataSourceDefinition.SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE.getName());
 
             if (newBlockingTimeout != null) {
                 getDataSource(context).getConfiguration().connectionPoolConfiguration().setAcquisitionTimeout(Duration.ofMillis(newBlockingTimeout.asInt()));
@@ -239,6 +260,9 @@ class AbstractDataSourceOperations {
             if (newMaxSize != null) {
                 getDataSource(context).getConfiguration().connectionPoolConfiguration().setMaxSize(newMaxSize.asInt());
             }
+            if (newSlowAcquireThreshold != null) {
+                getDataSourceService(context).getLatencyListener().setSlowAcquireThreshold(newSlowAcquireThreshold.asInt());
+            }
         }
     }
 
@@ -292,6 +316,14 @@ class AbstractDataSourceOperations {
                 result.get(AbstractDataSourceDefinition.STATISTICS_CREATION_TIME_MAX_ATTRIBUTE.getName()).set(metrics.creationTimeMax().toMillis());
                 result.get(AbstractDataSourceDefinition.STATISTICS_CREATION_TIME_TOTAL_ATTRIBUTE.getName()).set(metrics.creationTimeTotal().toMillis());
 
+                PreparedStatementCache preparedStatementCache = getDataSourceService(context).getPreparedStatementCache();
+                if (preparedStatementCache != null) {
+                    result.get(AbstractDataSourceDefinition.STATISTICS_PREPARED_STATEMENT_CACHE_HIT_COUNT_ATTRIBUTE.getName()).set(preparedStatementCache.getHitCount());
+                    result.get(AbstractDataSourceDefinition.STATISTICS_PREPARED_STATEMENT_CACHE_MISS_COUNT_ATTRIBUTE.getName()).set(preparedStatementCache.getMissCount());
+                    result.get(AbstractDataSourceDefinition.STATISTICS_PREPARED_STATEMENT_CACHE_EVICTION_COUNT_ATTRIBUTE.getName()).set(preparedStatementCache.getEvictionCount());
+                    result.get(AbstractDataSourceDefinition.STATISTICS_PREPARED_STATEMENT_CACHE_CURRENT_SIZE_ATTRIBUTE.getName()).set(preparedStatementCache.getCurrentSize());
+                }
+
                 context.getResult().set(result);
             }
         }
@@ -303,6 +335,39 @@ class AbstractDataSourceOperations {
         public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
             if (context.isNormalServer()) {
                 getDataSource(context).getMetrics().reset();
+
+                getDataSourceService(context).getLatencyListener().resetStatistics();
+
+                PreparedStatementCache preparedStatementCache = getDataSourceService(context).getPreparedStatementCache();
+                if (preparedStatementCache != null) {
+                    preparedStatementCache.resetStatistics();
+                }
+            }
+        }
+    }
+
+    static class LatencyMetricGetOperation implements OperationStepHandler {
+
+        private final LatencyMetric metric;
+
+        LatencyMetricGetOperation(LatencyMetric metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.getResult().set(this.metric.getValue(getDataSourceService(context).getLatencyListener()));
+            }
+        }
+    }
+
+    private static class SlowAcquireCountGetOperation implements OperationStepHandler {
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            if (context.isNormalServer()) {
+                context.getResult().set(getDataSourceService(context).getLatencyListener().getSlowAcquireCount());
             }
         }
     }
@@ -68,6 +68,8 @@ class DataSourceOperations {
 
             ModelNode poolModel = AbstractDataSourceDefinition.CONNECTION_POOL_ATTRIBUTE.resolveModelAttribute(context, model);
             AgroalConnectionPoolConfigurationSupplier connectionPoolConfiguration = AbstractDataSourceOperations.connectionPoolConfiguration(context, poolModel);
+            int preparedStatementsCacheSize = AbstractDataSourceDefinition.PREPARED_STATEMENTS_CACHE_SIZE_ATTRIBUTE.resolveModelAttribute(context, poolModel).asInt();
+            int slowAcquireThreshold = AbstractDataSourceDefinition.SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE.resolveModelAttribute(context, poolModel).asInt();
             connectionPoolConfiguration.connectionFactoryConfiguration(connectionFactoryConfiguration);
 
             AgroalDataSourceConfigurationSupplier dataSourceConfiguration = new AgroalDataSourceConfigurationSupplier();
@@ -85,7 +87,7 @@ class DataSourceOperations {
             final Supplier<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier = AbstractDataSourceOperations.setupCredentialReference(context, factoryModel, serviceBuilder);
             // TODO add a Stage.MODEL requirement
             final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = jta ? serviceBuilder.requiresCapability("org.wildfly.transactions.transaction-synchronization-registry", TransactionSynchronizationRegistry.class) : null;
-            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, jta, connectable, false, dataSourceConfiguration);
+            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, jta, connectable, false, preparedStatementsCacheSize, slowAcquireThreshold, dataSourceConfiguration);
             serviceBuilder.setInstance(dataSourceService);
             serviceBuilder.install();
         }
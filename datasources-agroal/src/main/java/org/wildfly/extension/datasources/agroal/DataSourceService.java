@@ -64,9 +64,14 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
     private final boolean jta;
     private final boolean connectable;
     private final boolean xa;
+    private final int preparedStatementsCacheSize;
+    private final int slowAcquireThreshold;
 
     private final AgroalDataSourceConfigurationSupplier dataSourceConfiguration;
     private AgroalDataSource agroalDataSource;
+    private AgroalDataSource boundDataSource;
+    private PreparedStatementCache preparedStatementCache;
+    private LatencyDataSourceListener latencyListener;
 
     private final Supplier<Class> driverSupplier;
     private final Supplier<AuthenticationContext> authenticationContextSupplier;
@@ -78,7 +83,7 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
                              final Supplier<AuthenticationContext> authenticationContextSupplier,
                              final Supplier<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier,
                              final Supplier<TransactionSynchronizationRegistry> transactionSynchronizationRegistrySupplier,
-                             String dataSourceName, String jndiName, boolean jta, boolean connectable, boolean xa, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
+                             String dataSourceName, String jndiName, boolean jta, boolean connectable, boolean xa, int preparedStatementsCacheSize, int slowAcquireThreshold, AgroalDataSourceConfigurationSupplier dataSourceConfiguration) {
         this.consumer = consumer;
         this.driverSupplier = driverSupplier;
         this.authenticationContextSupplier = authenticationContextSupplier;
@@ -89,6 +94,8 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         this.jta = jta;
         this.connectable = connectable;
         this.xa = xa;
+        this.preparedStatementsCacheSize = preparedStatementsCacheSize;
+        this.slowAcquireThreshold = slowAcquireThreshold;
         this.dataSourceConfiguration = dataSourceConfiguration;
     }
 
@@ -168,11 +175,23 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
         }
 
         try {
-            agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName));
+            LatencyDataSourceListener latencyListener = new LatencyDataSourceListener(dataSourceName, slowAcquireThreshold);
+            if (preparedStatementsCacheSize > 0) {
+                // The cache listens to the pool for the physical connections it acquires and destroys
+                PreparedStatementCache cache = new PreparedStatementCache(dataSourceName, preparedStatementsCacheSize);
+                agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName), latencyListener, cache);
+                preparedStatementCache = cache;
+                boundDataSource = cache.wrap(agroalDataSource);
+            } else {
+                agroalDataSource = AgroalDataSource.from(dataSourceConfiguration, new LoggingDataSourceListener(dataSourceName), latencyListener);
+                boundDataSource = agroalDataSource;
+            }
+            latencyListener.setConfiguration(agroalDataSource.getConfiguration());
+            this.latencyListener = latencyListener;
 
             ContextNames.BindInfo bindInfo = ContextNames.bindInfoFor(jndiName);
             BinderService binderService = new BinderService(bindInfo.getBindName());
-            binderService.getManagedObjectInjector().inject(new ImmediateManagedReferenceFactory(agroalDataSource));
+            binderService.getManagedObjectInjector().inject(new ImmediateManagedReferenceFactory(boundDataSource));
             context.getChildTarget().addService(bindInfo.getBinderServiceName(), binderService)
                    .addDependency(bindInfo.getParentContextServiceName(), ServiceBasedNamingStore.class, binderService.getNamingStoreInjector())
                    .install();
@@ -184,19 +203,25 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
             }
         } catch (SQLException e) {
             agroalDataSource = null;
+            boundDataSource = null;
             if (xa) {
                 throw AgroalLogger.SERVICE_LOGGER.xaDatasourceStartException(e, dataSourceName);
             } else {
                 throw AgroalLogger.SERVICE_LOGGER.datasourceStartException(e, dataSourceName);
             }
         }
-        consumer.accept(agroalDataSource);
+        consumer.accept(boundDataSource);
     }
 
     @Override
     public void stop(StopContext context) {
         consumer.accept(null);
         agroalDataSource.close();
+        boundDataSource = null;
+        if (preparedStatementCache != null) {
+            preparedStatementCache.close();
+            preparedStatementCache = null;
+        }
         if (xa) {
             AgroalLogger.SERVICE_LOGGER.stoppedXADataSource(dataSourceName);
         } else {
@@ -206,12 +231,20 @@ public class DataSourceService implements Service<AgroalDataSource>, Supplier<Ag
 
     @Override
     public AgroalDataSource getValue() throws IllegalStateException, IllegalArgumentException {
-        return agroalDataSource;
+        return boundDataSource;
     }
 
     @Override
     public AgroalDataSource get() {
-        return agroalDataSource;
+        return boundDataSource;
+    }
+
+    PreparedStatementCache getPreparedStatementCache() {
+        return preparedStatementCache;
+    }
+
+    LatencyDataSourceListener getLatencyListener() {
+        return latencyListener;
     }
 
 }
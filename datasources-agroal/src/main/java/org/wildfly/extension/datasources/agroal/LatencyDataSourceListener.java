@@ -0,0 +1,148 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import org.wildfly.extension.datasources.agroal.logging.AgroalLogger;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the distribution of acquisition, use and creation times of the connections of a datasource, and traces the
+ * callers that waited longer than a threshold to acquire a connection.
+ * <p>
+ * Acquisition and creation are timed on the thread that performs them, use is timed from acquisition to return of the
+ * connection to the pool. Histograms are only updated while statistics are enabled for the datasource, and only retain the
+ * durations of the last minute or two.
+ */
+class LatencyDataSourceListener implements AgroalDataSourceListener {
+
+    private final String dataSourceName;
+
+    private final LatencyHistogram acquireTime = new LatencyHistogram(1, TimeUnit.MINUTES);
+    private final LatencyHistogram useTime = new LatencyHistogram(1, TimeUnit.MINUTES);
+    private final LatencyHistogram creationTime = new LatencyHistogram(1, TimeUnit.MINUTES);
+    private final LongAdder slowAcquireCount = new LongAdder();
+
+    private final ThreadLocal<long[]> acquireStart = ThreadLocal.withInitial(() -> new long[1]);
+    private final ThreadLocal<long[]> creationStart = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<Connection, Long> useStart = new ConcurrentHashMap<>();
+
+    private volatile AgroalDataSourceConfiguration configuration;
+    private volatile long slowAcquireThresholdNanos;
+
+    LatencyDataSourceListener(String dataSourceName, long slowAcquireThresholdMillis) {
+        this.dataSourceName = dataSourceName;
+        this.setSlowAcquireThreshold(slowAcquireThresholdMillis);
+    }
+
+    /**
+     * Sets the configuration of the pool, used to find out if statistics are enabled. Nothing is recorded before.
+     */
+    void setConfiguration(AgroalDataSourceConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Sets the time, in milliseconds, above which the stack of a caller acquiring a connection is logged. 0 disables tracing.
+     */
+    void setSlowAcquireThreshold(long thresholdMillis) {
+        this.slowAcquireThresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    LatencyHistogram getAcquireTime() {
+        return this.acquireTime;
+    }
+
+    LatencyHistogram getUseTime() {
+        return this.useTime;
+    }
+
+    LatencyHistogram getCreationTime() {
+        return this.creationTime;
+    }
+
+    long getSlowAcquireCount() {
+        return this.slowAcquireCount.sum();
+    }
+
+    void resetStatistics() {
+        this.acquireTime.reset();
+        this.useTime.reset();
+        this.creationTime.reset();
+        this.slowAcquireCount.reset();
+    }
+
+    private boolean isEnabled() {
+        AgroalDataSourceConfiguration configuration = this.configuration;
+        return configuration != null && configuration.metricsEnabled();
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        if (this.slowAcquireThresholdNanos > 0 || this.isEnabled()) {
+            this.acquireStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        long now = System.nanoTime();
+        long[] start = this.acquireStart.get();
+        boolean enabled = this.isEnabled();
+        if (start[0] != 0) {
+            long elapsed = now - start[0];
+            start[0] = 0;
+            if (enabled) {
+                this.acquireTime.record(elapsed);
+            }
+            long threshold = this.slowAcquireThresholdNanos;
+            if (threshold > 0 && elapsed >= threshold) {
+                this.slowAcquireCount.increment();
+                // The listener is invoked on the thread that acquires the connection, so this captures the caller stack
+                AgroalLogger.POOL_LOGGER.slowConnectionAcquisition(new Throwable(), this.dataSourceName, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+        if (enabled) {
+            this.useStart.put(connection, now);
+        }
+    }
+
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        Long start = this.useStart.remove(connection);
+        if (start != null && this.isEnabled()) {
+            this.useTime.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void beforeConnectionCreation() {
+        if (this.isEnabled()) {
+            this.creationStart.get()[0] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void onConnectionCreation(Connection connection) {
+        long[] start = this.creationStart.get();
+        if (start[0] != 0) {
+            long elapsed = System.nanoTime() - start[0];
+            start[0] = 0;
+            this.creationTime.record(elapsed);
+        }
+    }
+
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        // Connections flushed while in use are never returned
+        this.useStart.remove(connection);
+    }
+}
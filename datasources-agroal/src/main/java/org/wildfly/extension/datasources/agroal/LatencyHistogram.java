@@ -0,0 +1,144 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A log-linear histogram of latencies whose recording does not allocate.
+ * Each power of 2 nanoseconds is divided into 8 buckets, bounding the relative error of a percentile to 12.5%.
+ * Percentiles are computed from the latencies recorded within the current and previous window, so that they reflect recent behavior rather than the lifetime of the histogram.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Latencies of 2^43 ns (~2.4 hours) or more are recorded in the last bucket
+    private static final int MAX_EXPONENT = 42;
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray[] windows = new AtomicLongArray[] { new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS) };
+    private final long windowNanos;
+    private volatile int current = 0;
+    private volatile long windowStart = System.nanoTime();
+
+    /**
+     * Creates a histogram.
+     * @param window the duration of a window
+     * @param unit the unit of the window duration
+     */
+    LatencyHistogram(long window, TimeUnit unit) {
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Records the specified latency.
+     * @param nanos a latency in nanoseconds
+     */
+    void record(long nanos) {
+        this.record(nanos, System.nanoTime());
+    }
+
+    void record(long nanos, long now) {
+        this.rotateIfNecessary(now);
+        this.windows[this.current].incrementAndGet(index(Math.max(0L, nanos)));
+    }
+
+    /**
+     * Returns the specified percentile of the recent latencies.
+     * @param percentile a percentile between 0 and 100
+     * @param unit the unit of the returned latency
+     * @return the upper bound of the bucket containing the specified percentile, rounded up to the specified unit, or 0 if no latency was recorded recently
+     */
+    long getPercentile(double percentile, TimeUnit unit) {
+        return this.getPercentile(percentile, unit, System.nanoTime());
+    }
+
+    long getPercentile(double percentile, TimeUnit unit, long now) {
+        this.rotateIfNecessary(now);
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (AtomicLongArray window : this.windows) {
+            for (int i = 0; i < BUCKETS; ++i) {
+                long count = window.get(i);
+                counts[i] += count;
+                total += count;
+            }
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100d));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return convert(upperBound(i), unit);
+            }
+        }
+        return convert(upperBound(BUCKETS - 1), unit);
+    }
+
+    /**
+     * Discards all recorded latencies.
+     */
+    synchronized void reset() {
+        for (AtomicLongArray window : this.windows) {
+            clear(window);
+        }
+        this.windowStart = System.nanoTime();
+    }
+
+    private void rotateIfNecessary(long now) {
+        long start = this.windowStart;
+        if (now - start >= this.windowNanos) {
+            synchronized (this) {
+                if (this.windowStart == start) {
+                    int next = 1 - this.current;
+                    // If more than one window elapsed, the current window is also stale
+                    if (now - start >= 2 * this.windowNanos) {
+                        clear(this.windows[this.current]);
+                    }
+                    clear(this.windows[next]);
+                    this.current = next;
+                    this.windowStart = now;
+                }
+            }
+        }
+    }
+
+    private static void clear(AtomicLongArray window) {
+        for (int i = 0; i < BUCKETS; ++i) {
+            window.set(i, 0L);
+        }
+    }
+
+    // Rounds up, so that sub-unit latencies are not reported as 0
+    private static long convert(long nanos, TimeUnit unit) {
+        long unitNanos = unit.toNanos(1L);
+        return (nanos + unitNanos - 1) / unitNanos;
+    }
+
+    static int index(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long subBucket = index & (SUB_BUCKETS - 1);
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
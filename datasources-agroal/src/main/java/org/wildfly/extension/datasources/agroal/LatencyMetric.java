@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Latency percentiles of the connections of a datasource, in microseconds, computed from the last minute or two.
+ */
+enum LatencyMetric {
+
+    ACQUIRE_TIME_P50("acquire-time-p50", LatencyDataSourceListener::getAcquireTime, 50),
+    ACQUIRE_TIME_P95("acquire-time-p95", LatencyDataSourceListener::getAcquireTime, 95),
+    ACQUIRE_TIME_P99("acquire-time-p99", LatencyDataSourceListener::getAcquireTime, 99),
+    USE_TIME_P50("use-time-p50", LatencyDataSourceListener::getUseTime, 50),
+    USE_TIME_P95("use-time-p95", LatencyDataSourceListener::getUseTime, 95),
+    USE_TIME_P99("use-time-p99", LatencyDataSourceListener::getUseTime, 99),
+    CREATION_TIME_P50("creation-time-p50", LatencyDataSourceListener::getCreationTime, 50),
+    CREATION_TIME_P95("creation-time-p95", LatencyDataSourceListener::getCreationTime, 95),
+    CREATION_TIME_P99("creation-time-p99", LatencyDataSourceListener::getCreationTime, 99),
+    ;
+
+    private final SimpleAttributeDefinition definition;
+    private final Function<LatencyDataSourceListener, LatencyHistogram> histogram;
+    private final double percentile;
+
+    LatencyMetric(String name, Function<LatencyDataSourceListener, LatencyHistogram> histogram, double percentile) {
+        this.definition = create(name, ModelType.LONG)
+                .setFlags(AttributeAccess.Flag.GAUGE_METRIC)
+                .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                .setStorageRuntime()
+                .build();
+        this.histogram = histogram;
+        this.percentile = percentile;
+    }
+
+    SimpleAttributeDefinition getDefinition() {
+        return this.definition;
+    }
+
+    long getValue(LatencyDataSourceListener listener) {
+        return this.histogram.apply(listener).getPercentile(this.percentile, TimeUnit.MICROSECONDS);
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
+import org.wildfly.extension.datasources.agroal.logging.AgroalLogger;
+
+/**
+ * LRU cache of prepared statements, for drivers that do not cache statements themselves.
+ * <p>
+ * Statements are cached for each physical connection of the pool, for as long as the pool keeps the connection, so
+ * that they are reused by all the requests the connection is handed out to. They are prepared on the physical
+ * connection, which Agroal reports to this listener when it is acquired, after the connection handed out by the pool
+ * has checked that it is still open and enlisted it in the current transaction. The statements are closed when the pool
+ * destroys the connection. The application only ever sees proxies: closing a cached statement returns it to the cache
+ * instead of closing it.
+ */
+class PreparedStatementCache implements AgroalDataSourceListener {
+
+    private final String dataSourceName;
+    private final int maxSize;
+    private final Map<Connection, ConnectionStatements> connections = new ConcurrentHashMap<>();
+    // The physical connection acquired by the current thread, reported by the pool before it hands out the connection
+    private final ThreadLocal<Connection> acquired = new ThreadLocal<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    PreparedStatementCache(String dataSourceName, int maxSize) {
+        this.dataSourceName = dataSourceName;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Wraps a pooled datasource, created with this cache as listener, so that the connections it hands out are served
+     * from the cache.
+     */
+    AgroalDataSource wrap(AgroalDataSource dataSource) {
+        return (AgroalDataSource) Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(), new Class<?>[] { AgroalDataSource.class }, new DataSourceHandler(dataSource));
+    }
+
+    /**
+     * Wraps a connection handed out by the pool so that the statements it prepares are served from the cache of its
+     * physical connection.
+     */
+    Connection wrap(Connection connection, Connection physical) {
+        ConnectionStatements statements = this.connections.computeIfAbsent(physical, ConnectionStatements::new);
+        return (Connection) Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(), new Class<?>[] { Connection.class }, new ConnectionHandler(connection, statements));
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        this.acquired.set(connection);
+    }
+
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        ConnectionStatements statements = this.connections.remove(connection);
+        if (statements != null) {
+            statements.close();
+        }
+    }
+
+    /**
+     * Closes the statements of the connections the pool did not destroy.
+     */
+    void close() {
+        Iterator<ConnectionStatements> iterator = this.connections.values().iterator();
+        while (iterator.hasNext()) {
+            iterator.next().close();
+            iterator.remove();
+        }
+    }
+
+    long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    int getCurrentSize() {
+        int size = 0;
+        for (ConnectionStatements statements : this.connections.values()) {
+            size += statements.size();
+        }
+        return size;
+    }
+
+    void resetStatistics() {
+        this.hitCount.reset();
+        this.missCount.reset();
+        this.evictionCount.reset();
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            AgroalLogger.POOL_LOGGER.debug("Failed to close cached prepared statement", e);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Handles the {@code unwrap} and {@code isWrapperFor} methods of a proxy, so that they do not expose the object it
+     * wraps when the proxy itself implements the requested interface.
+     */
+    private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (((Class<?>) args[0]).isInstance(proxy)) {
+            return method.getName().equals("unwrap") ? proxy : Boolean.TRUE;
+        }
+        return invoke(target, method, args);
+    }
+
+    private final class DataSourceHandler implements InvocationHandler {
+        private final AgroalDataSource dataSource;
+
+        DataSourceHandler(AgroalDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getConnection":
+                    return this.getConnection(method, args);
+                case "unwrap":
+                case "isWrapperFor":
+                    return PreparedStatementCache.unwrap(proxy, this.dataSource, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return PreparedStatementCache.invoke(this.dataSource, method, args);
+            }
+        }
+
+        private Object getConnection(Method method, Object[] args) throws Throwable {
+            ThreadLocal<Connection> acquired = PreparedStatementCache.this.acquired;
+            acquired.remove();
+            try {
+                Connection connection = (Connection) PreparedStatementCache.invoke(this.dataSource, method, args);
+                Connection physical = acquired.get();
+                // Not cached if the pool did not report the physical connection
+                return (physical != null) ? PreparedStatementCache.this.wrap(connection, physical) : connection;
+            } finally {
+                acquired.remove();
+            }
+        }
+    }
+
+    /**
+     * Identifies a statement by the method that prepared it and its arguments, which covers all the overloads of
+     * {@link Connection#prepareStatement} and {@link Connection#prepareCall}.
+     */
+    private static final class StatementKey {
+        private final String methodName;
+        private final List<Object> arguments;
+
+        StatementKey(Method method, Object[] args) {
+            this.methodName = method.getName();
+            this.arguments = new ArrayList<>(args.length);
+            for (Object arg : args) {
+                if (arg instanceof int[]) {
+                    this.arguments.add(Arrays.stream((int[]) arg).boxed().toList());
+                } else if (arg instanceof Object[]) {
+                    this.arguments.add(List.of((Object[]) arg));
+                } else {
+                    this.arguments.add(arg);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof StatementKey)) return false;
+            StatementKey key = (StatementKey) object;
+            return this.methodName.equals(key.methodName) && this.arguments.equals(key.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.methodName, this.arguments);
+        }
+    }
+
+    private static final class CachedStatement {
+        final PreparedStatement statement;
+        boolean inUse;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    /**
+     * Holds the statements cached for a physical connection of the pool.
+     */
+    private final class ConnectionStatements {
+        private final Connection physical;
+        private final Map<StatementKey, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedStatement> eldest) {
+                if (this.size() > PreparedStatementCache.this.maxSize) {
+                    CachedStatement cached = eldest.getValue();
+                    // A statement still in use is closed when the application releases it
+                    if (!cached.inUse) {
+                        closeQuietly(cached.statement);
+                    }
+                    PreparedStatementCache.this.evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        private boolean closed = false;
+
+        ConnectionStatements(Connection physical) {
+            this.physical = physical;
+        }
+
+        synchronized CachedStatement acquire(Method method, Object[] args, StatementKey key) throws Throwable {
+            CachedStatement cached = this.statements.get(key);
+            if (cached != null && !cached.inUse) {
+                PreparedStatementCache.this.hitCount.increment();
+            } else {
+                PreparedStatementCache.this.missCount.increment();
+                CachedStatement prepared = new CachedStatement((PreparedStatement) PreparedStatementCache.invoke(this.physical, method, args));
+                // The same statement still in use by the application is left in the cache, the new one is not cached
+                if (cached == null && !this.closed) {
+                    this.statements.put(key, prepared);
+                }
+                cached = prepared;
+            }
+            cached.inUse = true;
+            return cached;
+        }
+
+        synchronized void release(StatementKey key, CachedStatement cached) {
+            cached.inUse = false;
+            if (this.statements.get(key) != cached) {
+                closeQuietly(cached.statement);
+                return;
+            }
+            try {
+                cached.statement.clearParameters();
+                cached.statement.clearBatch();
+                cached.statement.clearWarnings();
+            } catch (SQLException e) {
+                // Not reused
+                this.statements.remove(key);
+                closeQuietly(cached.statement);
+            }
+        }
+
+        synchronized void close() {
+            this.closed = true;
+            for (CachedStatement cached : this.statements.values()) {
+                // A statement still in use is closed when the application releases it
+                if (!cached.inUse) {
+                    closeQuietly(cached.statement);
+                }
+            }
+            this.statements.clear();
+        }
+
+        synchronized int size() {
+            return this.statements.size();
+        }
+    }
+
+    /**
+     * Serves the statements prepared by a connection handed out by the pool from the cache of its physical connection.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final ConnectionStatements statements;
+        private final List<StatementHandler> open = new ArrayList<>();
+
+        ConnectionHandler(Connection connection, ConnectionStatements statements) {
+            this.connection = connection;
+            this.statements = statements;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement":
+                case "prepareCall":
+                    return this.prepare((Connection) proxy, method, args);
+                case "close":
+                    this.close();
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            return PreparedStatementCache.invoke(this.connection, method, args);
+        }
+
+        private Object prepare(Connection proxy, Method method, Object[] args) throws Throwable {
+            // Through the connection handed out by the pool, which fails if it was closed and enlists it in the current transaction
+            this.connection.getAutoCommit();
+            StatementKey key = new StatementKey(method, args);
+            StatementHandler handler = new StatementHandler(proxy, this, key, this.statements.acquire(method, args, key));
+            synchronized (this) {
+                this.open.add(handler);
+            }
+            return Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(), new Class<?>[] { method.getReturnType() }, handler);
+        }
+
+        void release(StatementHandler handler) {
+            synchronized (this) {
+                this.open.remove(handler);
+            }
+            this.statements.release(handler.key, handler.cached);
+        }
+
+        private void close() {
+            List<StatementHandler> open;
+            synchronized (this) {
+                open = new ArrayList<>(this.open);
+                this.open.clear();
+            }
+            // The statements left open by the application are returned to the cache before the pool gets the connection back
+            for (StatementHandler handler : open) {
+                handler.closed = true;
+                this.statements.release(handler.key, handler.cached);
+            }
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Connection connection;
+        private final ConnectionHandler owner;
+        private final StatementKey key;
+        private final CachedStatement cached;
+        volatile boolean closed = false;
+
+        StatementHandler(Connection connection, ConnectionHandler owner, StatementKey key, CachedStatement cached) {
+            this.connection = connection;
+            this.owner = owner;
+            this.key = key;
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!this.closed) {
+                        this.closed = true;
+                        this.owner.release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return this.closed;
+                case "getConnection":
+                    return this.connection;
+                case "unwrap":
+                case "isWrapperFor":
+                    return PreparedStatementCache.unwrap(proxy, this.cached.statement, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    if (this.closed) {
+                        throw AgroalLogger.SERVICE_LOGGER.closedStatement(PreparedStatementCache.this.dataSourceName);
+                    }
+                    Object result = PreparedStatementCache.invoke(this.cached.statement, method, args);
+                    if (result instanceof ResultSet) {
+                        // So that the result set does not hand out the cached statement
+                        return Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(), new Class<?>[] { ResultSet.class }, new ResultSetHandler(proxy, (ResultSet) result));
+                    }
+                    return result;
+            }
+        }
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final Object statement;
+        private final ResultSet resultSet;
+
+        ResultSetHandler(Object statement, ResultSet resultSet) {
+            this.statement = statement;
+            this.resultSet = resultSet;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getStatement":
+                    return this.statement;
+                case "unwrap":
+                case "isWrapperFor":
+                    return PreparedStatementCache.unwrap(proxy, this.resultSet, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return PreparedStatementCache.invoke(this.resultSet, method, args);
+            }
+        }
+    }
+}
@@ -62,6 +62,8 @@ class XADataSourceOperations extends AbstractAddStepHandler {
 
             ModelNode poolModel = AbstractDataSourceDefinition.CONNECTION_POOL_ATTRIBUTE.resolveModelAttribute(context, model);
             AgroalConnectionPoolConfigurationSupplier connectionPoolConfiguration = AbstractDataSourceOperations.connectionPoolConfiguration(context, poolModel);
+            int preparedStatementsCacheSize = AbstractDataSourceDefinition.PREPARED_STATEMENTS_CACHE_SIZE_ATTRIBUTE.resolveModelAttribute(context, poolModel).asInt();
+            int slowAcquireThreshold = AbstractDataSourceDefinition.SLOW_ACQUIRE_THRESHOLD_ATTRIBUTE.resolveModelAttribute(context, poolModel).asInt();
             connectionPoolConfiguration.connectionFactoryConfiguration(connectionFactoryConfiguration);
 
             AgroalDataSourceConfigurationSupplier dataSourceConfiguration = new AgroalDataSourceConfigurationSupplier();
@@ -77,7 +79,7 @@ class XADataSourceOperations extends AbstractAddStepHandler {
             final Supplier<ExceptionSupplier<CredentialSource, Exception>> credentialSourceSupplier = AbstractDataSourceOperations.setupCredentialReference(context, factoryModel, serviceBuilder);
             // TODO add a Stage.MODEL requirement
             final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier = serviceBuilder.requiresCapability("org.wildfly.transactions.transaction-synchronization-registry", TransactionSynchronizationRegistry.class);
-            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, false, false, true, dataSourceConfiguration);
+            DataSourceService dataSourceService = new DataSourceService(consumer, driverSupplier, authenticationContextSupplier, credentialSourceSupplier, txnRegistrySupplier, datasourceName, jndiName, false, false, true, preparedStatementsCacheSize, slowAcquireThreshold, dataSourceConfiguration);
             serviceBuilder.setInstance(dataSourceService);
             serviceBuilder.install();
         }
@@ -79,6 +79,9 @@ public interface AgroalLogger extends BasicLogger {
     @Message(id = 111, value = "CredentialSourceSupplier for datasource '%s' is invalid")
     StartException invalidCredentialSourceSupplier(@Cause Throwable cause, String dataSourceName);
 
+    @Message(id = 112, value = "Prepared statement from datasource '%s' is closed")
+    SQLException closedStatement(String dataSourceName);
+
     // --- Driver service //
 
     @LogMessage(level = INFO)
@@ -127,4 +130,8 @@ public interface AgroalLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 601, value = "%s: %s")
     void poolWarning(String datasourceName, String warn);
+
+    @LogMessage(level = WARN)
+    @Message(id = 602, value = "%s: Acquiring a connection took %d ms")
+    void slowConnectionAcquisition(@Cause Throwable caller, String datasource, long elapsedMillis);
 }
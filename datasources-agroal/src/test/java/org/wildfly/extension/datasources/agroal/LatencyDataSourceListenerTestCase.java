@@ -0,0 +1,106 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyDataSourceListener} and the {@link LatencyMetric} computed from it.
+ */
+public class LatencyDataSourceListenerTestCase {
+
+    private volatile boolean metricsEnabled = true;
+
+    @Test
+    public void latencies() throws InterruptedException {
+        LatencyDataSourceListener listener = this.createListener(0);
+        Connection connection = connection();
+
+        listener.beforeConnectionCreation();
+        Thread.sleep(1);
+        listener.onConnectionCreation(connection);
+        listener.beforeConnectionAcquire();
+        Thread.sleep(1);
+        listener.onConnectionAcquire(connection);
+        Thread.sleep(1);
+        listener.onConnectionReturn(connection);
+
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            // In microseconds
+            assertTrue(metric.name(), metric.getValue(listener) >= 1_000);
+        }
+
+        listener.resetStatistics();
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            assertEquals(metric.name(), 0L, metric.getValue(listener));
+        }
+    }
+
+    @Test
+    public void statisticsDisabled() {
+        LatencyDataSourceListener listener = this.createListener(0);
+        Connection connection = connection();
+        this.metricsEnabled = false;
+
+        listener.beforeConnectionCreation();
+        listener.onConnectionCreation(connection);
+        listener.beforeConnectionAcquire();
+        listener.onConnectionAcquire(connection);
+        listener.onConnectionReturn(connection);
+
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            assertEquals(metric.name(), 0L, metric.getValue(listener));
+        }
+    }
+
+    @Test
+    public void slowAcquire() throws InterruptedException {
+        LatencyDataSourceListener listener = this.createListener(1);
+        Connection connection = connection();
+        this.metricsEnabled = false;
+
+        listener.beforeConnectionAcquire();
+        Thread.sleep(10);
+        listener.onConnectionAcquire(connection);
+        assertEquals(1L, listener.getSlowAcquireCount());
+
+        listener.setSlowAcquireThreshold(0);
+        listener.beforeConnectionAcquire();
+        Thread.sleep(10);
+        listener.onConnectionAcquire(connection);
+        assertEquals(1L, listener.getSlowAcquireCount());
+    }
+
+    private LatencyDataSourceListener createListener(long slowAcquireThreshold) {
+        LatencyDataSourceListener listener = new LatencyDataSourceListener("test", slowAcquireThreshold);
+        listener.setConfiguration((AgroalDataSourceConfiguration) Proxy.newProxyInstance(AgroalDataSourceConfiguration.class.getClassLoader(), new Class<?>[] { AgroalDataSourceConfiguration.class }, (proxy, method, args) -> {
+            if (method.getName().equals("metricsEnabled")) {
+                return this.metricsEnabled;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+        return listener;
+    }
+
+    private static Connection connection() {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+}
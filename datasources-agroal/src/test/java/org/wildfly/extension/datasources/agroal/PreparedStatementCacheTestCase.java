@@ -0,0 +1,297 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.datasources.agroal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.agroal.api.AgroalDataSource;
+import org.junit.Test;
+
+/**
+ * Serves statements from a {@link PreparedStatementCache} over fake physical connections, which record the statements
+ * they prepare, handed out by the pool through fake logical connections.
+ */
+public class PreparedStatementCacheTestCase {
+
+    private final List<PreparedStatement> prepared = new ArrayList<>();
+    private final List<PreparedStatement> closed = new ArrayList<>();
+    private final Connection physical = this.physical();
+
+    @Test
+    public void hit() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection connection = cache.wrap(this.logical(), this.physical);
+
+        PreparedStatement statement = connection.prepareStatement("SELECT 1");
+        statement.close();
+        assertTrue(statement.isClosed());
+        assertTrue(this.closed.isEmpty());
+
+        connection.prepareStatement("SELECT 1").close();
+        assertEquals(1, this.prepared.size());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1, cache.getCurrentSize());
+
+        // Each overload is cached separately
+        connection.prepareStatement("SELECT 1", Statement.RETURN_GENERATED_KEYS).close();
+        connection.prepareStatement("SELECT 1", Statement.RETURN_GENERATED_KEYS).close();
+        connection.prepareStatement("SELECT 1", new int[] { 1 }).close();
+        connection.prepareStatement("SELECT 1", new int[] { 1 }).close();
+        assertEquals(3, this.prepared.size());
+        assertEquals(3L, cache.getHitCount());
+    }
+
+    @Test
+    public void prepareCall() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection connection = cache.wrap(this.logical(), this.physical);
+
+        connection.prepareCall("{call test()}").close();
+        CallableStatement statement = connection.prepareCall("{call test()}");
+        assertEquals(1, this.prepared.size());
+        assertEquals(1L, cache.getHitCount());
+        statement.close();
+    }
+
+    @Test
+    public void statementInUse() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection connection = cache.wrap(this.logical(), this.physical);
+
+        PreparedStatement first = connection.prepareStatement("SELECT 1");
+        PreparedStatement second = connection.prepareStatement("SELECT 1");
+        assertEquals(2, this.prepared.size());
+        assertEquals(0L, cache.getHitCount());
+
+        // Only the first one is cached
+        second.close();
+        assertEquals(List.of(this.prepared.get(1)), this.closed);
+        first.close();
+        assertEquals(1, this.closed.size());
+    }
+
+    @Test
+    public void eviction() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection connection = cache.wrap(this.logical(), this.physical);
+
+        connection.prepareStatement("SELECT 1").close();
+        connection.prepareStatement("SELECT 2").close();
+        // SELECT 1 becomes the most recently used
+        connection.prepareStatement("SELECT 1").close();
+        PreparedStatement statement = connection.prepareStatement("SELECT 3");
+
+        assertEquals(1L, cache.getEvictionCount());
+        assertEquals(2, cache.getCurrentSize());
+        assertEquals(List.of(this.prepared.get(1)), this.closed);
+
+        // An evicted statement in use is closed once released
+        connection.prepareStatement("SELECT 1").close();
+        connection.prepareStatement("SELECT 4").close();
+        assertEquals(2L, cache.getEvictionCount());
+        assertFalse(this.closed.contains(this.prepared.get(2)));
+        statement.close();
+        assertTrue(this.closed.contains(this.prepared.get(2)));
+    }
+
+    @Test
+    public void reuse() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+
+        Connection connection = cache.wrap(this.logical(), this.physical);
+        connection.prepareStatement("SELECT 1").close();
+        PreparedStatement statement = connection.prepareStatement("SELECT 2");
+        connection.close();
+
+        // Statements left open are returned to the cache along with the connection
+        assertTrue(this.closed.isEmpty());
+        assertTrue(statement.isClosed());
+        assertEquals(2, cache.getCurrentSize());
+        try {
+            statement.executeQuery();
+            fail("Statement is closed");
+        } catch (SQLException expected) {
+        }
+        try {
+            connection.prepareStatement("SELECT 1");
+            fail("Connection is closed");
+        } catch (SQLException expected) {
+        }
+
+        // The next request the physical connection is handed out to reuses its statements
+        Connection next = cache.wrap(this.logical(), this.physical);
+        next.prepareStatement("SELECT 1").close();
+        next.prepareStatement("SELECT 2").close();
+        next.close();
+        assertEquals(2, this.prepared.size());
+        assertEquals(2L, cache.getHitCount());
+
+        // Statements are not shared between physical connections
+        Connection other = cache.wrap(this.logical(), this.physical());
+        other.prepareStatement("SELECT 1").close();
+        assertEquals(3, this.prepared.size());
+        assertEquals(3, cache.getCurrentSize());
+    }
+
+    @Test
+    public void destroy() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection other = this.physical();
+
+        cache.wrap(this.logical(), this.physical).prepareStatement("SELECT 1").close();
+        Connection connection = cache.wrap(this.logical(), other);
+        connection.prepareStatement("SELECT 1").close();
+        PreparedStatement statement = connection.prepareStatement("SELECT 2");
+
+        cache.onConnectionDestroy(this.physical);
+        assertEquals(List.of(this.prepared.get(0)), this.closed);
+        assertEquals(2, cache.getCurrentSize());
+
+        // A statement in use is closed once released
+        cache.onConnectionDestroy(other);
+        assertEquals(0, cache.getCurrentSize());
+        assertEquals(2, this.closed.size());
+        statement.close();
+        assertEquals(Set.copyOf(this.prepared), Set.copyOf(this.closed));
+    }
+
+    @Test
+    public void wrappers() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        Connection connection = cache.wrap(this.logical(), this.physical);
+
+        PreparedStatement statement = connection.prepareStatement("SELECT 1");
+        assertSame(connection, statement.getConnection());
+        assertSame(statement, statement.unwrap(PreparedStatement.class));
+        assertSame(statement, statement.executeQuery().getStatement());
+        ResultSet resultSet = statement.getResultSet();
+        assertSame(resultSet, resultSet.unwrap(ResultSet.class));
+        assertSame(statement, resultSet.getStatement());
+    }
+
+    @Test
+    public void dataSource() throws SQLException {
+        PreparedStatementCache cache = new PreparedStatementCache("test", 2);
+        AgroalDataSource pool = (AgroalDataSource) Proxy.newProxyInstance(AgroalDataSource.class.getClassLoader(), new Class<?>[] { AgroalDataSource.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getConnection":
+                    // Reported by the pool on the acquiring thread
+                    cache.onConnectionAcquire(this.physical);
+                    return this.logical();
+                case "getLoginTimeout":
+                    return 10;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        AgroalDataSource dataSource = cache.wrap(pool);
+
+        assertEquals(10, dataSource.getLoginTimeout());
+        assertSame(dataSource, dataSource.unwrap(AgroalDataSource.class));
+        for (int i = 0; i < 2; i++) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.prepareStatement("SELECT 1").close();
+            }
+        }
+        assertEquals(1, this.prepared.size());
+        assertEquals(1L, cache.getHitCount());
+        assertTrue(this.closed.isEmpty());
+
+        cache.close();
+        assertEquals(Set.copyOf(this.prepared), Set.copyOf(this.closed));
+    }
+
+    private Connection physical() {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return this.statement(PreparedStatement.class);
+                case "prepareCall":
+                    return this.statement(CallableStatement.class);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private Connection logical() {
+        boolean[] closed = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getAutoCommit":
+                    if (closed[0]) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    return true;
+                case "close":
+                    closed[0] = true;
+                    return null;
+                default:
+                    // Statements are prepared on the physical connection
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private PreparedStatement statement(Class<? extends PreparedStatement> type) {
+        PreparedStatement[] statement = new PreparedStatement[1];
+        ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getStatement":
+                    return statement[0];
+                case "unwrap":
+                    return proxy;
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        statement[0] = (PreparedStatement) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                    if (!this.closed.contains(proxy)) {
+                        this.closed.add((PreparedStatement) proxy);
+                    }
+                    return null;
+                case "executeQuery":
+                case "getResultSet":
+                    return resultSet;
+                case "clearParameters":
+                case "clearBatch":
+                case "clearWarnings":
+                    return null;
+                case "unwrap":
+                    return proxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        this.prepared.add(statement[0]);
+        return statement[0];
+    }
+}
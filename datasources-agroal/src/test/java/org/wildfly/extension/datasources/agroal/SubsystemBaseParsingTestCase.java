@@ -28,6 +28,6 @@ public class SubsystemBaseParsingTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-agroal_2_0.xsd";
+        return "schema/wildfly-agroal_3_0.xsd";
     }
 }
@@ -43,7 +43,7 @@ public abstract class AbstractJMSContext implements Serializable {
         return context;
     }
 
-    private JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
+    JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
         ROOT_LOGGER.debugf("Create JMSContext from %s - %s", info, connectionFactory);
         int sessionMode = info.getSessionMode();
         String userName = info.getUserName();
@@ -57,10 +57,17 @@ public abstract class AbstractJMSContext implements Serializable {
         return context;
     }
 
+    /**
+     * Close a JMSContext created by {@link #createContext(JMSInfo, ConnectionFactory)}.
+     */
+    void closeContext(JMSContext context) {
+        context.close();
+    }
+
     void cleanUp() {
         ROOT_LOGGER.debugf("Clean up JMSContext created from %s", this);
         for (JMSContext jmsContext : contexts.values()) {
-            jmsContext.close();
+            closeContext(jmsContext);
         }
         contexts.clear();
     }
@@ -23,6 +23,17 @@ import org.jboss.metadata.property.PropertyReplacer;
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2013 Red Hat inc.
  */
 public class CDIDeploymentProcessor implements DeploymentUnitProcessor {
+
+    private final int contextPoolMaxSize;
+
+    /**
+     * @param contextPoolMaxSize the maximum number of idle injected JMSContext kept per deployment, connection factory,
+     *                           credentials and session mode, or 0 to disable pooling
+     */
+    public CDIDeploymentProcessor(int contextPoolMaxSize) {
+        this.contextPoolMaxSize = contextPoolMaxSize;
+    }
+
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         final DeploymentUnit parent = deploymentUnit.getParent() == null ? deploymentUnit : deploymentUnit.getParent();
@@ -31,7 +42,7 @@ public class CDIDeploymentProcessor implements DeploymentUnitProcessor {
         final CapabilityServiceSupport support = deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT);
         if (support.hasCapability(WELD_CAPABILITY_NAME)) {
             support.getOptionalCapabilityRuntimeAPI(WELD_CAPABILITY_NAME, WeldCapability.class).get()
-                    .registerExtensionInstance(new JMSCDIExtension(propertyReplacer), parent);
+                    .registerExtensionInstance(new JMSCDIExtension(propertyReplacer, contextPoolMaxSize), parent);
         }
     }
 }
\ No newline at end of file
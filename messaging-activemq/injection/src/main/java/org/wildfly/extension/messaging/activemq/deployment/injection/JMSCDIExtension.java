@@ -21,10 +21,13 @@ import org.jboss.metadata.property.PropertyReplacer;
 class JMSCDIExtension implements Extension {
 
     static PropertyReplacer propertyReplacer;
+    static int contextPoolMaxSize;
 
-    JMSCDIExtension(PropertyReplacer propertyReplacer) {
+    JMSCDIExtension(PropertyReplacer propertyReplacer, int contextPoolMaxSize) {
         // store the propertyReplacer in a static field so that it can be used in JMSInfo by beans instantiated by Jakarta Contexts and Dependency Injection
         JMSCDIExtension.propertyReplacer = propertyReplacer;
+        // the pool size is configured for the whole messaging subsystem
+        JMSCDIExtension.contextPoolMaxSize = contextPoolMaxSize;
     }
 
     private void beforeBeanDiscovery(@Observes BeforeBeanDiscovery bbd, BeanManager bm) {
@@ -32,6 +35,8 @@ class JMSCDIExtension implements Extension {
         bbd.addAnnotatedType(requestedContextBean, JMSCDIExtension.class.getName() + "-" + RequestedJMSContext.class.getName());
         AnnotatedType<TransactedJMSContext> transactedContextBean = bm.createAnnotatedType(TransactedJMSContext.class);
         bbd.addAnnotatedType(transactedContextBean, JMSCDIExtension.class.getName() + "-" + TransactedJMSContext.class.getName());
+        AnnotatedType<JMSContextPool> contextPoolBean = bm.createAnnotatedType(JMSContextPool.class);
+        bbd.addAnnotatedType(contextPoolBean, JMSCDIExtension.class.getName() + "-" + JMSContextPool.class.getName());
         AnnotatedType<InjectedJMSContext> contextBean = bm.createAnnotatedType(InjectedJMSContext.class);
         bbd.addAnnotatedType(contextBean, JMSCDIExtension.class.getName() + "-" + InjectedJMSContext.class.getName());
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import static org.wildfly.extension.messaging.activemq._private.MessagingLogger.ROOT_LOGGER;
+
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.resource.Referenceable;
+
+/**
+ * Pool of idle JMSContext used by the @RequestScoped injected JMSContext of a deployment, so that their session (and the
+ * producer of the session) are reused by subsequent requests instead of being created and closed for every request.
+ *
+ * JMSContext are pooled per connection factory, credentials and session mode. Only JMSContext used outside of a transaction
+ * are pooled: a JMSContext used within a transaction is enlisted in the transaction when it is created and can not be reused
+ * by other transactions.
+ *
+ * JMSContext of resource adapter connection factories (e.g. pooled-connection-factory) are never pooled: their managed
+ * connections are already pooled by the resource adapter, and their connection handles must be closed at the end of the
+ * request so that the managed connection is returned to its pool and the cached connection manager does not track it.
+ */
+@ApplicationScoped
+class JMSContextPool {
+
+    private final int maxSize;
+    private final Map<Key, Deque<JMSContext>> idleContexts = new ConcurrentHashMap<>();
+    private final Map<Key, AtomicInteger> idleCounts = new ConcurrentHashMap<>();
+    private final Function<String, JMSContextPoolStatistics> statistics;
+
+    JMSContextPool() {
+        this(JMSCDIExtension.contextPoolMaxSize, JMSContextPoolStatistics::forConnectionFactory);
+    }
+
+    JMSContextPool(int maxSize, Function<String, JMSContextPoolStatistics> statistics) {
+        this.maxSize = maxSize;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Whether JMSContext created from the given connection factory are pooled.
+     */
+    boolean isEnabled(ConnectionFactory connectionFactory) {
+        return maxSize > 0 && !(connectionFactory instanceof Referenceable);
+    }
+
+    /**
+     * Borrow an idle JMSContext for the given injection info and connection factory, or create a new one if there is none.
+     */
+    PooledJMSContext borrow(JMSInfo info, ConnectionFactory connectionFactory, BiFunction<JMSInfo, ConnectionFactory, JMSContext> factory) {
+        Key key = new Key(info, connectionFactory);
+        Deque<JMSContext> contexts = idleContexts.get(key);
+        JMSContext context = (contexts != null) ? contexts.pollFirst() : null;
+        if (context != null) {
+            idleCounts.get(key).decrementAndGet();
+            getStatistics(key).reused();
+            ROOT_LOGGER.debugf("Reuse pooled JMSContext %s for %s", context, info);
+        } else {
+            context = factory.apply(info, connectionFactory);
+            getStatistics(key).created();
+        }
+        return new PooledJMSContext(context, key);
+    }
+
+    /**
+     * Return a borrowed JMSContext to the pool, or close it if it can not be reused or if the pool is full.
+     */
+    void release(PooledJMSContext pooledContext) {
+        Key key = pooledContext.getKey();
+        JMSContext context = pooledContext.getDelegate();
+        // only sessions without pending acknowledgements nor transacted work can be reused by another request
+        if (pooledContext.isReusable() && key.isReusable()) {
+            AtomicInteger count = idleCounts.computeIfAbsent(key, k -> new AtomicInteger());
+            if (count.incrementAndGet() <= maxSize) {
+                // LIFO to reuse the most recently used sessions and let the others be closed when the pool shrinks
+                idleContexts.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>()).offerFirst(context);
+                getStatistics(key).released();
+                return;
+            }
+            count.decrementAndGet();
+        }
+        destroy(key, context, false);
+    }
+
+    @PreDestroy
+    void close() {
+        ROOT_LOGGER.debugf("Close pooled JMSContext of %s", this);
+        for (Map.Entry<Key, Deque<JMSContext>> entry : idleContexts.entrySet()) {
+            Deque<JMSContext> contexts = entry.getValue();
+            JMSContext context = contexts.pollFirst();
+            while (context != null) {
+                destroy(entry.getKey(), context, true);
+                context = contexts.pollFirst();
+            }
+        }
+        idleContexts.clear();
+        idleCounts.clear();
+    }
+
+    private void destroy(Key key, JMSContext context, boolean idle) {
+        try {
+            context.close();
+        } catch (RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to close pooled JMSContext %s", context);
+        } finally {
+            getStatistics(key).destroyed(idle);
+        }
+    }
+
+    private JMSContextPoolStatistics getStatistics(Key key) {
+        return statistics.apply(key.info.getConnectionFactoryLookup());
+    }
+
+    /**
+     * Key of the pooled JMSContext. The connection factory is compared by identity as the same lookup name may resolve
+     * to different connection factories depending on the component namespace.
+     */
+    static final class Key {
+        private final JMSInfo info;
+        private final ConnectionFactory connectionFactory;
+
+        Key(JMSInfo info, ConnectionFactory connectionFactory) {
+            this.info = info;
+            this.connectionFactory = connectionFactory;
+        }
+
+        boolean isReusable() {
+            int sessionMode = info.getSessionMode();
+            return sessionMode == JMSContext.AUTO_ACKNOWLEDGE || sessionMode == JMSContext.DUPS_OK_ACKNOWLEDGE;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return connectionFactory == key.connectionFactory && info.equals(key.info);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(connectionFactory) + Objects.hashCode(info);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the pooled injected JMSContext of a connection factory, aggregated over all the deployments of the server
+ * that inject JMSContext from this connection factory.
+ */
+public final class JMSContextPoolStatistics {
+
+    private static final Map<String, JMSContextPoolStatistics> CONNECTION_FACTORY_STATISTICS = new ConcurrentHashMap<>();
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder destroyed = new LongAdder();
+    private final AtomicInteger idle = new AtomicInteger();
+
+    JMSContextPoolStatistics() {
+    }
+
+    /**
+     * @param connectionFactoryLookup the JNDI name of a connection factory
+     * @return the statistics of the pooled JMSContext created from this connection factory
+     */
+    static JMSContextPoolStatistics forConnectionFactory(String connectionFactoryLookup) {
+        return CONNECTION_FACTORY_STATISTICS.computeIfAbsent(connectionFactoryLookup, name -> new JMSContextPoolStatistics());
+    }
+
+    /**
+     * @return the statistics of the pooled JMSContext, per JNDI name of their connection factory
+     */
+    public static Map<String, JMSContextPoolStatistics> getConnectionFactoryStatistics() {
+        return Collections.unmodifiableMap(CONNECTION_FACTORY_STATISTICS);
+    }
+
+    /**
+     * @return the number of pooled JMSContext that were created
+     */
+    public long getCreatedCount() {
+        return created.sum();
+    }
+
+    /**
+     * @return the number of times an idle pooled JMSContext was reused
+     */
+    public long getReusedCount() {
+        return reused.sum();
+    }
+
+    /**
+     * @return the number of pooled JMSContext that were closed
+     */
+    public long getDestroyedCount() {
+        return destroyed.sum();
+    }
+
+    /**
+     * @return the current number of idle pooled JMSContext
+     */
+    public int getIdleCount() {
+        return idle.get();
+    }
+
+    void created() {
+        created.increment();
+    }
+
+    void reused() {
+        reused.increment();
+        idle.decrementAndGet();
+    }
+
+    void released() {
+        idle.incrementAndGet();
+    }
+
+    void destroyed(boolean wasIdle) {
+        destroyed.increment();
+        if (wasIdle) {
+            idle.decrementAndGet();
+        }
+    }
+}
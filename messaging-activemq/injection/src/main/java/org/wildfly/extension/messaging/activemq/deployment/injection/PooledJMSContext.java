@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Queue;
+import jakarta.jms.QueueBrowser;
+import jakarta.jms.TemporaryQueue;
+import jakarta.jms.TemporaryTopic;
+import jakarta.jms.Topic;
+
+/**
+ * JMSContext borrowed from a {@link JMSContextPool}.
+ *
+ * Consumers, browsers and temporary destinations live as long as the connection of the JMSContext.
+ * A JMSContext that created any of them is not returned to the pool, so that they are closed with the JMSContext at the
+ * end of the request, as if it was not pooled.
+ */
+class PooledJMSContext extends JMSContextWrapper {
+
+    private final JMSContext delegate;
+    private final JMSContextPool.Key key;
+    private volatile boolean reusable = true;
+
+    PooledJMSContext(JMSContext delegate, JMSContextPool.Key key) {
+        this.delegate = delegate;
+        this.key = key;
+    }
+
+    @Override
+    JMSContext getDelegate() {
+        return delegate;
+    }
+
+    JMSContextPool.Key getKey() {
+        return key;
+    }
+
+    boolean isReusable() {
+        return reusable;
+    }
+
+    private JMSContext getNonReusableDelegate() {
+        reusable = false;
+        return delegate;
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination) {
+        return getNonReusableDelegate().createConsumer(destination);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector) {
+        return getNonReusableDelegate().createConsumer(destination, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createConsumer(Destination destination, String messageSelector, boolean noLocal) {
+        return getNonReusableDelegate().createConsumer(destination, messageSelector, noLocal);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name) {
+        return getNonReusableDelegate().createDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createDurableConsumer(Topic topic, String name, String messageSelector, boolean noLocal) {
+        return getNonReusableDelegate().createDurableConsumer(topic, name, messageSelector, noLocal);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name) {
+        return getNonReusableDelegate().createSharedDurableConsumer(topic, name);
+    }
+
+    @Override
+    public JMSConsumer createSharedDurableConsumer(Topic topic, String name, String messageSelector) {
+        return getNonReusableDelegate().createSharedDurableConsumer(topic, name, messageSelector);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName) {
+        return getNonReusableDelegate().createSharedConsumer(topic, sharedSubscriptionName);
+    }
+
+    @Override
+    public JMSConsumer createSharedConsumer(Topic topic, String sharedSubscriptionName, String messageSelector) {
+        return getNonReusableDelegate().createSharedConsumer(topic, sharedSubscriptionName, messageSelector);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue) {
+        return getNonReusableDelegate().createBrowser(queue);
+    }
+
+    @Override
+    public QueueBrowser createBrowser(Queue queue, String messageSelector) {
+        return getNonReusableDelegate().createBrowser(queue, messageSelector);
+    }
+
+    @Override
+    public TemporaryQueue createTemporaryQueue() {
+        return getNonReusableDelegate().createTemporaryQueue();
+    }
+
+    @Override
+    public TemporaryTopic createTemporaryTopic() {
+        return getNonReusableDelegate().createTemporaryTopic();
+    }
+}
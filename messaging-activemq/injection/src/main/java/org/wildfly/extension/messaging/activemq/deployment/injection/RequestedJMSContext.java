@@ -7,6 +7,9 @@ package org.wildfly.extension.messaging.activemq.deployment.injection;
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
 
 /**
  * Injection of JMSContext in the @RequestScoped scope.
@@ -16,6 +19,27 @@ import jakarta.enterprise.context.RequestScoped;
 @RequestScoped
 class RequestedJMSContext extends AbstractJMSContext {
 
+    // Pool of JMSContext reused across requests, if enabled
+    @Inject
+    private JMSContextPool pool;
+
+    @Override
+    JMSContext createContext(JMSInfo info, ConnectionFactory connectionFactory) {
+        if (pool != null && pool.isEnabled(connectionFactory)) {
+            return pool.borrow(info, connectionFactory, super::createContext);
+        }
+        return super.createContext(info, connectionFactory);
+    }
+
+    @Override
+    void closeContext(JMSContext context) {
+        if (context instanceof PooledJMSContext) {
+            pool.release((PooledJMSContext) context);
+        } else {
+            super.closeContext(context);
+        }
+    }
+
     @PreDestroy
     @Override
     void cleanUp() {
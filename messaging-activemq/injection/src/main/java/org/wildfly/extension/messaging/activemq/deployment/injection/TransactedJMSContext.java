@@ -55,7 +55,7 @@ class TransactedJMSContext extends AbstractJMSContext {
         @Override
         public void afterCompletion(int status) {
             ROOT_LOGGER.debugf("Clean up JMSContext created from %s", TransactedJMSContext.this);
-            context.close();
+            closeContext(context);
         }
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.deployment.injection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.Queue;
+import jakarta.resource.Referenceable;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class for JMSContextPool.
+ */
+public class JMSContextPoolTestCase {
+
+    private final ConnectionFactory connectionFactory = Mockito.mock(ConnectionFactory.class);
+    private final Map<String, JMSContextPoolStatistics> statistics = new HashMap<>();
+
+    private JMSContextPool createPool(int maxSize) {
+        return new JMSContextPool(maxSize, name -> statistics.computeIfAbsent(name, n -> new JMSContextPoolStatistics()));
+    }
+
+    private JMSInfo createInfo(int sessionMode) {
+        return createInfo("java:/ConnectionFactory", sessionMode);
+    }
+
+    private JMSInfo createInfo(String connectionFactoryLookup, int sessionMode) {
+        JMSInfo info = Mockito.mock(JMSInfo.class);
+        Mockito.when(info.getConnectionFactoryLookup()).thenReturn(connectionFactoryLookup);
+        Mockito.when(info.getSessionMode()).thenReturn(sessionMode);
+        return info;
+    }
+
+    @Test
+    public void testReuse() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info = createInfo(JMSContext.AUTO_ACKNOWLEDGE);
+        JMSContext context = Mockito.mock(JMSContext.class);
+
+        PooledJMSContext first = pool.borrow(info, connectionFactory, (i, cf) -> context);
+        pool.release(first);
+        PooledJMSContext second = pool.borrow(info, connectionFactory, (i, cf) -> {
+            throw new AssertionError("context must be reused");
+        });
+
+        Assert.assertSame(context, second.getDelegate());
+        JMSContextPoolStatistics statistics = this.statistics.get("java:/ConnectionFactory");
+        Assert.assertEquals(1, statistics.getCreatedCount());
+        Assert.assertEquals(1, statistics.getReusedCount());
+        Assert.assertEquals(0, statistics.getIdleCount());
+        Mockito.verify(context, Mockito.never()).close();
+    }
+
+    @Test
+    public void testMaxSize() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info = createInfo(JMSContext.AUTO_ACKNOWLEDGE);
+        JMSContext context1 = Mockito.mock(JMSContext.class);
+        JMSContext context2 = Mockito.mock(JMSContext.class);
+
+        PooledJMSContext first = pool.borrow(info, connectionFactory, (i, cf) -> context1);
+        PooledJMSContext second = pool.borrow(info, connectionFactory, (i, cf) -> context2);
+        pool.release(first);
+        pool.release(second);
+
+        // the pool is full, the second context is closed
+        Mockito.verify(context1, Mockito.never()).close();
+        Mockito.verify(context2).close();
+
+        pool.close();
+        Mockito.verify(context1).close();
+    }
+
+    @Test
+    public void testNotReusableSessionMode() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info = createInfo(JMSContext.CLIENT_ACKNOWLEDGE);
+        JMSContext context = Mockito.mock(JMSContext.class);
+
+        pool.release(pool.borrow(info, connectionFactory, (i, cf) -> context));
+
+        Mockito.verify(context).close();
+    }
+
+    @Test
+    public void testNotReusableWithConsumer() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info = createInfo(JMSContext.AUTO_ACKNOWLEDGE);
+        JMSContext context = Mockito.mock(JMSContext.class);
+        Queue queue = Mockito.mock(Queue.class);
+
+        PooledJMSContext pooledContext = pool.borrow(info, connectionFactory, (i, cf) -> context);
+        pooledContext.createConsumer(queue);
+        pool.release(pooledContext);
+
+        // the consumer is closed with its context
+        Mockito.verify(context).close();
+    }
+
+    @Test
+    public void testDifferentConnectionFactories() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info = createInfo(JMSContext.AUTO_ACKNOWLEDGE);
+        JMSContext context1 = Mockito.mock(JMSContext.class);
+        JMSContext context2 = Mockito.mock(JMSContext.class);
+
+        pool.release(pool.borrow(info, connectionFactory, (i, cf) -> context1));
+        PooledJMSContext pooledContext = pool.borrow(info, Mockito.mock(ConnectionFactory.class), (i, cf) -> context2);
+
+        Assert.assertSame(context2, pooledContext.getDelegate());
+    }
+
+    @Test
+    public void testStatisticsPerConnectionFactory() {
+        JMSContextPool pool = createPool(1);
+        JMSInfo info1 = createInfo("java:/ConnectionFactory1", JMSContext.AUTO_ACKNOWLEDGE);
+        JMSInfo info2 = createInfo("java:/ConnectionFactory2", JMSContext.AUTO_ACKNOWLEDGE);
+        ConnectionFactory connectionFactory2 = Mockito.mock(ConnectionFactory.class);
+
+        pool.release(pool.borrow(info1, connectionFactory, (i, cf) -> Mockito.mock(JMSContext.class)));
+        pool.release(pool.borrow(info1, connectionFactory, (i, cf) -> Mockito.mock(JMSContext.class)));
+        pool.release(pool.borrow(info2, connectionFactory2, (i, cf) -> Mockito.mock(JMSContext.class)));
+
+        JMSContextPoolStatistics statistics1 = statistics.get("java:/ConnectionFactory1");
+        Assert.assertEquals(1, statistics1.getCreatedCount());
+        Assert.assertEquals(1, statistics1.getReusedCount());
+        Assert.assertEquals(1, statistics1.getIdleCount());
+        JMSContextPoolStatistics statistics2 = statistics.get("java:/ConnectionFactory2");
+        Assert.assertEquals(1, statistics2.getCreatedCount());
+        Assert.assertEquals(0, statistics2.getReusedCount());
+        Assert.assertEquals(1, statistics2.getIdleCount());
+
+        pool.close();
+        Assert.assertEquals(1, statistics1.getDestroyedCount());
+        Assert.assertEquals(0, statistics1.getIdleCount());
+        Assert.assertEquals(1, statistics2.getDestroyedCount());
+        Assert.assertEquals(0, statistics2.getIdleCount());
+    }
+
+    @Test
+    public void testDisabled() {
+        JMSContextPool pool = createPool(0);
+
+        Assert.assertFalse(pool.isEnabled(connectionFactory));
+    }
+
+    @Test
+    public void testResourceAdapterConnectionFactoryNotPooled() {
+        JMSContextPool pool = createPool(1);
+        ConnectionFactory resourceAdapterConnectionFactory = Mockito.mock(ConnectionFactory.class, Mockito.withSettings().extraInterfaces(Referenceable.class));
+
+        // the managed connections of a resource adapter are pooled by the resource adapter
+        Assert.assertTrue(pool.isEnabled(connectionFactory));
+        Assert.assertFalse(pool.isEnabled(resourceAdapterConnectionFactory));
+    }
+}
@@ -10,6 +10,7 @@ import static org.jboss.dmr.ModelType.BOOLEAN;
 import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LIST;
 import static org.jboss.dmr.ModelType.LONG;
+import static org.jboss.dmr.ModelType.OBJECT;
 import static org.jboss.dmr.ModelType.STRING;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.FILTER;
 import static org.wildfly.extension.messaging.activemq.CommonAttributes.QUEUE;
@@ -20,6 +21,13 @@ import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.runtimeReadOnlyOperation;
 import static org.wildfly.extension.messaging.activemq._private.MessagingLogger.ROOT_LOGGER;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
 import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ObjectListAttributeDefinition;
@@ -28,11 +36,13 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.ParameterValidator;
+import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.dmr.ModelNode;
@@ -53,6 +63,8 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
     public static final String LIST_MESSAGES = "list-messages";
     public static final String LIST_MESSAGES_AS_JSON = "list-messages-as-json";
+    public static final String LIST_MESSAGES_PAGE = "list-messages-page";
+    public static final String LIST_MESSAGES_PAGE_AS_JSON = LIST_MESSAGES_PAGE + "-as-json";
     public static final String COUNT_MESSAGES = "count-messages";
     public static final String REMOVE_MESSAGE = "remove-message";
     public static final String REMOVE_MESSAGES = "remove-messages";
@@ -82,6 +94,11 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
     public static final ParameterValidator PRIORITY_VALIDATOR = new IntRangeValidator(0, 9, false, false);
 
+    static final String MESSAGES = "messages";
+    static final String NEXT_CURSOR = "next-cursor";
+    // Upper bound of the number of messages held in memory by a single invocation of a paged operation
+    static final int MAX_PAGE_SIZE = 1000;
+
     private static final AttributeDefinition OTHER_QUEUE_NAME = createNonEmptyStringAttribute("other-queue-name");
     private static final AttributeDefinition REJECT_DUPLICATES = SimpleAttributeDefinitionBuilder.create("reject-duplicates", BOOLEAN)
             .setRequired(false)
@@ -89,6 +106,18 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
     private static final AttributeDefinition NEW_PRIORITY = SimpleAttributeDefinitionBuilder.create("new-priority", INT)
             .setValidator(PRIORITY_VALIDATOR)
             .build();
+    private static final AttributeDefinition PAGE_SIZE = SimpleAttributeDefinitionBuilder.create("page-size", INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(100))
+            .setValidator(new IntRangeValidator(1, MAX_PAGE_SIZE, false, false))
+            .build();
+    private static final AttributeDefinition CURSOR = SimpleAttributeDefinitionBuilder.create("cursor", STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+    private static final StringListAttributeDefinition PROPERTIES = new StringListAttributeDefinition.Builder("properties")
+            .setRequired(false)
+            .build();
 
     protected abstract AttributeDefinition getMessageIDAttributeDefinition();
 
@@ -107,6 +136,16 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 .setReplyType(STRING)
                 .build(),
                 this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_PAGE, RESOLVER)
+                .setParameters(FILTER, PAGE_SIZE, CURSOR, PROPERTIES)
+                .setReplyType(OBJECT)
+                .build(),
+                this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(LIST_MESSAGES_PAGE_AS_JSON, RESOLVER)
+                .setParameters(FILTER, PAGE_SIZE, CURSOR, PROPERTIES)
+                .setReplyType(STRING)
+                .build(),
+                this);
         registry.registerOperationHandler(runtimeReadOnlyOperation(COUNT_MESSAGES, RESOLVER)
                 .setParameters(FILTER)
                 .setReplyType(LONG)
@@ -251,6 +290,10 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
             } else if (LIST_MESSAGES_AS_JSON.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
                 context.getResult().set(control.listMessagesAsJSON(filter));
+            } else if (LIST_MESSAGES_PAGE.equals(operationName)) {
+                context.getResult().set(listMessagesPage(context, operation, control));
+            } else if (LIST_MESSAGES_PAGE_AS_JSON.equals(operationName)) {
+                context.getResult().set(listMessagesPage(context, operation, control).toJSONString(true));
             } else if (LIST_DELIVERING_MESSAGES.equals(operationName)) {
                 String json = control.listDeliveringMessagesAsJSON();
                 context.getResult().set(ModelNode.fromJSONString(json));
@@ -263,7 +306,8 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
                 context.getResult().set(control.listScheduledMessagesAsJSON());
             } else if (COUNT_MESSAGES.equals(operationName)) {
                 String filter = resolveFilter(context, operation);
-                context.getResult().set(control.countMessages(filter));
+                // Without filter, use the message count maintained by the queue instead of iterating over its messages
+                context.getResult().set((filter == null || filter.isEmpty()) ? control.getMessageCount() : control.countMessages(filter));
             } else if (REMOVE_MESSAGE.equals(operationName)) {
                 ModelNode id = getMessageIDAttributeDefinition().resolveModelAttribute(context, operation);
                 context.getResult().set(control.removeMessage(id));
@@ -368,6 +412,91 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         context.completeStep(rh);
     }
 
+    /**
+     * Returns a page of the messages matching the filter, with the cursor of the next page if there may be more messages.
+     * Messages are browsed by the broker, which only converts the messages of the requested pages.
+     */
+    private static ModelNode listMessagesPage(OperationContext context, ModelNode operation, DelegatingQueueControl<?> control) throws Exception {
+        String filter = resolveFilter(context, operation);
+        int pageSize = PAGE_SIZE.resolveModelAttribute(context, operation).asInt();
+        String cursor = CURSOR.resolveModelAttribute(context, operation).asStringOrNull();
+        List<String> properties = PROPERTIES.unwrap(context, operation);
+        return listMessagesPage(control, filter, pageSize, cursor, properties);
+    }
+
+    /**
+     * Returns the messages that follow, in browse order, the last message returned by the previous invocation.
+     * The cursor is the position of this last message, so that messages removed from or added to the queue between
+     * invocations neither shift the returned messages nor cause messages to be returned twice.
+     */
+    static ModelNode listMessagesPage(DelegatingQueueControl<?> control, String filter, int pageSize, String cursor, List<String> properties) throws Exception {
+        List<CompositeData> messages = new ArrayList<>(pageSize);
+        int page = 1;
+        if (cursor == null) {
+            messages.addAll(Arrays.asList(control.browse(page, pageSize, filter)));
+        } else {
+            MessagePosition last = MessagePosition.parse(cursor);
+            // Start from the page that contained the last message
+            page = last.getPage();
+            CompositeData[] browsed = control.browse(page, pageSize, filter);
+            // Messages were removed since the previous invocation: the last message, if still in the queue, is in a previous page
+            while (page > 1 && (browsed.length == 0 || last.isBefore(browsed[0]))) {
+                browsed = control.browse(--page, pageSize, filter);
+            }
+            while (true) {
+                for (CompositeData message : browsed) {
+                    // Skip the messages up to the last message, including those added before it since the previous invocation
+                    if (messages.size() < pageSize && last.isBefore(message)) {
+                        messages.add(message);
+                    }
+                }
+                if (messages.size() == pageSize || browsed.length < pageSize) {
+                    break;
+                }
+                browsed = control.browse(++page, pageSize, filter);
+            }
+        }
+        ModelNode result = new ModelNode();
+        ModelNode list = result.get(MESSAGES).setEmptyList();
+        for (CompositeData message : messages) {
+            ModelNode node = list.add();
+            for (String key : message.getCompositeType().keySet()) {
+                String name = control.getMessagePropertyName(key);
+                if (properties.isEmpty() || properties.contains(name)) {
+                    setValue(node.get(name), message.get(key));
+                }
+            }
+        }
+        if (messages.size() == pageSize) {
+            result.get(NEXT_CURSOR).set(new MessagePosition(page, messages.get(pageSize - 1)).toString());
+        }
+        return result;
+    }
+
+    private static void setValue(ModelNode node, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Boolean) {
+            node.set((Boolean) value);
+        } else if (value instanceof Long) {
+            node.set((Long) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            node.set(((Number) value).intValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            node.set(((Number) value).doubleValue());
+        } else if (value instanceof TabularData) {
+            // Message properties, as rows of key/value
+            node.setEmptyObject();
+            for (Object row : ((TabularData) value).values()) {
+                CompositeData entry = (CompositeData) row;
+                setValue(node.get(String.valueOf(entry.get("key"))), entry.get("value"));
+            }
+        } else {
+            node.set(value.toString());
+        }
+    }
+
     protected AttributeDefinition[] getReplyMapConsumerMessageParameterDefinition() {
         return new AttributeDefinition[]{
                 createNonEmptyStringAttribute("consumerName"),
@@ -390,6 +519,70 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
         throw MessagingLogger.ROOT_LOGGER.unsupportedOperation(operationName);
     }
 
+    /**
+     * Position of a message in the browse order of a queue, i.e. by descending priority, then by message ID.
+     */
+    private static class MessagePosition {
+        private static final String MESSAGE_ID = "messageID";
+        private static final String PRIORITY = "priority";
+        private static final char SEPARATOR = ':';
+
+        // Page of the message, used to locate the message in subsequent invocations
+        private final int page;
+        private final int priority;
+        private final long messageID;
+
+        MessagePosition(int page, CompositeData message) {
+            this(page, getPriority(message), getMessageID(message));
+        }
+
+        private MessagePosition(int page, int priority, long messageID) {
+            this.page = page;
+            this.priority = priority;
+            this.messageID = messageID;
+        }
+
+        static MessagePosition parse(String cursor) throws OperationFailedException {
+            String[] values = cursor.split(String.valueOf(SEPARATOR));
+            if (values.length == 3) {
+                try {
+                    int page = Integer.parseInt(values[0]);
+                    if (page >= 1) {
+                        return new MessagePosition(page, Integer.parseInt(values[1]), Long.parseLong(values[2]));
+                    }
+                } catch (NumberFormatException e) {
+                    // Fall through
+                }
+            }
+            throw ROOT_LOGGER.invalidCursor(cursor, NEXT_CURSOR);
+        }
+
+        int getPage() {
+            return this.page;
+        }
+
+        /**
+         * Indicates whether the given message follows this position in the browse order.
+         */
+        boolean isBefore(CompositeData message) {
+            int priority = getPriority(message);
+            return (this.priority != priority) ? this.priority > priority : this.messageID < getMessageID(message);
+        }
+
+        private static int getPriority(CompositeData message) {
+            return ((Number) message.get(PRIORITY)).intValue();
+        }
+
+        private static long getMessageID(CompositeData message) {
+            return ((Number) message.get(MESSAGE_ID)).longValue();
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(this.page) + SEPARATOR + this.priority + SEPARATOR + this.messageID;
+        }
+    }
+
     /**
      * Exposes the method signatures that are common between {@link org.apache.activemq.api.core.management.QueueControl}
      * and {@link org.apache.activemq.api.jms.management.JMSQueueControl}.
@@ -402,6 +595,23 @@ public abstract class AbstractQueueControlHandler<T> extends AbstractRuntimeOnly
 
         long countMessages(String filter) throws Exception;
 
+        /**
+         * Returns the number of messages in the queue, as maintained by the queue.
+         */
+        long getMessageCount();
+
+        /**
+         * Returns the messages of the given (1-based) page that match the filter.
+         */
+        CompositeData[] browse(int page, int pageSize, String filter) throws Exception;
+
+        /**
+         * Returns the name of a message property, as exposed by the management operations, from its broker name.
+         */
+        default String getMessagePropertyName(String name) {
+            return name;
+        }
+
         boolean removeMessage(ModelNode id) throws Exception;
 
         int removeMessages(String filter) throws Exception;
@@ -29,8 +29,10 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.extension.messaging.activemq.deployment.injection.JMSContextPoolStatistics;
 
 /**
  * {@link org.jboss.as.controller.ResourceDefinition} for the messaging subsystem root resource.
@@ -40,6 +42,7 @@ import org.jboss.dmr.ModelNode;
 public class MessagingSubsystemRootResourceDefinition extends PersistentResourceDefinition {
     private static final String GLOBAL_CLIENT_PREFIX = "global-client-thread-pool-";
     private static final String GLOBAL_CLIENT_SCHEDULED_PREFIX = "global-client-scheduled-thread-pool-";
+    private static final String INJECTED_JMS_CONTEXT_POOL_PREFIX = "injected-jms-context-pool-";
 
     public static final RuntimeCapability<Void> CONFIGURATION_CAPABILITY = RuntimeCapability.Builder.of("org.wildfly.messaging.activemq.external.configuration", false)
             .setServiceType(ExternalBrokerConfigurationService.class)
@@ -133,9 +136,44 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
             .setMeasurementUnit(MeasurementUnit.NANOSECONDS)
             .build();
 
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_MAX_SIZE = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "max-size", INT)
+            .setAttributeGroup("injected-jms-context")
+            .setXmlName("pool-max-size")
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_CREATED_COUNT = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "created-count", LONG)
+            .setAttributeGroup("injected-jms-context")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_REUSED_COUNT = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "reused-count", LONG)
+            .setAttributeGroup("injected-jms-context")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_DESTROYED_COUNT = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "destroyed-count", LONG)
+            .setAttributeGroup("injected-jms-context")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition INJECTED_JMS_CONTEXT_POOL_IDLE_COUNT = create(INJECTED_JMS_CONTEXT_POOL_PREFIX + "idle-count", INT)
+            .setAttributeGroup("injected-jms-context")
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(GAUGE_METRIC)
+            .build();
+
     public static final AttributeDefinition[] ATTRIBUTES = {
         GLOBAL_CLIENT_THREAD_POOL_MAX_SIZE,
-        GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE
+        GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_MAX_SIZE,
+        INJECTED_JMS_CONTEXT_POOL_MAX_SIZE
     };
     public static final AttributeDefinition[] METRICS = {
         GLOBAL_CLIENT_THREAD_POOL_ACTIVE_COUNT, GLOBAL_CLIENT_THREAD_POOL_COMPLETED_TASK_COUNT, GLOBAL_CLIENT_THREAD_POOL_CURRENT_THREAD_COUNT,
@@ -144,6 +182,10 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_CURRENT_THREAD_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_LARGEST_THREAD_COUNT,
         GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_TASK_COUNT, GLOBAL_CLIENT_SCHEDULED_THREAD_POOL_KEEPALIVE_TIME
     };
+    static final AttributeDefinition[] INJECTED_JMS_CONTEXT_POOL_METRICS = {
+        INJECTED_JMS_CONTEXT_POOL_CREATED_COUNT, INJECTED_JMS_CONTEXT_POOL_REUSED_COUNT, INJECTED_JMS_CONTEXT_POOL_DESTROYED_COUNT,
+        INJECTED_JMS_CONTEXT_POOL_IDLE_COUNT
+    };
 
     MessagingSubsystemRootResourceDefinition(BiConsumer<OperationContext, String> broadcastCommandDispatcherFactoryInstaller) {
         super(new SimpleResourceDefinition.Parameters(MessagingExtension.SUBSYSTEM_PATH,
@@ -159,6 +201,9 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         for (AttributeDefinition metric : METRICS) {
             resourceRegistration.registerMetric(metric, ClientThreadPoolMetricReader.INSTANCE);
         }
+        for (AttributeDefinition metric : INJECTED_JMS_CONTEXT_POOL_METRICS) {
+            resourceRegistration.registerMetric(metric, InjectedJMSContextPoolMetricReader.INSTANCE);
+        }
     }
 
     @Override
@@ -209,4 +254,32 @@ public class MessagingSubsystemRootResourceDefinition extends PersistentResource
         }
     }
 
+    private static final class InjectedJMSContextPoolMetricReader implements OperationStepHandler {
+
+        private static final InjectedJMSContextPoolMetricReader INSTANCE = new InjectedJMSContextPoolMetricReader();
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+            // Sum the statistics of all connection factories
+            final Collection<JMSContextPoolStatistics> statistics = JMSContextPoolStatistics.getConnectionFactoryStatistics().values();
+            switch (attributeName.substring(INJECTED_JMS_CONTEXT_POOL_PREFIX.length())) {
+                case "created-count":
+                    context.getResult().set(statistics.stream().mapToLong(JMSContextPoolStatistics::getCreatedCount).sum());
+                    break;
+                case "reused-count":
+                    context.getResult().set(statistics.stream().mapToLong(JMSContextPoolStatistics::getReusedCount).sum());
+                    break;
+                case "destroyed-count":
+                    context.getResult().set(statistics.stream().mapToLong(JMSContextPoolStatistics::getDestroyedCount).sum());
+                    break;
+                case "idle-count":
+                    context.getResult().set(statistics.stream().mapToInt(JMSContextPoolStatistics::getIdleCount).sum());
+                    break;
+                default:
+                    // Programming bug. Throw a RuntimeException, not OFE, as this is not a client error
+                    throw new IllegalArgumentException(attributeName);
+            }
+        }
+    }
 }
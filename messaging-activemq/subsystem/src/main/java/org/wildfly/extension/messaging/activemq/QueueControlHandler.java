@@ -15,6 +15,8 @@ import static org.jboss.dmr.ModelType.LONG;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.management.openmbean.CompositeData;
+
 import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.jboss.as.controller.AttributeDefinition;
@@ -137,6 +139,16 @@ public class QueueControlHandler extends AbstractQueueControlHandler<QueueContro
                 return control.countMessages(filter);
             }
 
+            @Override
+            public long getMessageCount() {
+                return control.getMessageCount();
+            }
+
+            @Override
+            public CompositeData[] browse(int page, int pageSize, String filter) throws Exception {
+                return control.browse(page, pageSize, filter);
+            }
+
             @Override
             public boolean removeMessage(ModelNode id) throws Exception {
                 return control.removeMessage(id.asLong());
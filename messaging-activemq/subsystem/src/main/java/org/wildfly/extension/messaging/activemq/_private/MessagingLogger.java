@@ -905,4 +905,7 @@ public interface MessagingLogger extends BasicLogger {
 
     @Message(id = 119, value = "'%s' wasn't found among existing JMS resources.")
     OperationFormatException jndiWasNotFound(String jndiName);
+
+    @Message(id = 120, value = "Invalid cursor '%s', it must be the %s returned by the previous invocation of the operation.")
+    OperationFailedException invalidCursor(String cursor, String nextCursor);
 }
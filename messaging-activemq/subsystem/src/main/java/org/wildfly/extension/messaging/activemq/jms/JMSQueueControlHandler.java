@@ -9,6 +9,8 @@ import static org.apache.activemq.artemis.utils.SelectorTranslator.convertToActi
 import static org.wildfly.extension.messaging.activemq.OperationDefinitionHelper.createNonEmptyStringAttribute;
 import static org.wildfly.extension.messaging.activemq.jms.JMSQueueService.JMS_QUEUE_PREFIX;
 
+import javax.management.openmbean.CompositeData;
+
 import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.jboss.as.controller.AttributeDefinition;
@@ -75,6 +77,21 @@ public class JMSQueueControlHandler extends AbstractQueueControlHandler<QueueCon
                 return control.countMessages(convertToActiveMQFilterString(filter));
             }
 
+            @Override
+            public long getMessageCount() {
+                return control.getMessageCount();
+            }
+
+            @Override
+            public CompositeData[] browse(int page, int pageSize, String filter) throws Exception {
+                return control.browse(page, pageSize, convertToActiveMQFilterString(filter));
+            }
+
+            @Override
+            public String getMessagePropertyName(String name) {
+                return convertToJMSProperties(name);
+            }
+
             @Override
             public boolean removeMessage(ModelNode id) throws Exception {
                 int n = control.removeMessages(createFilterForJMSMessageID(id));
@@ -0,0 +1,160 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.messaging.activemq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.extension.messaging.activemq.AbstractQueueControlHandler.DelegatingQueueControl;
+
+/**
+ * Unit test of the paged listing of the messages of a queue.
+ */
+public class AbstractQueueControlHandlerTestCase {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final List<CompositeData> queue = new ArrayList<>();
+    private final DelegatingQueueControl<?> control = mock(DelegatingQueueControl.class);
+    private CompositeType type;
+
+    @Before
+    public void setUp() throws Exception {
+        type = new CompositeType("message", "message", new String[] { "messageID", "priority", "text" }, new String[] { "messageID", "priority", "text" },
+                new OpenType<?>[] { SimpleType.LONG, SimpleType.BYTE, SimpleType.STRING });
+        // Browse the queue by descending priority, then by message ID, as the broker does
+        when(control.browse(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            int page = invocation.getArgument(0);
+            int pageSize = invocation.getArgument(1);
+            List<CompositeData> messages = queue.stream()
+                    .sorted(Comparator.comparing((CompositeData message) -> (Byte) message.get("priority")).reversed().thenComparing(message -> (Long) message.get("messageID")))
+                    .skip((long) (page - 1) * pageSize)
+                    .limit(pageSize)
+                    .collect(Collectors.toList());
+            return messages.toArray(new CompositeData[0]);
+        });
+        when(control.getMessagePropertyName(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void testPages() throws Exception {
+        for (long id = 1; id <= 5; ++id) {
+            send(id, 4);
+        }
+
+        ModelNode result = listMessagesPage(null);
+        assertEquals(List.of(1L, 2L), getMessageIDs(result));
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(3L, 4L), getMessageIDs(result));
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(5L), getMessageIDs(result));
+        assertFalse(result.hasDefined(AbstractQueueControlHandler.NEXT_CURSOR));
+    }
+
+    @Test
+    public void testRemovedMessages() throws Exception {
+        for (long id = 1; id <= 6; ++id) {
+            send(id, 4);
+        }
+
+        ModelNode result = listMessagesPage(null);
+        assertEquals(List.of(1L, 2L), getMessageIDs(result));
+
+        // The messages of the first page are consumed
+        queue.remove(0);
+        queue.remove(0);
+
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(3L, 4L), getMessageIDs(result));
+
+        // A message of the next page is consumed
+        queue.removeIf(message -> (Long) message.get("messageID") == 5L);
+
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(6L), getMessageIDs(result));
+    }
+
+    @Test
+    public void testAddedMessages() throws Exception {
+        for (long id = 1; id <= 5; ++id) {
+            send(id, 4);
+        }
+
+        ModelNode result = listMessagesPage(null);
+        assertEquals(List.of(1L, 2L), getMessageIDs(result));
+
+        // Messages are added before and after the last message of the first page
+        send(10, 9);
+        send(11, 9);
+        send(12, 4);
+
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(3L, 4L), getMessageIDs(result));
+        result = listMessagesPage(result.get(AbstractQueueControlHandler.NEXT_CURSOR).asString());
+        assertEquals(List.of(5L, 12L), getMessageIDs(result));
+    }
+
+    @Test
+    public void testProperties() throws Exception {
+        send(1, 4);
+
+        ModelNode result = AbstractQueueControlHandler.listMessagesPage(control, null, PAGE_SIZE, null, List.of("messageID"));
+
+        List<ModelNode> messages = result.get(AbstractQueueControlHandler.MESSAGES).asList();
+        assertEquals(1, messages.size());
+        assertEquals(1L, messages.get(0).get("messageID").asLong());
+        assertFalse(messages.get(0).has("text"));
+    }
+
+    @Test
+    public void testInvalidCursor() throws Exception {
+        send(1, 4);
+
+        for (String cursor : List.of("foo", "2", "0:4:1", "1:4")) {
+            try {
+                listMessagesPage(cursor);
+                throw new AssertionError(cursor);
+            } catch (OperationFailedException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(cursor));
+            }
+        }
+    }
+
+    private ModelNode listMessagesPage(String cursor) throws Exception {
+        return AbstractQueueControlHandler.listMessagesPage(control, null, PAGE_SIZE, cursor, List.of());
+    }
+
+    private void send(long id, int priority) throws OpenDataException {
+        queue.add(new CompositeDataSupport(type, new String[] { "messageID", "priority", "text" }, new Object[] { id, (byte) priority, "message " + id }));
+    }
+
+    private static List<Long> getMessageIDs(ModelNode result) {
+        return result.get(AbstractQueueControlHandler.MESSAGES).asList().stream()
+                .map(message -> message.get("messageID").asLong())
+                .collect(Collectors.toList());
+    }
+}
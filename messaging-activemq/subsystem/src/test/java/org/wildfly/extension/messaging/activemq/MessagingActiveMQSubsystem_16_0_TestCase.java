@@ -80,6 +80,11 @@ public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemB
         return properties;
     }
 
+    @Override
+    protected KernelServices standardSubsystemTest(String configId, boolean compareXml) throws Exception {
+        return super.standardSubsystemTest(configId, false);
+    }
+
     @Test
     public void testJournalAttributes() throws Exception {
         KernelServices kernelServices = standardSubsystemTest(null, false);
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.OptionalDouble;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the latency of the export of the {@link WildFlyMetricRegistry} while other threads concurrently register and
+ * unregister the metrics of deployments, as well as the latency of these registrations.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricRegistryBenchmark {
+
+    private static final Metric METRIC = () -> OptionalDouble.of(1);
+
+    // Number of metrics registered by the server
+    @Param({ "1000", "6000" })
+    private int metrics;
+
+    // Number of metrics registered by a deployment
+    @Param({ "1000" })
+    private int deploymentMetrics;
+
+    private final PrometheusExporter exporter = new PrometheusExporter();
+    private WildFlyMetricRegistry registry;
+    private WildFlyMetricMetadata[] deploymentMetadata;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < this.metrics; ++i) {
+            this.registry.registerMetric(METRIC, createMetadata("server", i));
+        }
+        this.deploymentMetadata = new WildFlyMetricMetadata[this.deploymentMetrics];
+        for (int i = 0; i < this.deploymentMetrics; ++i) {
+            this.deploymentMetadata[i] = createMetadata("deployment", i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.registry.close();
+    }
+
+    private static WildFlyMetricMetadata createMetadata(String resource, int index) {
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "benchmark"), PathElement.pathElement(resource, Integer.toString(index)));
+        return new WildFlyMetricMetadata("attribute-" + (index % 100), address, null, "description", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+    }
+
+    @Benchmark
+    @Group("scrapeDuringRegistration")
+    @GroupThreads(1)
+    public void scrape(Blackhole blackhole) throws IOException {
+        this.exporter.export(this.registry, new BlackholeWriter(blackhole));
+    }
+
+    @Benchmark
+    @Group("scrapeDuringRegistration")
+    @GroupThreads(3)
+    public void register() {
+        // (Un)register the metric of a deployment, as a burst of (un)deployments would
+        WildFlyMetricMetadata metadata = this.deploymentMetadata[ThreadLocalRandom.current().nextInt(this.deploymentMetadata.length)];
+        this.registry.registerMetric(METRIC, metadata);
+        this.registry.unregister(metadata.getMetricID());
+    }
+
+    /**
+     * Writer consuming the exported text, so that the benchmark measures the export rather than the buffering of its result.
+     */
+    private static class BlackholeWriter extends Writer {
+        private final Blackhole blackhole;
+
+        BlackholeWriter(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(String value) {
+            this.blackhole.consume(value);
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            this.blackhole.consume(buffer);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
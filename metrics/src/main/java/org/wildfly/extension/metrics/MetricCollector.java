@@ -13,6 +13,7 @@ import static org.wildfly.extension.metrics.MetricMetadata.Type.GAUGE;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -93,29 +94,33 @@ public class MetricCollector {
             return;
         }
 
-        ModelNode resourceDescription = null;
+        Map<String, AttributeAccess> metrics = new LinkedHashMap<>();
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
-            String attributeName = entry.getKey();
-
-            AttributeAccess attributeAccess = entry.getValue();
-            if (!isCollectibleMetric(attributeAccess)) {
-                continue;
+            if (isCollectibleMetric(entry.getValue())) {
+                metrics.put(entry.getKey(), entry.getValue());
             }
+        }
 
-            if (resourceDescription == null) {
-                DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
-                resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
-            }
+        if (!metrics.isEmpty()) {
+            DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
+            ModelNode resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
             PathAddress resourceAddress = resourceAddressResolver.apply(address);
-            MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
-            boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
-            String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
+            // the metrics of a resource share the read of their values
+            WildFlyResourceMetrics resourceMetrics = new WildFlyResourceMetrics(modelControllerClient, resourceAddress, metrics.keySet());
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
-            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
+            for (Map.Entry<String, AttributeAccess> entry : metrics.entrySet()) {
+                String attributeName = entry.getKey();
+                AttributeAccess attributeAccess = entry.getValue();
+                MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
+                boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
+                String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
-            registration.addUnregistrationTask(metadata.getMetricID());
+                WildFlyMetric metric = new WildFlyMetric(resourceMetrics, attributeName);
+                WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress, prefix, attributeDescription, unit, isCounter ? COUNTER : GAUGE);
+
+                registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+                registration.addUnregistrationTask(metadata.getMetricID());
+            }
         }
 
         for (String type : current.getChildTypes()) {
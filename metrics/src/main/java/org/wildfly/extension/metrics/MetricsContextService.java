@@ -10,6 +10,14 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -34,10 +42,15 @@ public class MetricsContextService implements Service {
     private final Supplier<ExtensibleHttpManagement> extensibleHttpManagement;
     private Supplier<WildFlyMetricRegistry> wildflyMetricRegistry;
     private final Supplier<Boolean> securityEnabledSupplier;
+    // Time to live of the result of a scrape, shared by the scrapes received meanwhile, if positive.
+    private final long scrapeCacheTtlNanos;
     private final PrometheusExporter prometheusExporter = new PrometheusExporter();
     private HttpHandler overrideableMetricHandler;
+    // guarded by this
+    private byte[] cachedScrape;
+    private long cachedScrapeTime;
 
-    static void install(OperationContext context, boolean securityEnabled) {
+    static void install(OperationContext context, boolean securityEnabled, long scrapeCacheTtl) {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(METRICS_HTTP_CONTEXT_CAPABILITY.getCapabilityServiceName());
 
         Supplier<ExtensibleHttpManagement> extensibleHttpManagement = serviceBuilder.requires(context.getCapabilityServiceName(HTTP_EXTENSIBILITY_CAPABILITY, ExtensibleHttpManagement.class));
@@ -54,16 +67,21 @@ public class MetricsContextService implements Service {
                 }
             };
         }
-        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier);
+        Service metricsContextService = new MetricsContextService(metricsContext, extensibleHttpManagement, wildflyMetricRegistry, securityEnabledSupplier, scrapeCacheTtl);
 
         serviceBuilder.setInstance(metricsContextService)
                 .install();
     }
-    public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier) {
+
+    /**
+     * @param scrapeCacheTtl the time (in milliseconds) during which the result of a scrape is shared by the scrapes received meanwhile, 0 to disable it
+     */
+    public MetricsContextService(Consumer<MetricsContextService> consumer, Supplier<ExtensibleHttpManagement> extensibleHttpManagement, Supplier<WildFlyMetricRegistry> wildflyMetricRegistry, Supplier<Boolean> securityEnabledSupplier, long scrapeCacheTtl) {
         this.consumer = consumer;
         this.extensibleHttpManagement = extensibleHttpManagement;
         this.wildflyMetricRegistry = wildflyMetricRegistry;
         this.securityEnabledSupplier = securityEnabledSupplier;
+        this.scrapeCacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(scrapeCacheTtl);
     }
 
     @Override
@@ -75,24 +93,60 @@ public class MetricsContextService implements Service {
                     overrideableMetricHandler.handleRequest(exchange);
                     return;
                 }
+                // reading the metric values may block
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
 
-                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
+                if (scrapeCacheTtlNanos > 0) {
+                    // only a scrape shared by the scrapes received meanwhile is buffered
+                    exchange.getResponseSender().send(ByteBuffer.wrap(getCachedScrape()));
+                    return;
+                }
+                // the registry is not locked while it is exported, so it is streamed to the response rather than buffered
+                exchange.startBlocking();
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8))) {
+                    export(writer);
                 }
             }
         });
         consumer.accept(this);
     }
 
+    private void export(Writer writer) throws IOException {
+        // the registry can be exported while metrics are (un)registered
+        prometheusExporter.export(wildflyMetricRegistry.get(), writer);
+    }
+
+    private byte[] scrape() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+            export(writer);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Returns the cached result of the last scrape, or scrapes the metrics if it expired.
+     * Concurrent scrapes wait for the one that reads the metrics instead of reading them too.
+     */
+    private synchronized byte[] getCachedScrape() throws IOException {
+        long now = System.nanoTime();
+        if (cachedScrape == null || now - cachedScrapeTime > scrapeCacheTtlNanos) {
+            cachedScrape = scrape();
+            cachedScrapeTime = now;
+        }
+        return cachedScrape;
+    }
+
     @Override
     public void stop(StopContext context) {
         extensibleHttpManagement.get().removeContext(CONTEXT_NAME);
         consumer.accept(null);
+        synchronized (this) {
+            cachedScrape = null;
+        }
     }
 
     public void setOverrideableMetricHandler(HttpHandler handler) {
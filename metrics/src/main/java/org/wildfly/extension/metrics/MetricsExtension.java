@@ -37,9 +37,10 @@ public class MetricsExtension implements Extension {
     private static final String RESOURCE_NAME = MetricsExtension.class.getPackage().getName() + ".LocalDescriptions";
 
     protected static final ModelVersion VERSION_1_0_0 = ModelVersion.create(1, 0, 0);
-    private static final ModelVersion CURRENT_MODEL_VERSION = VERSION_1_0_0;
+    protected static final ModelVersion VERSION_1_1_0 = ModelVersion.create(1, 1, 0);
+    private static final ModelVersion CURRENT_MODEL_VERSION = VERSION_1_1_0;
 
-    private static final MetricsParser_1_0 CURRENT_PARSER = new MetricsParser_1_0();
+    private static final MetricsParser_1_1 CURRENT_PARSER = new MetricsParser_1_1();
 
     static ResourceDescriptionResolver getResourceDescriptionResolver(final String... keyPrefix) {
         return getResourceDescriptionResolver(true, keyPrefix);
@@ -68,6 +69,7 @@ public class MetricsExtension implements Extension {
 
     @Override
     public void initializeParsers(ExtensionParsingContext context) {
-        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MetricsParser_1_0.NAMESPACE, CURRENT_PARSER);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MetricsParser_1_0.NAMESPACE, MetricsParser_1_0::new);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, MetricsParser_1_1.NAMESPACE, CURRENT_PARSER);
     }
 }
\ No newline at end of file
@@ -50,10 +50,11 @@ class MetricsSubsystemAdd extends AbstractBoottimeAddStepHandler {
         boolean exposeAnySubsystem = exposedSubsystems.remove("*");
         String prefix = MetricsSubsystemDefinition.PREFIX.resolveModelAttribute(context, model).asStringOrNull();
         boolean securityEnabled = MetricsSubsystemDefinition.SECURITY_ENABLED.resolveModelAttribute(context, model).asBoolean();
+        long scrapeCacheTtl = MetricsSubsystemDefinition.SCRAPE_CACHE_TTL.resolveModelAttribute(context, model).asLong();
 
         WildFlyMetricRegistryService.install(context);
         MetricsCollectorService.install(context);
-        MetricsContextService.install(context, securityEnabled);
+        MetricsContextService.install(context, securityEnabled, scrapeCacheTtl);
 
         // If the MP Metrics module is not installed, we need to install the WF Metrics DPU and initiate a metrics
         // collection. If MP Metrics *is* installed, then we do not need to do either of those things, as that module
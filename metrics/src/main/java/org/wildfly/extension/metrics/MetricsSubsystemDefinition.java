@@ -17,7 +17,9 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.management.Capabilities;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceName;
@@ -64,7 +66,16 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
             .setAllowExpression(true)
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX };
+    static final AttributeDefinition SCRAPE_CACHE_TTL = SimpleAttributeDefinitionBuilder.create("scrape-cache-ttl", ModelType.LONG)
+            .setDefaultValue(new ModelNode(0L))
+            .setRequired(false)
+            .setRestartAllServices()
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX, SCRAPE_CACHE_TTL };
 
     protected MetricsSubsystemDefinition() {
         super(new SimpleResourceDefinition.Parameters(MetricsExtension.SUBSYSTEM_PATH,
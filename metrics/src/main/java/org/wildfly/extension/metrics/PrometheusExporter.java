@@ -4,12 +4,14 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
 
-import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
@@ -17,44 +19,38 @@ public class PrometheusExporter {
     private static final String LF = "\n";
 
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        StringWriter out = new StringWriter();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            // not thrown by a StringWriter
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Writes the metrics of the registry to the given writer, using their representation computed at registration.
+     */
+    public void export(WildFlyMetricRegistry registry, Writer out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+        for (PrometheusMetric metric : registry.getMetrics().values()) {
+            OptionalDouble metricValue = metric.getValue();
             // if the metric does not return a value, we skip printing the HELP and TYPE
             if (!metricValue.isPresent()) {
                 continue;
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            if (alreadyExportedMetrics.add(metric.getMetricName())) {
+                out.write(metric.getHeader());
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
-            // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
-            if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
-            }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            out.write(metric.getSamplePrefix());
+            out.write(Double.toString(metric.scaleToBaseUnit(metricValue.getAsDouble())));
+            out.write(LF);
         }
-
-        return out.toString();
-    }
-
-    private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
-        return value * MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
     }
 
-    private static String toPrometheusMetricName(MetricID metricID, MetricMetadata metadata) {
+    static String toPrometheusMetricName(MetricID metricID, MetricMetadata metadata) {
         String prometheusName = metricID.getMetricName();
         // change the Prometheus name depending on type and measurement unit
         if (metadata.getType() == WildFlyMetricMetadata.Type.COUNTER) {
@@ -80,8 +76,8 @@ public class PrometheusExporter {
                 out.append(",");
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.append(tag.getKey()).append("=\"").append(tag.getValue()).append("\"");
         }
         return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+
+/**
+ * A metric of the {@link WildFlyMetricRegistry} along with its Prometheus text representation, computed when the metric
+ * is registered so that an export only has to read and format the metric value.
+ */
+class PrometheusMetric {
+
+    private static final String LF = "\n";
+
+    private final Metric metric;
+    private final String metricName;
+    private final String header;
+    private final String samplePrefix;
+    private final double scale;
+
+    /**
+     * @param metric the metric
+     * @param metricID the ID of the metric
+     * @param metadata the metadata of the metrics with the name of the metric ID
+     */
+    PrometheusMetric(Metric metric, MetricID metricID, MetricMetadata metadata) {
+        this.metric = metric;
+        this.metricName = metricID.getMetricName();
+        String prometheusMetricName = PrometheusExporter.toPrometheusMetricName(metricID, metadata);
+        this.header = "# HELP " + prometheusMetricName + " " + metadata.getDescription() + LF
+                + "# TYPE " + prometheusMetricName + " " + metadata.getType() + LF;
+        // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
+        if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
+            prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+        }
+        this.samplePrefix = prometheusMetricName + PrometheusExporter.getTagsAsAString(metricID) + " ";
+        MeasurementUnit unit = metadata.getMeasurementUnit();
+        this.scale = MeasurementUnit.calculateOffset(unit, unit.getBaseUnits());
+    }
+
+    Metric getMetric() {
+        return metric;
+    }
+
+    String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * @return the HELP and TYPE lines of the metric
+     */
+    String getHeader() {
+        return header;
+    }
+
+    /**
+     * @return the name and tags of the metric sample line
+     */
+    String getSamplePrefix() {
+        return samplePrefix;
+    }
+
+    OptionalDouble getValue() {
+        return metric.getValue();
+    }
+
+    double scaleToBaseUnit(double value) {
+        return value * scale;
+    }
+}
@@ -7,34 +7,32 @@ package org.wildfly.extension.metrics;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Closeable;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Registry of the WildFly metrics.
+ *
+ * Metrics are held by concurrent maps, so that the registration and unregistration of metrics (e.g. by the deployment of
+ * an application exposing thousands of metrics) and their export do not block each other.
+ * An export iterates over the metrics registered when it started, and may or may not include metrics (un)registered meanwhile.
+ */
 public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
 
     /* Key is the metric name */
-    private Map<String, MetricMetadata> metadataMap = new HashMap();
-    private Map<MetricID, Metric> metricMap = new TreeMap<>();
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
-
+    private final ConcurrentMap<String, MetricMetadata> metadataMap = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<MetricID, PrometheusMetric> metricMap = new ConcurrentSkipListMap<>();
 
     @Override
     public void close() {
-
-        lock.writeLock().lock();
-        try {
-            metricMap.clear();
-            metadataMap.clear();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        metricMap.clear();
+        metadataMap.clear();
     }
 
-    Map<MetricID, Metric> getMetrics() {
+    Map<MetricID, PrometheusMetric> getMetrics() {
         return metricMap;
     }
 
@@ -43,39 +41,34 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
     }
 
     @Override
-    public synchronized void registerMetric(Metric metric, MetricMetadata metadata) {
+    public void registerMetric(Metric metric, MetricMetadata metadata) {
         requireNonNull(metadata);
         requireNonNull(metric);
 
-        lock.writeLock().lock();
-        try {
-            MetricID metricID = metadata.getMetricID();
-            if (!metadataMap.containsKey(metadata.getMetricName())) {
-                metadataMap.put(metadata.getMetricName(), metadata);
-            }
-            metricMap.put(metricID, metric);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        MetricID metricID = metadata.getMetricID();
+        MetricMetadata existingMetadata = metadataMap.putIfAbsent(metadata.getMetricName(), metadata);
+        // the metrics with the same name are exported with the metadata of the first registered one
+        metricMap.put(metricID, new PrometheusMetric(metric, metricID, (existingMetadata != null) ? existingMetadata : metadata));
     }
 
     @Override
     public void unregister(MetricID metricID) {
-        lock.writeLock().lock();
-        try {
-            metricMap.remove(metricID);
-        } finally {
-            lock.writeLock().unlock();
-        }
+        metricMap.remove(metricID);
     }
 
+    /**
+     * Does nothing, the registry can be read while metrics are (un)registered.
+     */
+    @Deprecated
     @Override
     public void readLock() {
-        lock.readLock().lock();
     }
 
+    /**
+     * Does nothing, the registry can be read while metrics are (un)registered.
+     */
+    @Deprecated
     @Override
     public void unlock() {
-        lock.readLock().unlock();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLLBACK_ON_RUNTIME_FAILURE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Values of the metrics of a management resource, shared by the metrics of its attributes.
+ *
+ * The metric attributes of the resource are read with a single composite operation whose result is reused by all the
+ * metrics read within {@link #MAX_AGE_NANOS}, so that collecting the metrics of a resource executes a single management
+ * operation instead of one operation per metric, without computing the runtime attributes of the resource that are not metrics.
+ * A metric that could not be read by the composite operation is read on its own with a read-attribute operation.
+ */
+public class WildFlyResourceMetrics {
+
+    private static final ModelNode UNDEFINED = new ModelNode();
+
+    // Long enough to span the collection of all the metrics by a scrape, short enough to not serve stale values to the next one
+    static final long MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    static {
+        UNDEFINED.protect();
+    }
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final PathAddress address;
+    private final List<String> attributeNames;
+    private final List<String> roles;
+    private final ModelNode readAttributesOp;
+    private final long maxAgeNanos;
+
+    // guarded by this
+    private Map<String, ModelNode> values;
+    private long readTime;
+
+    /**
+     * Creates the values of the metrics of a management resource.
+     *
+     * @param modelControllerClient the client used to read the metrics
+     * @param address the address of the management resource
+     * @param attributeNames the names of the metric attributes of the resource
+     * @param roles the roles with which the metrics are read, if any
+     */
+    public WildFlyResourceMetrics(LocalModelControllerClient modelControllerClient, PathAddress address, Collection<String> attributeNames, String... roles) {
+        this(modelControllerClient, address, attributeNames, List.of(roles), MAX_AGE_NANOS);
+    }
+
+    WildFlyResourceMetrics(LocalModelControllerClient modelControllerClient, PathAddress address, Collection<String> attributeNames, List<String> roles, long maxAgeNanos) {
+        this.modelControllerClient = modelControllerClient;
+        this.address = address;
+        this.attributeNames = List.copyOf(attributeNames);
+        this.roles = roles;
+        this.maxAgeNanos = maxAgeNanos;
+        this.readAttributesOp = new ModelNode();
+        this.readAttributesOp.get(OP).set(COMPOSITE);
+        this.readAttributesOp.get(OP_ADDR).setEmptyList();
+        ModelNode steps = this.readAttributesOp.get(STEPS).setEmptyList();
+        for (String attributeName : this.attributeNames) {
+            steps.add(this.createReadAttributeOperation(attributeName));
+        }
+        // the metrics that could be read are not discarded because another one could not
+        this.readAttributesOp.get(OPERATION_HEADERS, ROLLBACK_ON_RUNTIME_FAILURE).set(false);
+        this.addRoles(this.readAttributesOp);
+        this.readAttributesOp.protect();
+    }
+
+    public PathAddress getAddress() {
+        return this.address;
+    }
+
+    /**
+     * Returns the value of a metric attribute of the resource.
+     * The returned value may be protected and must not be modified.
+     *
+     * @param attributeName the name of a metric attribute of the resource
+     * @return the value of the attribute, undefined if it could not be read
+     */
+    public ModelNode getValue(String attributeName) {
+        ModelNode value = this.getValues().get(attributeName);
+        return (value != null) ? value : this.readAttributeValue(attributeName);
+    }
+
+    private synchronized Map<String, ModelNode> getValues() {
+        long now = System.nanoTime();
+        if (this.values == null || now - this.readTime > this.maxAgeNanos) {
+            this.values = this.readValues();
+            this.readTime = now;
+        }
+        return this.values;
+    }
+
+    private Map<String, ModelNode> readValues() {
+        ModelNode response = this.modelControllerClient.execute(this.readAttributesOp.clone());
+        ModelNode result = response.get(RESULT);
+        Map<String, ModelNode> values = new HashMap<>();
+        for (int i = 0; i < this.attributeNames.size(); ++i) {
+            ModelNode stepResponse = result.get("step-" + (i + 1));
+            if (stepResponse.hasDefined(OUTCOME) && SUCCESS.equals(stepResponse.get(OUTCOME).asString())) {
+                ModelNode value = stepResponse.get(RESULT);
+                value.protect();
+                values.put(this.attributeNames.get(i), value);
+            }
+        }
+        if (values.size() < this.attributeNames.size()) {
+            LOGGER.debugf("Unable to read all metrics of %s: %s.", this.address, response.get(FAILURE_DESCRIPTION));
+        }
+        return values;
+    }
+
+    private ModelNode readAttributeValue(String attributeName) {
+        ModelNode operation = this.createReadAttributeOperation(attributeName);
+        this.addRoles(operation);
+        ModelNode response = this.modelControllerClient.execute(operation);
+        if (response.hasDefined(FAILURE_DESCRIPTION)) {
+            String error = response.get(FAILURE_DESCRIPTION).toString();
+            // [WFLY-11933] if the value can not be read if the management resource is not accessible due to RBAC,
+            // it is logged it at a lower level.
+            if (error.contains("WFLYCTL0216")) {
+                LOGGER.debugf("Unable to read attribute %s: %s.", attributeName, error);
+            } else {
+                LOGGER.unableToReadAttribute(attributeName, this.address, error);
+            }
+            return UNDEFINED;
+        }
+        return response.get(RESULT);
+    }
+
+    private ModelNode createReadAttributeOperation(String attributeName) {
+        ModelNode operation = new ModelNode();
+        operation.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        operation.get(OP_ADDR).set(this.address.toModelNode());
+        operation.get(INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        operation.get(NAME).set(attributeName);
+        return operation;
+    }
+
+    private void addRoles(ModelNode operation) {
+        for (String role : this.roles) {
+            operation.get(OPERATION_HEADERS, ROLES).add(role);
+        }
+    }
+}
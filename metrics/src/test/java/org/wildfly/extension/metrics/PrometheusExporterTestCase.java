@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Unit test of the Prometheus export of the WildFly metrics.
+ */
+public class PrometheusExporterTestCase {
+
+    private final WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+    private final PrometheusExporter exporter = new PrometheusExporter();
+
+    @Test
+    public void testGauge() {
+        register("bytes-sent", "default", "Bytes sent", MeasurementUnit.KILOBYTES, MetricMetadata.Type.GAUGE, 2);
+
+        assertEquals("# HELP undertow_bytes_sent_bytes Bytes sent\n"
+                + "# TYPE undertow_bytes_sent_bytes gauge\n"
+                + "undertow_bytes_sent_bytes{server=\"default\"} 2048.0\n", exporter.export(registry));
+    }
+
+    @Test
+    public void testCounter() {
+        register("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 5);
+        register("bytes-received", "default", "Bytes received", MeasurementUnit.KILOBYTES, MetricMetadata.Type.COUNTER, 1);
+
+        assertEquals("# HELP undertow_bytes_received_total Bytes received\n"
+                + "# TYPE undertow_bytes_received_total counter\n"
+                + "undertow_bytes_received_total_bytes{server=\"default\"} 1024.0\n"
+                + "# HELP undertow_request_count_total Requests\n"
+                + "# TYPE undertow_request_count_total counter\n"
+                + "undertow_request_count_total{server=\"default\"} 5.0\n", exporter.export(registry));
+    }
+
+    @Test
+    public void testSharedHeader() {
+        register("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 5);
+        register("request-count", "other", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 7);
+
+        // the metrics with the same name share their HELP and TYPE lines
+        assertEquals("# HELP undertow_request_count_total Requests\n"
+                + "# TYPE undertow_request_count_total counter\n"
+                + "undertow_request_count_total{server=\"default\"} 5.0\n"
+                + "undertow_request_count_total{server=\"other\"} 7.0\n", exporter.export(registry));
+    }
+
+    @Test
+    public void testUndefinedValue() {
+        registry.registerMetric(OptionalDouble::empty, metadata("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER));
+        register("request-count", "other", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 7);
+        registry.registerMetric(OptionalDouble::empty, metadata("active-sessions", "default", "Active sessions", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        // a metric without value is not exported, nor are the HELP and TYPE lines of its name if no other metric has a value
+        assertEquals("# HELP undertow_request_count_total Requests\n"
+                + "# TYPE undertow_request_count_total counter\n"
+                + "undertow_request_count_total{server=\"other\"} 7.0\n", exporter.export(registry));
+    }
+
+    @Test
+    public void testUnregister() {
+        register("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 5);
+        MetricID metricID = metadata("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER).getMetricID();
+
+        registry.unregister(metricID);
+
+        assertEquals("", exporter.export(registry));
+    }
+
+    @Test
+    public void testExportToWriter() throws Exception {
+        register("request-count", "default", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER, 5);
+        register("bytes-sent", "other", "Bytes sent", MeasurementUnit.KILOBYTES, MetricMetadata.Type.GAUGE, 2);
+
+        StringWriter writer = new StringWriter();
+        exporter.export(registry, writer);
+
+        assertEquals(exporter.export(registry), writer.toString());
+    }
+
+    private void register(String attributeName, String server, String description, MeasurementUnit unit, MetricMetadata.Type type, double value) {
+        registry.registerMetric(() -> OptionalDouble.of(value), metadata(attributeName, server, description, unit, type));
+    }
+
+    private static WildFlyMetricMetadata metadata(String attributeName, String server, String description, MeasurementUnit unit, MetricMetadata.Type type) {
+        PathAddress address = PathAddress.pathAddress(SUBSYSTEM, "undertow").append("server", server);
+        return new WildFlyMetricMetadata(attributeName, address, null, description, unit, type);
+    }
+}
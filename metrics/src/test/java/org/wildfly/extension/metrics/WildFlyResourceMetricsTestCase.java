@@ -0,0 +1,167 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test of the shared read of the metrics of a management resource.
+ */
+public class WildFlyResourceMetricsTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(SUBSYSTEM, "foo");
+
+    // Attribute values of the resource, an attribute without value can not be read
+    private final Map<String, Integer> attributes = new HashMap<>();
+    private final List<ModelNode> operations = new ArrayList<>();
+    private final LocalModelControllerClient client = mock(LocalModelControllerClient.class);
+    private boolean compositeFailure;
+
+    @Before
+    public void setUp() {
+        this.attributes.put("a", 1);
+        this.attributes.put("b", 2);
+        this.attributes.put("c", 3);
+        when(this.client.execute(any(ModelNode.class))).thenAnswer(invocation -> {
+            ModelNode operation = invocation.getArgument(0);
+            this.operations.add(operation);
+            if (operation.get(OP).asString().equals(COMPOSITE)) {
+                ModelNode response = new ModelNode();
+                if (this.compositeFailure) {
+                    response.get(OUTCOME).set(FAILED);
+                    response.get(FAILURE_DESCRIPTION).set("composite failure");
+                    return response;
+                }
+                List<ModelNode> steps = operation.get(STEPS).asList();
+                for (int i = 0; i < steps.size(); ++i) {
+                    response.get(RESULT, "step-" + (i + 1)).set(this.readAttribute(steps.get(i)));
+                }
+                response.get(OUTCOME).set(SUCCESS);
+                return response;
+            }
+            return this.readAttribute(operation);
+        });
+    }
+
+    private ModelNode readAttribute(ModelNode operation) {
+        assertEquals(READ_ATTRIBUTE_OPERATION, operation.get(OP).asString());
+        ModelNode response = new ModelNode();
+        Integer value = this.attributes.get(operation.get(NAME).asString());
+        if (value == null) {
+            response.get(OUTCOME).set(FAILED);
+            response.get(FAILURE_DESCRIPTION).set("attribute failure");
+        } else {
+            response.get(OUTCOME).set(SUCCESS);
+            response.get(RESULT).set(value);
+        }
+        return response;
+    }
+
+    @Test
+    public void testSingleRead() {
+        WildFlyResourceMetrics metrics = new WildFlyResourceMetrics(this.client, ADDRESS, List.of("a", "b"), List.of(), Long.MAX_VALUE);
+
+        assertEquals(1, metrics.getValue("a").asInt());
+        assertEquals(2, metrics.getValue("b").asInt());
+        assertEquals(1, metrics.getValue("a").asInt());
+
+        // A single operation reads only the metric attributes
+        assertEquals(1, this.operations.size());
+        ModelNode operation = this.operations.get(0);
+        assertEquals(COMPOSITE, operation.get(OP).asString());
+        List<ModelNode> steps = operation.get(STEPS).asList();
+        assertEquals(2, steps.size());
+        assertEquals("a", steps.get(0).get(NAME).asString());
+        assertEquals("b", steps.get(1).get(NAME).asString());
+        assertEquals(ADDRESS.toModelNode(), steps.get(0).get(OP_ADDR));
+    }
+
+    @Test
+    public void testExpiredValues() throws InterruptedException {
+        WildFlyResourceMetrics metrics = new WildFlyResourceMetrics(this.client, ADDRESS, List.of("a"), List.of(), TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertEquals(1, metrics.getValue("a").asInt());
+        this.attributes.put("a", 10);
+        Thread.sleep(10);
+
+        assertEquals(10, metrics.getValue("a").asInt());
+        assertEquals(2, this.operations.size());
+    }
+
+    @Test
+    public void testFailedMetric() {
+        this.attributes.remove("b");
+        WildFlyResourceMetrics metrics = new WildFlyResourceMetrics(this.client, ADDRESS, List.of("a", "b", "c"), List.of(), Long.MAX_VALUE);
+
+        // The metrics that could be read are not affected by the failure of another one
+        assertEquals(1, metrics.getValue("a").asInt());
+        assertEquals(3, metrics.getValue("c").asInt());
+        assertEquals(1, this.operations.size());
+
+        // The metric that could not be read is read on its own
+        assertFalse(metrics.getValue("b").isDefined());
+        assertEquals(2, this.operations.size());
+        assertEquals(READ_ATTRIBUTE_OPERATION, this.operations.get(1).get(OP).asString());
+    }
+
+    @Test
+    public void testFailedComposite() {
+        this.compositeFailure = true;
+        WildFlyResourceMetrics metrics = new WildFlyResourceMetrics(this.client, ADDRESS, List.of("a", "b"), List.of(), Long.MAX_VALUE);
+
+        assertEquals(1, metrics.getValue("a").asInt());
+        assertEquals(2, metrics.getValue("b").asInt());
+
+        assertEquals(3, this.operations.size());
+        assertEquals(READ_ATTRIBUTE_OPERATION, this.operations.get(1).get(OP).asString());
+        assertEquals(READ_ATTRIBUTE_OPERATION, this.operations.get(2).get(OP).asString());
+    }
+
+    @Test
+    public void testRoles() {
+        this.attributes.remove("b");
+        WildFlyResourceMetrics metrics = new WildFlyResourceMetrics(this.client, ADDRESS, Set.of("a", "b"), "Monitor");
+
+        metrics.getValue("a");
+        metrics.getValue("b");
+
+        assertEquals(2, this.operations.size());
+        for (ModelNode operation : this.operations) {
+            assertEquals(List.of(new ModelNode("Monitor")), operation.get(OPERATION_HEADERS, ROLES).asList());
+        }
+    }
+}
@@ -14,6 +14,7 @@ import static org.wildfly.extension.micrometer.metrics.MetricMetadata.Type.GAUGE
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,6 +32,7 @@ import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.extension.metrics.WildFlyResourceMetrics;
 import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 
 public class MicrometerCollector {
@@ -94,29 +96,33 @@ public class MicrometerCollector {
             return;
         }
 
-        ModelNode resourceDescription = null;
-
+        Map<String, AttributeAccess> metrics = new LinkedHashMap<>();
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
-            AttributeAccess attributeAccess = entry.getValue();
-            if (!isCollectibleMetric(attributeAccess)) {
-                continue;
+            if (isCollectibleMetric(entry.getValue())) {
+                metrics.put(entry.getKey(), entry.getValue());
             }
+        }
 
-            if (resourceDescription == null) {
-                DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
-                resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
-            }
+        if (!metrics.isEmpty()) {
+            DescriptionProvider modelDescription = managementResourceRegistration.getModelDescription(address);
+            ModelNode resourceDescription = modelDescription.getModelDescription(Locale.getDefault());
             PathAddress resourceAddress = resourceAddressResolver.apply(address);
-            String attributeName = entry.getKey();
-            MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
-            boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
-            String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
+            // the metrics of a resource share the read of their values
+            WildFlyResourceMetrics resourceMetrics = new WildFlyResourceMetrics(modelControllerClient, resourceAddress, metrics.keySet(), "Monitor");
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
-            WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
-                    attributeDescription, unit, isCounter ? COUNTER : GAUGE);
+            for (Map.Entry<String, AttributeAccess> entry : metrics.entrySet()) {
+                String attributeName = entry.getKey();
+                AttributeAccess attributeAccess = entry.getValue();
+                MeasurementUnit unit = attributeAccess.getAttributeDefinition().getMeasurementUnit();
+                boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
+                String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+                WildFlyMetric metric = new WildFlyMetric(resourceMetrics, attributeName);
+                WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
+                        attributeDescription, unit, isCounter ? COUNTER : GAUGE);
+
+                registration.addRegistrationTask(() -> registration.registerMetric(metric, metadata));
+            }
         }
 
         for (String type : current.getChildTypes()) {
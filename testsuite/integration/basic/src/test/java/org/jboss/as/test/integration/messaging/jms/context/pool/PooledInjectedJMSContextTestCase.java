@@ -0,0 +1,222 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.messaging.jms.context.pool;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.test.shared.TimeoutUtil.adjust;
+
+import java.io.File;
+import java.io.FilePermission;
+import java.io.IOException;
+import java.net.SocketPermission;
+import java.util.List;
+import java.util.PropertyPermission;
+import java.util.UUID;
+
+import jakarta.annotation.Resource;
+import jakarta.ejb.EJB;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.TemporaryQueue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.as.arquillian.api.ServerSetup;
+import org.jboss.as.arquillian.container.ManagementClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.ClientConstants;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.test.integration.messaging.jms.context.pool.auxiliary.PooledMessageProducer;
+import org.jboss.as.test.shared.PermissionUtils;
+import org.jboss.as.test.shared.ServerReload;
+import org.jboss.as.test.shared.SnapshotRestoreSetupTask;
+import org.jboss.as.test.shared.TimeoutUtil;
+import org.jboss.dmr.ModelNode;
+import org.jboss.remoting3.security.RemotingPermission;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test of the pooling of the request scoped injected JMSContext, with the debug mode of the cached connection manager
+ * enabled, so that any connection handle left open by the pool at the end of an invocation is reported.
+ */
+@RunWith(Arquillian.class)
+@ServerSetup(PooledInjectedJMSContextTestCase.PooledInjectedJMSContextServerSetupTask.class)
+public class PooledInjectedJMSContextTestCase {
+
+    private static final PathAddress SUBSYSTEM_ADDRESS = PathAddress.pathAddress(SUBSYSTEM, "messaging-activemq");
+    private static final PathAddress LOGGING_ADDRESS = PathAddress.pathAddress(SUBSYSTEM, "logging");
+    private static final int COUNT = 5;
+
+    @Resource(mappedName = "java:/ConnectionFactory")
+    private ConnectionFactory factory;
+
+    @EJB
+    private PooledMessageProducer producer;
+
+    @ArquillianResource
+    private ManagementClient managementClient;
+
+    @Deployment
+    public static JavaArchive createTestArchive() {
+        return ShrinkWrap.create(JavaArchive.class, "PooledInjectedJMSContextTestCase.jar")
+                .addPackage(PooledMessageProducer.class.getPackage())
+                .addClass(TimeoutUtil.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addAsManifestResource(PermissionUtils.createPermissionsXmlAsset(
+                        new FilePermission(System.getProperty("jboss.inst") + File.separatorChar + "standalone" + File.separatorChar + "tmp" + File.separatorChar + "auth" + File.separatorChar + "*", "read"),
+                        RemotingPermission.CREATE_ENDPOINT,
+                        RemotingPermission.CONNECT,
+                        new SocketPermission("localhost", "resolve"),
+                        new PropertyPermission("ts.timeout.factor", "read")), "jboss-permissions.xml")
+                .addAsManifestResource(new StringAsset("Dependencies: org.jboss.as.controller,org.jboss.remoting\n"), "MANIFEST.MF");
+    }
+
+    @Test
+    public void reuseOutsideTransaction() {
+        long created = readMetric("created-count");
+        long reused = readMetric("reused-count");
+
+        try (JMSContext context = factory.createContext()) {
+            TemporaryQueue queue = context.createTemporaryQueue();
+            for (int i = 0; i < COUNT; ++i) {
+                String text = UUID.randomUUID().toString();
+                producer.send(queue, text);
+                assertMessageIsReceived(queue, context, text);
+            }
+        }
+
+        // Each invocation has its own request scope, at most the first one creates a JMSContext, the others reuse it
+        long createdCount = readMetric("created-count") - created;
+        long reusedCount = readMetric("reused-count") - reused;
+        Assert.assertTrue(createdCount <= 1);
+        Assert.assertEquals(COUNT, createdCount + reusedCount);
+        Assert.assertEquals(1, readMetric("idle-count"));
+    }
+
+    @Test
+    public void resourceAdapterConnectionFactoryNotPooled() {
+        long logSize = getLogSize();
+        long created = readMetric("created-count");
+        long reused = readMetric("reused-count");
+
+        try (JMSContext context = factory.createContext()) {
+            TemporaryQueue queue = context.createTemporaryQueue();
+            for (int i = 0; i < COUNT; ++i) {
+                String text = UUID.randomUUID().toString();
+                producer.sendWithResourceAdapter(queue, text);
+                assertMessageIsReceived(queue, context, text);
+            }
+        }
+
+        Assert.assertEquals(created, readMetric("created-count"));
+        Assert.assertEquals(reused, readMetric("reused-count"));
+        // The cached connection manager did not have to close any connection handle
+        for (ModelNode line : getLogLines(getLogSize() - logSize)) {
+            Assert.assertFalse(line.asString(), line.asString().contains("IJ000100:"));
+        }
+    }
+
+    @Test
+    public void transactionEnlistmentAfterReuse() {
+        try (JMSContext context = factory.createContext()) {
+            TemporaryQueue queue = context.createTemporaryQueue();
+            // Make sure an idle JMSContext is pooled
+            String text = UUID.randomUUID().toString();
+            producer.send(queue, text);
+            assertMessageIsReceived(queue, context, text);
+            long reused = readMetric("reused-count");
+
+            // Within a transaction, the injected JMSContext is enlisted in the transaction, not taken from the pool
+            producer.sendWithinTransaction(queue, UUID.randomUUID().toString(), true);
+            assertNoMessageIsReceived(queue, context);
+
+            text = UUID.randomUUID().toString();
+            producer.sendWithinTransaction(queue, text, false);
+            assertMessageIsReceived(queue, context, text);
+
+            Assert.assertEquals(reused, readMetric("reused-count"));
+
+            // The pooled JMSContext is still usable outside of a transaction
+            text = UUID.randomUUID().toString();
+            producer.send(queue, text);
+            assertMessageIsReceived(queue, context, text);
+
+            Assert.assertEquals(reused + 1, readMetric("reused-count"));
+        }
+    }
+
+    private static void assertMessageIsReceived(Destination destination, JMSContext context, String expectedText) {
+        try (JMSConsumer consumer = context.createConsumer(destination)) {
+            Assert.assertEquals(expectedText, consumer.receiveBody(String.class, adjust(2000)));
+        }
+    }
+
+    private static void assertNoMessageIsReceived(Destination destination, JMSContext context) {
+        try (JMSConsumer consumer = context.createConsumer(destination)) {
+            Assert.assertNull(consumer.receiveBody(String.class, adjust(2000)));
+        }
+    }
+
+    private long readMetric(String name) {
+        ModelNode operation = Util.getReadAttributeOperation(SUBSYSTEM_ADDRESS, "injected-jms-context-pool-" + name);
+        return executeForResult(operation).asLong();
+    }
+
+    private long getLogSize() {
+        ModelNode operation = Util.createEmptyOperation("list-log-files", LOGGING_ADDRESS);
+        for (ModelNode file : executeForResult(operation).asList()) {
+            if ("server.log".equals(file.get("file-name").asString())) {
+                return file.get("file-size").asLong();
+            }
+        }
+        return 0;
+    }
+
+    private List<ModelNode> getLogLines(long count) {
+        ModelNode operation = Util.createEmptyOperation("read-log-file", LOGGING_ADDRESS);
+        operation.get("lines").set(count);
+        operation.get(NAME).set("server.log");
+        return executeForResult(operation).asList();
+    }
+
+    private ModelNode executeForResult(ModelNode operation) {
+        try {
+            ModelNode result = managementClient.getControllerClient().execute(operation);
+            Assert.assertEquals(result.toString(), ClientConstants.SUCCESS, result.get(ClientConstants.OUTCOME).asString());
+            return result.get(ClientConstants.RESULT);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Enables the pooling of injected JMSContext and the debug mode of the cached connection manager.
+     */
+    static class PooledInjectedJMSContextServerSetupTask extends SnapshotRestoreSetupTask {
+
+        @Override
+        protected void doSetup(ManagementClient client, String containerId) throws Exception {
+            ModelNode operation = Util.getWriteAttributeOperation(SUBSYSTEM_ADDRESS, "injected-jms-context-pool-max-size", new ModelNode(2));
+            client.getControllerClient().execute(operation);
+
+            PathAddress ccmAddress = PathAddress.pathAddress(SUBSYSTEM, "jca").append("cached-connection-manager", "cached-connection-manager");
+            operation = Util.getWriteAttributeOperation(ccmAddress, "debug", ModelNode.TRUE);
+            client.getControllerClient().execute(operation);
+
+            ServerReload.executeReloadAndWaitForCompletion(client, TimeoutUtil.adjust(50000));
+        }
+    }
+}
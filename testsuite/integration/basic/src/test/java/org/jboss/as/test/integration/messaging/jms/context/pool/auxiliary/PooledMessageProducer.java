@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.test.integration.messaging.jms.context.pool.auxiliary;
+
+import static jakarta.ejb.TransactionAttributeType.NOT_SUPPORTED;
+import static jakarta.ejb.TransactionAttributeType.REQUIRED;
+
+import jakarta.annotation.Resource;
+import jakarta.ejb.SessionContext;
+import jakarta.ejb.Stateless;
+import jakarta.ejb.TransactionAttribute;
+import jakarta.inject.Inject;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSConnectionFactory;
+import jakarta.jms.JMSContext;
+
+/**
+ * Sends messages with injected JMSContext, each invocation in its own request scope.
+ */
+@Stateless
+public class PooledMessageProducer {
+
+    // Connection factory that does not pool its connections
+    @Inject
+    @JMSConnectionFactory("java:/ConnectionFactory")
+    private JMSContext context;
+
+    // Default connection factory, i.e. the pooled-connection-factory of the resource adapter
+    @Inject
+    private JMSContext resourceAdapterContext;
+
+    @Resource
+    private SessionContext sessionContext;
+
+    @TransactionAttribute(NOT_SUPPORTED)
+    public void send(Destination destination, String text) {
+        context.createProducer()
+                .send(destination, text);
+    }
+
+    @TransactionAttribute(NOT_SUPPORTED)
+    public void sendWithResourceAdapter(Destination destination, String text) {
+        resourceAdapterContext.createProducer()
+                .send(destination, text);
+    }
+
+    @TransactionAttribute(REQUIRED)
+    public void sendWithinTransaction(Destination destination, String text, boolean rollback) {
+        resourceAdapterContext.createProducer()
+                .send(destination, text);
+        if (rollback) {
+            sessionContext.setRollbackOnly();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.test.integration.weld.configuration.preresolution;
+
+import jakarta.enterprise.context.Dependent;
+
+@Dependent
+public class Foo {
+
+}
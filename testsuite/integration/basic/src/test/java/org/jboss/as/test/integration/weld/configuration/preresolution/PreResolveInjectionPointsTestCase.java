@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.test.integration.weld.configuration.preresolution;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.as.arquillian.api.ServerSetup;
+import org.jboss.as.arquillian.container.ManagementClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.test.integration.management.ManagementOperations;
+import org.jboss.as.test.shared.ServerReload;
+import org.jboss.as.test.shared.SnapshotRestoreSetupTask;
+import org.jboss.dmr.ModelNode;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.jboss.weld.bean.builtin.BeanManagerProxy;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that the concurrent-validation and pre-resolve-injection-points attributes of the Weld subsystem apply to the
+ * deployments.
+ */
+@RunWith(Arquillian.class)
+@ServerSetup(PreResolveInjectionPointsTestCase.SetupTask.class)
+public class PreResolveInjectionPointsTestCase {
+
+    @Deployment
+    public static WebArchive getDeployment() {
+        return ShrinkWrap.create(WebArchive.class).addClasses(PreResolveInjectionPointsTestCase.class, Foo.class, Bar.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Inject
+    BeanManager beanManager;
+
+    @Test
+    public void testConcurrentValidation() {
+        BeanManagerImpl beanManagerImpl = BeanManagerProxy.unwrap(beanManager);
+        // Weld deploys concurrently by default, the subsystem attribute disabled it
+        Assert.assertFalse(beanManagerImpl.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT));
+    }
+
+    @Test
+    public void testPreResolvedInjectionPoints() {
+        BeanManagerImpl beanManagerImpl = BeanManagerProxy.unwrap(beanManager);
+        Bean<?> bar = beanManagerImpl.resolve(beanManagerImpl.getBeans(Bar.class));
+        Assert.assertEquals(1, bar.getInjectionPoints().size());
+        InjectionPoint injectionPoint = bar.getInjectionPoints().iterator().next();
+        // Bar was never instantiated, its injection point was resolved once the deployment started
+        Assert.assertTrue(beanManagerImpl.getBeanResolver().isCached(new ResolvableBuilder(injectionPoint, beanManagerImpl).create()));
+    }
+
+    public static class SetupTask extends SnapshotRestoreSetupTask {
+        @Override
+        protected void doSetup(ManagementClient client, String containerId) throws Exception {
+            PathAddress address = PathAddress.pathAddress("subsystem", "weld");
+            ManagementOperations.executeOperation(client.getControllerClient(), Util.getWriteAttributeOperation(address, "concurrent-validation", ModelNode.FALSE));
+            ManagementOperations.executeOperation(client.getControllerClient(), Util.getWriteAttributeOperation(address, "pre-resolve-injection-points", ModelNode.TRUE));
+            ServerReload.executeReloadAndWaitForCompletion(client);
+        }
+    }
+}
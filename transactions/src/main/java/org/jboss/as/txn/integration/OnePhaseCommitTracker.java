@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.integration;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
+
+import org.jboss.as.txn.logging.TransactionLogger;
+import org.wildfly.transaction.client.AbstractTransaction;
+import org.wildfly.transaction.client.CreationListener;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionImple;
+
+/**
+ * Counts the transactions the coordinator committed through its one-phase commit optimization, i.e. without a prepare
+ * phase and without writing a transaction log record.
+ * <p>
+ * While statistics are enabled, a {@link Synchronization} is registered on each transaction created by the local
+ * transaction context. Once the transaction committed, it counts the participants enlisted with the coordinator, be
+ * they XA, last resource commit optimization (LRCO) or local resources: a transaction is only committed in one phase
+ * if it had a single participant and the one-phase commit optimization of the coordinator is enabled. As with the
+ * other {@link com.arjuna.ats.arjuna.coordinator.TxStats transaction statistics}, imported transactions are not
+ * counted.
+ */
+public class OnePhaseCommitTracker implements CreationListener {
+
+    private final LongAdder onePhaseCommits = new LongAdder();
+
+    /**
+     * Returns the number of transactions committed in one phase since this tracker was created.
+     *
+     * @return the number of one-phase commits
+     */
+    public long getNumberOfOnePhaseCommits() {
+        return this.onePhaseCommits.sum();
+    }
+
+    @Override
+    public void transactionCreated(AbstractTransaction transaction, CreatedBy createdBy) {
+        if ((createdBy == CreatedBy.IMPORT) || !arjPropertyManager.getCoordinatorEnvironmentBean().isEnableStatistics()) {
+            return;
+        }
+        try {
+            transaction.registerSynchronization(new ParticipantCounter());
+        } catch (RollbackException | IllegalStateException | SystemException e) {
+            // The transaction is already completing, it is simply not counted
+            TransactionLogger.ROOT_LOGGER.tracef(e, "Not counting the participants of transaction %s", transaction);
+        }
+    }
+
+    private class ParticipantCounter implements Synchronization {
+        private volatile TransactionImple coordinator;
+
+        @Override
+        public void beforeCompletion() {
+            // The transaction is associated with the completing thread until its synchronizations are notified
+            try {
+                Transaction current = com.arjuna.ats.jta.TransactionManager.transactionManager().getTransaction();
+                if (current instanceof TransactionImple) {
+                    this.coordinator = (TransactionImple) current;
+                }
+            } catch (SystemException e) {
+                TransactionLogger.ROOT_LOGGER.tracef(e, "Not counting the participants of the completing transaction");
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionImple coordinator = this.coordinator;
+            this.coordinator = null;
+            // The participants list is complete once the transaction completed, as synchronizations may enlist resources
+            if ((status == Status.STATUS_COMMITTED) && (coordinator != null)
+                    && arjPropertyManager.getCoordinatorEnvironmentBean().isCommitOnePhase()
+                    && (coordinator.getResources().size() == 1)) {
+                OnePhaseCommitTracker.this.onePhaseCommits.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.service;
+
+import org.jboss.as.txn.integration.OnePhaseCommitTracker;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.transaction.client.LocalTransactionContext;
+
+/**
+ * Service registering a {@link OnePhaseCommitTracker} with the local transaction context. A new tracker is created on
+ * each start, so the count restarts with the subsystem.
+ */
+public class OnePhaseCommitTrackerService implements Service<OnePhaseCommitTracker> {
+
+    public static final ServiceName SERVICE_NAME = TxnServices.JBOSS_TXN_ONE_PHASE_COMMIT_TRACKER;
+
+    private OnePhaseCommitTracker tracker;
+
+    private OnePhaseCommitTrackerService() {
+    }
+
+    public static ServiceController<OnePhaseCommitTracker> addService(final ServiceTarget target) {
+        final ServiceBuilder<OnePhaseCommitTracker> serviceBuilder = target.addService(SERVICE_NAME, new OnePhaseCommitTrackerService());
+        serviceBuilder.requires(TxnServices.JBOSS_TXN_LOCAL_TRANSACTION_CONTEXT);
+        return serviceBuilder.install();
+    }
+
+    @Override
+    public synchronized void start(StartContext context) throws StartException {
+        this.tracker = new OnePhaseCommitTracker();
+        LocalTransactionContext.getCurrent().registerCreationListener(this.tracker);
+    }
+
+    @Override
+    public synchronized void stop(StopContext context) {
+        LocalTransactionContext.getCurrent().removeCreationListener(this.tracker);
+        this.tracker = null;
+    }
+
+    @Override
+    public synchronized OnePhaseCommitTracker getValue() throws IllegalStateException, IllegalArgumentException {
+        return this.tracker;
+    }
+}
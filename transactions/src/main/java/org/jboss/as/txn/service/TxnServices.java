@@ -60,6 +60,8 @@ public final class TxnServices {
 
     public static final ServiceName JBOSS_TXN_CONTEXT_XA_TERMINATOR = JBOSS_TXN.append("JBossContextXATerminator");
 
+    public static final ServiceName JBOSS_TXN_ONE_PHASE_COMMIT_TRACKER = JBOSS_TXN.append("OnePhaseCommitTracker");
+
 
     public static <T> T notNull(T value) {
         if (value == null) throw TransactionLogger.ROOT_LOGGER.serviceNotStarted();
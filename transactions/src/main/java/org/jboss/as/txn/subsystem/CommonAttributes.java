@@ -70,6 +70,7 @@ interface CommonAttributes {
     String NUMBER_OF_RESOURCE_ROLLBACKS = "number-of-resource-rollbacks";
     String NUMBER_OF_SYSTEM_ROLLBACKS = "number-of-system-rollbacks";
     String AVERAGE_COMMIT_TIME = "average-commit-time";
+    String NUMBER_OF_ONE_PHASE_COMMITS = "number-of-one-phase-commits";
 
 
     String PARTICIPANT = "participant";
@@ -9,6 +9,8 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -46,6 +48,10 @@ class LogStoreConstants {
     static final String JNDI_ATTRIBUTE = "jndi-name";
     static final String LOG_STORE_TYPE_ATTRIBUTE = "type";
     static final String EXPOSE_ALL_LOGS_ATTRIBUTE = "expose-all-logs";
+    static final String PROBE_TYPE_PARAMETER = "type";
+    static final String PROBE_MIN_AGE_PARAMETER = "min-age-in-seconds";
+    static final String PROBE_OFFSET_PARAMETER = "offset";
+    static final String PROBE_MAX_RESULTS_PARAMETER = "max-results";
 
 
     static final Map<String, String> MODEL_TO_JMX_TXN_NAMES =
@@ -88,6 +94,28 @@ class LogStoreConstants {
             .setStorageRuntime()
             .build();
 
+    static final SimpleAttributeDefinition PROBE_TYPE = new SimpleAttributeDefinitionBuilder(PROBE_TYPE_PARAMETER, ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, true))
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_MIN_AGE = new SimpleAttributeDefinitionBuilder(PROBE_MIN_AGE_PARAMETER, ModelType.LONG)
+            .setRequired(false)
+            .setValidator(new LongRangeValidator(0, true))
+            .setMeasurementUnit(MeasurementUnit.SECONDS)
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_OFFSET = new SimpleAttributeDefinitionBuilder(PROBE_OFFSET_PARAMETER, ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(0, true))
+            .setDefaultValue(ModelNode.ZERO)
+            .build();
+
+    static final SimpleAttributeDefinition PROBE_MAX_RESULTS = new SimpleAttributeDefinitionBuilder(PROBE_MAX_RESULTS_PARAMETER, ModelType.INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
+
     static SimpleAttributeDefinition JMX_NAME = (new SimpleAttributeDefinitionBuilder(JMX_ON_ATTRIBUTE, ModelType.STRING))
             .setAllowExpression(false)
             .setRequired(false)
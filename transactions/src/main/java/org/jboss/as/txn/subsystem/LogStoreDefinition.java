@@ -41,6 +41,8 @@ public class LogStoreDefinition extends SimpleResourceDefinition {
         super.registerOperations(resourceRegistration);
         final OperationDefinition probe = new SimpleOperationDefinitionBuilder(LogStoreConstants.PROBE, getResourceDescriptionResolver())
                                 .withFlag(OperationEntry.Flag.HOST_CONTROLLER_ONLY) // TODO WFLY-8852 decide how we want to handle this in a domain
+                                .setParameters(LogStoreConstants.PROBE_TYPE, LogStoreConstants.PROBE_MIN_AGE,
+                                        LogStoreConstants.PROBE_OFFSET, LogStoreConstants.PROBE_MAX_RESULTS)
                                 .setRuntimeOnly()
                                 .setReadOnly()
                                 .build();
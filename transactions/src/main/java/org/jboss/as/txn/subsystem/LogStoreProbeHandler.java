@@ -28,9 +28,12 @@ import javax.management.ObjectName;
 import javax.management.ReflectionException;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Handler for exposing transaction logs
@@ -103,36 +106,29 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
     }
 
-    private void addTransactions(final Resource parent, Set<ObjectInstance> transactions, MBeanServer mbs)
+    private void addTransaction(final Resource parent, ObjectName on, MBeanServer mbs)
             throws IntrospectionException, InstanceNotFoundException, IOException,
             ReflectionException, MalformedObjectNameException {
 
-        for (ObjectInstance oi : transactions) {
-            String transactionId = oi.getObjectName().getCanonicalName();
+        Map<String, String> tAttributes = getMBeanValues(mbs, on, LogStoreConstants.TXN_JMX_NAMES);
+        String txnId = tAttributes.get("Id");
+        final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
+        final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(on);
+        final ModelNode model = transaction.getModel();
 
-            if (!transactionId.contains("puid") && transactionId.contains("itype")) {
-                final Resource transaction = new LogStoreResource.LogStoreRuntimeResource(oi.getObjectName());
-                final ModelNode model = transaction.getModel();
+        addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
+        // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
 
-                Map<String, String> tAttributes = getMBeanValues(
-                        mbs,  oi.getObjectName(), LogStoreConstants.TXN_JMX_NAMES);
-                String txnId = tAttributes.get("Id");
+        String participantQuery = on.getCanonicalName() + ",puid=*";
+        Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
 
-                addAttributes(model, LogStoreConstants.MODEL_TO_JMX_TXN_NAMES, tAttributes);
-                // model.get(LogStoreConstants.JMX_ON_ATTRIBUTE).set(transactionId);
+        addParticipants(transaction, participants, mbs);
 
-                String participantQuery =  transactionId + ",puid=*";
-                Set<ObjectInstance> participants = mbs.queryMBeans(new ObjectName(participantQuery), null);
-
-                addParticipants(transaction, participants, mbs);
-
-                final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, txnId);
-                parent.registerChild(element, transaction);
-            }
-        }
+        parent.removeChild(element);
+        parent.registerChild(element, transaction);
     }
 
-    private Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs)
+    Resource probeTransactions(MBeanServer mbs, boolean exposeAllLogs, Resource current, ProbeFilter filter)
             throws OperationFailedException {
         try {
             ObjectName on = new ObjectName(osMBeanName);
@@ -140,10 +136,45 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             mbs.setAttribute(on, new javax.management.Attribute("ExposeAllRecordsAsMBeans", Boolean.valueOf(exposeAllLogs)));
             mbs.invoke(on, "probe", null, null);
 
-            Set<ObjectInstance> transactions = mbs.queryMBeans(new ObjectName(osMBeanName +  ",*"), null);
+            // Only the names are queried up front, the type is part of the name
+            Set<ObjectName> transactions = new TreeSet<>();
+            for (ObjectName name : mbs.queryNames(new ObjectName(osMBeanName + ",*"), null)) {
+                String transactionId = name.getCanonicalName();
+
+                if (!transactionId.contains("puid") && transactionId.contains("itype")) {
+                    transactions.add(name);
+                }
+            }
+
+            // Select the page before reading any attribute, other than the age of the transactions if filtered on it
+            List<ObjectName> page = new ArrayList<>();
+            int matched = 0;
+            for (ObjectName name : transactions) {
+                if (filter.isPageComplete(matched)) {
+                    break;
+                }
+                if (!filter.acceptType(name.getKeyProperty("itype")) || !filter.acceptAge(mbs, name)) {
+                    continue;
+                }
+                if (filter.isInPage(matched++)) {
+                    page.add(name);
+                }
+            }
 
             final Resource resource = Resource.Factory.create();
-            addTransactions(resource, transactions, mbs);
+            if (filter.isRestricted()) {
+                // Keep the transactions loaded by previous probes which are still in the store
+                for (String name : current.getChildrenNames(LogStoreConstants.TRANSACTIONS)) {
+                    final PathElement element = PathElement.pathElement(LogStoreConstants.TRANSACTIONS, name);
+                    final Resource transaction = current.getChild(element);
+                    if (transactions.contains(LogStoreResource.getObjectName(transaction))) {
+                        resource.registerChild(element, transaction);
+                    }
+                }
+            }
+            for (ObjectName name : page) {
+                addTransaction(resource, name, mbs);
+            }
             return resource;
 
         } catch (JMException e) {
@@ -160,6 +191,8 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         }
         final MBeanServer mbs = TransactionExtension.getMBeanServer(context);
         if (mbs != null) {
+            // The current model is merged with the probed page, so it must not change while probing
+            context.acquireControllerLock();
             // Get the log-store resource
             final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS);
             assert resource instanceof LogStoreResource;
@@ -167,9 +200,9 @@ public class LogStoreProbeHandler implements OperationStepHandler {
             // Get the expose-all-logs parameter value
             final ModelNode subModel = context.readResource(PathAddress.EMPTY_ADDRESS).getModel();
             final boolean exposeAllLogs = LogStoreConstants.EXPOSE_ALL_LOGS.resolveModelAttribute(context, subModel).asBoolean();
-            final Resource storeModel = probeTransactions(mbs, exposeAllLogs);
+            final ProbeFilter filter = ProbeFilter.create(context, operation);
+            final Resource storeModel = probeTransactions(mbs, exposeAllLogs, logStore, filter);
             // Replace the current model with an updated one
-            context.acquireControllerLock();
             // WFLY-3020 -- don't drop the root model
             storeModel.writeModel(logStore.getModel());
             logStore.update(storeModel);
@@ -177,4 +210,74 @@ public class LogStoreProbeHandler implements OperationStepHandler {
         context.completeStep(OperationContext.RollbackHandler.NOOP_ROLLBACK_HANDLER);
     }
 
+    /**
+     * Restricts a probe to the transactions of a given type and minimum age, and to a page of the matching ones,
+     * ordered by object name. The transactions loaded by a restricted probe are merged with the ones already in the
+     * model, an unrestricted probe replaces the model.
+     */
+    static class ProbeFilter {
+        static final ProbeFilter ALL = new ProbeFilter(null, -1, 0, Integer.MAX_VALUE);
+
+        private final String type;
+        private final long minAge;
+        private final int offset;
+        private final int maxResults;
+
+        ProbeFilter(String type, long minAge, int offset, int maxResults) {
+            this.type = type;
+            this.minAge = minAge;
+            this.offset = offset;
+            this.maxResults = maxResults;
+        }
+
+        static ProbeFilter create(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ModelNode type = LogStoreConstants.PROBE_TYPE.resolveModelAttribute(context, operation);
+            ModelNode minAge = LogStoreConstants.PROBE_MIN_AGE.resolveModelAttribute(context, operation);
+            int offset = LogStoreConstants.PROBE_OFFSET.resolveModelAttribute(context, operation).asInt();
+            ModelNode maxResults = LogStoreConstants.PROBE_MAX_RESULTS.resolveModelAttribute(context, operation);
+            return new ProbeFilter(type.isDefined() ? type.asString() : null, minAge.isDefined() ? minAge.asLong() : -1,
+                    offset, maxResults.isDefined() ? maxResults.asInt() : Integer.MAX_VALUE);
+        }
+
+        boolean isRestricted() {
+            return this.type != null || this.minAge >= 0 || this.offset > 0 || this.maxResults != Integer.MAX_VALUE;
+        }
+
+        /**
+         * Matches either the whole record type, e.g. {@code StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction},
+         * or its last segment, e.g. {@code AtomicAction}.
+         */
+        boolean acceptType(String recordType) {
+            if (this.type == null) {
+                return true;
+            }
+            if (recordType == null) {
+                return false;
+            }
+            if (recordType.startsWith("\"")) {
+                recordType = ObjectName.unquote(recordType);
+            }
+            return recordType.equals(this.type) || recordType.substring(recordType.lastIndexOf('/') + 1).equals(this.type);
+        }
+
+        boolean acceptAge(MBeanServer mbs, ObjectName name) throws JMException {
+            if (this.minAge < 0) {
+                return true;
+            }
+            Object age = mbs.getAttribute(name, "AgeInSeconds");
+            try {
+                return age != null && Long.parseLong(age.toString()) >= this.minAge;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        boolean isInPage(int index) {
+            return index >= this.offset;
+        }
+
+        boolean isPageComplete(int matched) {
+            return matched - this.offset >= this.maxResults;
+        }
+    }
 }
@@ -62,6 +62,7 @@ import org.jboss.as.txn.service.CoreEnvironmentService;
 import org.jboss.as.txn.service.ExtendedJBossXATerminatorService;
 import org.jboss.as.txn.service.JTAEnvironmentBeanService;
 import org.jboss.as.txn.service.LocalTransactionContextService;
+import org.jboss.as.txn.service.OnePhaseCommitTrackerService;
 import org.jboss.as.txn.service.RemotingTransactionServiceService;
 import org.jboss.as.txn.service.TransactionManagerService;
 import org.jboss.as.txn.service.TransactionRemoteHTTPService;
@@ -353,6 +354,7 @@ class TransactionSubsystemAdd extends AbstractBoottimeAddStepHandler {
         builder.setInitialMode(Mode.ACTIVE).install();
 
         TransactionManagerService.addService(target);
+        OnePhaseCommitTrackerService.addService(target);
         UserTransactionService.addService(target);
         target.addService(TxnServices.JBOSS_TXN_USER_TRANSACTION_REGISTRY, new UserTransactionRegistryService())
                 .setInitialMode(Mode.ACTIVE).install();
@@ -21,9 +21,12 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.txn.integration.OnePhaseCommitTracker;
 import org.jboss.as.txn.logging.TransactionLogger;
+import org.jboss.as.txn.service.OnePhaseCommitTrackerService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * Handler for transaction manager metrics
@@ -67,7 +70,10 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
         AVERAGE_COMMIT_TIME(SimpleAttributeDefinitionBuilder.create(CommonAttributes.AVERAGE_COMMIT_TIME, ModelType.LONG, true)
                 .setAttributeGroup(CommonAttributes.STATISTICS)
                 .setMeasurementUnit(NANOSECONDS)
-                .build());
+                .build()),
+        NUMBER_OF_ONE_PHASE_COMMITS(SimpleAttributeDefinitionBuilder.create(CommonAttributes.NUMBER_OF_ONE_PHASE_COMMITS, ModelType.LONG, true)
+                .setAttributeGroup(CommonAttributes.STATISTICS)
+                .setFlags(COUNTER_METRIC).build());
 
         private static final Map<String, TxStat> MAP = new HashMap<String, TxStat>();
         static {
@@ -140,6 +146,12 @@ public class TxStatsHandler extends AbstractRuntimeOnlyHandler {
                 case AVERAGE_COMMIT_TIME:
                     result.set(txStats.getAverageCommitTime());
                     break;
+                case NUMBER_OF_ONE_PHASE_COMMITS: {
+                    ServiceController<?> controller = context.getServiceRegistry(false).getService(OnePhaseCommitTrackerService.SERVICE_NAME);
+                    OnePhaseCommitTracker tracker = (controller != null) ? (OnePhaseCommitTracker) controller.getValue() : null;
+                    result.set((tracker != null) ? tracker.getNumberOfOnePhaseCommits() : 0L);
+                    break;
+                }
                 default:
                     throw new IllegalStateException(TransactionLogger.ROOT_LOGGER.unknownMetric(stat));
             }
@@ -0,0 +1,178 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.integration;
+
+import static org.junit.Assert.assertEquals;
+
+import jakarta.transaction.TransactionManager;
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+import org.jboss.tm.LastResource;
+import org.jboss.tm.XAResourceRecovery;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.transaction.client.ContextTransactionManager;
+import org.wildfly.transaction.client.LocalTransactionContext;
+import org.wildfly.transaction.client.provider.jboss.JBossLocalTransactionProvider;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import com.arjuna.ats.internal.jta.transaction.arjunacore.jca.XATerminatorImple;
+import com.arjuna.ats.jta.common.jtaPropertyManager;
+import com.arjuna.ats.jta.resources.LastResourceCommitOptimisation;
+
+/**
+ * Commits transactions with the coordinator to verify which of them {@link OnePhaseCommitTracker} counts.
+ */
+public class OnePhaseCommitTrackerTestCase {
+
+    private LocalTransactionContext context;
+    private OnePhaseCommitTracker tracker;
+    private TransactionManager transactionManager;
+    private boolean enableStatistics;
+
+    @Before
+    public void setUp() {
+        jtaPropertyManager.getJTAEnvironmentBean().setTransactionManagerClassName("com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionManagerImple");
+        arjPropertyManager.getObjectStoreEnvironmentBean().setObjectStoreDir(System.getProperty("ObjectStoreEnvironmentBean.objectStoreDir"));
+        this.enableStatistics = arjPropertyManager.getCoordinatorEnvironmentBean().isEnableStatistics();
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(true);
+        final JBossLocalTransactionProvider.Builder builder = JBossLocalTransactionProvider.builder();
+        builder.setTransactionManager(com.arjuna.ats.jta.TransactionManager.transactionManager());
+        builder.setExtendedJBossXATerminator(new XATerminatorImple());
+        builder.setXAResourceRecoveryRegistry(new XAResourceRecoveryRegistry() {
+            @Override
+            public void addXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+
+            @Override
+            public void removeXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+        });
+        this.context = new LocalTransactionContext(builder.build());
+        LocalTransactionContext.getContextManager().setGlobalDefault(this.context);
+        this.tracker = new OnePhaseCommitTracker();
+        this.context.registerCreationListener(this.tracker);
+        this.transactionManager = ContextTransactionManager.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        this.context.removeCreationListener(this.tracker);
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(this.enableStatistics);
+    }
+
+    @Test
+    public void singleXAResource() throws Exception {
+        commit(new TestXAResource());
+        assertEquals(1L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void singleLastResource() throws Exception {
+        commit(new TestLastResource());
+        assertEquals(1L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void multipleXAResources() throws Exception {
+        commit(new TestXAResource(), new TestXAResource());
+        assertEquals(0L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void xaResourceWithLastResource() throws Exception {
+        // prepared in two phases, the last resource optimization only skips the prepare of the last resource
+        commit(new TestXAResource(), new TestLastResource());
+        assertEquals(0L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void rollback() throws Exception {
+        this.transactionManager.begin();
+        this.transactionManager.getTransaction().enlistResource(new TestXAResource());
+        this.transactionManager.rollback();
+        assertEquals(0L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void statisticsDisabled() throws Exception {
+        arjPropertyManager.getCoordinatorEnvironmentBean().setEnableStatistics(false);
+        commit(new TestXAResource());
+        assertEquals(0L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    @Test
+    public void trackersAreIndependent() throws Exception {
+        commit(new TestXAResource());
+        this.context.removeCreationListener(this.tracker);
+        this.tracker = new OnePhaseCommitTracker();
+        this.context.registerCreationListener(this.tracker);
+        assertEquals(0L, this.tracker.getNumberOfOnePhaseCommits());
+        commit(new TestXAResource());
+        assertEquals(1L, this.tracker.getNumberOfOnePhaseCommits());
+    }
+
+    private void commit(XAResource... resources) throws Exception {
+        this.transactionManager.begin();
+        for (XAResource resource : resources) {
+            this.transactionManager.getTransaction().enlistResource(resource);
+        }
+        this.transactionManager.commit();
+    }
+
+    private static class TestXAResource implements XAResource {
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) throws XAException {
+        }
+
+        @Override
+        public void forget(Xid xid) throws XAException {
+        }
+
+        @Override
+        public int getTransactionTimeout() throws XAException {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource resource) throws XAException {
+            return resource == this;
+        }
+
+        @Override
+        public int prepare(Xid xid) throws XAException {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) throws XAException {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) throws XAException {
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) throws XAException {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) throws XAException {
+        }
+    }
+
+    // recognized whichever last resource interface the transaction manager was configured with
+    private static class TestLastResource extends TestXAResource implements LastResourceCommitOptimisation, LastResource {
+    }
+}
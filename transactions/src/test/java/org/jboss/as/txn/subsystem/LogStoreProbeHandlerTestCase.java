@@ -0,0 +1,272 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Probes a fake object store browser to verify which transactions {@link LogStoreProbeHandler} reads and loads.
+ */
+public class LogStoreProbeHandlerTestCase {
+
+    private static final String ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction";
+    private static final String SUBORDINATE_ATOMIC_ACTION = "StateManager/BasicAction/TwoPhaseCoordinator/AtomicAction/SubordinateAtomicAction/JCA";
+
+    private MBeanServer server;
+    private LogStoreResource logStore;
+    private final Map<String, TestTransaction> transactions = new TreeMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        this.server = MBeanServerFactory.newMBeanServer();
+        this.server.registerMBean(new TestObjectStore(), new ObjectName(LogStoreProbeHandler.osMBeanName));
+        this.logStore = new LogStoreResource();
+    }
+
+    @After
+    public void tearDown() {
+        MBeanServerFactory.releaseMBeanServer(this.server);
+    }
+
+    @Test
+    public void unrestricted() throws Exception {
+        addTransaction("a", ATOMIC_ACTION, 10);
+        addTransaction("b", SUBORDINATE_ATOMIC_ACTION, 20);
+
+        probe(LogStoreProbeHandler.ProbeFilter.ALL);
+
+        assertEquals(Set.of("a", "b"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+    }
+
+    @Test
+    public void typeIsMatchedExactly() throws Exception {
+        addTransaction("a", ATOMIC_ACTION, 10);
+        addTransaction("b", SUBORDINATE_ATOMIC_ACTION, 20);
+
+        probe(new LogStoreProbeHandler.ProbeFilter("AtomicAction", -1, 0, Integer.MAX_VALUE));
+        assertEquals(Set.of("a"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+
+        probe(new LogStoreProbeHandler.ProbeFilter(SUBORDINATE_ATOMIC_ACTION, -1, 0, Integer.MAX_VALUE));
+        assertEquals(Set.of("a", "b"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+
+        // Neither the full type nor its last segment
+        this.logStore.update(Resource.Factory.create());
+        probe(new LogStoreProbeHandler.ProbeFilter("Atomic", -1, 0, Integer.MAX_VALUE));
+        assertTrue(this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS).isEmpty());
+        assertAttributesRead();
+    }
+
+    @Test
+    public void minAge() throws Exception {
+        addTransaction("a", ATOMIC_ACTION, 10);
+        addTransaction("b", ATOMIC_ACTION, 20);
+
+        probe(new LogStoreProbeHandler.ProbeFilter(null, 15, 0, Integer.MAX_VALUE));
+
+        assertEquals(Set.of("b"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        assertAttributesRead("b");
+    }
+
+    @Test
+    public void attributesAreOnlyReadWithinThePage() throws Exception {
+        for (String id : new String[] { "a", "b", "c", "d", "e" }) {
+            addTransaction(id, ATOMIC_ACTION, 10);
+        }
+
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 1, 2));
+
+        assertEquals(Set.of("b", "c"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+        assertAttributesRead("b", "c");
+    }
+
+    @Test
+    public void pagesAreMerged() throws Exception {
+        for (String id : new String[] { "a", "b", "c", "d" }) {
+            addTransaction(id, ATOMIC_ACTION, 10);
+        }
+
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 0, 2));
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 2, 2));
+        assertEquals(Set.of("a", "b", "c", "d"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+
+        // A transaction outside of the page which left the log is removed from the model
+        removeTransaction("a");
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 2, 2));
+        assertEquals(Set.of("b", "c", "d"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+
+        // An unrestricted probe replaces the model
+        removeTransaction("b");
+        probe(LogStoreProbeHandler.ProbeFilter.ALL);
+        assertEquals(Set.of("c", "d"), this.logStore.getChildrenNames(LogStoreConstants.TRANSACTIONS));
+    }
+
+    @Test
+    public void participantsAreReloaded() throws Exception {
+        addTransaction("a", ATOMIC_ACTION, 10);
+        addParticipant("a", "p1");
+
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 0, 1));
+        assertEquals(Set.of("java:/p1"), participants("a"));
+
+        removeParticipant("a", "p1");
+        addParticipant("a", "p2");
+        probe(new LogStoreProbeHandler.ProbeFilter(null, -1, 0, 1));
+        assertEquals(Set.of("java:/p2"), participants("a"));
+    }
+
+    private void probe(LogStoreProbeHandler.ProbeFilter filter) throws Exception {
+        for (TestTransaction transaction : this.transactions.values()) {
+            transaction.reads.set(0);
+        }
+        Resource storeModel = LogStoreProbeHandler.INSTANCE.probeTransactions(this.server, false, this.logStore, filter);
+        storeModel.writeModel(this.logStore.getModel());
+        this.logStore.update(storeModel);
+    }
+
+    private void assertAttributesRead(String... ids) {
+        Set<String> expected = Set.of(ids);
+        for (Map.Entry<String, TestTransaction> entry : this.transactions.entrySet()) {
+            assertEquals(entry.getKey(), expected.contains(entry.getKey()), entry.getValue().reads.get() > 0);
+        }
+    }
+
+    private Set<String> participants(String id) {
+        return this.logStore.getChild(PathElement.pathElement(LogStoreConstants.TRANSACTIONS, id)).getChildrenNames(LogStoreConstants.PARTICIPANTS);
+    }
+
+    private void addTransaction(String id, String type, long age) throws Exception {
+        TestTransaction transaction = new TestTransaction(id, type, age);
+        this.server.registerMBean(transaction, transactionName(id, type));
+        this.transactions.put(id, transaction);
+    }
+
+    private void removeTransaction(String id) throws Exception {
+        TestTransaction transaction = this.transactions.remove(id);
+        this.server.unregisterMBean(transactionName(id, transaction.type));
+    }
+
+    private void addParticipant(String id, String name) throws Exception {
+        this.server.registerMBean(new TestParticipant("java:/" + name), participantName(id, name));
+    }
+
+    private void removeParticipant(String id, String name) throws Exception {
+        this.server.unregisterMBean(participantName(id, name));
+    }
+
+    private ObjectName transactionName(String id, String type) throws Exception {
+        return new ObjectName(LogStoreProbeHandler.osMBeanName + ",itype=" + type + ",uid=" + id);
+    }
+
+    private ObjectName participantName(String id, String name) throws Exception {
+        return new ObjectName(transactionName(id, this.transactions.get(id).type).getCanonicalName() + ",puid=" + name);
+    }
+
+    public interface TestObjectStoreMBean {
+        boolean isExposeAllRecordsAsMBeans();
+
+        void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans);
+
+        void probe();
+    }
+
+    public static class TestObjectStore implements TestObjectStoreMBean {
+        private volatile boolean exposeAllRecordsAsMBeans;
+
+        @Override
+        public boolean isExposeAllRecordsAsMBeans() {
+            return this.exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void setExposeAllRecordsAsMBeans(boolean exposeAllRecordsAsMBeans) {
+            this.exposeAllRecordsAsMBeans = exposeAllRecordsAsMBeans;
+        }
+
+        @Override
+        public void probe() {
+            // The transactions are registered by the test
+        }
+    }
+
+    public interface TestTransactionMBean {
+        String getId();
+
+        String getType();
+
+        long getAgeInSeconds();
+    }
+
+    public static class TestTransaction implements TestTransactionMBean {
+        final String id;
+        final String type;
+        final long age;
+        // Counts the reads of any attribute other than the age
+        final AtomicInteger reads = new AtomicInteger();
+
+        TestTransaction(String id, String type, long age) {
+            this.id = id;
+            this.type = type;
+            this.age = age;
+        }
+
+        @Override
+        public String getId() {
+            this.reads.incrementAndGet();
+            return this.id;
+        }
+
+        @Override
+        public String getType() {
+            this.reads.incrementAndGet();
+            return this.type;
+        }
+
+        @Override
+        public long getAgeInSeconds() {
+            return this.age;
+        }
+    }
+
+    public interface TestParticipantMBean {
+        String getJndiName();
+
+        String getStatus();
+    }
+
+    public static class TestParticipant implements TestParticipantMBean {
+        private final String jndiName;
+
+        TestParticipant(String jndiName) {
+            this.jndiName = jndiName;
+        }
+
+        @Override
+        public String getJndiName() {
+            return this.jndiName;
+        }
+
+        @Override
+        public String getStatus() {
+            return "PREPARED";
+        }
+    }
+}
@@ -122,6 +122,12 @@ public class TransactionSubsystemTestCase extends AbstractSubsystemBaseTest {
         result = kernelServices.executeOperation(operation);
         Assert.assertEquals("success", result.get("outcome").asString());
         Assert.assertEquals(TxStats.getInstance().getAverageCommitTime(), result.get(ModelDescriptionConstants.RESULT).asLong());
+
+        operation = createReadAttributeOperation(CommonAttributes.NUMBER_OF_ONE_PHASE_COMMITS);
+        result = kernelServices.executeOperation(operation);
+        Assert.assertEquals("success", result.get("outcome").asString());
+        // no transaction was committed since the subsystem started
+        Assert.assertEquals(0L, result.get(ModelDescriptionConstants.RESULT).asLong());
     }
 
     @Test
@@ -270,4 +270,12 @@ public interface WeldLogger extends BasicLogger {
 
     @Message(id = 64, value = "Incorrect setup for Weld's LiteExtensionTranslator initialization; a deployment unit has to be specified")
     IllegalArgumentException incorrectBceTranslatorSetup();
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 65, value = "Could not write the bean discovery cache entry %s")
+    void cannotWriteDiscoveryCache(Object path, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 66, value = "Could not pre-resolve the injection points of %s, they will be resolved on first use")
+    void cannotPreResolveInjectionPoints(String name, @Cause Throwable cause);
 }
@@ -39,6 +39,9 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
     static final String NON_PORTABLE_MODE_ATTRIBUTE_NAME = "non-portable-mode";
     static final String DEVELOPMENT_MODE_ATTRIBUTE_NAME = "development-mode";
     static final String THREAD_POOL_SIZE = "thread-pool-size";
+    static final String DISCOVERY_CACHE_ATTRIBUTE_NAME = "discovery-cache";
+    static final String CONCURRENT_VALIDATION_ATTRIBUTE_NAME = "concurrent-validation";
+    static final String PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE_NAME = "pre-resolve-injection-points";
 
     static final SimpleAttributeDefinition REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE =
             new SimpleAttributeDefinitionBuilder(REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE_NAME, ModelType.BOOLEAN, true)
@@ -76,7 +79,28 @@ class WeldResourceDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE, LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE, NON_PORTABLE_MODE_ATTRIBUTE, DEVELOPMENT_MODE_ATTRIBUTE, THREAD_POOL_SIZE_ATTRIBUTE };
+    static final SimpleAttributeDefinition DISCOVERY_CACHE_ATTRIBUTE =
+            new SimpleAttributeDefinitionBuilder(DISCOVERY_CACHE_ATTRIBUTE_NAME, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition CONCURRENT_VALIDATION_ATTRIBUTE =
+            new SimpleAttributeDefinitionBuilder(CONCURRENT_VALIDATION_ATTRIBUTE_NAME, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.TRUE)
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE =
+            new SimpleAttributeDefinitionBuilder(PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE_NAME, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE, LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE, NON_PORTABLE_MODE_ATTRIBUTE, DEVELOPMENT_MODE_ATTRIBUTE, THREAD_POOL_SIZE_ATTRIBUTE, DISCOVERY_CACHE_ATTRIBUTE, CONCURRENT_VALIDATION_ATTRIBUTE, PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE };
 
     WeldResourceDefinition() {
         super(new SimpleResourceDefinition.Parameters(WeldExtension.PATH_SUBSYSTEM, WeldExtension.getResourceDescriptionResolver())
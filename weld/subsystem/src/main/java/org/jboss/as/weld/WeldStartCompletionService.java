@@ -4,10 +4,15 @@
  */
 package org.jboss.as.weld;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
 import org.jboss.as.server.deployment.SetupAction;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.msc.Service;
@@ -15,6 +20,9 @@ import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
 import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.manager.api.ExecutorServices;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -24,6 +32,9 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  * Its start is delayed after all EE components are installed which allows Weld to perform efficient cleanup and further
  * optimizations after bootstrap.
  *
+ * If enabled, the injection points of the beans are then resolved once, so that the first requests find their resolution
+ * in the resolver caches of Weld. The bean deployment archives are resolved concurrently if an executor is provided.
+ *
  * @author Martin Kouba
  * @author Matej Novotny
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
@@ -36,15 +47,27 @@ public class WeldStartCompletionService implements Service {
     private final Supplier<WeldBootstrapService> bootstrapSupplier;
     private final List<SetupAction> setupActions;
     private final ClassLoader classLoader;
+    private final boolean preResolveInjectionPoints;
+    private final Supplier<ExecutorServices> executorServicesSupplier;
 
     private final AtomicBoolean runOnce = new AtomicBoolean();
 
     public WeldStartCompletionService(final Supplier<WeldBootstrapService> bootstrapSupplier,
                                       final List<SetupAction> setupActions,
                                       final ClassLoader classLoader) {
+        this(bootstrapSupplier, setupActions, classLoader, false, null);
+    }
+
+    public WeldStartCompletionService(final Supplier<WeldBootstrapService> bootstrapSupplier,
+                                      final List<SetupAction> setupActions,
+                                      final ClassLoader classLoader,
+                                      final boolean preResolveInjectionPoints,
+                                      final Supplier<ExecutorServices> executorServicesSupplier) {
         this.bootstrapSupplier = bootstrapSupplier;
         this.setupActions = setupActions;
         this.classLoader = classLoader;
+        this.preResolveInjectionPoints = preResolveInjectionPoints;
+        this.executorServicesSupplier = executorServicesSupplier;
     }
 
     @Override
@@ -60,6 +83,9 @@ public class WeldStartCompletionService implements Service {
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
             bootstrapSupplier.get().getBootstrap().endInitialization();
+            if (preResolveInjectionPoints) {
+                preResolveInjectionPoints(bootstrapSupplier.get());
+            }
         } finally {
             for (SetupAction action : setupActions) {try {
                 action.teardown(null);
@@ -76,4 +102,44 @@ public class WeldStartCompletionService implements Service {
         // No-op
     }
 
+    private void preResolveInjectionPoints(final WeldBootstrapService bootstrapService) {
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (BeanDeploymentArchive archive : bootstrapService.getBeanDeploymentArchives()) {
+            final BeanManagerImpl beanManager = bootstrapService.getBeanManager(archive.getId());
+            tasks.add(() -> {
+                final ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+                try {
+                    WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
+                    for (Bean<?> bean : beanManager.getBeans()) {
+                        for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+                            if (!injectionPoint.isDelegate()) {
+                                // the resolution is cached by the bean resolver of the bean manager
+                                beanManager.getBeans(injectionPoint);
+                            }
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    // a failing archive does not prevent the resolution of the other ones
+                    WeldLogger.DEPLOYMENT_LOGGER.cannotPreResolveInjectionPoints(archive.getId(), e);
+                } finally {
+                    WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
+                }
+                return null;
+            });
+        }
+        final ExecutorServices executorServices = (executorServicesSupplier != null) ? executorServicesSupplier.get() : null;
+        try {
+            if (executorServices != null && tasks.size() > 1) {
+                executorServices.invokeAllAndCheckForExceptions(tasks);
+            } else {
+                for (Callable<Void> task : tasks) {
+                    task.call();
+                }
+            }
+        } catch (Exception e) {
+            // The resolutions which could not be cached are simply computed on first use
+            WeldLogger.DEPLOYMENT_LOGGER.cannotPreResolveInjectionPoints(bootstrapService.getDeploymentName(), e);
+        }
+    }
+
 }
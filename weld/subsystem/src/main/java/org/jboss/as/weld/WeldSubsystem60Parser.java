@@ -0,0 +1,33 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.weld;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLParser;
+
+public class WeldSubsystem60Parser extends PersistentResourceXMLParser {
+
+    public static final String NAMESPACE = "urn:jboss:domain:weld:6.0";
+    static final WeldSubsystem60Parser INSTANCE = new WeldSubsystem60Parser();
+    private static final PersistentResourceXMLDescription xmlDescription;
+
+    static {
+        xmlDescription = PersistentResourceXMLDescription.builder(WeldExtension.PATH_SUBSYSTEM, NAMESPACE)
+                .addAttributes(WeldResourceDefinition.NON_PORTABLE_MODE_ATTRIBUTE, WeldResourceDefinition.REQUIRE_BEAN_DESCRIPTOR_ATTRIBUTE,
+                        WeldResourceDefinition.DEVELOPMENT_MODE_ATTRIBUTE, WeldResourceDefinition.THREAD_POOL_SIZE_ATTRIBUTE,
+                        WeldResourceDefinition.LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE, WeldResourceDefinition.DISCOVERY_CACHE_ATTRIBUTE,
+                        WeldResourceDefinition.CONCURRENT_VALIDATION_ATTRIBUTE, WeldResourceDefinition.PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE)
+                .build();
+    }
+
+    private WeldSubsystem60Parser() {
+    }
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return xmlDescription;
+    }
+}
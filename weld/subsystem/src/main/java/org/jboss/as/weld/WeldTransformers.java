@@ -24,13 +24,31 @@ public class WeldTransformers implements ExtensionTransformerRegistration {
 
     @Override
     public void registerTransformers(SubsystemTransformerRegistration subsystem) {
+        ModelVersion version5_0_0 = ModelVersion.create(5, 0, 0);
         ModelVersion version4_0_0 = ModelVersion.create(4, 0, 0);
 
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory
                 .createChainedSubystemInstance(subsystem.getCurrentSubsystemVersion());
 
-        // Differences between the current version and 4.0.0
-        ResourceTransformationDescriptionBuilder builder400 = chainedBuilder.createBuilder(subsystem.getCurrentSubsystemVersion(), version4_0_0);
+        // Differences between the current version and 5.0.0
+        ResourceTransformationDescriptionBuilder builder500 = chainedBuilder.createBuilder(subsystem.getCurrentSubsystemVersion(), version5_0_0);
+        builder500.getAttributeBuilder()
+                // Discard the default, as legacy hosts always scan the external bean archives. Reject otherwise.
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(ModelNode.FALSE),
+                        WeldResourceDefinition.DISCOVERY_CACHE_ATTRIBUTE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WeldResourceDefinition.DISCOVERY_CACHE_ATTRIBUTE)
+                // Discard 'true' as legacy hosts always validate concurrently. Reject otherwise.
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(ModelNode.TRUE),
+                        WeldResourceDefinition.CONCURRENT_VALIDATION_ATTRIBUTE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WeldResourceDefinition.CONCURRENT_VALIDATION_ATTRIBUTE)
+                // Discard the default, as legacy hosts never pre-resolve injection points. Reject otherwise.
+                .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(ModelNode.FALSE),
+                        WeldResourceDefinition.PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, WeldResourceDefinition.PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE)
+                .end();
+
+        // Differences between 5.0.0 and 4.0.0
+        ResourceTransformationDescriptionBuilder builder400 = chainedBuilder.createBuilder(version5_0_0, version4_0_0);
         builder400.getAttributeBuilder()
                 // Discard an explicit 'true' as that's the legacy behavior. Reject otherwise.
                 .setDiscard(new DiscardAttributeChecker.DiscardAttributeValueChecker(false, false, ModelNode.TRUE),
@@ -38,6 +56,6 @@ public class WeldTransformers implements ExtensionTransformerRegistration {
                 .addRejectCheck(RejectAttributeChecker.ALL, WeldResourceDefinition.LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE)
                 .end();
 
-        chainedBuilder.buildAndRegister(subsystem, new ModelVersion[]{version4_0_0});
+        chainedBuilder.buildAndRegister(subsystem, new ModelVersion[]{version5_0_0, version4_0_0});
     }
 }
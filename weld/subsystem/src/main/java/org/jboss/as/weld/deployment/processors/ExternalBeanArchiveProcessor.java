@@ -20,6 +20,7 @@ import java.util.Map.Entry;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.jboss.as.ee.component.ComponentDescription;
 import org.jboss.as.ee.component.EEModuleDescription;
@@ -37,6 +38,7 @@ import org.jboss.as.weld.deployment.PropertyReplacingBeansXmlParser;
 import org.jboss.as.weld.deployment.WeldAttachments;
 import org.jboss.as.weld.deployment.processors.UrlScanner.ClassFile;
 import org.jboss.as.weld.discovery.AnnotationType;
+import org.jboss.as.weld.discovery.WeldDiscoveryCache;
 import org.jboss.as.weld.logging.WeldLogger;
 import org.jboss.as.weld.spi.ComponentSupport;
 import org.jboss.as.weld.spi.ModuleServicesProvider;
@@ -76,8 +78,22 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
 
     private static final String META_INF_JANDEX_IDX = "META-INF/jandex.idx";
 
-    private final String ALL_KNOWN_CLASSES = "ALL_KNOWN_CLASSES";
-    private final String BEAN_CLASSES = "BEAN_CLASSES";
+    static final String ALL_KNOWN_CLASSES = "ALL_KNOWN_CLASSES";
+    static final String BEAN_CLASSES = "BEAN_CLASSES";
+
+    private final WeldDiscoveryCache discoveryCache;
+
+    public ExternalBeanArchiveProcessor() {
+        this(null);
+    }
+
+    /**
+     * @param discoveryCache the cache of the discovery of unchanged external bean archives, or {@code null} to always
+     *        scan them
+     */
+    public ExternalBeanArchiveProcessor(WeldDiscoveryCache discoveryCache) {
+        this.discoveryCache = discoveryCache;
+    }
 
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -256,9 +272,39 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
      * @param beanDefiningAnnotations
      * @return the set of discovered bean classes or null if unable to handle the provided beans.xml url
      */
-    private Map<String, List<String>> discover(BeanDiscoveryMode beanDiscoveryMode, URL beansXmlUrl, URL indexUrl, Set<AnnotationType> beanDefiningAnnotations) {
+    Map<String, List<String>> discover(BeanDiscoveryMode beanDiscoveryMode, URL beansXmlUrl, URL indexUrl, Set<AnnotationType> beanDefiningAnnotations) {
+        if (discoveryCache == null) {
+            return scan(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations, result -> { });
+        }
+        // The discovery of an archive only depends on its content, its discovery mode and the bean defining annotations
+        List<String> discoveryInputs = new ArrayList<>();
+        discoveryInputs.add(beanDiscoveryMode.name());
+        if (BeanDiscoveryMode.ANNOTATED.equals(beanDiscoveryMode)) {
+            for (AnnotationType beanDefiningAnnotation : beanDefiningAnnotations) {
+                discoveryInputs.add(beanDefiningAnnotation.getName() + (beanDefiningAnnotation.isInherited() ? "@Inherited" : ""));
+            }
+        }
+        WeldDiscoveryCache.Key key = WeldDiscoveryCache.key(beansXmlUrl, discoveryInputs);
+        if (key == null) {
+            return scan(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations, result -> { });
+        }
+        Map<String, List<String>> result = discoveryCache.read(key);
+        if (result != null && result.containsKey(BEAN_CLASSES) && result.containsKey(ALL_KNOWN_CLASSES)) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf("Using the cached discovery of external bean archive: %s", beansXmlUrl);
+            return result;
+        }
+        // Only a discovery which read all the classes of the archive is cached
+        return scan(beanDiscoveryMode, beansXmlUrl, indexUrl, beanDefiningAnnotations, completeResult -> discoveryCache.write(key, completeResult));
+    }
+
+    /**
+     * @param completeResultConsumer consumes the result if all the classes of the archive could be read
+     */
+    private Map<String, List<String>> scan(BeanDiscoveryMode beanDiscoveryMode, URL beansXmlUrl, URL indexUrl, Set<AnnotationType> beanDefiningAnnotations,
+            Consumer<Map<String, List<String>>> completeResultConsumer) {
         List<String> discoveredBeanClasses = new ArrayList<String>();
         List<String> allKnownClasses = new ArrayList<String>();
+        List<String> unreadableClasses = new ArrayList<String>();
         BiConsumer<String, ClassFile> consumer;
 
         if (BeanDiscoveryMode.ANNOTATED.equals(beanDiscoveryMode)) {
@@ -283,6 +329,7 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
                             discoveredBeanClasses.add(name);
                         }
                     } catch (IOException e) {
+                        unreadableClasses.add(name);
                         WeldLogger.DEPLOYMENT_LOGGER.cannotIndexClassName(name, beansXmlUrl);
                     }
                 };
@@ -298,7 +345,13 @@ public class ExternalBeanArchiveProcessor implements DeploymentUnitProcessor {
         result.put(ALL_KNOWN_CLASSES, allKnownClasses);
         result.put(BEAN_CLASSES, discoveredBeanClasses);
         UrlScanner scanner = new UrlScanner(beansXmlUrl, consumer);
-        return scanner.scan() ? result : Collections.emptyMap();
+        if (!scanner.scan()) {
+            return Collections.emptyMap();
+        }
+        if (scanner.isComplete() && unreadableClasses.isEmpty()) {
+            completeResultConsumer.accept(result);
+        }
+        return result;
     }
 
     private Index tryLoadIndex(URL indexUrl) {
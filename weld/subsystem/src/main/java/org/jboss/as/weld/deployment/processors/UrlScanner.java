@@ -35,11 +35,17 @@ class UrlScanner {
 
     private final BiConsumer<String, ClassFile> classConsumer;
 
+    private boolean complete = true;
+
     UrlScanner(URL beansXmlUrl, BiConsumer<String, ClassFile> classConsumer) {
         this.beansXmlUrl = beansXmlUrl;
         this.classConsumer = classConsumer;
     }
 
+    /**
+     * @return whether the classes of the archive could be scanned, even partially
+     * @see #isComplete()
+     */
     boolean scan() {
         String urlPath = beansXmlUrl.toExternalForm();
 
@@ -108,10 +114,18 @@ class UrlScanner {
                 handleArchiveByFile(file);
             }
         } catch (IOException ioe) {
+            complete = false;
             WeldLogger.DEPLOYMENT_LOGGER.couldNotReadEntries(ioe);
         }
     }
 
+    /**
+     * @return whether all the entries of the archive were read by the scan
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
     private void handleArchiveByFile(File file) throws IOException {
         try {
             WeldLogger.DEPLOYMENT_LOGGER.trace("archive: " + file);
@@ -21,12 +21,17 @@ class WeldConfiguration {
     private final boolean nonPortableMode;
     private final boolean developmentMode;
     private final boolean legacyEmptyBeansXmlTreatment;
+    private final boolean concurrentValidation;
+    private final boolean preResolveInjectionPoints;
 
-    public WeldConfiguration(boolean requireBeanDescriptor, boolean nonPortableMode, boolean developmentMode, boolean legacyEmptyBeansXmlTreatment) {
+    public WeldConfiguration(boolean requireBeanDescriptor, boolean nonPortableMode, boolean developmentMode, boolean legacyEmptyBeansXmlTreatment,
+            boolean concurrentValidation, boolean preResolveInjectionPoints) {
         this.requireBeanDescriptor = requireBeanDescriptor;
         this.nonPortableMode = nonPortableMode;
         this.developmentMode = developmentMode;
         this.legacyEmptyBeansXmlTreatment = legacyEmptyBeansXmlTreatment;
+        this.concurrentValidation = concurrentValidation;
+        this.preResolveInjectionPoints = preResolveInjectionPoints;
     }
 
     public boolean isNonPortableMode() {
@@ -45,10 +50,19 @@ class WeldConfiguration {
         return legacyEmptyBeansXmlTreatment;
     }
 
+    public boolean isConcurrentValidation() {
+        return concurrentValidation;
+    }
+
+    public boolean isPreResolveInjectionPoints() {
+        return preResolveInjectionPoints;
+    }
+
     @Override
     public String toString() {
         return "WeldConfiguration [requireBeanDescriptor=" + requireBeanDescriptor + ", nonPortableMode=" + nonPortableMode + ", developmentMode="
-                + developmentMode + ", legacyEmptyBeansXmlTreatment=" + legacyEmptyBeansXmlTreatment + "]";
+                + developmentMode + ", legacyEmptyBeansXmlTreatment=" + legacyEmptyBeansXmlTreatment + ", concurrentValidation=" + concurrentValidation
+                + ", preResolveInjectionPoints=" + preResolveInjectionPoints + "]";
     }
 
 }
@@ -24,12 +24,17 @@ public class WeldConfigurationProcessor implements DeploymentUnitProcessor {
     private final boolean nonPortableModeGlobal;
     private final boolean developmentModeGlobal;
     private final boolean legacyEmptyBeansXmlTreatmentGlobal;
+    private final boolean concurrentValidation;
+    private final boolean preResolveInjectionPoints;
 
-    public WeldConfigurationProcessor(boolean requireBeanDescriptorGlobal, boolean nonPortableModeGlobal, boolean developmentModeGlobal, boolean legacyEmptyBeansXmlTreatmentGlobal) {
+    public WeldConfigurationProcessor(boolean requireBeanDescriptorGlobal, boolean nonPortableModeGlobal, boolean developmentModeGlobal, boolean legacyEmptyBeansXmlTreatmentGlobal,
+            boolean concurrentValidation, boolean preResolveInjectionPoints) {
         this.requireBeanDescriptorGlobal = requireBeanDescriptorGlobal;
         this.nonPortableModeGlobal = nonPortableModeGlobal;
         this.developmentModeGlobal = developmentModeGlobal;
         this.legacyEmptyBeansXmlTreatmentGlobal = legacyEmptyBeansXmlTreatmentGlobal;
+        this.concurrentValidation = concurrentValidation;
+        this.preResolveInjectionPoints = preResolveInjectionPoints;
     }
 
     @Override
@@ -52,7 +57,8 @@ public class WeldConfigurationProcessor implements DeploymentUnitProcessor {
             developmentMode = getValue(configuration.getDevelopmentMode(), developmentModeGlobal);
             legacyEmptyBeansXmlTreatment = getValue(configuration.getLegacyEmptyBeansXmlTreatment(), legacyEmptyBeansXmlTreatmentGlobal);
         }
-        WeldConfiguration mergedConfiguration = new WeldConfiguration(requireBeanDescriptor, nonPortableMode, developmentMode, legacyEmptyBeansXmlTreatment);
+        WeldConfiguration mergedConfiguration = new WeldConfiguration(requireBeanDescriptor, nonPortableMode, developmentMode, legacyEmptyBeansXmlTreatment,
+                concurrentValidation, preResolveInjectionPoints);
         deploymentUnit.putAttachment(WeldConfiguration.ATTACHMENT_KEY, mergedConfiguration);
     }
 
@@ -19,12 +19,14 @@ import org.jboss.as.weld.WeldBootstrapService;
 import org.jboss.as.weld._private.WeldDeploymentMarker;
 import org.jboss.as.weld.WeldStartCompletionService;
 import org.jboss.as.weld.WeldStartService;
+import org.jboss.as.weld.services.bootstrap.WeldExecutorServices;
 import org.jboss.as.weld.util.Utils;
 import org.jboss.modules.Module;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceRegistry;
 import org.jboss.msc.service.ServiceTarget;
+import org.jboss.weld.manager.api.ExecutorServices;
 
 /**
  * A processor which takes care of after boot cleanup for Weld. The idea is to invoke
@@ -77,8 +79,14 @@ public class WeldDeploymentCleanupProcessor implements DeploymentUnitProcessor {
             }
         }
 
+        final WeldConfiguration configuration = deploymentUnit.getAttachment(WeldConfiguration.ATTACHMENT_KEY);
+        final boolean preResolveInjectionPoints = configuration != null && configuration.isPreResolveInjectionPoints();
+        // the injection points of the bean deployment archives are resolved concurrently, as they are validated
+        final Supplier<ExecutorServices> executorServicesSupplier = (preResolveInjectionPoints && configuration.isConcurrentValidation())
+                ? weldStartCompletionServiceBuilder.requires(WeldExecutorServices.SERVICE_NAME) : null;
         weldStartCompletionServiceBuilder.setInstance(new WeldStartCompletionService(bootstrapSupplier,
-                WeldDeploymentProcessor.getSetupActions(deploymentUnit), module.getClassLoader()));
+                WeldDeploymentProcessor.getSetupActions(deploymentUnit), module.getClassLoader(), preResolveInjectionPoints,
+                executorServicesSupplier));
         weldStartCompletionServiceBuilder.install();
     }
 
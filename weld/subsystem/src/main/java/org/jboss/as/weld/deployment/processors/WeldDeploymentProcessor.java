@@ -299,9 +299,11 @@ public class WeldDeploymentProcessor implements DeploymentUnitProcessor {
     }
 
     private void installBootstrapConfigurationService(WeldDeployment deployment, DeploymentUnit parentDeploymentUnit) {
-        final boolean nonPortableMode = parentDeploymentUnit.getAttachment(WeldConfiguration.ATTACHMENT_KEY).isNonPortableMode();
+        final WeldConfiguration weldConfiguration = parentDeploymentUnit.getAttachment(WeldConfiguration.ATTACHMENT_KEY);
         final ExternalConfiguration configuration = new ExternalConfigurationBuilder()
-            .add(ConfigurationKey.NON_PORTABLE_MODE.get(), nonPortableMode)
+            .add(ConfigurationKey.NON_PORTABLE_MODE.get(), weldConfiguration.isNonPortableMode())
+            // validates the beans on the Weld thread pool, bounded by the thread-pool-size of the subsystem
+            .add(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), weldConfiguration.isConcurrentValidation())
             .add(ConfigurationKey.ALLOW_OPTIMIZED_CLEANUP.get(), true)
             .build();
         deployment.getServices().add(ExternalConfiguration.class, configuration);
@@ -0,0 +1,332 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Persists the results of the bean discovery of archives across server restarts, so that the classes of an unchanged
+ * archive are not scanned again.
+ * <p>
+ * An entry is named by a digest of the archive location and of the inputs of the discovery, so each archive has a
+ * single entry per discovery, which is replaced when the archive is modified. The entry also holds a fingerprint of the
+ * archive content: the size and last modification time of an archive file, or the path, size and last modification
+ * time of each file of an exploded archive. An entry whose fingerprint does not match the archive is not used.
+ * <p>
+ * Entries which were not used for {@link #DEFAULT_MAX_IDLE_MILLIS}, e.g. those of the archives which were removed, are
+ * deleted the first time the cache is used.
+ */
+public class WeldDiscoveryCache {
+
+    static final long DEFAULT_MAX_IDLE_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String JAR_URL_SEPARATOR = "!/";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final long maxIdleMillis;
+    private final AtomicBoolean pruned = new AtomicBoolean();
+
+    public WeldDiscoveryCache(Path directory) {
+        this(directory, DEFAULT_MAX_IDLE_MILLIS);
+    }
+
+    WeldDiscoveryCache(Path directory, long maxIdleMillis) {
+        this.directory = directory;
+        this.maxIdleMillis = maxIdleMillis;
+    }
+
+    /**
+     * The key of the discovery of an archive.
+     */
+    public static final class Key {
+        final String name;
+        final String fingerprint;
+
+        Key(String name, String fingerprint) {
+            this.name = name;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Returns the key of the discovery of an archive.
+     *
+     * @param beansXmlUrl the URL of the {@code META-INF/beans.xml} file of the archive
+     * @param discoveryInputs the inputs of the discovery, such as the discovery mode
+     * @return the key or {@code null} if the archive is neither a local archive file, a local directory nor a VFS
+     *         directory, or cannot be read
+     */
+    public static Key key(URL beansXmlUrl, Collection<String> discoveryInputs) {
+        final StringBuilder location = new StringBuilder();
+        final String fingerprint;
+        try {
+            switch (beansXmlUrl.getProtocol()) {
+                case "jar": {
+                    final File archive = archiveFile(beansXmlUrl);
+                    if (archive == null) {
+                        return null;
+                    }
+                    location.append(archive.getAbsolutePath());
+                    fingerprint = archive.length() + ":" + archive.lastModified();
+                    break;
+                }
+                case "file": {
+                    final Path metaInf = new File(beansXmlUrl.toURI()).toPath().getParent();
+                    final Path root = (metaInf != null) ? metaInf.getParent() : null;
+                    if (root == null || !Files.isDirectory(root)) {
+                        return null;
+                    }
+                    location.append(root.toAbsolutePath());
+                    fingerprint = fingerprint(root);
+                    break;
+                }
+                case "vfs": {
+                    final VirtualFile metaInf = VFS.getChild(beansXmlUrl).getParent();
+                    final VirtualFile root = (metaInf != null) ? metaInf.getParent() : null;
+                    if (root == null || !root.isDirectory()) {
+                        return null;
+                    }
+                    location.append(root.getPathName());
+                    fingerprint = fingerprint(root);
+                    break;
+                }
+                default:
+                    return null;
+            }
+        } catch (URISyntaxException | IllegalArgumentException | IOException | UncheckedIOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot compute the bean discovery cache key of %s", beansXmlUrl);
+            return null;
+        }
+        location.append('\n');
+        // The order of the inputs does not matter
+        for (String input : new TreeSet<>(discoveryInputs)) {
+            location.append(input).append('\n');
+        }
+        return new Key(hex(digest().digest(location.toString().getBytes(StandardCharsets.UTF_8))), fingerprint);
+    }
+
+    private static File archiveFile(URL beansXmlUrl) throws URISyntaxException {
+        final String path = beansXmlUrl.getPath();
+        final int separator = path.indexOf(JAR_URL_SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        final URI archiveUri = new URI(path.substring(0, separator));
+        if (!"file".equals(archiveUri.getScheme())) {
+            return null;
+        }
+        final File archive = new File(archiveUri);
+        return archive.isFile() ? archive : null;
+    }
+
+    private static String fingerprint(Path root) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(root)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        final MessageDigest digest = digest();
+        for (Path file : files) {
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            update(digest, root.relativize(file).toString(), attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+        return hex(digest.digest());
+    }
+
+    private static String fingerprint(VirtualFile root) {
+        final List<VirtualFile> files = root.getChildrenRecursively().stream()
+                .filter(VirtualFile::isFile)
+                .sorted(Comparator.comparing(file -> file.getPathNameRelativeTo(root)))
+                .collect(Collectors.toList());
+        final MessageDigest digest = digest();
+        for (VirtualFile file : files) {
+            update(digest, file.getPathNameRelativeTo(root), file.getSize(), file.getLastModified());
+        }
+        return hex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String path, long size, long lastModified) {
+        digest.update((path + '\n' + size + '\n' + lastModified + '\n').getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Reads a discovery result.
+     *
+     * @param key the key of the discovery
+     * @return the lists of class names of the discovery, or {@code null} if no valid entry exists for the key
+     */
+    public Map<String, List<String>> read(Key key) {
+        pruneOnce();
+        final Path file = directory.resolve(key.name);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        final Map<String, List<String>> result = new HashMap<>();
+        final CRC32 checksum = new CRC32();
+        try (InputStream in = Files.newInputStream(file); DataInputStream input = new DataInputStream(new CheckedInputStream(new BufferedInputStream(in), checksum))) {
+            if (input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            if (!key.fingerprint.equals(input.readUTF())) {
+                // The archive was modified, the entry is replaced by the next discovery
+                return null;
+            }
+            final int lists = input.readInt();
+            for (int i = 0; i < lists; i++) {
+                final String name = input.readUTF();
+                final int size = input.readInt();
+                final List<String> values = new ArrayList<>();
+                for (int j = 0; j < size; j++) {
+                    values.add(input.readUTF());
+                }
+                result.put(name, values);
+            }
+            final long expected = checksum.getValue();
+            if (input.readLong() != expected) {
+                throw new IOException("Checksum mismatch");
+            }
+        } catch (IOException e) {
+            // A truncated or corrupted entry is discarded and replaced by a new discovery
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Ignoring unreadable bean discovery cache entry %s", file);
+            delete(file);
+            return null;
+        }
+        try {
+            // Keeps the entry from being pruned
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot update the bean discovery cache entry %s", file);
+        }
+        return result;
+    }
+
+    /**
+     * Writes a discovery result. The entry is written to a temporary file first, so that a concurrent or an interrupted
+     * write never leaves a partial entry.
+     *
+     * @param key the key of the discovery
+     * @param result the lists of class names of the discovery
+     */
+    public void write(Key key, Map<String, ? extends Collection<String>> result) {
+        pruneOnce();
+        final Path file = directory.resolve(key.name);
+        try {
+            Files.createDirectories(directory);
+            final Path temp = Files.createTempFile(directory, key.name, TEMP_SUFFIX);
+            try {
+                final CRC32 checksum = new CRC32();
+                try (OutputStream out = Files.newOutputStream(temp); DataOutputStream output = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(out), checksum))) {
+                    output.writeInt(FORMAT_VERSION);
+                    output.writeUTF(key.fingerprint);
+                    output.writeInt(result.size());
+                    for (Map.Entry<String, ? extends Collection<String>> entry : result.entrySet()) {
+                        output.writeUTF(entry.getKey());
+                        output.writeInt(entry.getValue().size());
+                        for (String value : entry.getValue()) {
+                            output.writeUTF(value);
+                        }
+                    }
+                    output.writeLong(checksum.getValue());
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.cannotWriteDiscoveryCache(file, e);
+        }
+    }
+
+    private void pruneOnce() {
+        if (pruned.compareAndSet(false, true)) {
+            prune();
+        }
+    }
+
+    /**
+     * Deletes the entries, and the temporary files left by interrupted writes, which were not used for the maximum idle time.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final long expiration = System.currentTimeMillis() - maxIdleMillis;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toMillis() < expiration) {
+                    WeldLogger.DEPLOYMENT_LOGGER.debugf("Removing unused bean discovery cache entry %s", file);
+                    delete(file);
+                }
+            }
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot prune the bean discovery cache %s", directory);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot delete the bean discovery cache entry %s", file);
+        }
+    }
+}
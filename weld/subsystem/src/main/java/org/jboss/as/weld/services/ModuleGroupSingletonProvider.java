@@ -43,6 +43,11 @@ public class ModuleGroupSingletonProvider extends SingletonProvider {
         deploymentClassLoaders.remove(topLevel);
     }
 
+    /**
+     * The maximum number of TCCLs which are not module class loaders remembered by each singleton.
+     */
+    private static final int MAX_ALIASES = 256;
+
     @Override
     public <T> Singleton<T> create(Class<? extends T> type) {
         return new TCCLSingleton<T>();
@@ -53,15 +58,50 @@ public class ModuleGroupSingletonProvider extends SingletonProvider {
 
         private volatile Map<ClassLoader, T> store = Collections.emptyMap();
         private volatile Map<String, T> contextIdStore = Collections.emptyMap();
+        /**
+         * Maps the TCCLs which are not module class loaders, e.g. custom class loaders of the applications, to the
+         * module class loader they delegate to, so that they are resolved once rather than on each lookup. The aliases
+         * of a module class loader are removed when its singleton is cleared, so that they are not retained after undeploy.
+         */
+        private volatile Map<ClassLoader, ClassLoader> aliases = Collections.emptyMap();
 
         public T get() {
-            T instance = store.get(findParentModuleCl(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged()));
+            final ClassLoader classLoader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+            T instance = lookup(classLoader);
             if (instance == null) {
-                throw WeldLogger.ROOT_LOGGER.singletonNotSet(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged());
+                throw WeldLogger.ROOT_LOGGER.singletonNotSet(classLoader);
             }
             return instance;
         }
 
+        private T lookup(ClassLoader classLoader) {
+            final Map<ClassLoader, T> store = this.store;
+            // Usually the TCCL is a module class loader of a deployment
+            T instance = store.get(classLoader);
+            if (instance != null || classLoader instanceof ModuleClassLoader) {
+                return instance;
+            }
+            ClassLoader moduleClassLoader = aliases.get(classLoader);
+            if (moduleClassLoader == null) {
+                moduleClassLoader = findParentModuleCl(classLoader);
+                instance = store.get(moduleClassLoader);
+                if (instance != null) {
+                    addAlias(classLoader, moduleClassLoader);
+                }
+                return instance;
+            }
+            return store.get(moduleClassLoader);
+        }
+
+        private synchronized void addAlias(ClassLoader classLoader, ClassLoader moduleClassLoader) {
+            // Only aliases of module class loaders whose singleton is set are added, so that clear() removes them
+            if (this.aliases.size() < MAX_ALIASES && this.store.containsKey(moduleClassLoader)) {
+                final Map<ClassLoader, ClassLoader> aliases = new IdentityHashMap<ClassLoader, ClassLoader>(this.aliases);
+                aliases.put(classLoader, moduleClassLoader);
+                this.aliases = aliases;
+            }
+        }
+
         public synchronized void set(T object) {
             final Map<ClassLoader, T> store = new IdentityHashMap<ClassLoader, T>(this.store);
             ClassLoader classLoader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
@@ -84,10 +124,16 @@ public class ModuleGroupSingletonProvider extends SingletonProvider {
                 }
             }
             this.store = store;
+            if (!this.aliases.isEmpty()) {
+                // Remove the aliases of the class loaders whose singleton is no longer set
+                final Map<ClassLoader, ClassLoader> aliases = new IdentityHashMap<ClassLoader, ClassLoader>(this.aliases);
+                aliases.values().removeIf(moduleClassLoader -> !store.containsKey(moduleClassLoader));
+                this.aliases = aliases;
+            }
         }
 
         public boolean isSet() {
-            return store.containsKey(findParentModuleCl(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged()));
+            return lookup(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged()) != null;
         }
 
         /**
@@ -36,7 +36,7 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/jboss-as-weld_5_0.xsd";
+        return "schema/jboss-as-weld_6_0.xsd";
     }
 
     @Test
@@ -59,6 +59,11 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
         standardSubsystemTest("subsystem_4_0.xml", false);
     }
 
+    @Test
+    public void testSubsystem50() throws Exception {
+        standardSubsystemTest("subsystem_5_0.xml", false);
+    }
+
     @Test
     public void testExpressions() throws Exception {
         standardSubsystemTest("subsystem_with_expression.xml");
@@ -82,16 +87,27 @@ public class WeldSubsystemTestCase extends AbstractSubsystemBaseTest {
 
         ModelTestUtils.checkFailedTransformedBootOperations(mainServices, modelVersion, parse(getSubsystemXml("subsystem-reject.xml")),
                 new FailedOperationTransformationConfig().addFailedAttribute(PathAddress.pathAddress(WeldExtension.PATH_SUBSYSTEM),
-                        new FailedOperationTransformationConfig.NewAttributesConfig(WeldResourceDefinition.LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE) {
+                        new FailedOperationTransformationConfig.NewAttributesConfig(WeldResourceDefinition.LEGACY_EMPTY_BEANS_XML_TREATMENT_ATTRIBUTE,
+                                WeldResourceDefinition.DISCOVERY_CACHE_ATTRIBUTE, WeldResourceDefinition.CONCURRENT_VALIDATION_ATTRIBUTE,
+                                WeldResourceDefinition.PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE) {
                             @Override
                             protected boolean checkValue(String attrName, ModelNode attribute, boolean isGeneratedWriteAttribute) {
+                                if (WeldResourceDefinition.DISCOVERY_CACHE_ATTRIBUTE.getName().equals(attrName)
+                                        || WeldResourceDefinition.PRE_RESOLVE_INJECTION_POINTS_ATTRIBUTE.getName().equals(attrName)) {
+                                    return attribute.isDefined() && !attribute.equals(ModelNode.FALSE);
+                                }
+                                if (WeldResourceDefinition.CONCURRENT_VALIDATION_ATTRIBUTE.getName().equals(attrName)) {
+                                    return attribute.isDefined() && !attribute.equals(ModelNode.TRUE);
+                                }
                                 return !attribute.equals(ModelNode.TRUE);
                             }
 
                             @Override
                             protected ModelNode correctValue(ModelNode attribute, boolean isGeneratedWriteAttribute) {
-                                // if it's 'false' change it to undefined to test handling of undefined as well
-                                return attribute.isDefined() ? ModelNode.TRUE : new ModelNode();
+                                // legacy-empty-beans-xml-treatment and concurrent-validation are only accepted if 'true',
+                                // discovery-cache and pre-resolve-injection-points if 'false'
+                                // if it's undefined, keep it undefined to test handling of undefined as well
+                                return attribute.isDefined() ? new ModelNode(!attribute.asBoolean()) : new ModelNode();
                             }
                         }));
     }
@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.deployment.processors;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.as.weld.discovery.WeldDiscoveryCache;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the use of the bean discovery cache by the discovery of external bean archives.
+ */
+public class ExternalBeanArchiveProcessorTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private CountingDiscoveryCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.newFolder("cache").toPath();
+        cache = new CountingDiscoveryCache(directory);
+    }
+
+    @Test
+    public void testCacheHit() throws IOException {
+        URL beansXml = createJar("a.jar", Map.of("foo/Alpha.class", new byte[] { 0 }, "foo/Bravo.class", new byte[] { 0 }));
+
+        Map<String, List<String>> scanned = new ExternalBeanArchiveProcessor(cache).discover(BeanDiscoveryMode.ALL, beansXml, null, Collections.emptySet());
+        Assert.assertEquals(Set.of("foo.Alpha", "foo.Bravo"), new HashSet<>(scanned.get(ExternalBeanArchiveProcessor.BEAN_CLASSES)));
+        Assert.assertEquals(1, cache.writes);
+
+        // The next deployment, or the next boot, uses the cached discovery instead of scanning the archive
+        CountingDiscoveryCache restartedCache = new CountingDiscoveryCache(directory);
+        Map<String, List<String>> cached = new ExternalBeanArchiveProcessor(restartedCache).discover(BeanDiscoveryMode.ALL, beansXml, null, Collections.emptySet());
+        Assert.assertEquals(new HashSet<>(scanned.get(ExternalBeanArchiveProcessor.BEAN_CLASSES)), new HashSet<>(cached.get(ExternalBeanArchiveProcessor.BEAN_CLASSES)));
+        Assert.assertEquals(new HashSet<>(scanned.get(ExternalBeanArchiveProcessor.ALL_KNOWN_CLASSES)), new HashSet<>(cached.get(ExternalBeanArchiveProcessor.ALL_KNOWN_CLASSES)));
+        Assert.assertEquals(1, restartedCache.hits);
+        Assert.assertEquals(0, restartedCache.writes);
+    }
+
+    @Test
+    public void testModifiedArchive() throws IOException {
+        URL beansXml = createJar("a.jar", Map.of("foo/Alpha.class", new byte[] { 0 }));
+        ExternalBeanArchiveProcessor processor = new ExternalBeanArchiveProcessor(cache);
+        processor.discover(BeanDiscoveryMode.ALL, beansXml, null, Collections.emptySet());
+
+        createJar("a.jar", Map.of("foo/Alpha.class", new byte[] { 0 }, "foo/Bravo.class", new byte[] { 0 }));
+
+        Map<String, List<String>> result = processor.discover(BeanDiscoveryMode.ALL, beansXml, null, Collections.emptySet());
+        Assert.assertEquals(Set.of("foo.Alpha", "foo.Bravo"), new HashSet<>(result.get(ExternalBeanArchiveProcessor.BEAN_CLASSES)));
+        Assert.assertEquals(0, cache.hits);
+        Assert.assertEquals(2, cache.writes);
+        Assert.assertEquals(1, directory.toFile().listFiles().length);
+    }
+
+    @Test
+    public void testIncompleteDiscoveryNotCached() throws IOException {
+        // A class which cannot be indexed is skipped by the discovery of an archive without index
+        URL beansXml = createJar("a.jar", Map.of("foo/Alpha.class", "not a class".getBytes(StandardCharsets.UTF_8)));
+        ExternalBeanArchiveProcessor processor = new ExternalBeanArchiveProcessor(cache);
+
+        Map<String, List<String>> result = processor.discover(BeanDiscoveryMode.ANNOTATED, beansXml, null, Collections.emptySet());
+        Assert.assertTrue(result.get(ExternalBeanArchiveProcessor.ALL_KNOWN_CLASSES).isEmpty());
+        Assert.assertEquals(0, cache.writes);
+
+        // The archive is scanned again by the next discovery
+        processor.discover(BeanDiscoveryMode.ANNOTATED, beansXml, null, Collections.emptySet());
+        Assert.assertEquals(0, cache.hits);
+        Assert.assertEquals(0, cache.writes);
+        Assert.assertEquals(0, directory.toFile().listFiles().length);
+    }
+
+    private URL createJar(String name, Map<String, byte[]> entries) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        try (OutputStream out = Files.newOutputStream(file.toPath()); JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry("META-INF/beans.xml"));
+            jar.write("<beans/>".getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jar.putNextEntry(new JarEntry(entry.getKey()));
+                jar.write(entry.getValue());
+            }
+        }
+        return new URL("jar:" + file.toURI() + "!/META-INF/beans.xml");
+    }
+
+    private static class CountingDiscoveryCache extends WeldDiscoveryCache {
+        int hits;
+        int writes;
+
+        CountingDiscoveryCache(Path directory) {
+            super(directory);
+        }
+
+        @Override
+        public Map<String, List<String>> read(Key key) {
+            Map<String, List<String>> result = super.read(key);
+            if (result != null) {
+                hits++;
+            }
+            return result;
+        }
+
+        @Override
+        public void write(Key key, Map<String, ? extends Collection<String>> result) {
+            writes++;
+            super.write(key, result);
+        }
+    }
+}
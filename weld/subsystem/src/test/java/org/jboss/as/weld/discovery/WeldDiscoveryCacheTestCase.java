@@ -0,0 +1,172 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WeldDiscoveryCacheTestCase {
+
+    private static final List<String> INPUTS = Arrays.asList("ALL");
+    private static final Map<String, List<String>> RESULT = Map.of("BEAN_CLASSES", Arrays.asList("foo.Alpha"), "ALL_KNOWN_CLASSES", Arrays.asList("foo.Alpha", "foo.Bravo"));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private WeldDiscoveryCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = folder.newFolder("cache").toPath();
+        cache = new WeldDiscoveryCache(directory);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        URL beansXml = createJar("a.jar", "foo/Alpha.class");
+        WeldDiscoveryCache.Key key = WeldDiscoveryCache.key(beansXml, INPUTS);
+        Assert.assertNotNull(key);
+        Assert.assertNull(cache.read(key));
+
+        cache.write(key, RESULT);
+
+        Assert.assertEquals(RESULT, cache.read(key));
+        // The entry is read again after a restart
+        Assert.assertEquals(RESULT, new WeldDiscoveryCache(directory).read(WeldDiscoveryCache.key(beansXml, INPUTS)));
+        // The order of the inputs does not matter, but their values do
+        Assert.assertEquals(WeldDiscoveryCache.key(beansXml, Arrays.asList("a", "b")).name, WeldDiscoveryCache.key(beansXml, Arrays.asList("b", "a")).name);
+        Assert.assertNull(cache.read(WeldDiscoveryCache.key(beansXml, Arrays.asList("ANNOTATED"))));
+    }
+
+    @Test
+    public void testModifiedArchive() throws IOException {
+        URL beansXml = createJar("a.jar", "foo/Alpha.class");
+        WeldDiscoveryCache.Key key = WeldDiscoveryCache.key(beansXml, INPUTS);
+        cache.write(key, RESULT);
+
+        createJar("a.jar", "foo/Alpha.class", "foo/Charlie.class");
+        WeldDiscoveryCache.Key modifiedKey = WeldDiscoveryCache.key(beansXml, INPUTS);
+
+        // The entry of the modified archive is not used and is replaced by the next write
+        Assert.assertEquals(key.name, modifiedKey.name);
+        Assert.assertNull(cache.read(modifiedKey));
+        cache.write(modifiedKey, Map.of("BEAN_CLASSES", List.of()));
+        Assert.assertEquals(Map.of("BEAN_CLASSES", List.of()), cache.read(modifiedKey));
+        Assert.assertEquals(1, entries().length);
+    }
+
+    @Test
+    public void testExplodedArchive() throws IOException {
+        File root = folder.newFolder("exploded");
+        File metaInf = new File(root, "META-INF");
+        Assert.assertTrue(metaInf.mkdirs());
+        File beansXml = new File(metaInf, "beans.xml");
+        Files.write(beansXml.toPath(), "<beans/>".getBytes(StandardCharsets.UTF_8));
+        Files.createDirectories(root.toPath().resolve("foo"));
+        Files.write(root.toPath().resolve("foo/Alpha.class"), new byte[] { 1 });
+        URL url = beansXml.toURI().toURL();
+
+        WeldDiscoveryCache.Key key = WeldDiscoveryCache.key(url, INPUTS);
+        Assert.assertNotNull(key);
+        cache.write(key, RESULT);
+        Assert.assertEquals(RESULT, cache.read(WeldDiscoveryCache.key(url, INPUTS)));
+
+        // Adding a class changes the fingerprint of the archive
+        Files.write(root.toPath().resolve("foo/Bravo.class"), new byte[] { 2 });
+        Assert.assertNull(cache.read(WeldDiscoveryCache.key(url, INPUTS)));
+    }
+
+    @Test
+    public void testCorruptEntry() throws IOException {
+        URL beansXml = createJar("a.jar", "foo/Alpha.class");
+        WeldDiscoveryCache.Key key = WeldDiscoveryCache.key(beansXml, INPUTS);
+        cache.write(key, RESULT);
+        Path entry = directory.resolve(key.name);
+        byte[] content = Files.readAllBytes(entry);
+
+        // Flipped byte
+        byte[] corrupt = content.clone();
+        corrupt[corrupt.length - 12] ^= 0x1;
+        Files.write(entry, corrupt);
+        Assert.assertNull(cache.read(key));
+        Assert.assertFalse(Files.exists(entry));
+
+        // Truncated entry
+        Files.write(entry, Arrays.copyOf(content, content.length / 2));
+        Assert.assertNull(cache.read(key));
+        Assert.assertFalse(Files.exists(entry));
+
+        // Garbage
+        Files.write(entry, "garbage".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(cache.read(key));
+
+        cache.write(key, RESULT);
+        Assert.assertEquals(RESULT, cache.read(key));
+    }
+
+    @Test
+    public void testPrune() throws IOException {
+        WeldDiscoveryCache.Key used = WeldDiscoveryCache.key(createJar("used.jar", "foo/Alpha.class"), INPUTS);
+        WeldDiscoveryCache.Key unused = WeldDiscoveryCache.key(createJar("unused.jar", "foo/Alpha.class"), INPUTS);
+        cache.write(used, RESULT);
+        cache.write(unused, RESULT);
+        Path temp = Files.createFile(directory.resolve("interrupted.tmp"));
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+        for (Path file : new Path[] { directory.resolve(used.name), directory.resolve(unused.name), temp }) {
+            Files.setLastModifiedTime(file, old);
+        }
+
+        // A read keeps the entry from being pruned
+        Assert.assertEquals(RESULT, cache.read(used));
+
+        // The entries which were not used, and the temporary files, are pruned by the first use of the cache
+        Assert.assertEquals(RESULT, new WeldDiscoveryCache(directory, TimeUnit.DAYS.toMillis(1)).read(used));
+        Assert.assertFalse(Files.exists(directory.resolve(unused.name)));
+        Assert.assertFalse(Files.exists(temp));
+        Assert.assertEquals(1, entries().length);
+    }
+
+    @Test
+    public void testUnsupportedArchive() throws IOException {
+        Assert.assertNull(WeldDiscoveryCache.key(new URL("http://localhost/a.jar"), INPUTS));
+        Assert.assertNull(WeldDiscoveryCache.key(new URL("jar:file:" + new File(folder.getRoot(), "missing.jar").getAbsolutePath() + "!/META-INF/beans.xml"), INPUTS));
+    }
+
+    private URL createJar(String name, String... classes) throws IOException {
+        File file = new File(folder.getRoot(), name);
+        try (OutputStream out = Files.newOutputStream(file.toPath()); JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(new JarEntry("META-INF/beans.xml"));
+            jar.write("<beans/>".getBytes(StandardCharsets.UTF_8));
+            for (String clazz : classes) {
+                jar.putNextEntry(new JarEntry(clazz));
+                jar.write(new byte[] { 0 });
+            }
+        }
+        return new URL("jar:" + file.toURI() + "!/META-INF/beans.xml");
+    }
+
+    private File[] entries() {
+        return directory.toFile().listFiles();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.services;
+
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.jboss.modules.ModuleClassLoader;
+import org.jboss.modules.ModuleFinder;
+import org.jboss.modules.ModuleLoadException;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.modules.ModuleSpec;
+import org.jboss.weld.bootstrap.api.Singleton;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests the lookup of the Weld singletons of the deployments by TCCL.
+ */
+public class ModuleGroupSingletonProviderTestCase {
+
+    private static ModuleClassLoader deployment1;
+    private static ModuleClassLoader deployment2;
+
+    @BeforeClass
+    public static void init() throws ModuleLoadException {
+        ModuleLoader loader = new ModuleLoader(new ModuleFinder[] { new ModuleFinder() {
+            @Override
+            public ModuleSpec findModule(String name, ModuleLoader delegateLoader) {
+                return ModuleSpec.build(name).create();
+            }
+        } });
+        deployment1 = loader.loadModule("deployment.one").getClassLoader();
+        deployment2 = loader.loadModule("deployment.two").getClassLoader();
+    }
+
+    @Test
+    public void testModuleClassLoaders() throws Exception {
+        Singleton<String> singleton = new ModuleGroupSingletonProvider().create(String.class);
+        runWith(deployment1, () -> singleton.set("one"));
+        runWith(deployment2, () -> singleton.set("two"));
+
+        // Alternate between the deployments, each lookup finds the singleton of its own deployment
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals("one", runWith(deployment1, singleton::get));
+            Assert.assertEquals("two", runWith(deployment2, singleton::get));
+        }
+
+        runWith(deployment1, singleton::clear);
+        Assert.assertFalse(runWith(deployment1, singleton::isSet));
+        Assert.assertTrue(runWith(deployment2, singleton::isSet));
+    }
+
+    @Test
+    public void testCustomClassLoaders() throws Exception {
+        Singleton<String> singleton = new ModuleGroupSingletonProvider().create(String.class);
+        ClassLoader custom1 = new URLClassLoader(new URL[0], deployment1);
+        ClassLoader custom2 = new URLClassLoader(new URL[0], new URLClassLoader(new URL[0], deployment2));
+        runWith(deployment1, () -> singleton.set("one"));
+        runWith(deployment2, () -> singleton.set("two"));
+
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals("one", runWith(custom1, singleton::get));
+            Assert.assertEquals("two", runWith(custom2, singleton::get));
+        }
+        Assert.assertEquals(2, getAliases(singleton).size());
+
+        // The custom class loaders of a cleared deployment are no longer retained
+        runWith(deployment1, singleton::clear);
+        Assert.assertFalse(runWith(custom1, singleton::isSet));
+        Assert.assertFalse(getAliases(singleton).containsKey(custom1));
+        Assert.assertEquals("two", runWith(custom2, singleton::get));
+
+        // A redeployment is found again
+        runWith(deployment1, () -> singleton.set("one again"));
+        Assert.assertEquals("one again", runWith(custom1, singleton::get));
+    }
+
+    @Test
+    public void testNotSet() throws Exception {
+        Singleton<String> singleton = new ModuleGroupSingletonProvider().create(String.class);
+        ClassLoader custom = new URLClassLoader(new URL[0], deployment1);
+
+        Assert.assertFalse(runWith(custom, singleton::isSet));
+        Assert.assertFalse(runWith(null, singleton::isSet));
+        try {
+            runWith(custom, singleton::get);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        // A class loader is not remembered until the singleton of its deployment is set
+        Assert.assertTrue(getAliases(singleton).isEmpty());
+    }
+
+    private static void runWith(ClassLoader classLoader, Runnable action) throws Exception {
+        runWith(classLoader, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static <T> T runWith(ClassLoader classLoader, Callable<T> action) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader current = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return action.call();
+        } finally {
+            thread.setContextClassLoader(current);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ClassLoader, ClassLoader> getAliases(Singleton<?> singleton) throws ReflectiveOperationException {
+        Field field = singleton.getClass().getDeclaredField("aliases");
+        field.setAccessible(true);
+        return (Map<ClassLoader, ClassLoader>) field.get(singleton);
+    }
+}